@@ -1,6 +1,9 @@
 package cn.edu.ncepu.crypto.access;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.bouncycastle.crypto.CipherParameters;
 
@@ -37,31 +40,24 @@ public class AccessControlParameter implements CipherParameters, java.io.Seriali
 		return this.accessPolicy;
 	}
 
+	/**
+	 * Find a minimal subset of the attributes satisfying the access policy.
+	 * @param attributes the given attribute set
+	 * @return the minimal satisfying attributes, in the order of the given attributes
+	 * @throws UnsatisfiedAccessControlException if the attributes do not satisfy the access policy
+	 */
 	public String[] minSatisfiedAttributeSet(String[] attributes) throws UnsatisfiedAccessControlException {
-		if (!this.rootAccessTreeNode.isAccessControlSatisfied(attributes)) {
+		List<String> minSatisfiedAttributes = this.rootAccessTreeNode
+				.minSatisfiedAttributes(new HashSet<String>(Arrays.asList(attributes)));
+		if (minSatisfiedAttributes == null) {
 			throw new UnsatisfiedAccessControlException("Give attribute set does not satisfy access policy");
 		}
-		boolean[] isRedundantAttribute = new boolean[attributes.length];
-		int numOfMinAttributeSet = attributes.length;
-		for (int i = 0; i < isRedundantAttribute.length; i++) {
-			isRedundantAttribute[i] = true;
-			numOfMinAttributeSet--;
-			String[] minAttributeSet = new String[numOfMinAttributeSet];
-			for (int j = 0, k = 0; j < attributes.length; j++) {
-				if (!isRedundantAttribute[j]) {
-					minAttributeSet[k] = attributes[j];
-					k++;
-				}
-			}
-			if (!this.rootAccessTreeNode.isAccessControlSatisfied(minAttributeSet)) {
-				numOfMinAttributeSet++;
-				isRedundantAttribute[i] = false;
-			}
-		}
-		String[] minAttributeSet = new String[numOfMinAttributeSet];
-		for (int j = 0, k = 0; j < attributes.length; j++) {
-			if (!isRedundantAttribute[j]) {
-				minAttributeSet[k] = attributes[j];
+		Set<String> minSatisfiedAttributeSet = new HashSet<String>(minSatisfiedAttributes);
+		String[] minAttributeSet = new String[minSatisfiedAttributeSet.size()];
+		int k = 0;
+		for (String attribute : attributes) {
+			if (minSatisfiedAttributeSet.remove(attribute)) {
+				minAttributeSet[k] = attribute;
 				k++;
 			}
 		}
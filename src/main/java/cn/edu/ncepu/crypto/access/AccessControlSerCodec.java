@@ -0,0 +1,77 @@
+package cn.edu.ncepu.crypto.access;
+
+import java.io.IOException;
+
+import cn.edu.ncepu.crypto.access.lsss.LSSSPolicyParameter;
+import cn.edu.ncepu.crypto.access.lsss.lw10.LSSSLW10Engine;
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+
+/**
+ * Compact binary encoding of access control parameters embedded in KP-ABE secret keys, see PairingSerCodecs.
+ *
+ * Only the access control engine, the int arrays and the rhos of the access policy are written,
+ * the access tree or the LSSS matrix is generated again by the engine when decoding.
+ */
+public final class AccessControlSerCodec {
+	private static final int ACCESS_TREE = 0;
+	private static final int LSSS_LW10 = 1;
+
+	private AccessControlSerCodec() {
+
+	}
+
+	/**
+	 * Write the access control parameter.
+	 * @param accessControlParameter access control parameter generated by AccessTreeEngine or LSSSLW10Engine
+	 * @param output the output
+	 */
+	public static void Write(AccessControlParameter accessControlParameter, PairingSerOutput output) {
+		if (accessControlParameter.getClass() == AccessControlParameter.class) {
+			output.writeByte(ACCESS_TREE);
+		} else if (accessControlParameter.getClass() == LSSSPolicyParameter.class) {
+			output.writeByte(LSSS_LW10);
+		} else {
+			throw new IllegalArgumentException(
+					"Cannot encode access control parameter " + accessControlParameter.getClass().getName());
+		}
+		// LSSS policy parameters keep rhos in the order of the matrix rows, write them in the order of the policy
+		String[] rhos = new String[accessControlParameter.getRhos().length];
+		CollectRhos(accessControlParameter.getRootAccessTreeNode(), rhos);
+		output.writeIntArrays(accessControlParameter.getAccessPolicy());
+		output.writeStrings(rhos);
+	}
+
+	private static void CollectRhos(AccessTreeNode accessTreeNode, String[] rhos) {
+		if (accessTreeNode.isLeafNode()) {
+			// leaf nodes are labeled by -(index of the rho) - 1
+			rhos[-accessTreeNode.getLabel() - 1] = accessTreeNode.getAttribute();
+			return;
+		}
+		for (int i = 0; i < accessTreeNode.getN(); i++) {
+			CollectRhos(accessTreeNode.getChildNodeAt(i), rhos);
+		}
+	}
+
+	/**
+	 * Read the access control parameter written by Write.
+	 * @param input the input
+	 * @return the access control parameter
+	 * @throws IOException if the encoding is malformed or the access policy is invalid
+	 */
+	public static AccessControlParameter Read(PairingSerInput input) throws IOException {
+		int engine = input.readByte();
+		if (engine != ACCESS_TREE && engine != LSSS_LW10) {
+			throw new IOException("Unknown access control engine " + engine);
+		}
+		int[][] accessPolicy = input.readIntArrays();
+		String[] rhos = input.readStrings();
+		try {
+			return engine == ACCESS_TREE ? AccessTreeEngine.getInstance().generateAccessControl(accessPolicy, rhos)
+					: LSSSLW10Engine.getInstance().generateAccessControl(accessPolicy, rhos);
+		} catch (RuntimeException e) {
+			throw new IOException("Malformed encoding, invalid access policy.", e);
+		}
+	}
+}
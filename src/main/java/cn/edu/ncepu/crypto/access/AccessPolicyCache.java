@@ -0,0 +1,299 @@
+package cn.edu.ncepu.crypto.access;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import cn.edu.ncepu.crypto.access.parser.BinaryTreeNode;
+import cn.edu.ncepu.crypto.access.parser.ParserUtils;
+import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
+
+/**
+ * Process-wide bounded LRU cache of compiled access policies.
+ *
+ * Access policies given by string are parsed once into the int arrays and rhos,
+ * keyed by the normalized policy string, i.e., tokens and parentheses separated by single spaces.
+ * Access control parameters (access trees, LSSS matrices) generated by access control engines are keyed by
+ * the engine name together with the content of the int arrays and rhos,
+ * so that the generators of all ABE engines share them.
+ * Cached int arrays, rhos and access control parameters are shared among callers and must not be modified.
+ */
+public final class AccessPolicyCache {
+	/**
+	 * Default maximal number of entries of each of the two caches.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private static final AccessPolicyCache instance = new AccessPolicyCache(DEFAULT_CAPACITY);
+
+	private final LRUMap<String, CompiledAccessPolicy> compiledAccessPolicies;
+	private final LRUMap<AccessControlKey, AccessControlParameter> accessControlParameters;
+	private volatile int capacity;
+
+	private final LongAdder policyHitCount = new LongAdder();
+	private final LongAdder policyMissCount = new LongAdder();
+	private final LongAdder accessControlHitCount = new LongAdder();
+	private final LongAdder accessControlMissCount = new LongAdder();
+
+	private AccessPolicyCache(int capacity) {
+		this.compiledAccessPolicies = new LRUMap<String, CompiledAccessPolicy>(this);
+		this.accessControlParameters = new LRUMap<AccessControlKey, AccessControlParameter>(this);
+		this.capacity = capacity;
+	}
+
+	public static AccessPolicyCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Get the int arrays and rhos of the access policy, parsing the policy only on a cache miss.
+	 * @param accessPolicy access policy given by string
+	 * @return compiled access policy
+	 * @throws PolicySyntaxException if the policy is invalid
+	 */
+	public CompiledAccessPolicy compile(String accessPolicy) throws PolicySyntaxException {
+		String normalizedAccessPolicy = Normalize(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy;
+		synchronized (this.compiledAccessPolicies) {
+			compiledAccessPolicy = this.compiledAccessPolicies.get(normalizedAccessPolicy);
+		}
+		if (compiledAccessPolicy != null) {
+			this.policyHitCount.increment();
+			return compiledAccessPolicy;
+		}
+		this.policyMissCount.increment();
+		BinaryTreeNode rootBinaryTreeNode = ParserUtils.ParsePolicy(normalizedAccessPolicy);
+		compiledAccessPolicy = new CompiledAccessPolicy(ParserUtils.GenerateAccessPolicy(rootBinaryTreeNode),
+				ParserUtils.GenerateRhos(rootBinaryTreeNode));
+		synchronized (this.compiledAccessPolicies) {
+			CompiledAccessPolicy existing = this.compiledAccessPolicies.putIfAbsent(normalizedAccessPolicy,
+					compiledAccessPolicy);
+			return existing == null ? compiledAccessPolicy : existing;
+		}
+	}
+
+	/**
+	 * Get the access control parameter generated by the given engine, generating it only on a cache miss.
+	 * Access control engines call this method in generateAccessControl.
+	 * @param engineName name of the access control engine
+	 * @param accessPolicy access policy represented by int arrays
+	 * @param rhos rhos of the access policy
+	 * @param generator generates the access control parameter from copies of the int arrays and rhos on a miss
+	 * @return access control parameter
+	 */
+	public AccessControlParameter getAccessControl(String engineName, int[][] accessPolicy, String[] rhos,
+			BiFunction<int[][], String[], AccessControlParameter> generator) {
+		AccessControlKey probe = new AccessControlKey(engineName, accessPolicy, rhos);
+		AccessControlParameter accessControlParameter;
+		synchronized (this.accessControlParameters) {
+			accessControlParameter = this.accessControlParameters.get(probe);
+		}
+		if (accessControlParameter != null) {
+			this.accessControlHitCount.increment();
+			return accessControlParameter;
+		}
+		this.accessControlMissCount.increment();
+		AccessControlKey key = probe.copy();
+		accessControlParameter = generator.apply(key.accessPolicy, key.rhos);
+		synchronized (this.accessControlParameters) {
+			AccessControlParameter existing = this.accessControlParameters.putIfAbsent(key, accessControlParameter);
+			return existing == null ? accessControlParameter : existing;
+		}
+	}
+
+	/**
+	 * Set the maximal number of entries of each of the two caches. Capacity 0 disables caching.
+	 * @param capacity maximal number of entries
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity of the access policy cache cannot be negative.");
+		}
+		this.capacity = capacity;
+		synchronized (this.compiledAccessPolicies) {
+			this.compiledAccessPolicies.trim();
+		}
+		synchronized (this.accessControlParameters) {
+			this.accessControlParameters.trim();
+		}
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public int size() {
+		int size;
+		synchronized (this.compiledAccessPolicies) {
+			size = this.compiledAccessPolicies.size();
+		}
+		synchronized (this.accessControlParameters) {
+			size += this.accessControlParameters.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Remove all cached policies and reset the hit / miss counters.
+	 */
+	public void clear() {
+		synchronized (this.compiledAccessPolicies) {
+			this.compiledAccessPolicies.clear();
+		}
+		synchronized (this.accessControlParameters) {
+			this.accessControlParameters.clear();
+		}
+		this.policyHitCount.reset();
+		this.policyMissCount.reset();
+		this.accessControlHitCount.reset();
+		this.accessControlMissCount.reset();
+	}
+
+	public long getPolicyHitCount() {
+		return this.policyHitCount.sum();
+	}
+
+	public long getPolicyMissCount() {
+		return this.policyMissCount.sum();
+	}
+
+	public long getAccessControlHitCount() {
+		return this.accessControlHitCount.sum();
+	}
+
+	public long getAccessControlMissCount() {
+		return this.accessControlMissCount.sum();
+	}
+
+	/**
+	 * Hit rate of both caches.
+	 * @return hits / lookups, or 0 if there is no lookup
+	 */
+	public double getHitRate() {
+		long hitCount = getPolicyHitCount() + getAccessControlHitCount();
+		long lookupCount = hitCount + getPolicyMissCount() + getAccessControlMissCount();
+		return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+	}
+
+	/**
+	 * Normalize the policy string so that policies differing only in white spaces share one entry.
+	 * @param accessPolicy access policy given by string
+	 * @return tokens and parentheses separated by single spaces
+	 */
+	private static String Normalize(String accessPolicy) {
+		StringBuilder stringBuilder = new StringBuilder(accessPolicy.length() + 8);
+		boolean separate = false;
+		for (int i = 0; i < accessPolicy.length(); i++) {
+			char c = accessPolicy.charAt(i);
+			if (Character.isWhitespace(c)) {
+				separate = true;
+				continue;
+			}
+			boolean parenthesis = (c == '(' || c == ')');
+			if (stringBuilder.length() > 0 && (separate || parenthesis)) {
+				stringBuilder.append(' ');
+			}
+			stringBuilder.append(c);
+			separate = parenthesis;
+		}
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Access policy parsed into int arrays and rhos.
+	 * The getters return copies, since the entry is shared by all callers of the cache.
+	 */
+	public static class CompiledAccessPolicy {
+		private final int[][] accessPolicy;
+		private final String[] rhos;
+
+		CompiledAccessPolicy(int[][] accessPolicy, String[] rhos) {
+			this.accessPolicy = accessPolicy;
+			this.rhos = rhos;
+		}
+
+		public int[][] getAccessPolicy() {
+			return CopyAccessPolicy(this.accessPolicy);
+		}
+
+		public String[] getRhos() {
+			return Arrays.copyOf(this.rhos, this.rhos.length);
+		}
+	}
+
+	private static int[][] CopyAccessPolicy(int[][] accessPolicy) {
+		int[][] copiedAccessPolicy = new int[accessPolicy.length][];
+		for (int i = 0; i < accessPolicy.length; i++) {
+			copiedAccessPolicy[i] = Arrays.copyOf(accessPolicy[i], accessPolicy[i].length);
+		}
+		return copiedAccessPolicy;
+	}
+
+	private static class AccessControlKey {
+		private final String engineName;
+		private final int[][] accessPolicy;
+		private final String[] rhos;
+		private final int hash;
+
+		AccessControlKey(String engineName, int[][] accessPolicy, String[] rhos) {
+			this.engineName = engineName;
+			this.accessPolicy = accessPolicy;
+			this.rhos = rhos;
+			this.hash = 31 * (31 * engineName.hashCode() + Arrays.deepHashCode(accessPolicy)) + Arrays.hashCode(rhos);
+		}
+
+		/**
+		 * Copy the arrays, so that later modifications by the caller do not affect the cached entry.
+		 */
+		AccessControlKey copy() {
+			return new AccessControlKey(this.engineName, CopyAccessPolicy(this.accessPolicy),
+					Arrays.copyOf(this.rhos, this.rhos.length));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object anObject) {
+			if (this == anObject) {
+				return true;
+			}
+			if (anObject instanceof AccessControlKey) {
+				AccessControlKey that = (AccessControlKey) anObject;
+				return this.hash == that.hash && this.engineName.equals(that.engineName)
+						&& Arrays.deepEquals(this.accessPolicy, that.accessPolicy)
+						&& Arrays.equals(this.rhos, that.rhos);
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Access-ordered map evicting the least recently used entries beyond the capacity of the cache.
+	 * Accesses are guarded by synchronizing on the map.
+	 */
+	private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 2316580658291390263L;
+		private final AccessPolicyCache cache;
+
+		LRUMap(AccessPolicyCache cache) {
+			super(16, 0.75f, true);
+			this.cache = cache;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+			return size() > this.cache.capacity;
+		}
+
+		void trim() {
+			while (size() > this.cache.capacity) {
+				remove(keySet().iterator().next());
+			}
+		}
+	}
+}
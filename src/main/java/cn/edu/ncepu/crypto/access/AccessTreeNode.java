@@ -1,8 +1,13 @@
 package cn.edu.ncepu.crypto.access;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Created by Weiran Liu on 2016/7/19.
@@ -91,6 +96,36 @@ public class AccessTreeNode implements java.io.Serializable {
 		}
 	}
 
+	/**
+	 * Collect a minimal satisfying set of leaf attributes in one pass over the tree.
+	 * Each satisfied gate keeps its t satisfied children with the fewest collected leaves.
+	 * @param attributes the given attribute set
+	 * @return collected leaf attributes, or null if the subtree is not satisfied
+	 */
+	List<String> minSatisfiedAttributes(final Set<String> attributes) {
+		if (this.isLeafNode) {
+			return attributes.contains(this.attribute) ? Collections.singletonList(this.attribute) : null;
+		}
+		List<List<String>> satisfiedChildAttributes = new ArrayList<List<String>>(this.childNodes.length);
+		for (AccessTreeNode childNode : this.childNodes) {
+			List<String> childAttributes = childNode.minSatisfiedAttributes(attributes);
+			if (childAttributes != null) {
+				satisfiedChildAttributes.add(childAttributes);
+			}
+		}
+		if (satisfiedChildAttributes.size() < this.t) {
+			return null;
+		}
+		if (satisfiedChildAttributes.size() > this.t) {
+			satisfiedChildAttributes.sort(Comparator.comparingInt(List::size));
+		}
+		List<String> minSatisfiedAttributes = new ArrayList<String>();
+		for (int i = 0; i < this.t; i++) {
+			minSatisfiedAttributes.addAll(satisfiedChildAttributes.get(i));
+		}
+		return minSatisfiedAttributes;
+	}
+
 	public int getT() {
 		return this.t;
 	}
@@ -1,9 +1,9 @@
 package cn.edu.ncepu.crypto.access.lsss;
 
+import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.Map;
 
-import Jama.Matrix;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
@@ -60,66 +60,33 @@ public abstract class LSSSPolicyEngine implements AccessControlEngine {
 					LSSSPolicyParameter.class.getName());
 		}
 		LSSSPolicyParameter lsssPolicyParameter = (LSSSPolicyParameter) accessControlParameter;
-		int[] result;
 		String[] minSatisfiedAttributes = lsssPolicyParameter.minSatisfiedAttributeSet(attributes);
 		String[] leafAttributes = lsssPolicyParameter.getRhos();
-		int[] rows = new int[minSatisfiedAttributes.length];
-		int counter = 0;
+		Map<String, Integer> leafRows = new HashMap<String, Integer>();
 		for (int i = 0; i < leafAttributes.length; i++) {
-			for (String minSatisfiedAttribute : minSatisfiedAttributes) {
-				if (leafAttributes[i].equals(minSatisfiedAttribute)) {
-					// 比较L矩阵和获得的S参数中各个元素，记下所有相同的元素对应的在数组中的位置，并生成一个新的矩阵，把相同的元素存在一个叫做result的数组之中，长度为counter
-					rows[counter++] = i;
-				}
-			}
+			leafRows.put(leafAttributes[i], i);
 		}
-		result = new int[counter];
-		System.arraycopy(rows, 0, result, 0, counter);
-		// filter M to rows from all zero cols and transpose it
-		// eliminate all zero cols
-		counter = 0;
-		int[] cols = new int[result.length];
-		for (int j = 0; j < lsssPolicyParameter.getColumn(); j++) {
-			for (int aResult : result) {
-				if (lsssPolicyParameter.getLSSSMatrix()[aResult][j] != 0) {
-					if (counter == cols.length) {
-						// 此时矩阵不满足解密的条件
-						throw new UnsatisfiedAccessControlException(
-								"Invalid access structure or attributes. Unable to reconstruct coefficients.");
-					}
-					// 把不都为0的列数调出来，把列数j存到叫做的cols的数组之中,此时counter的含义是代表了新生成的M矩阵的列数
-					cols[counter++] = j;
-					break;
-				}
-			}
-		}
-		double[][] Mreduced = new double[counter][counter];
-		for (int i = 0; i < result.length; i++) {
-			for (int j = 0; j < result.length; j++) {
-				// 将原本M矩阵中的满足attributes条件的以及不都为0的列的条件的元素填到一个新的矩阵中，称为Mreduced，该矩阵事宜个长宽均为result.length的方阵
-				Mreduced[j][i] = lsssPolicyParameter.getLSSSMatrix()[result[j]][cols[i]];
-			}
+		int[] rows = new int[minSatisfiedAttributes.length];
+		for (int i = 0; i < rows.length; i++) {
+			rows[i] = leafRows.get(minSatisfiedAttributes[i]);
 		}
-		// solve the linear system
-		Matrix mA = new Matrix(Mreduced);
-		mA = mA.inverse();
-		double[] _b = get_identity_vector(mA.getColumnDimension());
-		Matrix mb = new Matrix(_b, 1);
-		Matrix res = mb.times(mA);
-		double[] solution = res.getRowPackedCopy();
 
-		Element[] minSatisfiedOmegaElements = new Element[solution.length];
-		for (int i = 0; i < minSatisfiedOmegaElements.length; i++) {
-			minSatisfiedOmegaElements[i] = pairing.getZr().newElement((int) solution[i]).getImmutable();
+		Element[] minSatisfiedOmegaElements;
+		if (isUnitRowSum(lsssPolicyParameter.getLSSSMatrix(), rows, lsssPolicyParameter.getColumn())) {
+			// Rows of a minimal satisfying set in the Lewko-Waters AND / OR matrices add up to (1, 0, ..., 0),
+			// so that all coefficients are 1 and no linear system needs to be solved.
+			minSatisfiedOmegaElements = new Element[rows.length];
+			for (int i = 0; i < minSatisfiedOmegaElements.length; i++) {
+				minSatisfiedOmegaElements[i] = pairing.getZr().newOneElement().getImmutable();
+			}
+		} else {
+			minSatisfiedOmegaElements = solveOmegas(pairing, lsssPolicyParameter.getLSSSMatrix(), rows,
+					lsssPolicyParameter.getColumn());
 		}
 
 		Map<String, Element> omegaElementsMap = new HashMap<String, Element>();
 		for (int i = 0; i < rows.length; i++) {
-			for (String attribute : attributes) {
-				if (leafAttributes[rows[i]].equals(attribute)) {
-					omegaElementsMap.put(attribute, minSatisfiedOmegaElements[i].duplicate().getImmutable());
-				}
-			}
+			omegaElementsMap.put(minSatisfiedAttributes[i], minSatisfiedOmegaElements[i]);
 		}
 		for (String attribute : attributes) {
 			if (!omegaElementsMap.containsKey(attribute)) {
@@ -129,13 +96,81 @@ public abstract class LSSSPolicyEngine implements AccessControlEngine {
 		return omegaElementsMap;
 	}
 
-	private double[] get_identity_vector(int length) {
-		// 该方法实现的功能是：生成矩阵求逆时等号右边的列向量，第一个数为1，剩下的都是0
-		double[] result = new double[length];
-		result[0] = 1.0;
-		for (int i = 1; i < length; i++) {
-			result[i] = 0.0;
-		}
-		return result;
+	private static boolean isUnitRowSum(int[][] lsssMatrix, int[] rows, int column) {
+		long[] rowSum = new long[column];
+		for (int row : rows) {
+			for (int j = 0; j < column; j++) {
+				rowSum[j] += lsssMatrix[row][j];
+			}
+		}
+		if (rowSum[0] != 1) {
+			return false;
+		}
+		for (int j = 1; j < column; j++) {
+			if (rowSum[j] != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Solve sum_i omega_i * M_{rows[i]} = (1, 0, ..., 0) over Zr by Gauss-Jordan elimination,
+	 * setting free coefficients to 0.
+	 */
+	private static Element[] solveOmegas(Pairing pairing, int[][] lsssMatrix, int[] rows, int column)
+			throws UnsatisfiedAccessControlException {
+		BigInteger order = pairing.getZr().getOrder();
+		int n = rows.length;
+		// augmented matrix of the transposed system, one equation per column of the LSSS matrix
+		BigInteger[][] equations = new BigInteger[column][n + 1];
+		for (int j = 0; j < column; j++) {
+			for (int i = 0; i < n; i++) {
+				equations[j][i] = BigInteger.valueOf(lsssMatrix[rows[i]][j]).mod(order);
+			}
+			equations[j][n] = (j == 0) ? BigInteger.ONE : BigInteger.ZERO;
+		}
+		int[] pivots = new int[Math.min(column, n)];
+		int rank = 0;
+		for (int i = 0; i < n && rank < column; i++) {
+			int pivotRow = rank;
+			while (pivotRow < column && equations[pivotRow][i].signum() == 0) {
+				pivotRow++;
+			}
+			if (pivotRow == column) {
+				continue;
+			}
+			BigInteger[] pivotEquation = equations[pivotRow];
+			equations[pivotRow] = equations[rank];
+			equations[rank] = pivotEquation;
+			BigInteger inverse = pivotEquation[i].modInverse(order);
+			for (int l = i; l <= n; l++) {
+				pivotEquation[l] = pivotEquation[l].multiply(inverse).mod(order);
+			}
+			for (int q = 0; q < column; q++) {
+				BigInteger factor = equations[q][i];
+				if (q == rank || factor.signum() == 0) {
+					continue;
+				}
+				for (int l = i; l <= n; l++) {
+					equations[q][l] = equations[q][l].subtract(factor.multiply(pivotEquation[l])).mod(order);
+				}
+			}
+			pivots[rank++] = i;
+		}
+		for (int q = rank; q < column; q++) {
+			if (equations[q][n].signum() != 0) {
+				throw new UnsatisfiedAccessControlException(
+						"Invalid access structure or attributes. Unable to reconstruct coefficients.");
+			}
+		}
+		Element[] omegaElements = new Element[n];
+		for (int i = 0; i < n; i++) {
+			omegaElements[i] = pairing.getZr().newZeroElement().getImmutable();
+		}
+		for (int q = 0; q < rank; q++) {
+			omegaElements[pivots[q]] = pairing.getZr().newElement(equations[q][n]).getImmutable();
+		}
+		return omegaElements;
 	}
 }
@@ -5,6 +5,7 @@ import java.util.LinkedList;
 import java.util.Map;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
 import cn.edu.ncepu.crypto.access.AccessTreeNode;
 import cn.edu.ncepu.crypto.access.lsss.LSSSPolicyEngine;
 import cn.edu.ncepu.crypto.access.lsss.LSSSPolicyParameter;
@@ -43,6 +44,11 @@ public class LSSSLW10Engine extends LSSSPolicyEngine {
 	}
 
 	public AccessControlParameter generateAccessControl(int[][] accessPolicy, String[] rhos) {
+		return AccessPolicyCache.getInstance().getAccessControl(SCHEME_NAME, accessPolicy, rhos,
+				this::compileAccessControl);
+	}
+
+	private AccessControlParameter compileAccessControl(int[][] accessPolicy, String[] rhos) {
 		// init access tree
 		AccessTreeNode rootAccessTreeNode = AccessTreeNode.GenerateAccessTree(accessPolicy, rhos);
 		// reconstruct binary tree node
@@ -16,11 +16,24 @@ public class ParserUtils {
 		return policy;
 	}
 
-	public static int[][] GenerateAccessPolicy(String policy) throws PolicySyntaxException {
+	/**
+	 * Parse the policy into a binary tree, so that the access policy and rhos can be generated with one parsing.
+	 * @param policy access policy given by string
+	 * @return root of the binary tree
+	 * @throws PolicySyntaxException if the policy is invalid
+	 */
+	public static BinaryTreeNode ParsePolicy(String policy) throws PolicySyntaxException {
 		String formattedPolicy = StringPolicyFormat(policy);
 		BinaryTreeNode rootBinaryTreeNode = new PolicyParser().parse(formattedPolicy);
 		BinaryTreeNode.updateParentPointer(rootBinaryTreeNode);
+		return rootBinaryTreeNode;
+	}
+
+	public static int[][] GenerateAccessPolicy(String policy) throws PolicySyntaxException {
+		return GenerateAccessPolicy(ParsePolicy(policy));
+	}
 
+	public static int[][] GenerateAccessPolicy(BinaryTreeNode rootBinaryTreeNode) {
 		LinkedList<int[]> accessPolicyLinkedList = new LinkedList<int[]>();
 		// convert to int[][] accessPolicy
 		LinkedList<BinaryTreeNode> queue = new LinkedList<BinaryTreeNode>();
@@ -69,10 +82,10 @@ public class ParserUtils {
 	}
 
 	public static String[] GenerateRhos(String policy) throws PolicySyntaxException {
-		String formattedPolicy = StringPolicyFormat(policy);
-		BinaryTreeNode rootBinaryTreeNode = new PolicyParser().parse(formattedPolicy);
-		BinaryTreeNode.updateParentPointer(rootBinaryTreeNode);
+		return GenerateRhos(ParsePolicy(policy));
+	}
 
+	public static String[] GenerateRhos(BinaryTreeNode rootBinaryTreeNode) {
 		ArrayList<String> rhosArrayList = new ArrayList<String>();
 		LinkedList<BinaryTreeNode> queue = new LinkedList<BinaryTreeNode>();
 		queue.add(rootBinaryTreeNode);
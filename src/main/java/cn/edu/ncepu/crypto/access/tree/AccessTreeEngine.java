@@ -1,10 +1,14 @@
 package cn.edu.ncepu.crypto.access.tree;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
 import cn.edu.ncepu.crypto.access.AccessTreeNode;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
 import cn.edu.ncepu.crypto.algebra.algorithms.LagrangePolynomial;
@@ -39,6 +43,11 @@ public class AccessTreeEngine implements AccessControlEngine {
 	}
 
 	public AccessControlParameter generateAccessControl(int[][] accessPolicy, String[] rhos) {
+		return AccessPolicyCache.getInstance().getAccessControl(SCHEME_NAME, accessPolicy, rhos,
+				this::compileAccessControl);
+	}
+
+	private AccessControlParameter compileAccessControl(int[][] accessPolicy, String[] rhos) {
 		// init access tree
 		AccessTreeNode accessTreeNode = AccessTreeNode.GenerateAccessTree(accessPolicy, rhos);
 		return new AccessControlParameter(accessTreeNode, accessPolicy, rhos);
@@ -60,14 +69,15 @@ public class AccessTreeEngine implements AccessControlEngine {
 			Map<String, Element> sharingResult) {
 		if (accessTreeNode.isLeafNode()) {
 			// leaf node, add root secret into the map
-			sharingResult.put(accessTreeNode.getAttribute(), rootSecret.duplicate().getImmutable());
+			sharingResult.put(accessTreeNode.getAttribute(), rootSecret.getImmutable());
 		} else {
 			// non-leaf nodes, share secrets to child nodes
 			LagrangePolynomial lagrangePolynomial = new LagrangePolynomial(pairing, accessTreeNode.getT() - 1,
 					rootSecret);
+			Element[] sharedSecrets = lagrangePolynomial.evaluateShares(accessTreeNode.getN());
 			for (int i = 0; i < accessTreeNode.getN(); i++) {
-				Element sharedSecret = lagrangePolynomial.evaluate(pairing.getZr().newElement(i + 1));
-				access_tree_node_secret_sharing(pairing, sharedSecret, accessTreeNode.getChildNodeAt(i), sharingResult);
+				access_tree_node_secret_sharing(pairing, sharedSecrets[i], accessTreeNode.getChildNodeAt(i),
+						sharingResult);
 			}
 		}
 	}
@@ -90,9 +100,7 @@ public class AccessTreeEngine implements AccessControlEngine {
 
 	private static class SatisfiedAccessTreeNode {
 		private final Pairing pairing;
-		private final SatisfiedAccessTreeNode parentNode;
 		private final SatisfiedAccessTreeNode[] childNodes;
-		private final int index;
 
 		private final int t;
 		private final int n;
@@ -102,29 +110,24 @@ public class AccessTreeEngine implements AccessControlEngine {
 		private boolean isSatisfied;
 
 		static SatisfiedAccessTreeNode GetSatisfiedAccessTreeNode(Pairing pairing, AccessTreeNode rootAccessTreeNode) {
-			return new SatisfiedAccessTreeNode(pairing, null, 0, rootAccessTreeNode);
+			return new SatisfiedAccessTreeNode(pairing, rootAccessTreeNode);
 		}
 
 		static Map<String, Element> CalCoefficient(SatisfiedAccessTreeNode rootSatisfiedAccessTreeNode,
 				String[] attributes) throws UnsatisfiedAccessControlException {
-			if (!rootSatisfiedAccessTreeNode.isAccessControlSatisfied(attributes)) {
+			if (!rootSatisfiedAccessTreeNode.isAccessControlSatisfied(new HashSet<String>(Arrays.asList(attributes)))) {
 				throw new UnsatisfiedAccessControlException("Give attribute set does not satisfy access policy");
 			} else {
 				Map<String, Element> coefficientElementsMap = new HashMap<String, Element>();
-				rootSatisfiedAccessTreeNode.calcCoefficients(coefficientElementsMap);
-//                Object[] keySet = coefficientElementsMap.keySet().toArray();
-//                for (Object keys : keySet) {
-//                    logger.info(keys + " : " + coefficientElementsMap.get(keys));
-//                }
+				Pairing pairing = rootSatisfiedAccessTreeNode.pairing;
+				rootSatisfiedAccessTreeNode.calcCoefficients(pairing.getZr().newOneElement().getImmutable(),
+						coefficientElementsMap);
 				return coefficientElementsMap;
 			}
 		}
 
-		private SatisfiedAccessTreeNode(Pairing pairing, final SatisfiedAccessTreeNode parentSatisfiedAccessTreeNode,
-				int index, final AccessTreeNode accessTreeNode) {
+		private SatisfiedAccessTreeNode(Pairing pairing, final AccessTreeNode accessTreeNode) {
 			this.pairing = pairing;
-			this.parentNode = parentSatisfiedAccessTreeNode;
-			this.index = index;
 			if (accessTreeNode.isLeafNode()) {
 				this.childNodes = null;
 				this.t = 1;
@@ -138,64 +141,47 @@ public class AccessTreeEngine implements AccessControlEngine {
 				this.attribute = null;
 				this.childNodes = new SatisfiedAccessTreeNode[this.n];
 				for (int i = 0; i < this.childNodes.length; i++) {
-					this.childNodes[i] = new SatisfiedAccessTreeNode(pairing, this, i + 1,
-							accessTreeNode.getChildNodeAt(i));
-//                    logger.info("Node: " + this.childNodes[i].label + " with parentNode: " + this.label);
+					this.childNodes[i] = new SatisfiedAccessTreeNode(pairing, accessTreeNode.getChildNodeAt(i));
 				}
 			}
 		}
 
-		private boolean isAccessControlSatisfied(final String[] attributes) {
-			this.isSatisfied = false;
-			if (!this.isLeafNode) {
-				int[] tempIndex = new int[this.childNodes.length];
-				int satisfiedChildNumber = 0;
-				for (int i = 0; i < this.childNodes.length; i++) {
-					if (childNodes[i].isAccessControlSatisfied(attributes)) {
-						tempIndex[i] = i + 1;
-						satisfiedChildNumber++;
-					}
-				}
-				this.satisfiedIndex = new int[satisfiedChildNumber];
-				for (int i = 0, j = 0; i < this.childNodes.length; i++) {
-					if (tempIndex[i] > 0) {
-						this.satisfiedIndex[j] = tempIndex[i];
-						j++;
-					}
-				}
-//                logger.info("Node " + this.label + " has satisfied child nodes " + satisfiedChildNumber);
-				this.isSatisfied = (satisfiedChildNumber >= t);
-			} else {
-				for (String attribute1 : attributes) {
-					if (this.attribute.equals(attribute1)) {
-						this.isSatisfied = true;
-					}
+		/**
+		 * Check whether the attributes satisfy the subtree.
+		 * Each satisfied gate keeps the indexes of its first t satisfied children,
+		 * which are all that the reconstruction needs.
+		 */
+		private boolean isAccessControlSatisfied(final Set<String> attributes) {
+			if (this.isLeafNode) {
+				this.isSatisfied = attributes.contains(this.attribute);
+				return this.isSatisfied;
+			}
+			int[] tempIndex = new int[this.t];
+			int satisfiedChildNumber = 0;
+			for (int i = 0; i < this.childNodes.length; i++) {
+				if (childNodes[i].isAccessControlSatisfied(attributes) && satisfiedChildNumber < this.t) {
+					tempIndex[satisfiedChildNumber] = i + 1;
+					satisfiedChildNumber++;
 				}
 			}
+			this.isSatisfied = (satisfiedChildNumber >= this.t);
+			this.satisfiedIndex = this.isSatisfied ? tempIndex : null;
 			return this.isSatisfied;
 		}
 
-		private void calcCoefficients(Map<String, Element> coefficientElementsMap) {
-			if (!this.isLeafNode && this.isSatisfied) {
-				for (SatisfiedAccessTreeNode childNode : this.childNodes) {
-					if (childNode.isSatisfied) {
-						childNode.calcCoefficients(coefficientElementsMap);
-					}
-				}
-			} else {
-				if (!this.isSatisfied) {
-					return;
-				}
-				SatisfiedAccessTreeNode currentNode = this;
-				Element coefficientElement = pairing.getZr().newOneElement().getImmutable();
-				while (currentNode.parentNode != null) {
-					int currentNodeIndex = currentNode.index;
-					currentNode = currentNode.parentNode;
-					coefficientElement = coefficientElement
-							.mulZn(LagrangePolynomial.calCoef(pairing, currentNode.satisfiedIndex, currentNodeIndex))
-							.getImmutable();
-				}
+		/**
+		 * Compute the coefficients top-down. The Lagrange coefficients of each gate are computed once,
+		 * with a single inversion, and multiplied into the coefficient passed down from the parent.
+		 */
+		private void calcCoefficients(Element coefficientElement, Map<String, Element> coefficientElementsMap) {
+			if (this.isLeafNode) {
 				coefficientElementsMap.put(this.attribute, coefficientElement);
+				return;
+			}
+			Element[] lagrangeCoefficients = LagrangePolynomial.calCoefs(pairing, this.satisfiedIndex);
+			for (int i = 0; i < this.satisfiedIndex.length; i++) {
+				this.childNodes[this.satisfiedIndex[i] - 1].calcCoefficients(
+						coefficientElement.mulZn(lagrangeCoefficients[i]).getImmutable(), coefficientElementsMap);
 			}
 		}
 	}
@@ -0,0 +1,214 @@
+package cn.edu.ncepu.crypto.algebra;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.util.encoders.Hex;
+
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+
+/**
+ * Process-wide registry of Pairing instances.
+ *
+ * PairingParameters are canonicalized by a fingerprint, i.e., the SHA-256 digest of the sorted parameter entries,
+ * so that parameters deserialized from different SerParameters share one Pairing instance.
+ * The fingerprint of a given PairingParameters instance is remembered by identity together with its hash code,
+ * hence the hot path neither hashes nor compares the parameter strings,
+ * while PropertiesParameters modified in place (e.g., factorizations removed by composite-order setups) are re-fingerprinted.
+ * All schemes and SerParameter deserializers should obtain Pairing instances from this registry
+ * instead of calling PairingFactory.getPairing(PairingParameters) directly.
+ * Fingerprinted parameters are also indexed by the prefix of their fingerprints,
+ * so that compact encodings can reference pairing parameters instead of embedding them.
+ */
+public final class PairingRegistry {
+	/**
+	 * Number of hex characters of the fingerprint prefix by which pairing parameters are looked up, i.e., 64 bits.
+	 */
+	public static final int FINGERPRINT_PREFIX_LENGTH = 16;
+
+	private static final ConcurrentMap<String, Pairing> pairings = new ConcurrentHashMap<String, Pairing>();
+	private static final ConcurrentMap<String, PairingParameters> parameters = new ConcurrentHashMap<String, PairingParameters>();
+	private static final ConcurrentMap<ParametersReference, Fingerprint> fingerprints = new ConcurrentHashMap<ParametersReference, Fingerprint>();
+	private static final ReferenceQueue<PairingParameters> staleParameters = new ReferenceQueue<PairingParameters>();
+
+	private static final LongAdder hitCount = new LongAdder();
+	private static final LongAdder missCount = new LongAdder();
+
+	private PairingRegistry() {
+
+	}
+
+	/**
+	 * Get the shared Pairing instance associated with the given pairing parameters.
+	 * @param pairingParameters pairing parameters
+	 * @return the shared Pairing instance
+	 */
+	public static Pairing getPairing(PairingParameters pairingParameters) {
+		if (pairingParameters == null) {
+			throw new IllegalArgumentException("PairingParameters cannot be null.");
+		}
+		String fingerprint = getFingerprint(pairingParameters);
+		Pairing pairing = pairings.get(fingerprint);
+		if (pairing != null) {
+			hitCount.increment();
+			return pairing;
+		}
+		missCount.increment();
+		return pairings.computeIfAbsent(fingerprint, key -> createPairing(pairingParameters));
+	}
+
+	/**
+	 * Get the fingerprint, i.e., the hex-encoded SHA-256 digest of the canonical form, of the pairing parameters.
+	 * @param pairingParameters pairing parameters
+	 * @return fingerprint of the pairing parameters
+	 */
+	public static String getFingerprint(PairingParameters pairingParameters) {
+		int parametersHash = pairingParameters.hashCode();
+		ParametersReference probe = new ParametersReference(pairingParameters, null);
+		Fingerprint fingerprint = fingerprints.get(probe);
+		if (fingerprint == null || fingerprint.parametersHash != parametersHash) {
+			expungeStaleParameters();
+			fingerprint = new Fingerprint(parametersHash, computeFingerprint(pairingParameters));
+			fingerprints.put(new ParametersReference(pairingParameters, staleParameters), fingerprint);
+			parameters.putIfAbsent(fingerprint.value.substring(0, FINGERPRINT_PREFIX_LENGTH), pairingParameters);
+		}
+		return fingerprint.value;
+	}
+
+	/**
+	 * Get pairing parameters fingerprinted before, e.g., by getPairing or getFingerprint, by their fingerprint.
+	 * @param fingerprint the fingerprint, or its prefix of at least FINGERPRINT_PREFIX_LENGTH hex characters
+	 * @return the pairing parameters, or null if no fingerprinted pairing parameters match
+	 */
+	public static PairingParameters getParameters(String fingerprint) {
+		if (fingerprint == null || fingerprint.length() < FINGERPRINT_PREFIX_LENGTH) {
+			throw new IllegalArgumentException(
+					"Fingerprint must have at least " + FINGERPRINT_PREFIX_LENGTH + " hex characters.");
+		}
+		PairingParameters pairingParameters = parameters
+				.get(fingerprint.substring(0, FINGERPRINT_PREFIX_LENGTH).toLowerCase());
+		if (pairingParameters == null || !getFingerprint(pairingParameters).startsWith(fingerprint.toLowerCase())) {
+			return null;
+		}
+		return pairingParameters;
+	}
+
+	/**
+	 * Compare two pairing parameters by their fingerprints.
+	 * @param thisParameters pairing parameters
+	 * @param thatParameters pairing parameters
+	 * @return true if both represent the same bilinear group
+	 */
+	public static boolean isEqualParameters(PairingParameters thisParameters, PairingParameters thatParameters) {
+		if (thisParameters == thatParameters) {
+			return true;
+		}
+		if (thisParameters == null || thatParameters == null) {
+			return false;
+		}
+		return getFingerprint(thisParameters).equals(getFingerprint(thatParameters));
+	}
+
+	public static long getHitCount() {
+		return hitCount.sum();
+	}
+
+	public static long getMissCount() {
+		return missCount.sum();
+	}
+
+	public static int size() {
+		return pairings.size();
+	}
+
+	/**
+	 * Remove all registered Pairing instances and fingerprinted parameters, and reset the hit / miss counters.
+	 */
+	public static void clear() {
+		pairings.clear();
+		// fingerprints are dropped with the parameters, so that parameters fingerprinted again are re-indexed
+		fingerprints.clear();
+		parameters.clear();
+		expungeStaleParameters();
+		hitCount.reset();
+		missCount.reset();
+	}
+
+	private static Pairing createPairing(PairingParameters pairingParameters) {
+		// PairingFactory keeps its own instances in a HashMap, which is not thread-safe.
+		synchronized (PairingFactory.class) {
+			return PairingFactory.getPairing(pairingParameters);
+		}
+	}
+
+	private static String computeFingerprint(PairingParameters pairingParameters) {
+		String[] entries = pairingParameters.toString().split("\n");
+		Arrays.sort(entries);
+		SHA256Digest digest = new SHA256Digest();
+		for (String entry : entries) {
+			byte[] byteArrayEntry = entry.trim().getBytes(StandardCharsets.UTF_8);
+			if (byteArrayEntry.length == 0) {
+				continue;
+			}
+			digest.update(byteArrayEntry, 0, byteArrayEntry.length);
+			digest.update((byte) '\n');
+		}
+		byte[] result = new byte[digest.getDigestSize()];
+		digest.doFinal(result, 0);
+		return new String(Hex.encode(result));
+	}
+
+	private static void expungeStaleParameters() {
+		Object staleReference;
+		while ((staleReference = staleParameters.poll()) != null) {
+			fingerprints.remove(staleReference);
+		}
+	}
+
+	private static class Fingerprint {
+		private final int parametersHash;
+		private final String value;
+
+		Fingerprint(int parametersHash, String value) {
+			this.parametersHash = parametersHash;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * Weak identity key of PairingParameters, so that fingerprints of discarded parameters can be reclaimed.
+	 */
+	private static class ParametersReference extends WeakReference<PairingParameters> {
+		private final int hash;
+
+		ParametersReference(PairingParameters pairingParameters, ReferenceQueue<PairingParameters> queue) {
+			super(pairingParameters, queue);
+			this.hash = System.identityHashCode(pairingParameters);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object anObject) {
+			if (this == anObject) {
+				return true;
+			}
+			if (anObject instanceof ParametersReference) {
+				PairingParameters thisParameters = this.get();
+				return thisParameters != null && thisParameters == ((ParametersReference) anObject).get();
+			}
+			return false;
+		}
+	}
+}
@@ -32,24 +32,78 @@ public class LagrangePolynomial {
 	}
 
 	/**
-	 * Evaluate the value of poly(x)
+	 * Evaluate the value of poly(x) by Horner's rule
 	 *
 	 * @param x
 	 * @return poly(x)
 	 */
 	public Element evaluate(Element x) {
-		Element result = pairing.getZr().newZeroElement().getImmutable();
-		Element temp = pairing.getZr().newOneElement().getImmutable();
+		Element result = this.coef[this.degree].duplicate();
+		for (int i = this.degree - 1; i >= 0; i--) {
+			result.mul(x).add(this.coef[i]);
+		}
+		return result.getImmutable();
+	}
 
-		for (int i = 0; i < this.degree + 1; i++) {
-			for (int j = 0; j < i; j++) {
-				temp = temp.mul(x).getImmutable();
+	/**
+	 * Evaluate the shares poly(1), ..., poly(n) by Horner's rule. Multiplications by the points are
+	 * multiplications by small integers, and one scratch element is reused for all points.
+	 *
+	 * @param n
+	 *            number of shares
+	 * @return shares, poly(i + 1) at index i
+	 */
+	public Element[] evaluateShares(int n) {
+		Element[] shares = new Element[n];
+		Element scratch = this.pairing.getZr().newElement();
+		for (int x = 1; x <= n; x++) {
+			scratch.set(this.coef[this.degree]);
+			for (int i = this.degree - 1; i >= 0; i--) {
+				scratch.mul(x).add(this.coef[i]);
 			}
-			temp = temp.mul(coef[i]).getImmutable();
-			result = result.add(temp).getImmutable();
-			temp = pairing.getZr().newOneElement().getImmutable();
+			shares[x - 1] = scratch.getImmutable();
 		}
-		return result;
+		return shares;
+	}
+
+	/**
+	 * Calculate Lagrange coefficients of all indexes in the set with a single inversion,
+	 * i.e., the denominators are inverted in a batch by Montgomery's trick.
+	 *
+	 * @param set
+	 *            the index set S
+	 * @return Lagrange coefficients \dalta_(set[i], S)(0)
+	 */
+	public static Element[] calCoefs(Pairing pairing, int[] set) {
+		int n = set.length;
+		Element[] numerators = new Element[n];
+		Element[] denominators = new Element[n];
+		for (int i = 0; i < n; i++) {
+			numerators[i] = pairing.getZr().newOneElement();
+			denominators[i] = pairing.getZr().newOneElement();
+			for (int j = 0; j < n; j++) {
+				if (j == i) {
+					continue;
+				}
+				numerators[i].mul(-set[j]);
+				denominators[i].mul(set[i] - set[j]);
+			}
+		}
+		// prefixes[i] = denominators[0] * ... * denominators[i - 1]
+		Element[] prefixes = new Element[n];
+		Element accumulator = pairing.getZr().newOneElement();
+		for (int i = 0; i < n; i++) {
+			prefixes[i] = accumulator.duplicate();
+			accumulator.mul(denominators[i]);
+		}
+		accumulator.invert();
+		Element[] coefs = new Element[n];
+		for (int i = n - 1; i >= 0; i--) {
+			// accumulator = (denominators[0] * ... * denominators[i])^{-1}
+			coefs[i] = numerators[i].mul(accumulator).mul(prefixes[i]).getImmutable();
+			accumulator.mul(denominators[i]);
+		}
+		return coefs;
 	}
 
 	/**
@@ -0,0 +1,302 @@
+package cn.edu.ncepu.crypto.algebra.algorithms;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingPreProcessing;
+import it.unisa.dia.gas.plaf.jpbc.pairing.a.TypeAPairing;
+import it.unisa.dia.gas.plaf.jpbc.pairing.a.TypeATateAffineMillerPairingMap;
+
+/**
+ * Multi-pairing, i.e., prod_i e(a_i, b_i)^{c_i} computed with one shared final exponentiation.
+ *
+ * Exponents c_i are moved into the first argument, e(a_i, b_i)^{c_i} = e(a_i^{c_i}, b_i),
+ * so that no exponentiation in GT is needed.
+ * Terms sharing the second argument are merged, prod_i e(a_i, b) = e(prod_i a_i, b),
+ * hence decryption equations whose terms share a key or ciphertext element need only one Miller loop for them.
+ * Terms whose second argument is an element of a given key use the pairing pre-processing of the key if enabled.
+ *
+ * The default Miller pairing maps of jPBC do not support product pairing,
+ * so Type A pairings switch to the affine Miller map that shares the final exponentiation
+ * once the number of Miller loops reaches PRODUCT_PAIRING_THRESHOLD.
+ *
+ * If an executor is given, the exponentiations are computed in parallel,
+ * and the Miller loops are split into chunks evaluated in parallel, whose partial products are multiplied in GT.
+ * Otherwise all terms are computed in the calling thread.
+ *
+ * All schemes in this library use symmetric pairings, hence the key element can be given as the second argument
+ * no matter on which side it appears in the decryption equation.
+ */
+public class MultiPairing {
+	/**
+	 * Minimal number of Miller loops for which the product Miller map outperforms separate pairings.
+	 */
+	public static final int PRODUCT_PAIRING_THRESHOLD = 4;
+
+	private final Pairing pairing;
+	private final PairingKeySerParameter key;
+	private final Executor executor;
+	private final List<Term> terms;
+
+	public MultiPairing(Pairing pairing) {
+		this(pairing, null, null);
+	}
+
+	/**
+	 * @param pairing the pairing
+	 * @param key the key whose elements are paired, its pairing pre-processing is used for key terms if enabled
+	 */
+	public MultiPairing(Pairing pairing, PairingKeySerParameter key) {
+		this(pairing, key, null);
+	}
+
+	/**
+	 * @param pairing the pairing
+	 * @param key the key whose elements are paired, its pairing pre-processing is used for key terms if enabled
+	 * @param executor executor for the exponentiations and Miller loops, or null to evaluate sequentially
+	 */
+	public MultiPairing(Pairing pairing, PairingKeySerParameter key, Executor executor) {
+		this.pairing = pairing;
+		this.key = key;
+		this.executor = executor;
+		this.terms = new ArrayList<Term>();
+	}
+
+	/**
+	 * Multiply e(a, b).
+	 * @param a first argument
+	 * @param b second argument, terms with the same second argument are merged
+	 * @return this multi-pairing
+	 */
+	public MultiPairing mul(Element a, Element b) {
+		this.terms.add(new Term(a, b, null, false, false));
+		return this;
+	}
+
+	/**
+	 * Multiply e(a, b)^exponent.
+	 * @param a first argument
+	 * @param b second argument, terms with the same second argument are merged
+	 * @param exponent exponent in Zr
+	 * @return this multi-pairing
+	 */
+	public MultiPairing mul(Element a, Element b, Element exponent) {
+		this.terms.add(new Term(a, b, exponent, false, false));
+		return this;
+	}
+
+	/**
+	 * Divide e(a, b).
+	 * @param a first argument
+	 * @param b second argument, terms with the same second argument are merged
+	 * @return this multi-pairing
+	 */
+	public MultiPairing div(Element a, Element b) {
+		this.terms.add(new Term(a, b, null, true, false));
+		return this;
+	}
+
+	/**
+	 * Divide e(a, b)^exponent.
+	 * @param a first argument
+	 * @param b second argument, terms with the same second argument are merged
+	 * @param exponent exponent in Zr
+	 * @return this multi-pairing
+	 */
+	public MultiPairing div(Element a, Element b, Element exponent) {
+		this.terms.add(new Term(a, b, exponent, true, false));
+		return this;
+	}
+
+	/**
+	 * Multiply e(a, keyElement), where keyElement is an element of the key given in the constructor.
+	 * @param a first argument
+	 * @param keyElement element of the key
+	 * @return this multi-pairing
+	 */
+	public MultiPairing mulKey(Element a, Element keyElement) {
+		this.terms.add(new Term(a, keyElement, null, false, true));
+		return this;
+	}
+
+	/**
+	 * Multiply e(a, keyElement)^exponent, where keyElement is an element of the key given in the constructor.
+	 * @param a first argument
+	 * @param keyElement element of the key
+	 * @param exponent exponent in Zr
+	 * @return this multi-pairing
+	 */
+	public MultiPairing mulKey(Element a, Element keyElement, Element exponent) {
+		this.terms.add(new Term(a, keyElement, exponent, false, true));
+		return this;
+	}
+
+	/**
+	 * Divide e(a, keyElement), where keyElement is an element of the key given in the constructor.
+	 * @param a first argument
+	 * @param keyElement element of the key
+	 * @return this multi-pairing
+	 */
+	public MultiPairing divKey(Element a, Element keyElement) {
+		this.terms.add(new Term(a, keyElement, null, true, true));
+		return this;
+	}
+
+	/**
+	 * Divide e(a, keyElement)^exponent, where keyElement is an element of the key given in the constructor.
+	 * @param a first argument
+	 * @param keyElement element of the key
+	 * @param exponent exponent in Zr
+	 * @return this multi-pairing
+	 */
+	public MultiPairing divKey(Element a, Element keyElement, Element exponent) {
+		this.terms.add(new Term(a, keyElement, exponent, true, true));
+		return this;
+	}
+
+	/**
+	 * Evaluate the product of all terms added so far.
+	 * @return the product in GT
+	 */
+	public Element evaluate() {
+		List<Element> powers = ParallelUtils.Compute(this.executor, this.terms.size(), i -> this.terms.get(i).power());
+		Map<ByteBuffer, Element[]> keyTerms = new LinkedHashMap<ByteBuffer, Element[]>();
+		Map<ByteBuffer, Element[]> generalTerms = new LinkedHashMap<ByteBuffer, Element[]>();
+		for (int i = 0; i < this.terms.size(); i++) {
+			Term term = this.terms.get(i);
+			Map<ByteBuffer, Element[]> mergedTerms = term.isKeyTerm ? keyTerms : generalTerms;
+			Element[] mergedTerm = mergedTerms.get(term.index);
+			if (mergedTerm == null) {
+				mergedTerms.put(term.index, new Element[] { powers.get(i), term.b });
+			} else {
+				mergedTerm[0].mul(powers.get(i));
+			}
+		}
+
+		List<Element[]> millerLoops = new ArrayList<Element[]>();
+		List<PairingPreProcessing> preProcessings = new ArrayList<PairingPreProcessing>();
+		for (Element[] term : keyTerms.values()) {
+			if (term[0].isZero() || term[1].isZero()) {
+				continue;
+			}
+			millerLoops.add(term);
+			preProcessings.add(this.key == null ? null : this.key.getPairingPreProcessing(term[1]));
+		}
+		for (Element[] term : generalTerms.values()) {
+			if (term[0].isZero() || term[1].isZero()) {
+				continue;
+			}
+			millerLoops.add(term);
+			preProcessings.add(null);
+		}
+		int chunks = this.executor == null ? 1 : Math.min(millerLoops.size(), getParallelism(this.executor));
+		if (chunks <= 1) {
+			return evaluate(millerLoops, preProcessings, 0, millerLoops.size()).getImmutable();
+		}
+		final int numOfChunks = chunks;
+		List<Element> partialResults = ParallelUtils.Compute(this.executor, numOfChunks,
+				c -> evaluate(millerLoops, preProcessings, c * millerLoops.size() / numOfChunks,
+						(c + 1) * millerLoops.size() / numOfChunks));
+		Element result = partialResults.get(0);
+		for (int c = 1; c < numOfChunks; c++) {
+			result.mul(partialResults.get(c));
+		}
+		return result.getImmutable();
+	}
+
+	/**
+	 * Evaluate the Miller loops in [from, to), using the pre-processings if not null.
+	 */
+	private Element evaluate(List<Element[]> millerLoops, List<PairingPreProcessing> preProcessings, int from,
+			int to) {
+		Element result = this.pairing.getGT().newOneElement();
+		List<Element> as = new ArrayList<Element>();
+		List<Element> bs = new ArrayList<Element>();
+		for (int i = from; i < to; i++) {
+			PairingPreProcessing preProcessing = preProcessings.get(i);
+			if (preProcessing == null) {
+				as.add(millerLoops.get(i)[0]);
+				bs.add(millerLoops.get(i)[1]);
+			} else {
+				result.mul(preProcessing.pairing(millerLoops.get(i)[0]));
+			}
+		}
+		result.mul(pairing(this.pairing, as.toArray(new Element[as.size()]), bs.toArray(new Element[bs.size()])));
+		return result;
+	}
+
+	private static int getParallelism(Executor executor) {
+		if (executor instanceof ForkJoinPool) {
+			return ((ForkJoinPool) executor).getParallelism();
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Compute prod_i e(as[i], bs[i]), sharing the final exponentiation when it pays off.
+	 * @param pairing the pairing
+	 * @param as first arguments
+	 * @param bs second arguments
+	 * @return the product in GT
+	 */
+	public static Element pairing(Pairing pairing, Element[] as, Element[] bs) {
+		if (as.length != bs.length) {
+			throw new IllegalArgumentException("Numbers of first and second pairing arguments are not equal.");
+		}
+		if (as.length == 0) {
+			return pairing.getGT().newOneElement();
+		}
+		if (as.length == 1) {
+			return pairing.pairing(as[0], bs[0]);
+		}
+		if (as.length >= PRODUCT_PAIRING_THRESHOLD && !pairing.isProductPairingSupported()
+				&& pairing instanceof TypeAPairing) {
+			return new TypeATateAffineMillerPairingMap((TypeAPairing) pairing).pairing(as, bs);
+		}
+		return pairing.pairing(as, bs);
+	}
+
+	/**
+	 * Term e(a, b)^{+-exponent}, the exponentiation is deferred to evaluate.
+	 */
+	private static class Term {
+		private final Element a;
+		private final Element b;
+		private final ByteBuffer index;
+		private final Element exponent;
+		private final boolean isInverse;
+		private final boolean isKeyTerm;
+
+		Term(Element a, Element b, Element exponent, boolean isInverse, boolean isKeyTerm) {
+			this.a = a.getImmutable();
+			this.b = b.getImmutable();
+			this.index = ByteBuffer.wrap(b.toBytes());
+			this.exponent = exponent == null ? null : exponent.getImmutable();
+			this.isInverse = isInverse;
+			this.isKeyTerm = isKeyTerm;
+		}
+
+		/**
+		 * @return a^{+-exponent} as a new mutable element
+		 */
+		Element power() {
+			Element power = this.a.duplicate();
+			if (this.exponent != null) {
+				power.powZn(this.exponent);
+			}
+			if (this.isInverse) {
+				power.invert();
+			}
+			return power;
+		}
+	}
+}
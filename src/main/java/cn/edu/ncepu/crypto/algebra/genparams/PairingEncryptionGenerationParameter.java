@@ -23,6 +23,6 @@ public abstract class PairingEncryptionGenerationParameter extends PairingEncaps
 		if (message == null) {
 			return null;
 		}
-		return this.message.duplicate();
+		return this.message;
 	}
 }
@@ -0,0 +1,202 @@
+package cn.edu.ncepu.crypto.algebra.serparams;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Field;
+import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveField;
+
+/**
+ * Read-only map from keys, i.e., access policy rows or attributes, to immutable elements,
+ * decoding each element from its byte array on first access.
+ *
+ * Deserialized and compactly decoded SerParameters use this map for per-attribute components,
+ * since decryption only touches the components of the attributes in a minimal satisfying set.
+ * Decoded elements are memoized and safely published; concurrent first accesses may decode an element twice,
+ * but all readers observe the same instance.
+ */
+public class LazyElementMap extends AbstractMap<String, Element> {
+	private final Field<?> field;
+	private final String[] keys;
+	private final byte[][] byteArraysElements;
+	private final boolean compressPoints;
+	private final Map<String, Integer> indices;
+	private final AtomicReferenceArray<Element> elements;
+
+	private Set<String> keySet;
+	private Set<Map.Entry<String, Element>> entrySet;
+
+	/**
+	 * @param field the field of the elements
+	 * @param keys the keys, not copied
+	 * @param byteArraysElements byte arrays of the elements in the order of the keys, not copied
+	 */
+	public LazyElementMap(Field<?> field, String[] keys, byte[][] byteArraysElements) {
+		this(field, keys, byteArraysElements, false);
+	}
+
+	/**
+	 * @param field the field of the elements
+	 * @param keys the keys, not copied
+	 * @param byteArraysElements encodings of the elements in the order of the keys, not copied,
+	 *                           see PairingSerInput.DecodeElement
+	 * @param compressPoints whether curve points are compressed
+	 */
+	public LazyElementMap(Field<?> field, String[] keys, byte[][] byteArraysElements, boolean compressPoints) {
+		if (keys.length != byteArraysElements.length) {
+			throw new IllegalArgumentException("Number of keys " + keys.length + " mismatches number of elements "
+					+ byteArraysElements.length);
+		}
+		this.field = field;
+		this.keys = keys;
+		this.byteArraysElements = byteArraysElements;
+		this.compressPoints = compressPoints;
+		this.indices = new HashMap<String, Integer>(keys.length * 4 / 3 + 1);
+		for (int i = 0; i < keys.length; i++) {
+			this.indices.put(keys[i], i);
+		}
+		this.elements = new AtomicReferenceArray<Element>(keys.length);
+	}
+
+	@Override
+	public Element get(Object key) {
+		Integer index = this.indices.get(key);
+		return index == null ? null : getAt(index);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.indices.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return this.keys.length;
+	}
+
+	/**
+	 * @return number of elements decoded so far
+	 */
+	public int getDecodedSize() {
+		int decodedSize = 0;
+		for (int i = 0; i < this.elements.length(); i++) {
+			if (this.elements.get(i) != null) {
+				decodedSize++;
+			}
+		}
+		return decodedSize;
+	}
+
+	/**
+	 * @return byte arrays of the elements in the order of the keys, as Element.toBytes, not copied
+	 *         unless curve points are compressed
+	 */
+	public byte[][] toByteArrays() {
+		if (!this.compressPoints || !(this.field instanceof CurveField)) {
+			return this.byteArraysElements;
+		}
+		byte[][] byteArrays = new byte[this.keys.length][];
+		for (int i = 0; i < this.keys.length; i++) {
+			byteArrays[i] = getAt(i).toBytes();
+		}
+		return byteArrays;
+	}
+
+	@Override
+	public Set<String> keySet() {
+		// the keys are iterated in order without decoding the elements
+		if (this.keySet == null) {
+			this.keySet = Collections.unmodifiableSet(new LinkedHashSet<String>(Arrays.asList(this.keys)));
+		}
+		return this.keySet;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Element>> entrySet() {
+		if (this.entrySet == null) {
+			this.entrySet = new AbstractSet<Map.Entry<String, Element>>() {
+				@Override
+				public Iterator<Map.Entry<String, Element>> iterator() {
+					return new Iterator<Map.Entry<String, Element>>() {
+						private int index = 0;
+
+						@Override
+						public boolean hasNext() {
+							return this.index < keys.length;
+						}
+
+						@Override
+						public Map.Entry<String, Element> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int i = this.index++;
+							return new AbstractMap.SimpleImmutableEntry<String, Element>(keys[i], getAt(i));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return keys.length;
+				}
+			};
+		}
+		return this.entrySet;
+	}
+
+	private Element getAt(int index) {
+		Element element = this.elements.get(index);
+		if (element == null) {
+			try {
+				element = PairingSerInput.DecodeElement(this.field, this.byteArraysElements[index], this.compressPoints);
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Malformed encoding of element " + this.keys[index] + ".", e);
+			}
+			if (!this.elements.compareAndSet(index, null, element)) {
+				element = this.elements.get(index);
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * Immutable elements of the map for the keys; a LazyElementMap with the same keys is kept as is,
+	 * so that its elements are still decoded on first access.
+	 */
+	public static Map<String, Element> ImmutableElements(Map<String, Element> elements, String[] keys) {
+		if (elements instanceof LazyElementMap && Arrays.equals(((LazyElementMap) elements).keys, keys)) {
+			return elements;
+		}
+		Map<String, Element> immutableElements = new HashMap<String, Element>();
+		for (String key : keys) {
+			immutableElements.put(key, elements.get(key).getImmutable());
+		}
+		return immutableElements;
+	}
+
+	/**
+	 * Byte arrays of the elements of the map in the order of the keys, as Element.toBytes.
+	 */
+	public static byte[][] ToByteArrays(Map<String, Element> elements, String[] keys) {
+		if (elements instanceof LazyElementMap && Arrays.equals(((LazyElementMap) elements).keys, keys)) {
+			return ((LazyElementMap) elements).toByteArrays();
+		}
+		byte[][] byteArrays = new byte[keys.length][];
+		for (int i = 0; i < keys.length; i++) {
+			byteArrays[i] = elements.get(keys[i]).toBytes();
+		}
+		return byteArrays;
+	}
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import it.unisa.dia.gas.jpbc.PairingParameters;
 
 /**
@@ -35,7 +36,7 @@ public class PairingCipherSerParameter implements CipherParameters, Serializable
 		if (anObject instanceof PairingCipherSerParameter) {
 			PairingCipherSerParameter that = (PairingCipherSerParameter) anObject;
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -1,6 +1,16 @@
 package cn.edu.ncepu.crypto.algebra.serparams;
 
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.ElementPowPreProcessing;
+import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.jpbc.PairingPreProcessing;
 
 /**
  * Created by Weiran Liu on 2016/11/9.
@@ -8,16 +18,36 @@ import it.unisa.dia.gas.jpbc.PairingParameters;
  * Serializable asymmetric key parameter.
  * This is the same as AsymmetricKeyParameters, except that this is serializable.
  * All the asymmetric key parameters should extend this class for supporting serialization.
+ *
+ * Keys can optionally cache fixed-base exponentiation tables and fixed-argument pairing pre-processing
+ * of their elements.
+ * Tables are built lazily on the first use of each element and are never serialized.
  */
 public class PairingKeySerParameter extends PairingCipherSerParameter {
 	/**
 	 * 
 	 */
 	private static final long serialVersionUID = -4321962451916033143L;
+	/**
+	 * Default memory bound of fixed-base exponentiation tables of one key, 16MB.
+	 */
+	public static final long DEFAULT_POW_PRE_PROCESSING_BOUND = 16L * 1024 * 1024;
+	/**
+	 * Default memory bound of pairing pre-processing of one key, 16MB.
+	 */
+	public static final long DEFAULT_PAIRING_PRE_PROCESSING_BOUND = 16L * 1024 * 1024;
+	/**
+	 * Window size used by jPBC's ElementPowPreProcessing.
+	 */
+	private static final int POW_PRE_PROCESSING_WINDOW = 5;
+
 	private final boolean privateKey;
 
-	public PairingKeySerParameter(boolean privateKey, PairingParameters pairingParameters) {
-		super(pairingParameters);
+	private transient volatile PreProcessingTables<ElementPowPreProcessing> powPreProcessings;
+	private transient volatile PreProcessingTables<PairingPreProcessing> pairingPreProcessings;
+
+	public PairingKeySerParameter(boolean privateKey, PairingParameters parameters) {
+		super(parameters);
 		this.privateKey = privateKey;
 	}
 
@@ -25,6 +55,149 @@ public class PairingKeySerParameter extends PairingCipherSerParameter {
 		return privateKey;
 	}
 
+	/**
+	 * Enable fixed-base exponentiation tables with the default memory bound.
+	 */
+	public void enablePowPreProcessing() {
+		enablePowPreProcessing(DEFAULT_POW_PRE_PROCESSING_BOUND);
+	}
+
+	/**
+	 * Enable fixed-base exponentiation tables.
+	 * Once the bound is reached, the remaining elements are exponentiated without tables.
+	 * @param bound maximal estimated memory in bytes of the tables of this key
+	 */
+	public synchronized void enablePowPreProcessing(long bound) {
+		this.powPreProcessings = new PreProcessingTables<ElementPowPreProcessing>(bound, this.powPreProcessings);
+	}
+
+	/**
+	 * Disable fixed-base exponentiation and release all tables.
+	 */
+	public synchronized void disablePowPreProcessing() {
+		this.powPreProcessings = null;
+	}
+
+	public boolean isPowPreProcessingEnabled() {
+		return this.powPreProcessings != null;
+	}
+
+	/**
+	 * Estimated memory in bytes of the fixed-base exponentiation tables built so far.
+	 * @return estimated table memory in bytes
+	 */
+	public long getPowPreProcessingSize() {
+		PreProcessingTables<ElementPowPreProcessing> tables = this.powPreProcessings;
+		return tables == null ? 0 : tables.getSize();
+	}
+
+	public int getPowPreProcessingCount() {
+		PreProcessingTables<ElementPowPreProcessing> tables = this.powPreProcessings;
+		return tables == null ? 0 : tables.getCount();
+	}
+
+	/**
+	 * Enable fixed-argument pairing pre-processing with the default memory bound.
+	 */
+	public void enablePairingPreProcessing() {
+		enablePairingPreProcessing(DEFAULT_PAIRING_PRE_PROCESSING_BOUND);
+	}
+
+	/**
+	 * Enable fixed-argument pairing pre-processing, i.e., the Miller loop precomputation of key elements.
+	 * Once the bound is reached, the remaining elements are paired without pre-processing.
+	 * @param bound maximal memory in bytes of the pre-processing of this key
+	 */
+	public synchronized void enablePairingPreProcessing(long bound) {
+		this.pairingPreProcessings = new PreProcessingTables<PairingPreProcessing>(bound, this.pairingPreProcessings);
+	}
+
+	/**
+	 * Disable fixed-argument pairing pre-processing and release all pre-processing.
+	 */
+	public synchronized void disablePairingPreProcessing() {
+		this.pairingPreProcessings = null;
+	}
+
+	public boolean isPairingPreProcessingEnabled() {
+		return this.pairingPreProcessings != null;
+	}
+
+	/**
+	 * Memory in bytes of the pairing pre-processing built so far.
+	 * @return pre-processing memory in bytes
+	 */
+	public long getPairingPreProcessingSize() {
+		PreProcessingTables<PairingPreProcessing> tables = this.pairingPreProcessings;
+		return tables == null ? 0 : tables.getSize();
+	}
+
+	public int getPairingPreProcessingCount() {
+		PreProcessingTables<PairingPreProcessing> tables = this.pairingPreProcessings;
+		return tables == null ? 0 : tables.getCount();
+	}
+
+	/**
+	 * Compute base^exponent, using the cached table of the base when pre-processing is enabled.
+	 * @param name name identifying the base in this key
+	 * @param base the fixed base
+	 * @param exponent exponent in Zr
+	 * @return base^exponent
+	 */
+	protected Element powZn(String name, Element base, Element exponent) {
+		PreProcessingTables<ElementPowPreProcessing> tables = this.powPreProcessings;
+		if (tables == null) {
+			return base.powZn(exponent);
+		}
+		ElementPowPreProcessing table = tables.get(name);
+		if (table == null) {
+			int lookups = base.getField().getOrder().bitLength() / POW_PRE_PROCESSING_WINDOW + 1;
+			long tableSize = (long) lookups * (1 << POW_PRE_PROCESSING_WINDOW) * base.getLengthInBytes();
+			table = tables.putIfFits(name, tableSize, base::getElementPowPreProcessing);
+			if (table == null) {
+				return base.powZn(exponent);
+			}
+		}
+		return table.powZn(exponent);
+	}
+
+	/**
+	 * Get the pairing pre-processing of an element of this key, building it on first use.
+	 * Pre-processing is looked up by the encoding of the element,
+	 * so callers must only pass elements of this key to avoid filling the memory bound with transient elements.
+	 * @param element the fixed pairing argument
+	 * @return the pre-processing of the element, or null if pre-processing is disabled or the bound is reached
+	 */
+	public PairingPreProcessing getPairingPreProcessing(Element element) {
+		PreProcessingTables<PairingPreProcessing> tables = this.pairingPreProcessings;
+		if (tables == null) {
+			return null;
+		}
+		ByteBuffer name = ByteBuffer.wrap(element.toBytes());
+		PairingPreProcessing table = tables.get(name);
+		if (table == null) {
+			Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+			table = tables.putIfFits(name, pairing.getPairingPreProcessingLengthInBytes(),
+					() -> pairing.getPairingPreProcessingFromElement(element));
+		}
+		return table;
+	}
+
+	/**
+	 * Compute e(element, that), using the cached pre-processing of the element when pre-processing is enabled.
+	 * Schemes built on symmetric pairings can also use it for e(that, element).
+	 * @param element the fixed pairing argument, an element of this key
+	 * @param that the other pairing argument
+	 * @return e(element, that)
+	 */
+	protected Element pairing(Element element, Element that) {
+		PairingPreProcessing table = getPairingPreProcessing(element);
+		if (table == null) {
+			return PairingRegistry.getPairing(this.getParameters()).pairing(element, that);
+		}
+		return table.pairing(that);
+	}
+
 	@Override
 	public boolean equals(Object anObject) {
 		if (this == anObject) {
@@ -37,4 +210,58 @@ public class PairingKeySerParameter extends PairingCipherSerParameter {
 		}
 		return false;
 	}
+
+	/**
+	 * Pre-processing tables of one key with bounded memory, looked up by element names or encodings.
+	 */
+	private static class PreProcessingTables<T> {
+		private final Map<Object, T> tables;
+		private final long bound;
+		private long size;
+
+		PreProcessingTables(long bound, PreProcessingTables<T> previous) {
+			if (bound <= 0) {
+				throw new IllegalArgumentException("Memory bound of pre-processing tables must be positive.");
+			}
+			this.tables = new ConcurrentHashMap<Object, T>();
+			this.bound = bound;
+			if (previous != null) {
+				synchronized (previous) {
+					if (previous.size <= bound) {
+						this.tables.putAll(previous.tables);
+						this.size = previous.size;
+					}
+				}
+			}
+		}
+
+		T get(Object name) {
+			return this.tables.get(name);
+		}
+
+		/**
+		 * Build and add the table unless it exceeds the remaining memory, in which case null is returned.
+		 */
+		synchronized T putIfFits(Object name, long tableSize, Supplier<T> builder) {
+			T existing = this.tables.get(name);
+			if (existing != null) {
+				return existing;
+			}
+			if (this.size + tableSize > this.bound) {
+				return null;
+			}
+			T table = builder.get();
+			this.tables.put(name, table);
+			this.size += tableSize;
+			return table;
+		}
+
+		synchronized long getSize() {
+			return this.size;
+		}
+
+		int getCount() {
+			return this.tables.size();
+		}
+	}
 }
@@ -0,0 +1,41 @@
+package cn.edu.ncepu.crypto.algebra.serparams;
+
+import java.io.IOException;
+import java.util.List;
+
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Encoder / decoder of the SerParameters of one scheme family in the compact binary encoding, see PairingSerCodecs.
+ */
+public interface PairingSerCodec {
+	/**
+	 * @return identifier of the scheme family, unique among registered codecs
+	 */
+	int getFamilyId();
+
+	/**
+	 * Classes of SerParameters encoded by this codec. The index of a class is its kind in the encoding,
+	 * hence new classes must be appended to keep existing encodings decodable.
+	 * @return the classes
+	 */
+	List<Class<? extends PairingCipherSerParameter>> getParameterClasses();
+
+	/**
+	 * Write the payload of the parameter, i.e., everything except the pairing parameters.
+	 * @param parameter parameter whose class is one of getParameterClasses
+	 * @param output the output
+	 */
+	void encode(PairingCipherSerParameter parameter, PairingSerOutput output);
+
+	/**
+	 * Read the payload written by encode.
+	 * @param kind index of the class of the parameter in getParameterClasses
+	 * @param pairingParameters the pairing parameters referenced by the encoding
+	 * @param input the input
+	 * @return the parameter
+	 * @throws IOException if the payload is malformed
+	 */
+	PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException;
+}
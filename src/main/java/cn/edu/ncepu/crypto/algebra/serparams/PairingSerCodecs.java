@@ -0,0 +1,164 @@
+package cn.edu.ncepu.crypto.algebra.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact, versioned binary encoding of SerParameters, replacing Java serialization on the wire.
+ *
+ * The encoding consists of
+ * the version (1 byte), flags (1 byte, bit 0 set if curve points are compressed),
+ * the family identifier and the kind of the parameter (varints),
+ * the first 8 bytes of the fingerprint of the pairing parameters (see PairingRegistry),
+ * and the payload written by the codec of the family.
+ * Pairing parameters are referenced instead of embedded, hence the decoding side either passes them to Decode,
+ * or must have fingerprinted them, e.g., by PairingRegistry.getPairing or PairingRegistry.getFingerprint.
+ *
+ * Codecs are provided by the scheme packages as services of PairingSerCodec,
+ * i.e., listed in META-INF/services/cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec,
+ * and registered when this class is loaded. Further codecs can be registered by Register.
+ */
+public final class PairingSerCodecs {
+	public static final int VERSION = 1;
+	private static final int FLAG_COMPRESS_POINTS = 0x01;
+	private static final int FINGERPRINT_PREFIX_BYTES = PairingRegistry.FINGERPRINT_PREFIX_LENGTH / 2;
+
+	private static final ConcurrentMap<Integer, PairingSerCodec> codecs = new ConcurrentHashMap<Integer, PairingSerCodec>();
+	private static final ConcurrentMap<Class<?>, PairingSerCodec> classCodecs = new ConcurrentHashMap<Class<?>, PairingSerCodec>();
+
+	static {
+		for (PairingSerCodec codec : ServiceLoader.load(PairingSerCodec.class, PairingSerCodecs.class.getClassLoader())) {
+			Register(codec);
+		}
+	}
+
+	private PairingSerCodecs() {
+
+	}
+
+	/**
+	 * Register the codec of a scheme family.
+	 * @param codec the codec
+	 */
+	public static void Register(PairingSerCodec codec) {
+		PairingSerCodec existing = codecs.putIfAbsent(codec.getFamilyId(), codec);
+		if (existing != null && existing != codec) {
+			throw new IllegalArgumentException("Family identifier " + codec.getFamilyId() + " is already registered by "
+					+ existing.getClass().getName());
+		}
+		for (Class<? extends PairingCipherSerParameter> parameterClass : codec.getParameterClasses()) {
+			classCodecs.put(parameterClass, codec);
+		}
+	}
+
+	/**
+	 * @param parameter the parameter
+	 * @return true if a codec is registered for the class of the parameter
+	 */
+	public static boolean isSupported(PairingCipherSerParameter parameter) {
+		return parameter != null && classCodecs.containsKey(parameter.getClass());
+	}
+
+	/**
+	 * Encode the parameter with compressed curve points.
+	 * @param parameter the parameter
+	 * @return the encoding
+	 */
+	public static byte[] Encode(PairingCipherSerParameter parameter) {
+		return Encode(parameter, true);
+	}
+
+	/**
+	 * Encode the parameter.
+	 * @param parameter the parameter
+	 * @param compressPoints whether curve points are compressed,
+	 *                       compression halves their sizes at the cost of a square root per point when decoding
+	 * @return the encoding
+	 */
+	public static byte[] Encode(PairingCipherSerParameter parameter, boolean compressPoints) {
+		PairingSerCodec codec = classCodecs.get(parameter.getClass());
+		if (codec == null) {
+			throw new IllegalArgumentException("No codec is registered for " + parameter.getClass().getName());
+		}
+		PairingSerOutput output = new PairingSerOutput(compressPoints);
+		output.writeByte(VERSION);
+		output.writeByte(compressPoints ? FLAG_COMPRESS_POINTS : 0);
+		output.writeVarInt(codec.getFamilyId());
+		output.writeVarInt(codec.getParameterClasses().indexOf(parameter.getClass()));
+		byte[] fingerprint = Hex.decode(PairingRegistry.getFingerprint(parameter.getParameters()));
+		output.writeRawBytes(Arrays.copyOf(fingerprint, FINGERPRINT_PREFIX_BYTES));
+		codec.encode(parameter, output);
+		return output.toByteArray();
+	}
+
+	/**
+	 * Decode the parameter.
+	 * @param encoding the encoding
+	 * @return the parameter
+	 * @throws IOException if the encoding is malformed, of an unknown version or family,
+	 *                     or references unknown pairing parameters
+	 */
+	public static PairingCipherSerParameter Decode(byte[] encoding) throws IOException {
+		return Decode(encoding, null);
+	}
+
+	/**
+	 * Decode the parameter under the given pairing parameters.
+	 * @param encoding the encoding
+	 * @param pairingParameters the pairing parameters the encoding must reference,
+	 *                          or null for the fingerprinted pairing parameters it references
+	 * @return the parameter
+	 * @throws IOException if the encoding is malformed, of an unknown version or family,
+	 *                     or references other or unknown pairing parameters
+	 */
+	public static PairingCipherSerParameter Decode(byte[] encoding, PairingParameters pairingParameters)
+			throws IOException {
+		if (encoding.length < 2) {
+			throw new IOException("Truncated encoding.");
+		}
+		if ((encoding[0] & 0xFF) != VERSION) {
+			throw new IOException("Unsupported encoding version " + (encoding[0] & 0xFF));
+		}
+		int flags = encoding[1] & 0xFF;
+		if ((flags & ~FLAG_COMPRESS_POINTS) != 0) {
+			throw new IOException("Unsupported encoding flags " + flags);
+		}
+		PairingSerInput input = new PairingSerInput(encoding, 2, (flags & FLAG_COMPRESS_POINTS) != 0);
+		int familyId = input.readVarInt();
+		PairingSerCodec codec = codecs.get(familyId);
+		if (codec == null) {
+			throw new IOException("Unknown scheme family " + familyId);
+		}
+		int kind = input.readVarInt();
+		List<Class<? extends PairingCipherSerParameter>> parameterClasses = codec.getParameterClasses();
+		if (kind >= parameterClasses.size()) {
+			throw new IOException("Unknown kind " + kind + " of scheme family " + familyId);
+		}
+		String fingerprint = new String(Hex.encode(input.readRawBytes(FINGERPRINT_PREFIX_BYTES)));
+		if (pairingParameters == null) {
+			pairingParameters = PairingRegistry.getParameters(fingerprint);
+			if (pairingParameters == null) {
+				throw new IOException("Unknown pairing parameters with fingerprint " + fingerprint);
+			}
+		} else if (!PairingRegistry.getFingerprint(pairingParameters).startsWith(fingerprint)) {
+			throw new IOException("Encoding references other pairing parameters with fingerprint " + fingerprint);
+		}
+		PairingCipherSerParameter parameter;
+		try {
+			parameter = codec.decode(kind, pairingParameters, input);
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			throw new IOException("Malformed encoding of " + parameterClasses.get(kind).getName(), e);
+		}
+		input.ensureEnd();
+		return parameter;
+	}
+}
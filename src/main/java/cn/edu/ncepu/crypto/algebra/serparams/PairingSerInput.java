@@ -0,0 +1,297 @@
+package cn.edu.ncepu.crypto.algebra.serparams;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Field;
+import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveElement;
+import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveField;
+
+/**
+ * Input of the compact binary encoding of SerParameters written by PairingSerOutput.
+ * Malformed or truncated encodings are reported by IOException.
+ */
+public class PairingSerInput {
+	private final byte[] bytes;
+	private final boolean compressPoints;
+	private int position;
+
+	public PairingSerInput(byte[] bytes, int offset, boolean compressPoints) {
+		this.bytes = bytes;
+		this.position = offset;
+		this.compressPoints = compressPoints;
+	}
+
+	public int readByte() throws IOException {
+		ensureAvailable(1);
+		return this.bytes[this.position++] & 0xFF;
+	}
+
+	public int readVarInt() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					throw new IOException("Malformed encoding, integer out of range.");
+				}
+				return value;
+			}
+		}
+		throw new IOException("Malformed encoding, integer out of range.");
+	}
+
+	public int readSignedVarInt() throws IOException {
+		int zigzag = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			if (shift == 28 && (b & 0x70) != 0) {
+				break;
+			}
+			zigzag |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigzag >>> 1) ^ -(zigzag & 1);
+			}
+		}
+		throw new IOException("Malformed encoding, integer out of range.");
+	}
+
+	public int[] readInts() throws IOException {
+		int length = readVarInt();
+		// each integer takes at least one byte
+		ensureAvailable(length);
+		int[] values = new int[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = readSignedVarInt();
+		}
+		return values;
+	}
+
+	public int[][] readIntArrays() throws IOException {
+		int length = readVarInt();
+		ensureAvailable(length);
+		int[][] values = new int[length][];
+		for (int i = 0; i < length; i++) {
+			values[i] = readInts();
+		}
+		return values;
+	}
+
+	public BigInteger readBigInteger() throws IOException {
+		byte[] byteArrayValue = readBytes();
+		if (byteArrayValue.length == 0) {
+			throw new IOException("Malformed encoding, empty integer.");
+		}
+		return new BigInteger(byteArrayValue);
+	}
+
+	public byte[] readRawBytes(int length) throws IOException {
+		ensureAvailable(length);
+		byte[] result = Arrays.copyOfRange(this.bytes, this.position, this.position + length);
+		this.position += length;
+		return result;
+	}
+
+	public byte[] readBytes() throws IOException {
+		return readRawBytes(readVarInt());
+	}
+
+	public String readString() throws IOException {
+		return new String(readBytes(), StandardCharsets.UTF_8);
+	}
+
+	public String[] readStrings() throws IOException {
+		int length = readVarInt();
+		// each string takes at least one byte
+		ensureAvailable(length);
+		String[] strings = new String[length];
+		for (int i = 0; i < length; i++) {
+			strings[i] = readString();
+		}
+		return strings;
+	}
+
+	/**
+	 * Read keys of element maps, i.e., access policy rows or attributes.
+	 * @return the keys
+	 * @throws IOException if there is no key or the keys are not distinct
+	 */
+	public String[] readKeys() throws IOException {
+		String[] keys = readStrings();
+		if (keys.length == 0 || new HashSet<String>(Arrays.asList(keys)).size() != keys.length) {
+			throw new IOException("Malformed encoding, keys are empty or not distinct.");
+		}
+		return keys;
+	}
+
+	/**
+	 * Read an immutable element of the field, decompressing curve points if point compression is enabled.
+	 * @param field the field of the element
+	 * @return the element
+	 * @throws IOException if the encoding is truncated or the point is not on the curve
+	 */
+	public Element readElement(Field<?> field) throws IOException {
+		return DecodeElement(field, readElementBytes(field), this.compressPoints);
+	}
+
+	/**
+	 * Read the encoding of an element of the field without decoding it, see DecodeElement.
+	 * @param field the field of the element
+	 * @return the encoding of the element
+	 * @throws IOException if the encoding is truncated
+	 */
+	public byte[] readElementBytes(Field<?> field) throws IOException {
+		if (this.compressPoints && field instanceof CurveField) {
+			return readRawBytes(((CurveElement<?, ?>) field.newElement()).getLengthInBytesCompressed());
+		}
+		return readRawBytes(field.getLengthInBytes());
+	}
+
+	public boolean isCompressPoints() {
+		return this.compressPoints;
+	}
+
+	/**
+	 * Decode an immutable element of the field read by readElementBytes.
+	 * @param field the field of the element
+	 * @param byteArrayElement the encoding of the element
+	 * @param compressPoints whether curve points are compressed
+	 * @return the element
+	 * @throws IOException if the point is not on the curve
+	 */
+	public static Element DecodeElement(Field<?> field, byte[] byteArrayElement, boolean compressPoints)
+			throws IOException {
+		Element element = field.newElement();
+		if (compressPoints && field instanceof CurveField) {
+			CurveElement<?, ?> point = (CurveElement<?, ?>) element;
+			int sign = byteArrayElement[byteArrayElement.length - 1];
+			if (sign == PairingSerOutput.INFINITY) {
+				point.setToZero();
+			} else if (sign == 0 || sign == 1) {
+				point.setFromBytesCompressed(byteArrayElement);
+				if (!point.isValid()) {
+					throw new IOException("Malformed encoding, compressed point is not on the curve.");
+				}
+			} else {
+				throw new IOException("Malformed encoding, invalid compressed point.");
+			}
+		} else {
+			element.setFromBytes(byteArrayElement);
+			if (element instanceof CurveElement) {
+				// jPBC sets points off the curve to the point at infinity, which is encoded by zeros only
+				CurveElement<?, ?> point = (CurveElement<?, ?>) element;
+				if (!point.isValid() || (point.isZero() && !IsZeros(byteArrayElement))) {
+					throw new IOException("Malformed encoding, point is not on the curve.");
+				}
+			}
+		}
+		return element.getImmutable();
+	}
+
+	private static boolean IsZeros(byte[] byteArray) {
+		for (byte b : byteArray) {
+			if (b != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Read immutable elements of the field written by PairingSerOutput.writeElementArray.
+	 * @param field the field of the elements
+	 * @return the elements
+	 * @throws IOException if the encoding is truncated or a point is not on the curve
+	 */
+	public Element[] readElementArray(Field<?> field) throws IOException {
+		int length = readVarInt();
+		// each element takes at least one byte
+		ensureAvailable(length);
+		Element[] elements = new Element[length];
+		for (int i = 0; i < length; i++) {
+			elements[i] = readElement(field);
+		}
+		return elements;
+	}
+
+	/**
+	 * Read strings written by PairingSerOutput.writeNullableStrings.
+	 * @return the strings, null at the absent positions
+	 * @throws IOException if the encoding is truncated
+	 */
+	public String[] readNullableStrings() throws IOException {
+		boolean[] presence = readPresence();
+		String[] strings = new String[presence.length];
+		for (int i = 0; i < presence.length; i++) {
+			if (presence[i]) {
+				strings[i] = readString();
+			}
+		}
+		return strings;
+	}
+
+	/**
+	 * Read immutable elements of the field written by PairingSerOutput.writeNullableElementArray.
+	 * @param field the field of the elements
+	 * @return the elements, null at the absent positions
+	 * @throws IOException if the encoding is truncated or a point is not on the curve
+	 */
+	public Element[] readNullableElementArray(Field<?> field) throws IOException {
+		boolean[] presence = readPresence();
+		Element[] elements = new Element[presence.length];
+		for (int i = 0; i < presence.length; i++) {
+			if (presence[i]) {
+				elements[i] = readElement(field);
+			}
+		}
+		return elements;
+	}
+
+	private boolean[] readPresence() throws IOException {
+		int length = readVarInt();
+		byte[] bitmap = readRawBytes((int) ((length + 7L) / 8));
+		boolean[] presence = new boolean[length];
+		for (int i = 0; i < length; i++) {
+			presence[i] = (bitmap[i >>> 3] & (1 << (i & 7))) != 0;
+		}
+		return presence;
+	}
+
+	/**
+	 * Read elements of the field written by PairingSerOutput.writeElements.
+	 * Elements are decoded on first access, so that decryption only decodes the elements it uses;
+	 * a malformed element is reported by IllegalArgumentException on access.
+	 * @param field the field of the elements
+	 * @param keys keys of the elements
+	 * @return map from the keys to the elements, iterating in the order of the keys
+	 * @throws IOException if the encoding is truncated
+	 */
+	public LazyElementMap readElements(Field<?> field, String[] keys) throws IOException {
+		byte[][] byteArraysElements = new byte[keys.length][];
+		for (int i = 0; i < keys.length; i++) {
+			byteArraysElements[i] = readElementBytes(field);
+		}
+		return new LazyElementMap(field, keys, byteArraysElements, this.compressPoints);
+	}
+
+	/**
+	 * @throws IOException if there are remaining bytes
+	 */
+	public void ensureEnd() throws IOException {
+		if (this.position != this.bytes.length) {
+			throw new IOException("Malformed encoding, " + (this.bytes.length - this.position) + " trailing bytes.");
+		}
+	}
+
+	private void ensureAvailable(int length) throws IOException {
+		if (length < 0 || length > this.bytes.length - this.position) {
+			throw new EOFException("Truncated encoding.");
+		}
+	}
+}
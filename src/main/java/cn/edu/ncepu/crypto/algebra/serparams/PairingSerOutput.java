@@ -0,0 +1,181 @@
+package cn.edu.ncepu.crypto.algebra.serparams;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveElement;
+
+/**
+ * Output of the compact binary encoding of SerParameters, see PairingSerCodecs.
+ *
+ * Integers are encoded as unsigned LEB128 varints, or as zigzag varints if they may be negative,
+ * byte arrays, strings and arrays are prefixed by their lengths.
+ * Elements have fixed lengths determined by their groups, hence they are written without length prefixes.
+ * Curve points, i.e., elements of G1, are written compressed if point compression is enabled:
+ * the x-coordinate followed by one byte, the sign of the y-coordinate (0 or 1), or 2 for the point at infinity.
+ */
+public class PairingSerOutput {
+	static final byte INFINITY = 2;
+
+	private final ByteArrayOutputStream outputStream;
+	private final boolean compressPoints;
+
+	public PairingSerOutput(boolean compressPoints) {
+		this.outputStream = new ByteArrayOutputStream(256);
+		this.compressPoints = compressPoints;
+	}
+
+	public boolean isCompressPoints() {
+		return this.compressPoints;
+	}
+
+	public void writeByte(int value) {
+		this.outputStream.write(value);
+	}
+
+	public void writeVarInt(int value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("Cannot encode negative integer " + value);
+		}
+		while ((value & ~0x7F) != 0) {
+			this.outputStream.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		this.outputStream.write(value);
+	}
+
+	/**
+	 * Write the integer as a zigzag varint, so that integers of small absolute values take few bytes.
+	 * @param value the integer
+	 */
+	public void writeSignedVarInt(int value) {
+		int zigzag = (value << 1) ^ (value >> 31);
+		while ((zigzag & ~0x7F) != 0) {
+			this.outputStream.write((zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+		this.outputStream.write(zigzag);
+	}
+
+	public void writeInts(int[] values) {
+		writeVarInt(values.length);
+		for (int value : values) {
+			writeSignedVarInt(value);
+		}
+	}
+
+	public void writeIntArrays(int[][] values) {
+		writeVarInt(values.length);
+		for (int[] value : values) {
+			writeInts(value);
+		}
+	}
+
+	public void writeBigInteger(BigInteger value) {
+		writeBytes(value.toByteArray());
+	}
+
+	public void writeRawBytes(byte[] bytes) {
+		this.outputStream.write(bytes, 0, bytes.length);
+	}
+
+	public void writeBytes(byte[] bytes) {
+		writeVarInt(bytes.length);
+		writeRawBytes(bytes);
+	}
+
+	public void writeString(String string) {
+		writeBytes(string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public void writeStrings(String[] strings) {
+		writeVarInt(strings.length);
+		for (String string : strings) {
+			writeString(string);
+		}
+	}
+
+	/**
+	 * Write the element, compressed if it is a curve point and point compression is enabled.
+	 * @param element the element
+	 */
+	public void writeElement(Element element) {
+		if (this.compressPoints && element instanceof CurveElement) {
+			CurveElement<?, ?> point = (CurveElement<?, ?>) element;
+			if (point.isZero()) {
+				writeRawBytes(new byte[point.getLengthInBytesCompressed() - 1]);
+				this.outputStream.write(INFINITY);
+			} else {
+				writeRawBytes(point.toBytesCompressed());
+			}
+		} else {
+			writeRawBytes(element.toBytes());
+		}
+	}
+
+	/**
+	 * Write the elements of the array prefixed by its length.
+	 * @param elements the elements, all of the same field
+	 */
+	public void writeElementArray(Element[] elements) {
+		writeVarInt(elements.length);
+		for (Element element : elements) {
+			writeElement(element);
+		}
+	}
+
+	/**
+	 * Write the strings prefixed by their length and a bitmap of the strings that are not null.
+	 * @param strings the strings, e.g., identities with null at unused positions
+	 */
+	public void writeNullableStrings(String[] strings) {
+		writePresence(strings);
+		for (String string : strings) {
+			if (string != null) {
+				writeString(string);
+			}
+		}
+	}
+
+	/**
+	 * Write the elements prefixed by their length and a bitmap of the elements that are not null.
+	 * @param elements the elements, all of the same field, e.g., mapped identities with null at unused positions
+	 */
+	public void writeNullableElementArray(Element[] elements) {
+		writePresence(elements);
+		for (Element element : elements) {
+			if (element != null) {
+				writeElement(element);
+			}
+		}
+	}
+
+	private void writePresence(Object[] values) {
+		writeVarInt(values.length);
+		byte[] bitmap = new byte[(values.length + 7) / 8];
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				bitmap[i >>> 3] |= 1 << (i & 7);
+			}
+		}
+		writeRawBytes(bitmap);
+	}
+
+	/**
+	 * Write the elements of the map in the order of the given keys.
+	 * @param elements the elements
+	 * @param keys keys of the map, written by the caller
+	 */
+	public void writeElements(Map<String, Element> elements, String[] keys) {
+		for (String key : keys) {
+			writeElement(elements.get(key));
+		}
+	}
+
+	public byte[] toByteArray() {
+		return this.outputStream.toByteArray();
+	}
+}
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.application.llw15.RBACLLW15Engine;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -37,7 +37,7 @@ public class RBACLLW15AccessCredentialMGenerator implements PairingKeyParameterG
 			RBACLLW15MasterSecretKeySerParameter masterSecretKeyParameters = (RBACLLW15MasterSecretKeySerParameter) parameters
 					.getMasterSecretKeyParameter();
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementRoles = PairingUtils.MapStringArrayToGroup(pairing, parameters.getRoles(),
 					PairingUtils.PairingGroupType.Zr);
 			Element elementTime = PairingUtils.MapStringToGroup(pairing, parameters.getTime(),
@@ -47,25 +47,25 @@ public class RBACLLW15AccessCredentialMGenerator implements PairingKeyParameterG
 				// parameters
 				Element r = pairing.getZr().newRandomElement().getImmutable();
 
-				Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
-				Element a0 = publicKeyParameters.getG3().getImmutable();
-				Element a2 = publicKeyParameters.getGh().powZn(r).getImmutable();
-				Element bv = publicKeyParameters.getUv().powZn(r).getImmutable();
+				Element a1 = publicKeyParameters.powG(r).getImmutable();
+				Element a0 = publicKeyParameters.getG3();
+				Element a2 = publicKeyParameters.powGh(r).getImmutable();
+				Element bv = publicKeyParameters.powUv(r).getImmutable();
 				Element[] bs = new Element[publicKeyParameters.getMaxRoleNumber()];
 
 				for (int i = 0; i < publicKeyParameters.getMaxRoleNumber(); i++) {
 					if (parameters.getRoleAt(i) != null) {
 						// Compute a0
-						a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementRoles[i])).getImmutable();
+						a0 = a0.mul(publicKeyParameters.powUsAt(i, elementRoles[i])).getImmutable();
 						// Set h[i] to be one
 						bs[i] = pairing.getG1().newOneElement().getImmutable();
 					} else {
 						// Set h[i] to be h_i^r
-						bs[i] = publicKeyParameters.getUsAt(i).powZn(r).getImmutable();
+						bs[i] = publicKeyParameters.powUsAt(i, r).getImmutable();
 					}
 				}
 				// multiply u_0^t
-				a0 = a0.mul(publicKeyParameters.getU0().powZn(elementTime)).getImmutable();
+				a0 = a0.mul(publicKeyParameters.powU0(elementTime)).getImmutable();
 				// raise a0 to the power of r and then multiple it by gAlpha
 				a0 = a0.powZn(r).mul(masterSecretKeyParameters.getG2Alpha()).getImmutable();
 
@@ -104,7 +104,7 @@ public class RBACLLW15AccessCredentialMGenerator implements PairingKeyParameterG
 			RBACLLW15AccessCredentialMSerParameter secretKeyParameters = (RBACLLW15AccessCredentialMSerParameter) parameters
 					.getSecretKeyParameter();
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] roles = new String[publicKeyParameters.getMaxRoleNumber()];
 			Element[] elementRoles = new Element[publicKeyParameters.getMaxRoleNumber()];
 			Element elementDelegateRole = PairingUtils
@@ -114,10 +114,10 @@ public class RBACLLW15AccessCredentialMGenerator implements PairingKeyParameterG
 				// generate medical staff access credential without using intermediate
 				// parameters
 				Element t = pairing.getZr().newRandomElement().getImmutable();
-				Element a0 = publicKeyParameters.getG3().getImmutable();
-				Element a1 = secretKeyParameters.getA1().mul(publicKeyParameters.getG().powZn(t)).getImmutable();
-				Element a2 = secretKeyParameters.getA2().mul(publicKeyParameters.getGh().powZn(t)).getImmutable();
-				Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.getUv().powZn(t)).getImmutable();
+				Element a0 = publicKeyParameters.getG3();
+				Element a1 = secretKeyParameters.getA1().mul(publicKeyParameters.powG(t)).getImmutable();
+				Element a2 = secretKeyParameters.getA2().mul(publicKeyParameters.powGh(t)).getImmutable();
+				Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.powUv(t)).getImmutable();
 				Element[] bs = new Element[publicKeyParameters.getMaxRoleNumber()];
 
 				for (int i = 0; i < publicKeyParameters.getMaxRoleNumber(); i++) {
@@ -125,23 +125,23 @@ public class RBACLLW15AccessCredentialMGenerator implements PairingKeyParameterG
 						roles[i] = secretKeyParameters.getRoleAt(i);
 						elementRoles[i] = secretKeyParameters.getElementRoleAt(i);
 						// Compute a0
-						a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementRoles[i])).getImmutable();
+						a0 = a0.mul(publicKeyParameters.powUsAt(i, elementRoles[i])).getImmutable();
 						// Set h[i] to be one
 						bs[i] = pairing.getG1().newOneElement().getImmutable();
 					} else if (i == parameters.getIndex()) {
 						roles[i] = parameters.getDelegateRole();
 						elementRoles[i] = elementDelegateRole.getImmutable();
 						// Compute a0
-						a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementRoles[i])).getImmutable();
+						a0 = a0.mul(publicKeyParameters.powUsAt(i, elementRoles[i])).getImmutable();
 						// Set h[i] to be one
 						bs[i] = pairing.getG1().newOneElement().getImmutable();
 					} else {
-						bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.getUsAt(i).powZn(t))
+						bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.powUsAt(i, t))
 								.getImmutable();
 					}
 				}
 				// Compute the rest of a0
-				a0 = a0.mul(publicKeyParameters.getU0().powZn(secretKeyParameters.getElementTime())).powZn(t)
+				a0 = a0.mul(publicKeyParameters.powU0(secretKeyParameters.getElementTime())).powZn(t)
 						.mul(secretKeyParameters.getA0()).mul(secretKeyParameters.getBsAt(parameters.getIndex())
 								.powZn(elementRoles[parameters.getIndex()]))
 						.getImmutable();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.application.llw15.genparams.RBACLLW15AccessCredentialPGenParameter;
@@ -12,7 +13,6 @@ import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -33,24 +33,24 @@ public class RBACLLW15AccessCredentialPGenerator implements PairingKeyParameterG
 		RBACLLW15MasterSecretKeySerParameter masterSecretKeyParameters = (RBACLLW15MasterSecretKeySerParameter) parameters
 				.getMasterSecretKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(),
 				PairingUtils.PairingGroupType.Zr);
 		if (!parameters.isIntermediateGeneration()) {
 			// generate patient access credential without using intermediate
 			Element r = pairing.getZr().newRandomElement().getImmutable();
 
-			Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
-			Element b0 = publicKeyParameters.getU0().powZn(r).getImmutable();
-			Element bv = publicKeyParameters.getUv().powZn(r).getImmutable();
+			Element a1 = publicKeyParameters.powG(r).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
+			Element b0 = publicKeyParameters.powU0(r).getImmutable();
+			Element bv = publicKeyParameters.powUv(r).getImmutable();
 			Element[] bs = new Element[publicKeyParameters.getMaxRoleNumber()];
 
-			a0 = a0.mul(publicKeyParameters.getGh().powZn(elementId)).getImmutable();
+			a0 = a0.mul(publicKeyParameters.powGh(elementId)).getImmutable();
 			a0 = a0.powZn(r).mul(masterSecretKeyParameters.getG2Alpha()).getImmutable();
 			for (int i = 0; i < publicKeyParameters.getMaxRoleNumber(); i++) {
 				// Set h[i] to be h_i^r
-				bs[i] = publicKeyParameters.getUsAt(i).powZn(r).getImmutable();
+				bs[i] = publicKeyParameters.powUsAt(i, r).getImmutable();
 			}
 			return new RBACLLW15AccessCredentialPSerParameter(publicKeyParameters.getParameters(), parameters.getId(),
 					elementId, a0, a1, b0, bv, bs);
@@ -3,6 +3,8 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.application.llw15.genparams.RBACLLW15DecapsulationPParameter;
 import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15AccessCredentialPSerParameter;
@@ -11,7 +13,6 @@ import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -33,7 +34,7 @@ public class RBACLLW15DecapsulationPGenerator implements PairingDecapsulationGen
 		RBACLLW15EncapsulationSerParameter ciphertextParameters = (RBACLLW15EncapsulationSerParameter) this.params
 				.getCiphertextParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element[] elementRolesCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getRoles(),
 				PairingUtils.PairingGroupType.Zr);
 		Element elementTimeCT = PairingUtils.MapStringToGroup(pairing, this.params.getTime(),
@@ -44,10 +45,9 @@ public class RBACLLW15DecapsulationPGenerator implements PairingDecapsulationGen
 			throw new InvalidCipherTextException("Patient identity does not match Encapsulation identity");
 		}
 
-		Element a0 = secretKeyParameters.getA0Prime().getImmutable();
-		Element C0 = ciphertextParameters.getC0().getImmutable();
-		Element C1 = ciphertextParameters.getC1().getImmutable();
-		Element a1 = secretKeyParameters.getA1Prime().getImmutable();
+		Element a0 = secretKeyParameters.getA0Prime();
+		Element C0 = ciphertextParameters.getC0();
+		Element C1 = ciphertextParameters.getC1();
 
 		for (int i = 0; i < publicKeyParameters.getMaxRoleNumber(); i++) {
 			if (params.getRolesAt(i) != null) {
@@ -58,8 +58,7 @@ public class RBACLLW15DecapsulationPGenerator implements PairingDecapsulationGen
 				.mul(secretKeyParameters.getBvPrime().powZn(
 						PairingUtils.MapByteArrayToGroup(pairing, C0.toBytes(), PairingUtils.PairingGroupType.Zr)))
 				.getImmutable();
-		Element temp0 = pairing.pairing(C0, a0).getImmutable();
-		Element temp1 = pairing.pairing(a1, C1).getImmutable();
-		return temp0.div(temp1).getImmutable().toBytes();
+		return new MultiPairing(pairing, secretKeyParameters).mul(a0, C0)
+				.divKey(C1, secretKeyParameters.getA1Prime()).evaluate().toBytes();
 	}
 }
\ No newline at end of file
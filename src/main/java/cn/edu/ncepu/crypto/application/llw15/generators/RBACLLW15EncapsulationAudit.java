@@ -2,13 +2,13 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.application.llw15.genparams.RBACLLW15EncapsulationAuditParameter;
 import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15EncapsulationSerParameter;
 import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -25,7 +25,7 @@ public class RBACLLW15EncapsulationAudit {
 	public boolean audit() {
 		RBACLLW15PublicKeySerParameter publicKeyParameters = this.params.getPublicKeyParameters();
 		RBACLLW15EncapsulationSerParameter encapsulationParameters = this.params.getCiphertextParameters();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		String[] roles = this.params.getRoles();
 		Element[] elementRoles = PairingUtils.MapStringArrayToGroup(pairing, roles, PairingUtils.PairingGroupType.Zr);
 		String time = this.params.getTime();
@@ -36,15 +36,15 @@ public class RBACLLW15EncapsulationAudit {
 		Element temp00 = publicKeyParameters.getG();
 		Element temp01 = encapsulationParameters.getC1();
 		Element temp10 = encapsulationParameters.getC0();
-		Element temp11 = publicKeyParameters.getG3().mul(publicKeyParameters.getU0().powZn(elementTime))
-				.mul(publicKeyParameters.getGh().powZn(elementId)).mul(
+		Element temp11 = publicKeyParameters.getG3().mul(publicKeyParameters.powU0(elementTime))
+				.mul(publicKeyParameters.powGh(elementId)).mul(
 						publicKeyParameters.getUv()
 								.powZn(PairingUtils.MapByteArrayToGroup(pairing,
 										encapsulationParameters.getC0().toBytes(), PairingUtils.PairingGroupType.Zr)))
 				.getImmutable();
 		for (int i = 0; i < roles.length; i++) {
 			if (roles[i] != null) {
-				temp11 = temp11.mul(publicKeyParameters.getUsAt(i).powZn(elementRoles[i])).getImmutable();
+				temp11 = temp11.mul(publicKeyParameters.powUsAt(i, elementRoles[i])).getImmutable();
 			}
 		}
 		Element temp0 = pairing.pairing(temp00, temp01).getImmutable();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.application.llw15.genparams.RBACLLW15EncapsulationGenParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -28,7 +28,7 @@ public class RBACLLW15EncapsulationPairGenerator implements PairingEncapsulation
 	public PairingKeyEncapsulationSerPair generateEncryptionPair() {
 		RBACLLW15PublicKeySerParameter publicKeyParameters = (RBACLLW15PublicKeySerParameter) this.params
 				.getPublicKeyParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		String[] roles = this.params.getRoles();
 		Element[] elementRoles = PairingUtils.MapStringArrayToGroup(pairing, roles, PairingUtils.PairingGroupType.Zr);
 		String time = this.params.getTime();
@@ -43,17 +43,17 @@ public class RBACLLW15EncapsulationPairGenerator implements PairingEncapsulation
 					.getImmutable();
 			byte[] byteArraySessionKey = sessionKey.toBytes();
 
-			Element C0 = publicKeyParameters.getG().powZn(beta).getImmutable();
+			Element C0 = publicKeyParameters.powG(beta).getImmutable();
 			Element w = PairingUtils.MapByteArrayToGroup(pairing, C0.toBytes(), PairingUtils.PairingGroupType.Zr);
-			Element C1 = publicKeyParameters.getG3().getImmutable();
+			Element C1 = publicKeyParameters.getG3();
 			for (int i = 0; i < publicKeyParameters.getMaxRoleNumber(); i++) {
 				if (roles[i] != null) {
-					C1 = C1.mul(publicKeyParameters.getUsAt(i).powZn(elementRoles[i])).getImmutable();
+					C1 = C1.mul(publicKeyParameters.powUsAt(i, elementRoles[i])).getImmutable();
 				}
 			}
-			C1 = C1.mul(publicKeyParameters.getU0().powZn(elementTime)).getImmutable();
-			C1 = C1.mul(publicKeyParameters.getGh().powZn(elementId)).getImmutable();
-			C1 = C1.mul(publicKeyParameters.getUv().powZn(w)).getImmutable();
+			C1 = C1.mul(publicKeyParameters.powU0(elementTime)).getImmutable();
+			C1 = C1.mul(publicKeyParameters.powGh(elementId)).getImmutable();
+			C1 = C1.mul(publicKeyParameters.powUv(w)).getImmutable();
 			C1 = C1.powZn(beta).getImmutable();
 			return new PairingKeyEncapsulationSerPair(byteArraySessionKey,
 					new RBACLLW15EncapsulationSerParameter(publicKeyParameters.getParameters(), C0, C1));
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.application.llw15.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.application.llw15.genparams.RBACLLW15KeyPairGenerationParameter;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.application.llw15.serparams.RBACLLW15PublicKeySerPara
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/6/19.
@@ -26,7 +26,7 @@ public class RBACLLW15KeyPairGenerator implements PairingKeyPairGenerator {
 
 	public PairingKeySerPair generateKeyPair() {
 		PairingParameters parameters = this.parameters.getPairingParameters();
-		Pairing pairing = PairingFactory.getPairing(parameters);
+		Pairing pairing = PairingRegistry.getPairing(parameters);
 
 		Element g = pairing.getG1().newRandomElement().getImmutable();
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
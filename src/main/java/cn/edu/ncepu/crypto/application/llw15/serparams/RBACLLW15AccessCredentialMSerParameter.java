@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.application.llw15.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -84,32 +84,36 @@ public class RBACLLW15AccessCredentialMSerParameter extends PairingKeySerParamet
 		return this.time;
 	}
 
+	public Element[] getElementRoles() {
+		return this.elementRoles;
+	}
+
 	public Element getElementRoleAt(int index) {
-		return this.elementRoles[index].duplicate();
+		return this.elementRoles[index];
 	}
 
 	public Element getElementTime() {
-		return this.elementTime.duplicate();
+		return this.elementTime;
 	}
 
 	public Element getA0() {
-		return this.a0.duplicate();
+		return this.a0;
 	}
 
 	public Element getA1() {
-		return this.a1.duplicate();
+		return this.a1;
 	}
 
 	public Element getA2() {
-		return this.a2.duplicate();
+		return this.a2;
 	}
 
 	public Element getBv() {
-		return this.bv.duplicate();
+		return this.bv;
 	}
 
 	public Element getBsAt(int index) {
-		return this.bs[index].duplicate();
+		return this.bs[index];
 	}
 
 	public Element[] getBs() {
@@ -170,7 +174,7 @@ public class RBACLLW15AccessCredentialMSerParameter extends PairingKeySerParamet
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -178,7 +182,7 @@ public class RBACLLW15AccessCredentialMSerParameter extends PairingKeySerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementRoles = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysElementRoles,
 				PairingUtils.PairingGroupType.Zr);
 		this.elementTime = pairing.getZr().newElementFromBytes(this.byteArrayElementTime).getImmutable();
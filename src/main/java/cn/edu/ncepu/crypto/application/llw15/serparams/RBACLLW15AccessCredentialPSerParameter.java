@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.application.llw15.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -68,27 +68,31 @@ public class RBACLLW15AccessCredentialPSerParameter extends PairingKeySerParamet
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getA0Prime() {
-		return this.a0Prime.duplicate();
+		return this.a0Prime;
 	}
 
 	public Element getA1Prime() {
-		return this.a1Prime.duplicate();
+		return this.a1Prime;
 	}
 
 	public Element getB0Prime() {
-		return this.b0Prime.duplicate();
+		return this.b0Prime;
 	}
 
 	public Element getBvPrime() {
-		return this.bvPrime.duplicate();
+		return this.bvPrime;
+	}
+
+	public Element[] getBsPrime() {
+		return this.bsPrime;
 	}
 
 	public Element getBsPrimeAt(int index) {
-		return this.bsPrime[index].duplicate();
+		return this.bsPrime[index];
 	}
 
 	@Override
@@ -145,7 +149,7 @@ public class RBACLLW15AccessCredentialPSerParameter extends PairingKeySerParamet
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -153,7 +157,7 @@ public class RBACLLW15AccessCredentialPSerParameter extends PairingKeySerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getZr().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.a0Prime = pairing.getG1().newElementFromBytes(this.byteArrayA0Prime).getImmutable();
 		this.a1Prime = pairing.getG1().newElementFromBytes(this.byteArrayA1Prime).getImmutable();
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.application.llw15.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -71,23 +71,27 @@ public class RBACLLW15IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element get_G_3_r() {
-		return this.g_3_r.duplicate();
+		return this.g_3_r;
 	}
 
 	public Element get_G_h_r() {
-		return this.g_h_r.duplicate();
+		return this.g_h_r;
 	}
 
 	public Element get_G_r() {
-		return this.g_r.duplicate();
+		return this.g_r;
 	}
 
 	public Element get_U_0_r() {
-		return this.u_0_r.duplicate();
+		return this.u_0_r;
 	}
 
 	public Element get_U_v_r() {
-		return this.u_v_r.duplicate();
+		return this.u_v_r;
+	}
+
+	public Element[] get_U_s_r() {
+		return this.u_s_r;
 	}
 
 	public Element get_U_s_r_at(int index) {
@@ -151,7 +155,7 @@ public class RBACLLW15IntermediateSerParameter extends PairingCipherSerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -159,7 +163,7 @@ public class RBACLLW15IntermediateSerParameter extends PairingCipherSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.r = pairing.getZr().newElementFromBytes(this.byteArrayR).getImmutable();
 		this.g_3_r = pairing.getG1().newElementFromBytes(this.byteArrayG_3_r).getImmutable();
 		this.g_h_r = pairing.getG1().newElementFromBytes(this.byteArrayG_h_r).getImmutable();
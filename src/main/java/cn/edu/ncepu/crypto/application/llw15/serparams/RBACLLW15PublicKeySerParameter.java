@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.application.llw15.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -81,31 +81,51 @@ public class RBACLLW15PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getG1() {
-		return this.g1.duplicate();
+		return this.g1;
 	}
 
 	public Element getG2() {
-		return this.g2.duplicate();
+		return this.g2;
 	}
 
 	public Element getG3() {
-		return this.g3.duplicate();
+		return this.g3;
+	}
+
+	public Element powG3(Element exponent) {
+		return powZn("g3", this.g3, exponent);
 	}
 
 	public Element getGh() {
-		return this.gh.duplicate();
+		return this.gh;
+	}
+
+	public Element powGh(Element exponent) {
+		return powZn("gh", this.gh, exponent);
 	}
 
 	public Element getU0() {
-		return this.u0.duplicate();
+		return this.u0;
+	}
+
+	public Element powU0(Element exponent) {
+		return powZn("u0", this.u0, exponent);
 	}
 
 	public Element getUv() {
-		return this.uv.duplicate();
+		return this.uv;
+	}
+
+	public Element powUv(Element exponent) {
+		return powZn("uv", this.uv, exponent);
 	}
 
 	public Element[] getUs() {
@@ -113,7 +133,11 @@ public class RBACLLW15PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getUsAt(int index) {
-		return this.us[index].duplicate();
+		return this.us[index];
+	}
+
+	public Element powUsAt(int index, Element exponent) {
+		return powZn("us[" + index + "]", this.us[index], exponent);
 	}
 
 	public int getMaxRoleNumber() {
@@ -184,7 +208,7 @@ public class RBACLLW15PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -192,7 +216,7 @@ public class RBACLLW15PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.g1 = pairing.getG1().newElementFromBytes(this.byteArrayG1).getImmutable();
 		this.g2 = pairing.getG1().newElementFromBytes(this.byteArrayG2).getImmutable();
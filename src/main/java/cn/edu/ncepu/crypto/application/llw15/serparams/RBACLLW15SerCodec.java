@@ -0,0 +1,138 @@
+package cn.edu.ncepu.crypto.application.llw15.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu role-based access control encapsulations, intermediates, keys and credentials.
+ */
+public class RBACLLW15SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x91;
+	private static final int KIND_PUBLIC_KEY = 1;
+	private static final int KIND_MASTER_SECRET_KEY = 2;
+	private static final int KIND_ACCESS_CREDENTIAL_P = 3;
+	private static final int KIND_ACCESS_CREDENTIAL_M = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					RBACLLW15EncapsulationSerParameter.class, RBACLLW15PublicKeySerParameter.class,
+					RBACLLW15MasterSecretKeySerParameter.class, RBACLLW15AccessCredentialPSerParameter.class,
+					RBACLLW15AccessCredentialMSerParameter.class, RBACLLW15IntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof RBACLLW15PublicKeySerParameter) {
+			RBACLLW15PublicKeySerParameter publicKey = (RBACLLW15PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElement(publicKey.getG3());
+			output.writeElement(publicKey.getGh());
+			output.writeElement(publicKey.getU0());
+			output.writeElement(publicKey.getUv());
+			output.writeElementArray(publicKey.getUs());
+			return;
+		}
+		if (parameter instanceof RBACLLW15MasterSecretKeySerParameter) {
+			output.writeElement(((RBACLLW15MasterSecretKeySerParameter) parameter).getG2Alpha());
+			return;
+		}
+		if (parameter instanceof RBACLLW15AccessCredentialPSerParameter) {
+			RBACLLW15AccessCredentialPSerParameter accessCredential =
+					(RBACLLW15AccessCredentialPSerParameter) parameter;
+			output.writeString(accessCredential.getId());
+			output.writeElement(accessCredential.getElementId());
+			output.writeElement(accessCredential.getA0Prime());
+			output.writeElement(accessCredential.getA1Prime());
+			output.writeElement(accessCredential.getB0Prime());
+			output.writeElement(accessCredential.getBvPrime());
+			output.writeElementArray(accessCredential.getBsPrime());
+			return;
+		}
+		if (parameter instanceof RBACLLW15AccessCredentialMSerParameter) {
+			RBACLLW15AccessCredentialMSerParameter accessCredential =
+					(RBACLLW15AccessCredentialMSerParameter) parameter;
+			// roles are null at the positions not assigned to the medical staff
+			output.writeNullableStrings(accessCredential.getRoles());
+			output.writeNullableElementArray(accessCredential.getElementRoles());
+			output.writeString(accessCredential.getTime());
+			output.writeElement(accessCredential.getElementTime());
+			output.writeElement(accessCredential.getA0());
+			output.writeElement(accessCredential.getA1());
+			output.writeElement(accessCredential.getA2());
+			output.writeElement(accessCredential.getBv());
+			output.writeElementArray(accessCredential.getBs());
+			return;
+		}
+		if (parameter instanceof RBACLLW15IntermediateSerParameter) {
+			RBACLLW15IntermediateSerParameter intermediate = (RBACLLW15IntermediateSerParameter) parameter;
+			output.writeElement(intermediate.get_r());
+			output.writeElement(intermediate.get_G_3_r());
+			output.writeElement(intermediate.get_G_h_r());
+			output.writeElement(intermediate.get_G_r());
+			output.writeElement(intermediate.get_U_0_r());
+			output.writeElement(intermediate.get_U_v_r());
+			output.writeElementArray(intermediate.get_U_s_r());
+			return;
+		}
+		RBACLLW15EncapsulationSerParameter encapsulation = (RBACLLW15EncapsulationSerParameter) parameter;
+		output.writeElement(encapsulation.getC0());
+		output.writeElement(encapsulation.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new RBACLLW15PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElementArray(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new RBACLLW15MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_ACCESS_CREDENTIAL_P:
+			return new RBACLLW15AccessCredentialPSerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		case KIND_ACCESS_CREDENTIAL_M:
+			return new RBACLLW15AccessCredentialMSerParameter(pairingParameters, input.readNullableStrings(),
+					input.readNullableElementArray(pairing.getZr()), input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		case KIND_INTERMEDIATE:
+			return new RBACLLW15IntermediateSerParameter(pairingParameters, input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		default:
+			return new RBACLLW15EncapsulationSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams;
+
+import java.io.IOException;
+import java.math.BigInteger;
+
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.algebra.serparams.SecurePrimeSerParameter;
+
+/**
+ * Compact binary encoding of Krawczyk-Rabin chameleon hash keys embedded in pairing-based parameters,
+ * see PairingSerCodecs.
+ *
+ * The key is encoded by its kind (0 for public keys, 1 for secret keys), its group, and y or x.
+ * RFC 3526 groups are referenced by their indices starting from 1, other groups are written as 0 followed by p, q, g.
+ */
+public final class DLogKR00bKeySerCodec {
+	private static final int PUBLIC_KEY = 0;
+	private static final int SECRET_KEY = 1;
+
+	private static final SecurePrimeSerParameter[] RFC3526_GROUPS = { null,
+			SecurePrimeSerParameter.RFC3526_1536BIT_MODP_GROUP, SecurePrimeSerParameter.RFC3526_2048BIT_MODP_GROUP,
+			SecurePrimeSerParameter.RFC3526_3072BIT_MODP_GROUP, SecurePrimeSerParameter.RFC3526_4096BIT_MODP_GROUP,
+			SecurePrimeSerParameter.RFC3526_6144BIT_MODP_GROUP, SecurePrimeSerParameter.RFC3526_8192BIT_MODP_GROUP };
+
+	private DLogKR00bKeySerCodec() {
+
+	}
+
+	/**
+	 * Write the key.
+	 * @param key DLogKR00bPublicKeySerParameter or DLogKR00bSecretKeySerParameter
+	 * @param output the output
+	 */
+	public static void Write(AsymmetricKeySerParameter key, PairingSerOutput output) {
+		if (key instanceof DLogKR00bPublicKeySerParameter) {
+			output.writeByte(PUBLIC_KEY);
+			WriteGroup(((DLogKR00bKeySerParameter) key).getParameters(), output);
+			output.writeBigInteger(((DLogKR00bPublicKeySerParameter) key).getY());
+		} else if (key instanceof DLogKR00bSecretKeySerParameter) {
+			output.writeByte(SECRET_KEY);
+			WriteGroup(((DLogKR00bKeySerParameter) key).getParameters(), output);
+			output.writeBigInteger(((DLogKR00bSecretKeySerParameter) key).getX());
+		} else {
+			throw new IllegalArgumentException("Cannot encode chameleon hash key " + key.getClass().getName());
+		}
+	}
+
+	/**
+	 * Read the key written by Write.
+	 * @param input the input
+	 * @return the key
+	 * @throws IOException if the encoding is malformed
+	 */
+	public static AsymmetricKeySerParameter Read(PairingSerInput input) throws IOException {
+		int kind = input.readByte();
+		if (kind != PUBLIC_KEY && kind != SECRET_KEY) {
+			throw new IOException("Unknown chameleon hash key kind " + kind);
+		}
+		SecurePrimeSerParameter group = ReadGroup(input);
+		BigInteger value = input.readBigInteger();
+		if (kind == PUBLIC_KEY) {
+			return new DLogKR00bPublicKeySerParameter(value, group);
+		}
+		return new DLogKR00bSecretKeySerParameter(value, group);
+	}
+
+	private static void WriteGroup(SecurePrimeSerParameter group, PairingSerOutput output) {
+		for (int i = 1; i < RFC3526_GROUPS.length; i++) {
+			if (RFC3526_GROUPS[i].equals(group)) {
+				output.writeVarInt(i);
+				return;
+			}
+		}
+		output.writeVarInt(0);
+		output.writeBigInteger(group.getP());
+		output.writeBigInteger(group.getQ());
+		output.writeBigInteger(group.getG());
+	}
+
+	private static SecurePrimeSerParameter ReadGroup(PairingSerInput input) throws IOException {
+		int index = input.readVarInt();
+		if (index == 0) {
+			return new SecurePrimeSerParameter(input.readBigInteger(), input.readBigInteger(), input.readBigInteger());
+		}
+		if (index >= RFC3526_GROUPS.length) {
+			throw new IOException("Unknown group " + index);
+		}
+		return RFC3526_GROUPS[index];
+	}
+}
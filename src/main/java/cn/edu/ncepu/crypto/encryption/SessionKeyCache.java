@@ -0,0 +1,486 @@
+package cn.edu.ncepu.crypto.encryption;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
+import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.kpabe.KPABEEngine;
+import cn.edu.ncepu.crypto.encryption.hibbe.HIBBEEngine;
+import cn.edu.ncepu.crypto.encryption.ibe.IBEEngine;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
+
+/**
+ * Bounded cache of decapsulated session keys, so that re-opening the same header with the same secret key,
+ * e.g., for chunked downloads and retries, does not redo the pairings of the decapsulation.
+ *
+ * Entries are keyed by the secret key id together with the SHA-256 digest of
+ * the engine name, the compact encoding of the header (Java serialization if the header has no codec)
+ * and the policy, attributes or identities the header is decapsulated with.
+ * Entries expire after the time to live, the least recently used entries are evicted beyond the capacity,
+ * and all entries of a secret key are removed by invalidate, e.g., when the key is revoked.
+ * A decapsulation running concurrently with invalidate of its secret key is not cached.
+ * Session keys of removed entries are zeroized.
+ * Callers get copies of the cached session keys, and may zeroize them after use.
+ *
+ * The decapsulation methods decorate CP-ABE, KP-ABE, IBE and HIBBE engines,
+ * other engines go through decapsulate with their own decapsulation.
+ */
+public class SessionKeyCache {
+	/**
+	 * Default maximal number of cached session keys.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+	/**
+	 * Default time to live of cached session keys, 10 minutes.
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+	private final SessionKeyMap sessionKeys;
+	// misses in progress per secret key id, guarded by sessionKeys, removed when the last one completes
+	private final Map<String, PendingMisses> pendingMisses = new HashMap<String, PendingMisses>();
+	private final int capacity;
+	private final long timeToLiveNanos;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder expirationCount = new LongAdder();
+
+	/**
+	 * Decapsulation of a session key on a cache miss.
+	 */
+	public interface Decapsulation {
+		/**
+		 * @return the session key
+		 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+		 */
+		byte[] decapsulate() throws InvalidCipherTextException;
+	}
+
+	public SessionKeyCache() {
+		this(DEFAULT_CAPACITY, DEFAULT_TIME_TO_LIVE_MILLIS);
+	}
+
+	/**
+	 * @param capacity maximal number of cached session keys, 0 disables caching
+	 * @param timeToLiveMillis time to live of cached session keys in milliseconds
+	 */
+	public SessionKeyCache(int capacity, long timeToLiveMillis) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity of the session key cache cannot be negative.");
+		}
+		if (timeToLiveMillis <= 0) {
+			throw new IllegalArgumentException("Time to live of the session key cache must be positive.");
+		}
+		this.sessionKeys = new SessionKeyMap(this);
+		this.capacity = capacity;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+	}
+
+	/**
+	 * Identify a secret key by the SHA-256 digest of its serialization.
+	 * Callers compute the id once per secret key, or use their own ids, e.g., key serial numbers.
+	 * @param secretKey secret key
+	 * @return hex string of the digest
+	 * @throws IOException if the secret key cannot be serialized
+	 */
+	public static String getSecretKeyId(PairingKeySerParameter secretKey) throws IOException {
+		return CommonUtils.encodeHexString(CommonUtils.hash(CommonUtils.SerObject(secretKey), "SHA-256"));
+	}
+
+	/**
+	 * Decapsulation of CP-ABE through the cache.
+	 * @param engine CP-ABE engine
+	 * @param secretKeyId id of the secret key
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an attribute set
+	 * @param accessPolicy access policy associating with the ciphertext, given by string
+	 * @param header header
+	 * @return the session key
+	 * @throws PolicySyntaxException if error occurs when parsing the access policy string
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulation(CPABEEngine engine, String secretKeyId, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, String accessPolicy, PairingCipherSerParameter header)
+			throws PolicySyntaxException, InvalidCipherTextException {
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		return decapsulation(engine, secretKeyId, publicKey, secretKey, compiledAccessPolicy.getAccessPolicy(),
+				compiledAccessPolicy.getRhos(), header);
+	}
+
+	/**
+	 * Decapsulation of CP-ABE through the cache.
+	 * @param engine CP-ABE engine
+	 * @param secretKeyId id of the secret key
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an attribute set
+	 * @param accessPolicyIntArrays access policy associating with the ciphertext, given by 2D int arrays
+	 * @param rhos rhos associating with the ciphertext, given by string array
+	 * @param header header
+	 * @return the session key
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulation(CPABEEngine engine, String secretKeyId, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, int[][] accessPolicyIntArrays, String[] rhos,
+			PairingCipherSerParameter header) throws InvalidCipherTextException {
+		String[] context = new String[1 + accessPolicyIntArrays.length + rhos.length];
+		context[0] = String.valueOf(accessPolicyIntArrays.length);
+		for (int i = 0; i < accessPolicyIntArrays.length; i++) {
+			context[1 + i] = Arrays.toString(accessPolicyIntArrays[i]);
+		}
+		System.arraycopy(rhos, 0, context, 1 + accessPolicyIntArrays.length, rhos.length);
+		return decapsulate(secretKeyId, engine.getEngineName(), header,
+				() -> engine.decapsulation(publicKey, secretKey, accessPolicyIntArrays, rhos, header), context);
+	}
+
+	/**
+	 * Decapsulation of KP-ABE through the cache.
+	 * @param engine KP-ABE engine
+	 * @param secretKeyId id of the secret key
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an access policy
+	 * @param attributes attribute set associating with the ciphertext
+	 * @param header header
+	 * @return the session key
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulation(KPABEEngine engine, String secretKeyId, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, String[] attributes, PairingCipherSerParameter header)
+			throws InvalidCipherTextException {
+		return decapsulate(secretKeyId, engine.getEngineName(), header,
+				() -> engine.decapsulation(publicKey, secretKey, attributes, header), attributes);
+	}
+
+	/**
+	 * Decapsulation of IBE through the cache.
+	 * @param engine IBE engine
+	 * @param secretKeyId id of the secret key
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an identity
+	 * @param id identity associating with the ciphertext
+	 * @param header header
+	 * @return the session key
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulation(IBEEngine engine, String secretKeyId, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, String id, PairingCipherSerParameter header)
+			throws InvalidCipherTextException {
+		return decapsulate(secretKeyId, engine.getEngineName(), header,
+				() -> engine.decapsulation(publicKey, secretKey, id, header), id);
+	}
+
+	/**
+	 * Decapsulation of HIBBE through the cache.
+	 * @param engine HIBBE engine
+	 * @param secretKeyId id of the secret key
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an identity vector
+	 * @param ids identity vector set associated with the ciphertext
+	 * @param header header
+	 * @return the session key
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulation(HIBBEEngine engine, String secretKeyId, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, String[] ids, PairingCipherSerParameter header)
+			throws InvalidCipherTextException {
+		// null identities mark the positions not in the identity vector set
+		String[] context = new String[ids.length];
+		for (int i = 0; i < ids.length; i++) {
+			context[i] = ids[i] == null ? "" : "#" + ids[i];
+		}
+		return decapsulate(secretKeyId, engine.getEngineName(), header,
+				() -> engine.decapsulation(publicKey, secretKey, ids, header), context);
+	}
+
+	/**
+	 * Get the cached session key of the header, decapsulating it only on a cache miss.
+	 * Failed decapsulations are not cached.
+	 * @param secretKeyId id of the secret key
+	 * @param engineName name of the engine
+	 * @param header header
+	 * @param decapsulation decapsulates the session key on a miss
+	 * @param context policy, attributes or identities the header is decapsulated with
+	 * @return copy of the session key
+	 * @throws InvalidCipherTextException if the decapsulation procedure is failure
+	 */
+	public byte[] decapsulate(String secretKeyId, String engineName, PairingCipherSerParameter header,
+			Decapsulation decapsulation, String... context) throws InvalidCipherTextException {
+		SessionKeyId sessionKeyId = new SessionKeyId(secretKeyId, Digest(engineName, header, context));
+		long now = System.nanoTime();
+		PendingMisses pending;
+		long generation;
+		synchronized (this.sessionKeys) {
+			SessionKeyEntry entry = this.sessionKeys.get(sessionKeyId);
+			if (entry != null) {
+				if (now - entry.expiration < 0) {
+					this.hitCount.increment();
+					return entry.sessionKey.clone();
+				}
+				this.sessionKeys.remove(sessionKeyId);
+				entry.zeroize();
+				this.expirationCount.increment();
+			}
+			pending = this.pendingMisses.computeIfAbsent(secretKeyId, id -> new PendingMisses());
+			pending.count++;
+			generation = pending.generation;
+		}
+		this.missCount.increment();
+		byte[] sessionKey = null;
+		try {
+			sessionKey = decapsulation.decapsulate();
+		} finally {
+			synchronized (this.sessionKeys) {
+				if (--pending.count == 0) {
+					this.pendingMisses.remove(secretKeyId);
+				}
+				if (sessionKey != null && this.capacity > 0 && generation == pending.generation) {
+					// not cached if the secret key is invalidated during the decapsulation
+					SessionKeyEntry entry = new SessionKeyEntry(sessionKey.clone(),
+							System.nanoTime() + this.timeToLiveNanos);
+					if (this.sessionKeys.size() >= this.capacity) {
+						removeExpired();
+					}
+					SessionKeyEntry existing = this.sessionKeys.put(sessionKeyId, entry);
+					if (existing != null) {
+						existing.zeroize();
+					}
+				}
+			}
+		}
+		return sessionKey;
+	}
+
+	/**
+	 * Remove and zeroize all cached session keys of the secret key, e.g., when the secret key is revoked.
+	 * Session keys of the secret key being decapsulated concurrently are not cached either.
+	 * @param secretKeyId id of the secret key
+	 * @return number of removed session keys
+	 */
+	public int invalidate(String secretKeyId) {
+		int count = 0;
+		synchronized (this.sessionKeys) {
+			PendingMisses pending = this.pendingMisses.get(secretKeyId);
+			if (pending != null) {
+				pending.generation++;
+			}
+			Iterator<Map.Entry<SessionKeyId, SessionKeyEntry>> iterator = this.sessionKeys.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<SessionKeyId, SessionKeyEntry> entry = iterator.next();
+				if (entry.getKey().secretKeyId.equals(secretKeyId)) {
+					iterator.remove();
+					entry.getValue().zeroize();
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Remove and zeroize the expired session keys.
+	 * @return number of removed session keys
+	 */
+	public int removeExpired() {
+		long now = System.nanoTime();
+		int count = 0;
+		synchronized (this.sessionKeys) {
+			Iterator<SessionKeyEntry> iterator = this.sessionKeys.values().iterator();
+			while (iterator.hasNext()) {
+				SessionKeyEntry entry = iterator.next();
+				if (now - entry.expiration >= 0) {
+					iterator.remove();
+					entry.zeroize();
+					count++;
+				}
+			}
+		}
+		this.expirationCount.add(count);
+		return count;
+	}
+
+	/**
+	 * Remove and zeroize all cached session keys, and reset the counters.
+	 */
+	public void clear() {
+		synchronized (this.sessionKeys) {
+			for (SessionKeyEntry entry : this.sessionKeys.values()) {
+				entry.zeroize();
+			}
+			this.sessionKeys.clear();
+		}
+		this.hitCount.reset();
+		this.missCount.reset();
+		this.evictionCount.reset();
+		this.expirationCount.reset();
+	}
+
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	public long getTimeToLiveMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.timeToLiveNanos);
+	}
+
+	public int size() {
+		synchronized (this.sessionKeys) {
+			return this.sessionKeys.size();
+		}
+	}
+
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Number of session keys evicted beyond the capacity.
+	 * @return eviction count
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
+	/**
+	 * Number of session keys removed after their time to live.
+	 * @return expiration count
+	 */
+	public long getExpirationCount() {
+		return this.expirationCount.sum();
+	}
+
+	/**
+	 * @return hits / lookups, or 0 if there is no lookup
+	 */
+	public double getHitRate() {
+		long hitCount = getHitCount();
+		long lookupCount = hitCount + getMissCount();
+		return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+	}
+
+	private static byte[] Digest(String engineName, PairingCipherSerParameter header, String[] context)
+			throws InvalidCipherTextException {
+		byte[] byteArrayHeader;
+		try {
+			byteArrayHeader = PairingSerCodecs.isSupported(header) ? PairingSerCodecs.Encode(header)
+					: CommonUtils.SerObject(header);
+		} catch (IOException e) {
+			throw new InvalidCipherTextException("Cannot encode the header.", e);
+		}
+		SHA256Digest digest = new SHA256Digest();
+		Update(digest, engineName.getBytes(StandardCharsets.UTF_8));
+		Update(digest, byteArrayHeader);
+		for (String value : context) {
+			Update(digest, value.getBytes(StandardCharsets.UTF_8));
+		}
+		byte[] byteArrayDigest = new byte[digest.getDigestSize()];
+		digest.doFinal(byteArrayDigest, 0);
+		return byteArrayDigest;
+	}
+
+	/**
+	 * Update the digest by the length-prefixed bytes, so that different splits of the inputs do not collide.
+	 */
+	private static void Update(SHA256Digest digest, byte[] bytes) {
+		digest.update((byte) (bytes.length >>> 24));
+		digest.update((byte) (bytes.length >>> 16));
+		digest.update((byte) (bytes.length >>> 8));
+		digest.update((byte) bytes.length);
+		digest.update(bytes, 0, bytes.length);
+	}
+
+	private static class SessionKeyId {
+		private final String secretKeyId;
+		private final byte[] digest;
+		private final int hash;
+
+		SessionKeyId(String secretKeyId, byte[] digest) {
+			this.secretKeyId = secretKeyId;
+			this.digest = digest;
+			this.hash = 31 * secretKeyId.hashCode() + Arrays.hashCode(digest);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object anObject) {
+			if (this == anObject) {
+				return true;
+			}
+			if (anObject instanceof SessionKeyId) {
+				SessionKeyId that = (SessionKeyId) anObject;
+				return this.hash == that.hash && this.secretKeyId.equals(that.secretKeyId)
+						&& Arrays.equals(this.digest, that.digest);
+			}
+			return false;
+		}
+	}
+
+	private static class SessionKeyEntry {
+		private final byte[] sessionKey;
+		private final long expiration;
+
+		SessionKeyEntry(byte[] sessionKey, long expiration) {
+			this.sessionKey = sessionKey;
+			this.expiration = expiration;
+		}
+
+		void zeroize() {
+			Arrays.fill(this.sessionKey, (byte) 0);
+		}
+	}
+
+	/**
+	 * Number of misses in progress of a secret key, and the number of times it is invalidated meanwhile.
+	 */
+	private static class PendingMisses {
+		private int count;
+		private long generation;
+	}
+
+	/**
+	 * Access-ordered map evicting and zeroizing the least recently used entries beyond the capacity of the cache.
+	 * Accesses are guarded by synchronizing on the map.
+	 */
+	private static class SessionKeyMap extends LinkedHashMap<SessionKeyId, SessionKeyEntry> {
+		private static final long serialVersionUID = -3385512079474613405L;
+		private final transient SessionKeyCache cache;
+
+		SessionKeyMap(SessionKeyCache cache) {
+			super(16, 0.75f, true);
+			this.cache = cache;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SessionKeyId, SessionKeyEntry> eldest) {
+			if (size() > this.cache.capacity) {
+				eldest.getValue().zeroize();
+				this.cache.evictionCount.increment();
+				return true;
+			}
+			return false;
+		}
+	}
+}
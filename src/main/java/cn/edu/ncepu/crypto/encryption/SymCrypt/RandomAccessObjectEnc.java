@@ -0,0 +1,321 @@
+package cn.edu.ncepu.crypto.encryption.SymCrypt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
+import org.bouncycastle.crypto.params.HKDFParameters;
+
+import cn.edu.ncepu.crypto.encryption.SymCrypt.SymmetricSegmentEnc.SegmentMode;
+
+/**
+ * Random-access encrypted objects: a payload encrypted under a session key of a key encapsulation,
+ * e.g., of an ABE or IBE engine, such that any byte range can be decrypted without the rest of the object.
+ *
+ * The object consists of the header
+ * magic "RAEO" (4 bytes), version (1 byte), segment size (4 bytes), plaintext length (8 bytes), salt (16 bytes)
+ * and the encapsulation (length-prefixed, opaque to this format),
+ * followed by the payload encrypted by SymmetricSegmentEnc in GCM mode.
+ * Segments have fixed sizes, hence the segment index is implicit:
+ * segment i starts at the header length plus i times the segment size plus the tag length.
+ *
+ * The AES-256 key and the nonce prefix of the payload are derived from the session key by HKDF-SHA256
+ * with the salt, and the SHA-256 digest of the header as the info,
+ * so that any change of the header fails authentication.
+ */
+public class RandomAccessObjectEnc {
+	public static final int DEFAULT_SEGMENT_SIZE = SymmetricSegmentEnc.DEFAULT_SEGMENT_SIZE;
+
+	private static final byte[] MAGIC = { 'R', 'A', 'E', 'O' };
+	private static final int VERSION = 1;
+	private static final int SALT_LENGTH = 16;
+	private static final int KEY_LENGTH = 32;
+	private static final int MAX_ENCAPSULATION_LENGTH = 1 << 24;
+	private static final int MAX_SEGMENT_SIZE = 1 << 24;
+	// magic, version, segment size, plaintext length, salt and encapsulation length
+	private static final int FIXED_HEADER_LENGTH = MAGIC.length + 1 + 4 + 8 + SALT_LENGTH + 4;
+
+	/**
+	 * Recovers the session key from the encapsulation stored in the object.
+	 */
+	public interface Decapsulator {
+		/**
+		 * @param encapsulation the encapsulation
+		 * @return the session key
+		 * @throws InvalidCipherTextException if the session key cannot be recovered
+		 */
+		byte[] decapsulate(byte[] encapsulation) throws InvalidCipherTextException;
+	}
+
+	/**
+	 * Encrypt the input channel from position 0 to its end into the output channel from position 0.
+	 * @param sessionKey the session key, zeroized after deriving the payload key
+	 * @param encapsulation the encapsulation of the session key, of at most 16 MiB
+	 * @param segmentSize plaintext size of the segments, a multiple of 16
+	 * @param in readable file channel of the plaintext
+	 * @param out writable file channel of the object
+	 * @param pool the pool encrypting the segments, or null for the common pool
+	 * @return length of the object
+	 * @throws IOException if reading or writing fails
+	 */
+	public static long encrypt(byte[] sessionKey, byte[] encapsulation, int segmentSize, FileChannel in,
+			FileChannel out, ForkJoinPool pool) throws IOException {
+		if (encapsulation.length > MAX_ENCAPSULATION_LENGTH) {
+			throw new IllegalArgumentException("Encapsulation length must be at most " + MAX_ENCAPSULATION_LENGTH
+					+ ", given " + encapsulation.length);
+		}
+		if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE || segmentSize % 16 != 0) {
+			throw new IllegalArgumentException("Segment size must be a multiple of 16 in [16, " + MAX_SEGMENT_SIZE
+					+ "], given " + segmentSize);
+		}
+		long plaintextLength = in.size();
+		byte[] salt = new byte[SALT_LENGTH];
+		new SecureRandom().nextBytes(salt);
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		DataOutputStream header = new DataOutputStream(byteArrayOutputStream);
+		header.write(MAGIC);
+		header.writeByte(VERSION);
+		header.writeInt(segmentSize);
+		header.writeLong(plaintextLength);
+		header.write(salt);
+		header.writeInt(encapsulation.length);
+		header.write(encapsulation);
+		header.flush();
+		byte[] byteArrayHeader = byteArrayOutputStream.toByteArray();
+		ByteBuffer headerBuffer = ByteBuffer.wrap(byteArrayHeader);
+		while (headerBuffer.hasRemaining()) {
+			out.write(headerBuffer, headerBuffer.position());
+		}
+
+		byte[][] keyAndNoncePrefix = deriveKey(sessionKey, salt, byteArrayHeader);
+		try {
+			SymmetricSegmentEnc.enc_AES(SegmentMode.GCM, keyAndNoncePrefix[0], keyAndNoncePrefix[1], segmentSize, in,
+					0, plaintextLength, out, byteArrayHeader.length, pool);
+		} finally {
+			Arrays.fill(keyAndNoncePrefix[0], (byte) 0);
+		}
+		return byteArrayHeader.length
+				+ SymmetricSegmentEnc.getCiphertextLength(SegmentMode.GCM, plaintextLength, segmentSize);
+	}
+
+	/**
+	 * Reader of an encrypted object. The session key is decapsulated by the first decryption,
+	 * and the payload key derived from it is kept for the later decryptions, until clearKey is called.
+	 * A reader can be shared by threads; clearKey zeroizes the payload key once the running decryptions finish.
+	 */
+	public static class Reader {
+		private final FileChannel channel;
+		private final Decapsulator decapsulator;
+		private final byte[] byteArrayHeader;
+		private final int segmentSize;
+		private final long plaintextLength;
+		private final byte[] salt;
+		private final byte[] encapsulation;
+		private final long ciphertextLength;
+		private final long segmentCount;
+
+		private PayloadKey payloadKey;
+
+		/**
+		 * Read the header of the object.
+		 * @param channel readable file channel of the object, starting at position 0
+		 * @param decapsulator the decapsulator of the session key
+		 * @throws IOException if reading fails or the header is malformed
+		 */
+		public Reader(FileChannel channel, Decapsulator decapsulator) throws IOException {
+			this.channel = channel;
+			this.decapsulator = decapsulator;
+			ByteBuffer fixedHeader = ByteBuffer.wrap(readFully(channel, 0, FIXED_HEADER_LENGTH));
+			byte[] magic = new byte[MAGIC.length];
+			fixedHeader.get(magic);
+			if (!Arrays.equals(magic, MAGIC)) {
+				throw new IOException("Not a random-access encrypted object.");
+			}
+			int version = fixedHeader.get() & 0xFF;
+			if (version != VERSION) {
+				throw new IOException("Unsupported object version " + version);
+			}
+			this.segmentSize = fixedHeader.getInt();
+			this.plaintextLength = fixedHeader.getLong();
+			if (this.segmentSize <= 0 || this.segmentSize > MAX_SEGMENT_SIZE || this.segmentSize % 16 != 0
+					|| this.plaintextLength < 0) {
+				throw new IOException("Malformed object, segment size " + this.segmentSize + ", plaintext length "
+						+ this.plaintextLength);
+			}
+			this.salt = new byte[SALT_LENGTH];
+			fixedHeader.get(this.salt);
+			int encapsulationLength = fixedHeader.getInt();
+			if (encapsulationLength < 0 || encapsulationLength > MAX_ENCAPSULATION_LENGTH) {
+				throw new IOException("Malformed object, encapsulation length " + encapsulationLength);
+			}
+			this.byteArrayHeader = readFully(channel, 0, FIXED_HEADER_LENGTH + encapsulationLength);
+			this.encapsulation = Arrays.copyOfRange(this.byteArrayHeader, FIXED_HEADER_LENGTH,
+					this.byteArrayHeader.length);
+			this.ciphertextLength = SymmetricSegmentEnc.getCiphertextLength(SegmentMode.GCM, this.plaintextLength,
+					this.segmentSize);
+			if (channel.size() != this.byteArrayHeader.length + this.ciphertextLength) {
+				throw new IOException("Malformed object, length " + channel.size() + " mismatches plaintext length "
+						+ this.plaintextLength);
+			}
+			this.segmentCount = SymmetricSegmentEnc.getSegmentCount(SegmentMode.GCM, this.plaintextLength,
+					this.segmentSize);
+		}
+
+		public byte[] getEncapsulation() {
+			return this.encapsulation.clone();
+		}
+
+		public long getPlaintextLength() {
+			return this.plaintextLength;
+		}
+
+		public int getSegmentSize() {
+			return this.segmentSize;
+		}
+
+		/**
+		 * Decrypt a byte range of the plaintext, reading and verifying only the segments touching it.
+		 * @param offset offset of the range in the plaintext
+		 * @param length length of the range
+		 * @return plaintext of the range
+		 * @throws IOException if reading fails
+		 * @throws InvalidCipherTextException if the session key cannot be decapsulated
+		 *                                    or a segment fails authentication
+		 */
+		public byte[] decryptRange(long offset, int length) throws IOException, InvalidCipherTextException {
+			if (offset < 0 || length < 0 || offset + length > this.plaintextLength) {
+				throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+						+ ") out of plaintext of length " + this.plaintextLength);
+			}
+			byte[] range = new byte[length];
+			if (length == 0) {
+				return range;
+			}
+			PayloadKey payloadKey = acquireKey();
+			try {
+				long firstSegment = offset / this.segmentSize;
+				long lastSegment = (offset + length - 1) / this.segmentSize;
+				int rangeOffset = 0;
+				for (long index = firstSegment; index <= lastSegment; index++) {
+					byte[] segment = SymmetricSegmentEnc.dec_AES_Segment(SegmentMode.GCM, payloadKey.key,
+							payloadKey.noncePrefix, this.segmentSize, this.channel, this.byteArrayHeader.length,
+							this.ciphertextLength, index);
+					int segmentOffset = index == firstSegment ? (int) (offset - index * this.segmentSize) : 0;
+					int copyLength = Math.min(segment.length - segmentOffset, length - rangeOffset);
+					System.arraycopy(segment, segmentOffset, range, rangeOffset, copyLength);
+					rangeOffset += copyLength;
+				}
+			} finally {
+				releaseKey(payloadKey);
+			}
+			return range;
+		}
+
+		/**
+		 * Decrypt the whole object, verifying all segments.
+		 * @param out writable file channel of the plaintext, written from position 0
+		 * @param pool the pool decrypting the segments, or null for the common pool
+		 * @throws IOException if reading or writing fails
+		 * @throws InvalidCipherTextException if the session key cannot be decapsulated
+		 *                                    or a segment fails authentication
+		 */
+		public void decrypt(FileChannel out, ForkJoinPool pool) throws IOException, InvalidCipherTextException {
+			PayloadKey payloadKey = acquireKey();
+			try {
+				SymmetricSegmentEnc.dec_AES(SegmentMode.GCM, payloadKey.key, payloadKey.noncePrefix, this.segmentSize,
+						this.channel, this.byteArrayHeader.length, this.ciphertextLength, out, 0, pool);
+			} finally {
+				releaseKey(payloadKey);
+			}
+		}
+
+		/**
+		 * Drop the cached payload key, the next decryption decapsulates the session key again.
+		 * The key is zeroized immediately if no decryption uses it, otherwise when the last one finishes.
+		 */
+		public synchronized void clearKey() {
+			PayloadKey payloadKey = this.payloadKey;
+			this.payloadKey = null;
+			if (payloadKey != null) {
+				payloadKey.cleared = true;
+				if (payloadKey.users == 0) {
+					payloadKey.zeroize();
+				}
+			}
+		}
+
+		private synchronized PayloadKey acquireKey() throws InvalidCipherTextException {
+			if (this.payloadKey == null) {
+				byte[] sessionKey = this.decapsulator.decapsulate(this.encapsulation.clone());
+				byte[][] keyAndNoncePrefix = deriveKey(sessionKey, this.salt, this.byteArrayHeader);
+				this.payloadKey = new PayloadKey(keyAndNoncePrefix[0], keyAndNoncePrefix[1]);
+			}
+			this.payloadKey.users++;
+			return this.payloadKey;
+		}
+
+		private synchronized void releaseKey(PayloadKey payloadKey) {
+			payloadKey.users--;
+			if (payloadKey.cleared && payloadKey.users == 0) {
+				payloadKey.zeroize();
+			}
+		}
+	}
+
+	/**
+	 * Payload key and nonce prefix with the number of running decryptions using them, guarded by the reader.
+	 */
+	private static class PayloadKey {
+		private final byte[] key;
+		private final byte[] noncePrefix;
+		private int users;
+		private boolean cleared;
+
+		private PayloadKey(byte[] key, byte[] noncePrefix) {
+			this.key = key;
+			this.noncePrefix = noncePrefix;
+		}
+
+		private void zeroize() {
+			Arrays.fill(this.key, (byte) 0);
+		}
+	}
+
+	/**
+	 * Derive the payload key and nonce prefix, zeroizing the session key.
+	 */
+	private static byte[][] deriveKey(byte[] sessionKey, byte[] salt, byte[] byteArrayHeader) {
+		SHA256Digest digest = new SHA256Digest();
+		byte[] info = new byte[digest.getDigestSize()];
+		digest.update(byteArrayHeader, 0, byteArrayHeader.length);
+		digest.doFinal(info, 0);
+		HKDFBytesGenerator hkdfBytesGenerator = new HKDFBytesGenerator(new SHA256Digest());
+		hkdfBytesGenerator.init(new HKDFParameters(sessionKey, salt, info));
+		byte[] keyMaterial = new byte[KEY_LENGTH + SymmetricSegmentEnc.NONCE_PREFIX_LENGTH];
+		hkdfBytesGenerator.generateBytes(keyMaterial, 0, keyMaterial.length);
+		byte[][] keyAndNoncePrefix = new byte[][] { Arrays.copyOf(keyMaterial, KEY_LENGTH),
+				Arrays.copyOfRange(keyMaterial, KEY_LENGTH, keyMaterial.length) };
+		Arrays.fill(keyMaterial, (byte) 0);
+		Arrays.fill(sessionKey, (byte) 0);
+		return keyAndNoncePrefix;
+	}
+
+	private static byte[] readFully(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position()) < 0) {
+				throw new IOException("Truncated object.");
+			}
+		}
+		return buffer.array();
+	}
+}
@@ -4,13 +4,22 @@
 package cn.edu.ncepu.crypto.encryption.SymCrypt;
 
 import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -77,6 +86,29 @@ public class SymmetricBlockEnc {
 	// The default block size in bits (note: a multiple of 8)
 	private static final int DEFAULT_SIZE = 16;
 
+	// Size of the slices processed per cipher call by the NIO methods, a multiple of the block size and the page size
+	private static final int BULK_BUFFER_SIZE = 1 << 20;
+
+	// JCE ciphers, input and output buffers of the NIO methods, reused by each thread
+	private static final ThreadLocal<Map<Mode, Cipher>> BULK_CIPHERS = new ThreadLocal<Map<Mode, Cipher>>() {
+		@Override
+		protected Map<Mode, Cipher> initialValue() {
+			return new EnumMap<Mode, Cipher>(Mode.class);
+		}
+	};
+	private static final ThreadLocal<ByteBuffer> BULK_INPUT_BUFFERS = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocateDirect(BULK_BUFFER_SIZE);
+		}
+	};
+	private static final ThreadLocal<ByteBuffer> BULK_OUTPUT_BUFFERS = new ThreadLocal<ByteBuffer>() {
+		@Override
+		protected ByteBuffer initialValue() {
+			return ByteBuffer.allocateDirect(BULK_BUFFER_SIZE + 2 * DEFAULT_SIZE);
+		}
+	};
+
 	/**
 	 *  (AEC encrytion and decryption method realized through BouncyCastle)
 	 * @param isEnc used for encryption or decryption
@@ -109,26 +141,7 @@ public class SymmetricBlockEnc {
 				throw new IllegalArgumentException("iv should be a no-none 16Bytes array");
 			}
 		}
-		String transformation = null;
-		switch (mode) {
-		case ECB:
-			transformation = "AES/ECB/PKCS5Padding";
-			break;
-		case CBC:
-			transformation = "AES/CBC/PKCS5Padding";
-			break;
-		case CFB:
-			transformation = "AES/CFB/PKCS5Padding";
-			break;
-		case OFB:
-			transformation = "AES/OFB/PKCS5Padding";
-			break;
-		default:
-			// Default Mode is ECB Mode
-			transformation = "AES/ECB/PKCS5Padding";
-			break;
-		}
-		Cipher cipher = Cipher.getInstance(transformation);
+		Cipher cipher = Cipher.getInstance(getTransformation(mode));
 		SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
 		IvParameterSpec ivps = null;
 		if (null != iv) {
@@ -421,6 +434,219 @@ public class SymmetricBlockEnc {
 		}
 	}
 
+	/**
+	 *   AES buffer encryption method. The buffers may be heap, direct or memory-mapped buffers,
+	 *   the output is the binary ciphertext, identical to the one of enc_dec_AES_BC.
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param input plaintext, consumed from its position to its limit
+	 * @param output ciphertext, written from its position, with at least input.remaining() + 16 bytes remaining
+	 * @return number of bytes written into the output
+	 * @throws GeneralSecurityException if the output is too short or the cipher is not available
+	 */
+	public static int enc_AES(Mode mode, byte[] key, byte[] iv, ByteBuffer input, ByteBuffer output)
+			throws GeneralSecurityException {
+		if (input == null || output == null) {
+			throw new NullPointerException("input or output buffer is null");
+		}
+		return getBulkCipher(true, mode, key, iv).doFinal(input, output);
+	}
+
+	/**
+	 *   AES buffer decryption method, see enc_AES(Mode, byte[], byte[], ByteBuffer, ByteBuffer).
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param input ciphertext, consumed from its position to its limit
+	 * @param output plaintext, written from its position, with at least input.remaining() bytes remaining
+	 * @return number of bytes written into the output
+	 * @throws GeneralSecurityException if the padding is invalid, the output is too short
+	 *                                  or the cipher is not available
+	 */
+	public static int dec_AES(Mode mode, byte[] key, byte[] iv, ByteBuffer input, ByteBuffer output)
+			throws GeneralSecurityException {
+		if (input == null || output == null) {
+			throw new NullPointerException("input or output buffer is null");
+		}
+		return getBulkCipher(false, mode, key, iv).doFinal(input, output);
+	}
+
+	/**
+	 *   AES channel encryption method. The input is read from its position to its end by positional reads
+	 *   into a direct buffer and processed in 1MB slices, the binary ciphertext is written to the output
+	 *   at its position. The input is not memory-mapped, so no mapping outlives the call.
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param in readable file channel of the plaintext
+	 * @param out writable channel of the ciphertext, e.g., a file channel, a socket channel or a pipe sink
+	 * @return number of bytes written
+	 * @throws IOException if reading or writing fails
+	 * @throws GeneralSecurityException if the cipher is not available
+	 */
+	public static long enc_AES(Mode mode, byte[] key, byte[] iv, FileChannel in, WritableByteChannel out)
+			throws IOException, GeneralSecurityException {
+		if (in == null || out == null) {
+			throw new NullPointerException("input or output channel is null");
+		}
+		return bulkProcess(getBulkCipher(true, mode, key, iv), in, out);
+	}
+
+	/**
+	 *   AES channel decryption method, see enc_AES(Mode, byte[], byte[], FileChannel, WritableByteChannel).
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param in readable file channel of the ciphertext
+	 * @param out writable channel of the plaintext
+	 * @return number of bytes written
+	 * @throws IOException if reading or writing fails
+	 * @throws GeneralSecurityException if the padding is invalid or the cipher is not available
+	 */
+	public static long dec_AES(Mode mode, byte[] key, byte[] iv, FileChannel in, WritableByteChannel out)
+			throws IOException, GeneralSecurityException {
+		if (in == null || out == null) {
+			throw new NullPointerException("input or output channel is null");
+		}
+		return bulkProcess(getBulkCipher(false, mode, key, iv), in, out);
+	}
+
+	/**
+	 *   AES file encryption method on paths, the target file is created or truncated.
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param source path of the plaintext
+	 * @param target path of the ciphertext
+	 * @return number of bytes written
+	 * @throws IOException if reading or writing fails
+	 * @throws GeneralSecurityException if the cipher is not available
+	 */
+	public static long enc_AES(Mode mode, byte[] key, byte[] iv, Path source, Path target)
+			throws IOException, GeneralSecurityException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			return enc_AES(mode, key, iv, in, out);
+		}
+	}
+
+	/**
+	 *   AES file decryption method on paths, the target file is created or truncated.
+	 * @param mode work mode including ECB, CBC, CFB, OFB
+	 * @param key symmetric key
+	 * @param iv initial vector
+	 * @param source path of the ciphertext
+	 * @param target path of the plaintext
+	 * @return number of bytes written
+	 * @throws IOException if reading or writing fails
+	 * @throws GeneralSecurityException if the padding is invalid or the cipher is not available
+	 */
+	public static long dec_AES(Mode mode, byte[] key, byte[] iv, Path source, Path target)
+			throws IOException, GeneralSecurityException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			return dec_AES(mode, key, iv, in, out);
+		}
+	}
+
+	/**
+	 *  (get the JCE cipher of the work mode cached by the current thread, initialized with the key and the iv)
+	 */
+	private static Cipher getBulkCipher(boolean isEnc, Mode mode, byte[] key, byte[] iv)
+			throws GeneralSecurityException {
+		// Make sure the validity of key
+		if (key == null) {
+			throw new NullPointerException("key is null");
+		}
+		// The valid key length is 16Bytes, 24Bytes or 32Bytes
+		if (!(key.length == 16 || key.length == 24 || key.length == 32)) {
+			throw new IllegalArgumentException("The valid key length should be 16Bytes, 24Bytes or 32Bytes");
+		}
+		if (mode != Mode.ECB) {
+			// The valid init vector is a no-none 16Bytes array
+			if ((iv == null || iv.length != 16)) {
+				throw new IllegalArgumentException("iv should be a no-none 16Bytes array");
+			}
+		}
+		Map<Mode, Cipher> ciphers = BULK_CIPHERS.get();
+		Cipher cipher = ciphers.get(mode);
+		if (cipher == null) {
+			cipher = Cipher.getInstance(getTransformation(mode));
+			ciphers.put(mode, cipher);
+		}
+		SecretKeySpec keySpec = new SecretKeySpec(key, "AES");
+		int opmode = isEnc ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
+		if (mode == Mode.ECB) {
+			cipher.init(opmode, keySpec);
+		} else {
+			cipher.init(opmode, keySpec, new IvParameterSpec(iv));
+		}
+		return cipher;
+	}
+
+	/**
+	 *  (JCE transformation of the work mode, CFB and OFB with full 128-bit segments)
+	 */
+	private static String getTransformation(Mode mode) {
+		switch (mode) {
+		case CBC:
+			return "AES/CBC/PKCS5Padding";
+		case CFB:
+			return "AES/CFB/PKCS5Padding";
+		case OFB:
+			return "AES/OFB/PKCS5Padding";
+		case ECB:
+		default:
+			// Default Mode is ECB Mode
+			return "AES/ECB/PKCS5Padding";
+		}
+	}
+
+	/**
+	 *  (process the input channel from its position to its end through the initialized cipher)
+	 */
+	private static long bulkProcess(Cipher cipher, FileChannel in, WritableByteChannel out)
+			throws IOException, GeneralSecurityException {
+		ByteBuffer inBuffer = BULK_INPUT_BUFFERS.get();
+		ByteBuffer outBuffer = BULK_OUTPUT_BUFFERS.get();
+		long written = 0;
+		long position = in.position();
+		long size = in.size();
+		while (position < size) {
+			inBuffer.clear();
+			inBuffer.limit((int) Math.min(BULK_BUFFER_SIZE, size - position));
+			while (inBuffer.hasRemaining()) {
+				int read = in.read(inBuffer, position + inBuffer.position());
+				if (read < 0) {
+					throw new EOFException("File channel truncated while being processed");
+				}
+			}
+			position += inBuffer.position();
+			inBuffer.flip();
+			outBuffer.clear();
+			cipher.update(inBuffer, outBuffer);
+			outBuffer.flip();
+			written += writeFully(out, outBuffer);
+		}
+		in.position(position);
+		outBuffer.clear();
+		cipher.doFinal(ByteBuffer.allocate(0), outBuffer);
+		outBuffer.flip();
+		written += writeFully(out, outBuffer);
+		return written;
+	}
+
+	private static int writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+		int length = buffer.remaining();
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+		return length;
+	}
+
 	/**
 	 *  (concatenate two byte array)
 	 * @param bs1
@@ -0,0 +1,525 @@
+package cn.edu.ncepu.crypto.encryption.SymCrypt;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.GeneralSecurityException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+
+/**
+ * Segmented AES encryption of large payloads, computed in parallel on a ForkJoinPool.
+ *
+ * The plaintext is split into segments of a fixed size (the last one may be shorter), encrypted independently.
+ * The 12-byte nonce of a segment is the 7-byte nonce prefix, the segment index (4 bytes, big-endian)
+ * and a flag byte, 1 for the last segment of a GCM payload and 0 otherwise.
+ * <ul>
+ * <li>GCM: each segment is followed by its 16-byte tag, and there is at least one (possibly empty) segment.
+ * As in the STREAM construction, reordering, dropping or truncating segments fails authentication.</li>
+ * <li>CTR: the 4-byte block counter follows the nonce, segments are not expanded and not authenticated.</li>
+ * </ul>
+ * Since segments only depend on their indices, any segment can be verified and decrypted without the others.
+ * A key and nonce prefix pair must not be used to encrypt two payloads.
+ */
+public class SymmetricSegmentEnc {
+	public enum SegmentMode {
+		/**
+		 * Counter Mode, unauthenticated
+		 */
+		CTR,
+
+		/**
+		 * Galois/Counter Mode, authenticated per segment
+		 */
+		GCM,
+	}
+
+	public static final int DEFAULT_SEGMENT_SIZE = 1 << 16;
+	public static final int NONCE_PREFIX_LENGTH = 7;
+	public static final int TAG_LENGTH = 16;
+
+	private static final int NONCE_LENGTH = 12;
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+	// maximal number of segments, indices are encoded in 4 bytes
+	private static final long MAX_SEGMENTS = 1L << 32;
+
+	private static final ThreadLocal<Map<SegmentMode, Cipher>> CIPHERS = new ThreadLocal<Map<SegmentMode, Cipher>>() {
+		@Override
+		protected Map<SegmentMode, Cipher> initialValue() {
+			return new EnumMap<SegmentMode, Cipher>(SegmentMode.class);
+		}
+	};
+	private static final ThreadLocal<byte[][]> BUFFERS = new ThreadLocal<byte[][]>() {
+		@Override
+		protected byte[][] initialValue() {
+			return new byte[2][0];
+		}
+	};
+
+	/**
+	 * @param mode segment mode
+	 * @param plaintextLength length of the plaintext
+	 * @param segmentSize plaintext size of the segments
+	 * @return number of segments
+	 */
+	public static long getSegmentCount(SegmentMode mode, long plaintextLength, int segmentSize) {
+		long segmentCount = (plaintextLength + segmentSize - 1) / segmentSize;
+		// the empty GCM payload still has a tag
+		return mode == SegmentMode.GCM ? Math.max(segmentCount, 1) : segmentCount;
+	}
+
+	/**
+	 * @param mode segment mode
+	 * @param plaintextLength length of the plaintext
+	 * @param segmentSize plaintext size of the segments
+	 * @return length of the ciphertext
+	 */
+	public static long getCiphertextLength(SegmentMode mode, long plaintextLength, int segmentSize) {
+		return mode == SegmentMode.GCM ? plaintextLength + getSegmentCount(mode, plaintextLength, segmentSize)
+				* TAG_LENGTH : plaintextLength;
+	}
+
+	/**
+	 * @param mode segment mode
+	 * @param ciphertextLength length of the ciphertext
+	 * @param segmentSize plaintext size of the segments
+	 * @return length of the plaintext
+	 * @throws InvalidCipherTextException if no plaintext has a ciphertext of the length
+	 */
+	public static long getPlaintextLength(SegmentMode mode, long ciphertextLength, int segmentSize)
+			throws InvalidCipherTextException {
+		if (mode == SegmentMode.CTR) {
+			return ciphertextLength;
+		}
+		long segmentCount = (ciphertextLength + segmentSize + TAG_LENGTH - 1) / (segmentSize + TAG_LENGTH);
+		if (segmentCount == 0 || ciphertextLength - (segmentCount - 1) * (segmentSize + TAG_LENGTH) < TAG_LENGTH) {
+			throw new InvalidCipherTextException("Truncated ciphertext of " + ciphertextLength + " bytes");
+		}
+		return ciphertextLength - segmentCount * TAG_LENGTH;
+	}
+
+	/**
+	 * Encrypt the plaintext.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param plaintext the plaintext
+	 * @param pool the pool encrypting the segments, or null for the common pool
+	 * @return the ciphertext
+	 */
+	public static byte[] enc_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			final byte[] plaintext, ForkJoinPool pool) {
+		final SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		final long segmentCount = getSegmentCount(mode, plaintext.length, segmentSize);
+		final byte[] ciphertext = new byte[(int) getCiphertextLength(mode, plaintext.length, segmentSize)];
+		try {
+			invoke(pool, segmentCount, index -> {
+				int offset = (int) segmentCipher.getPlaintextOffset(index);
+				segmentCipher.process(true, index, index == segmentCount - 1, plaintext, offset,
+						Math.min(segmentSize, plaintext.length - offset), ciphertext,
+						(int) segmentCipher.getCiphertextOffset(index));
+			});
+		} catch (IOException | InvalidCipherTextException e) {
+			// encryption neither reads nor authenticates
+			throw new IllegalStateException(e);
+		}
+		return ciphertext;
+	}
+
+	/**
+	 * Decrypt the ciphertext.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param ciphertext the ciphertext
+	 * @param pool the pool decrypting the segments, or null for the common pool
+	 * @return the plaintext
+	 * @throws InvalidCipherTextException if a GCM segment fails authentication
+	 */
+	public static byte[] dec_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			final byte[] ciphertext, ForkJoinPool pool) throws InvalidCipherTextException {
+		final SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		final long plaintextLength = getPlaintextLength(mode, ciphertext.length, segmentSize);
+		final long segmentCount = getSegmentCount(mode, plaintextLength, segmentSize);
+		final byte[] plaintext = new byte[(int) plaintextLength];
+		try {
+			invoke(pool, segmentCount, index -> {
+				int offset = (int) segmentCipher.getCiphertextOffset(index);
+				segmentCipher.process(false, index, index == segmentCount - 1, ciphertext, offset,
+						Math.min(segmentCipher.getCiphertextSegmentSize(), ciphertext.length - offset), plaintext,
+						(int) segmentCipher.getPlaintextOffset(index));
+			});
+		} catch (IOException e) {
+			// decryption of byte arrays does not read
+			throw new IllegalStateException(e);
+		}
+		return plaintext;
+	}
+
+	/**
+	 * Encrypt the input channel from position 0 to its end into the output channel from position 0.
+	 * Segments are read and written by positional reads and writes,
+	 * hence memory is bounded by one segment per worker thread, independent of the size of the input.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the plaintext
+	 * @param out writable file channel of the ciphertext
+	 * @param pool the pool encrypting the segments, or null for the common pool
+	 * @throws IOException if reading or writing fails
+	 */
+	public static void enc_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize, FileChannel in,
+			FileChannel out, ForkJoinPool pool) throws IOException {
+		enc_AES(mode, key, noncePrefix, segmentSize, in, 0, in.size(), out, 0, pool);
+	}
+
+	/**
+	 * Encrypt a region of the input channel into the output channel from the given offset,
+	 * see enc_AES(SegmentMode, byte[], byte[], int, FileChannel, FileChannel, ForkJoinPool).
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the plaintext
+	 * @param inOffset offset of the plaintext in the input channel
+	 * @param plaintextLength length of the plaintext
+	 * @param out writable file channel of the ciphertext
+	 * @param outOffset offset of the ciphertext in the output channel
+	 * @param pool the pool encrypting the segments, or null for the common pool
+	 * @throws IOException if reading or writing fails
+	 */
+	public static void enc_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			final FileChannel in, final long inOffset, final long plaintextLength, final FileChannel out,
+			final long outOffset, ForkJoinPool pool) throws IOException {
+		final SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		final long segmentCount = getSegmentCount(mode, plaintextLength, segmentSize);
+		try {
+			invoke(pool, segmentCount, index -> {
+				long plaintextOffset = segmentCipher.getPlaintextOffset(index);
+				int length = (int) Math.min(segmentSize, plaintextLength - plaintextOffset);
+				byte[][] buffers = getBuffers(segmentSize + TAG_LENGTH);
+				readFully(in, buffers[0], length, inOffset + plaintextOffset);
+				int outputLength = segmentCipher.process(true, index, index == segmentCount - 1, buffers[0], 0, length,
+						buffers[1], 0);
+				writeFully(out, buffers[1], outputLength, outOffset + segmentCipher.getCiphertextOffset(index));
+			});
+		} catch (InvalidCipherTextException e) {
+			// encryption does not authenticate
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Decrypt the input channel from position 0 to its end into the output channel from position 0,
+	 * see enc_AES(SegmentMode, byte[], byte[], int, FileChannel, FileChannel, ForkJoinPool).
+	 * Segments are written once they are authenticated,
+	 * hence the output should be discarded if decryption fails.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the ciphertext
+	 * @param out writable file channel of the plaintext
+	 * @param pool the pool decrypting the segments, or null for the common pool
+	 * @throws IOException if reading or writing fails
+	 * @throws InvalidCipherTextException if a GCM segment fails authentication
+	 */
+	public static void dec_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize, FileChannel in,
+			FileChannel out, ForkJoinPool pool) throws IOException, InvalidCipherTextException {
+		dec_AES(mode, key, noncePrefix, segmentSize, in, 0, in.size(), out, 0, pool);
+	}
+
+	/**
+	 * Decrypt a region of the input channel into the output channel from the given offset,
+	 * see dec_AES(SegmentMode, byte[], byte[], int, FileChannel, FileChannel, ForkJoinPool).
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the ciphertext
+	 * @param inOffset offset of the ciphertext in the input channel
+	 * @param ciphertextLength length of the ciphertext
+	 * @param out writable file channel of the plaintext
+	 * @param outOffset offset of the plaintext in the output channel
+	 * @param pool the pool decrypting the segments, or null for the common pool
+	 * @throws IOException if reading or writing fails
+	 * @throws InvalidCipherTextException if a GCM segment fails authentication
+	 */
+	public static void dec_AES(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			final FileChannel in, final long inOffset, final long ciphertextLength, final FileChannel out,
+			final long outOffset, ForkJoinPool pool) throws IOException, InvalidCipherTextException {
+		final SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		final long plaintextLength = getPlaintextLength(mode, ciphertextLength, segmentSize);
+		final long segmentCount = getSegmentCount(mode, plaintextLength, segmentSize);
+		invoke(pool, segmentCount, index -> {
+			long ciphertextOffset = segmentCipher.getCiphertextOffset(index);
+			int length = (int) Math.min(segmentCipher.getCiphertextSegmentSize(), ciphertextLength - ciphertextOffset);
+			byte[][] buffers = getBuffers(segmentSize + TAG_LENGTH);
+			readFully(in, buffers[0], length, inOffset + ciphertextOffset);
+			int outputLength = segmentCipher.process(false, index, index == segmentCount - 1, buffers[0], 0, length,
+					buffers[1], 0);
+			writeFully(out, buffers[1], outputLength, outOffset + segmentCipher.getPlaintextOffset(index));
+		});
+	}
+
+	/**
+	 * Verify and decrypt one segment of a ciphertext in the channel, without reading the other segments.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the ciphertext, starting at position 0
+	 * @param segmentIndex index of the segment
+	 * @return plaintext of the segment
+	 * @throws IOException if reading fails
+	 * @throws InvalidCipherTextException if the GCM segment fails authentication
+	 */
+	public static byte[] dec_AES_Segment(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			FileChannel in, long segmentIndex) throws IOException, InvalidCipherTextException {
+		return dec_AES_Segment(mode, key, noncePrefix, segmentSize, in, 0, in.size(), segmentIndex);
+	}
+
+	/**
+	 * Verify and decrypt one segment of a ciphertext in a region of the channel,
+	 * without reading the other segments.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param in readable file channel of the ciphertext
+	 * @param inOffset offset of the ciphertext in the channel
+	 * @param ciphertextLength length of the ciphertext
+	 * @param segmentIndex index of the segment
+	 * @return plaintext of the segment
+	 * @throws IOException if reading fails
+	 * @throws InvalidCipherTextException if the GCM segment fails authentication
+	 */
+	public static byte[] dec_AES_Segment(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			FileChannel in, long inOffset, long ciphertextLength, long segmentIndex)
+			throws IOException, InvalidCipherTextException {
+		SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		long segmentCount = getSegmentCount(mode, getPlaintextLength(mode, ciphertextLength, segmentSize),
+				segmentSize);
+		if (segmentIndex < 0 || segmentIndex >= segmentCount) {
+			throw new IndexOutOfBoundsException("Segment " + segmentIndex + " of " + segmentCount + " segments");
+		}
+		long ciphertextOffset = segmentCipher.getCiphertextOffset(segmentIndex);
+		byte[] segment = new byte[(int) Math.min(segmentCipher.getCiphertextSegmentSize(),
+				ciphertextLength - ciphertextOffset)];
+		readFully(in, segment, segment.length, inOffset + ciphertextOffset);
+		return dec_AES_Segment(mode, key, noncePrefix, segmentSize, segment, segmentIndex,
+				segmentIndex == segmentCount - 1);
+	}
+
+	/**
+	 * Verify and decrypt one segment.
+	 * @param mode segment mode
+	 * @param key AES key of 16, 24 or 32 bytes
+	 * @param noncePrefix nonce prefix of 7 bytes
+	 * @param segmentSize plaintext size of the segments
+	 * @param segment ciphertext of the segment, including its tag in GCM mode
+	 * @param segmentIndex index of the segment
+	 * @param isLast whether the segment is the last one of the payload
+	 * @return plaintext of the segment
+	 * @throws InvalidCipherTextException if the GCM segment fails authentication
+	 */
+	public static byte[] dec_AES_Segment(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize,
+			byte[] segment, long segmentIndex, boolean isLast) throws InvalidCipherTextException {
+		SegmentCipher segmentCipher = new SegmentCipher(mode, key, noncePrefix, segmentSize);
+		int plaintextLength = mode == SegmentMode.GCM ? segment.length - TAG_LENGTH : segment.length;
+		if (plaintextLength < 0 || segment.length > segmentCipher.getCiphertextSegmentSize()) {
+			throw new InvalidCipherTextException("Invalid length " + segment.length + " of segment " + segmentIndex);
+		}
+		byte[] plaintext = new byte[plaintextLength];
+		segmentCipher.process(false, segmentIndex, isLast, segment, 0, segment.length, plaintext, 0);
+		return plaintext;
+	}
+
+	private interface SegmentProcessor {
+		void process(long index) throws IOException, InvalidCipherTextException;
+	}
+
+	/**
+	 * Process segments 0, ..., segmentCount - 1, splitting the range in halves down to single segments.
+	 * Checked exceptions of the segments are carried across the pool and rethrown.
+	 */
+	private static void invoke(ForkJoinPool pool, long segmentCount, SegmentProcessor processor)
+			throws IOException, InvalidCipherTextException {
+		if (segmentCount > MAX_SEGMENTS) {
+			throw new IllegalArgumentException("Payload of " + segmentCount + " segments is too long");
+		}
+		if (segmentCount == 0) {
+			return;
+		}
+		try {
+			(pool == null ? ForkJoinPool.commonPool() : pool).invoke(new SegmentAction(processor, 0, segmentCount));
+		} catch (SegmentException e) {
+			// the pool may wrap the exception thrown by a worker thread
+			Throwable cause = e.getCause();
+			while (cause instanceof SegmentException) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof InvalidCipherTextException) {
+				throw (InvalidCipherTextException) cause;
+			}
+			throw (IOException) cause;
+		}
+	}
+
+	private static class SegmentAction extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final SegmentProcessor processor;
+		private final long from;
+		private final long to;
+
+		SegmentAction(SegmentProcessor processor, long from, long to) {
+			this.processor = processor;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from == 1) {
+				try {
+					this.processor.process(this.from);
+				} catch (IOException | InvalidCipherTextException e) {
+					throw new SegmentException(e);
+				}
+				return;
+			}
+			long middle = (this.from + this.to) >>> 1;
+			invokeAll(new SegmentAction(this.processor, this.from, middle),
+					new SegmentAction(this.processor, middle, this.to));
+		}
+	}
+
+	private static class SegmentException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SegmentException(Exception cause) {
+			super(cause);
+		}
+	}
+
+	/**
+	 * Key, nonce prefix and layout of a segmented payload, encrypting segments with the ciphers of the current thread.
+	 */
+	private static class SegmentCipher {
+		private final SegmentMode mode;
+		private final SecretKeySpec key;
+		private final byte[] noncePrefix;
+		private final int segmentSize;
+
+		SegmentCipher(SegmentMode mode, byte[] key, byte[] noncePrefix, int segmentSize) {
+			if (key == null || noncePrefix == null) {
+				throw new NullPointerException("key or nonce prefix is null");
+			}
+			// The valid key length is 16Bytes, 24Bytes or 32Bytes
+			if (!(key.length == 16 || key.length == 24 || key.length == 32)) {
+				throw new IllegalArgumentException("The valid key length should be 16Bytes, 24Bytes or 32Bytes");
+			}
+			if (noncePrefix.length != NONCE_PREFIX_LENGTH) {
+				throw new IllegalArgumentException("nonce prefix should be a " + NONCE_PREFIX_LENGTH + "Bytes array");
+			}
+			// CTR segments have to start on block boundaries
+			if (segmentSize <= 0 || segmentSize > MAX_SEGMENT_SIZE || segmentSize % 16 != 0) {
+				throw new IllegalArgumentException("segment size should be a positive multiple of 16, given "
+						+ segmentSize);
+			}
+			this.mode = mode;
+			this.key = new SecretKeySpec(key, "AES");
+			this.noncePrefix = noncePrefix.clone();
+			this.segmentSize = segmentSize;
+		}
+
+		long getPlaintextOffset(long index) {
+			return index * this.segmentSize;
+		}
+
+		long getCiphertextOffset(long index) {
+			return index * getCiphertextSegmentSize();
+		}
+
+		int getCiphertextSegmentSize() {
+			return this.mode == SegmentMode.GCM ? this.segmentSize + TAG_LENGTH : this.segmentSize;
+		}
+
+		/**
+		 * Encrypt or decrypt a segment.
+		 * @return number of bytes written
+		 */
+		int process(boolean isEnc, long index, boolean isLast, byte[] input, int inputOffset, int inputLength,
+				byte[] output, int outputOffset) throws InvalidCipherTextException {
+			byte[] nonce = new byte[this.mode == SegmentMode.GCM ? NONCE_LENGTH : 16];
+			System.arraycopy(this.noncePrefix, 0, nonce, 0, NONCE_PREFIX_LENGTH);
+			for (int i = 0; i < 4; i++) {
+				nonce[NONCE_PREFIX_LENGTH + i] = (byte) (index >>> (24 - 8 * i));
+			}
+			int opmode = isEnc ? Cipher.ENCRYPT_MODE : Cipher.DECRYPT_MODE;
+			try {
+				Cipher cipher = getCipher(this.mode);
+				if (this.mode == SegmentMode.GCM) {
+					nonce[NONCE_LENGTH - 1] = (byte) (isLast ? 1 : 0);
+					cipher.init(opmode, this.key, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+				} else {
+					cipher.init(opmode, this.key, new IvParameterSpec(nonce));
+				}
+				return cipher.doFinal(input, inputOffset, inputLength, output, outputOffset);
+			} catch (AEADBadTagException e) {
+				throw new InvalidCipherTextException("Authentication of segment " + index + " failed", e);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Cannot process segment " + index, e);
+			}
+		}
+	}
+
+	private static Cipher getCipher(SegmentMode mode) throws GeneralSecurityException {
+		Map<SegmentMode, Cipher> ciphers = CIPHERS.get();
+		Cipher cipher = ciphers.get(mode);
+		if (cipher == null) {
+			cipher = Cipher.getInstance(mode == SegmentMode.GCM ? "AES/GCM/NoPadding" : "AES/CTR/NoPadding");
+			ciphers.put(mode, cipher);
+		}
+		return cipher;
+	}
+
+	private static byte[][] getBuffers(int length) {
+		byte[][] buffers = BUFFERS.get();
+		if (buffers[0].length < length) {
+			buffers[0] = new byte[length];
+			buffers[1] = new byte[length];
+		}
+		return buffers;
+	}
+
+	private static void readFully(FileChannel in, byte[] buffer, int length, long position) throws IOException {
+		ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+		while (byteBuffer.hasRemaining()) {
+			if (in.read(byteBuffer, position + byteBuffer.position()) < 0) {
+				throw new IOException("Unexpected end of channel at " + (position + byteBuffer.position()));
+			}
+		}
+	}
+
+	private static void writeFully(FileChannel out, byte[] buffer, int length, long position) throws IOException {
+		ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+		while (byteBuffer.hasRemaining()) {
+			out.write(byteBuffer, position + byteBuffer.position());
+		}
+	}
+}
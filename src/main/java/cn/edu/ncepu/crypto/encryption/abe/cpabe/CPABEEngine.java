@@ -1,9 +1,12 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe;
 
+import java.util.concurrent.Executor;
+
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
-import cn.edu.ncepu.crypto.access.parser.ParserUtils;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
 import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
 import cn.edu.ncepu.crypto.algebra.Engine;
@@ -22,6 +25,8 @@ import it.unisa.dia.gas.jpbc.PairingParameters;
  */
 public abstract class CPABEEngine extends Engine {
 	protected AccessControlEngine accessControlEngine = AccessTreeEngine.getInstance();
+	protected Executor encryptionExecutor;
+	protected Executor decryptionExecutor;
 
 	protected CPABEEngine(String schemeName, ProveSecModel proveSecModel, PayloadSecLevel payloadSecLevel,
 			PredicateSecLevel predicateSecLevel) {
@@ -36,6 +41,36 @@ public abstract class CPABEEngine extends Engine {
 		return this.accessControlEngine.isSupportThresholdGate();
 	}
 
+	/**
+	 * Set the executor computing the per-attribute ciphertext components in parallel, e.g., a ForkJoinPool.
+	 * Ciphertexts have the same layout as the ones computed sequentially.
+	 * Parallel encryption is disabled by default, or by setting null.
+	 * @param encryptionExecutor the executor, or null
+	 */
+	public void setEncryptionExecutor(Executor encryptionExecutor) {
+		this.encryptionExecutor = encryptionExecutor;
+	}
+
+	public Executor getEncryptionExecutor() {
+		return this.encryptionExecutor;
+	}
+
+	/**
+	 * Set the executor evaluating the decryption pairings in parallel, e.g., a ForkJoinPool.
+	 * The per-attribute exponentiations and the Miller loops are computed on the executor,
+	 * and the partial products are multiplied in GT.
+	 * Unsatisfied access policies are detected before any task is submitted.
+	 * Parallel decryption is disabled by default, or by setting null.
+	 * @param decryptionExecutor the executor, or null
+	 */
+	public void setDecryptionExecutor(Executor decryptionExecutor) {
+		this.decryptionExecutor = decryptionExecutor;
+	}
+
+	public Executor getDecryptionExecutor() {
+		return this.decryptionExecutor;
+	}
+
 	/**
 	 * Setup Algorithm for CP-ABE
 	 * @param pairingParameters PairingParameters
@@ -64,8 +99,9 @@ public abstract class CPABEEngine extends Engine {
 	 */
 	public PairingCipherSerParameter encryption(PairingKeySerParameter publicKey, String accessPolicy, Element message)
 			throws PolicySyntaxException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return encryption(publicKey, accessPolicyIntArrays, rhos, message);
 	}
 
@@ -89,8 +125,9 @@ public abstract class CPABEEngine extends Engine {
 	 */
 	public PairingKeyEncapsulationSerPair encapsulation(PairingKeySerParameter publicKey, String accessPolicy)
 			throws PolicySyntaxException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return encapsulation(publicKey, accessPolicyIntArrays, rhos);
 	}
 
@@ -116,8 +153,9 @@ public abstract class CPABEEngine extends Engine {
 	 */
 	public Element decryption(PairingKeySerParameter publicKey, PairingKeySerParameter secretKey, String accessPolicy,
 			PairingCipherSerParameter ciphertext) throws PolicySyntaxException, InvalidCipherTextException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return decryption(publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
 	}
 
@@ -147,8 +185,9 @@ public abstract class CPABEEngine extends Engine {
 	 */
 	public byte[] decapsulation(PairingKeySerParameter publicKey, PairingKeySerParameter secretKey, String accessPolicy,
 			PairingCipherSerParameter ciphertext) throws PolicySyntaxException, InvalidCipherTextException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return decapsulation(publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
 	}
 
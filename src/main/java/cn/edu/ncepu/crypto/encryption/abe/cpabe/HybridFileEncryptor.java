@@ -0,0 +1,422 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
+import org.bouncycastle.crypto.params.HKDFParameters;
+
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
+import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
+
+/**
+ * Streaming hybrid encryption of files under CP-ABE: the session key encapsulated by the engine
+ * keys a chunked AES-GCM encryption of the payload.
+ *
+ * The container consists of the preamble
+ * magic "ABEF" (4 bytes), version (1 byte), access policy (int arrays and rhos), header format (1 byte),
+ * header (length-prefixed, compact encoding of PairingSerCodecs if supported, otherwise Java serialization),
+ * salt (16 bytes) and chunk size (4 bytes),
+ * followed by the payload chunks, each the AES-GCM encryption of chunk size bytes of the plaintext
+ * (the last chunk may be shorter or empty) with its 16-byte tag.
+ *
+ * The AES-256 key is derived from the session key by HKDF-SHA256 with the salt,
+ * and the SHA-256 digest of the preamble as the info, so that any change of the preamble fails authentication.
+ * The 12-byte nonce of a chunk is its index (8 bytes, big-endian), 3 zero bytes,
+ * and 1 for the last chunk or 0 otherwise, so that reordering, dropping or truncating chunks fails authentication as well (the STREAM construction).
+ *
+ * The header is read before it is authenticated, hence a serialized header is deserialized
+ * only if it consists of SerParameters, pairing parameters and a few value classes of the JDK.
+ *
+ * Both directions stream in memory of about two chunks, independent of the size of the payload.
+ * Decryption writes the plaintext of a chunk only after the chunk is authenticated,
+ * but a modification of a later chunk is only detected after the preceding chunks are written.
+ */
+public class HybridFileEncryptor {
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+	public static final int MAX_CHUNK_SIZE = 1 << 24;
+
+	private static final byte[] MAGIC = { 'A', 'B', 'E', 'F' };
+	private static final int VERSION = 1;
+	private static final int HEADER_FORMAT_SERIALIZATION = 0;
+	private static final int HEADER_FORMAT_COMPACT = 1;
+	private static final int MAX_HEADER_LENGTH = 1 << 24;
+	private static final int MAX_POLICY_LENGTH = 1 << 16;
+	private static final int SALT_LENGTH = 16;
+	private static final int KEY_LENGTH = 32;
+	private static final int NONCE_LENGTH = 12;
+	private static final int TAG_LENGTH = 16;
+	private static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private final CPABEEngine engine;
+	private final int chunkSize;
+	private final SecureRandom secureRandom;
+
+	public HybridFileEncryptor(CPABEEngine engine) {
+		this(engine, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param engine the CP-ABE engine encapsulating the session keys
+	 * @param chunkSize size of the plaintext chunks in bytes, at most MAX_CHUNK_SIZE
+	 */
+	public HybridFileEncryptor(CPABEEngine engine, int chunkSize) {
+		if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+			throw new IllegalArgumentException("Chunk size must be in [1, " + MAX_CHUNK_SIZE + "], given " + chunkSize);
+		}
+		this.engine = engine;
+		this.chunkSize = chunkSize;
+		this.secureRandom = new SecureRandom();
+	}
+
+	public int getChunkSize() {
+		return this.chunkSize;
+	}
+
+	/**
+	 * Encrypt the input under the access policy into the container.
+	 * @param publicKey public key
+	 * @param accessPolicy access policy, given by string
+	 * @param inputStream the plaintext, read until its end but not closed
+	 * @param outputStream the container, not closed
+	 * @throws PolicySyntaxException if error occurs when parsing the access policy string
+	 * @throws IOException if reading the input or writing the output fails
+	 */
+	public void encrypt(PairingKeySerParameter publicKey, String accessPolicy, InputStream inputStream,
+			OutputStream outputStream) throws PolicySyntaxException, IOException {
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		encrypt(publicKey, compiledAccessPolicy.getAccessPolicy(), compiledAccessPolicy.getRhos(), inputStream,
+				outputStream);
+	}
+
+	/**
+	 * Encrypt the input under the access policy into the container.
+	 * @param publicKey public key
+	 * @param accessPolicyIntArrays access policy, given by 2D int arrays
+	 * @param rhos rhos, given by string array
+	 * @param inputStream the plaintext, read until its end but not closed
+	 * @param outputStream the container, not closed
+	 * @throws IOException if reading the input or writing the output fails
+	 */
+	public void encrypt(PairingKeySerParameter publicKey, int[][] accessPolicyIntArrays, String[] rhos,
+			InputStream inputStream, OutputStream outputStream) throws IOException {
+		PairingKeyEncapsulationSerPair encapsulationPair = this.engine.encapsulation(publicKey, accessPolicyIntArrays,
+				rhos);
+		PairingCipherSerParameter header = encapsulationPair.getHeader();
+		byte[] salt = new byte[SALT_LENGTH];
+		this.secureRandom.nextBytes(salt);
+
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		DataOutputStream preamble = new DataOutputStream(byteArrayOutputStream);
+		preamble.write(MAGIC);
+		preamble.writeByte(VERSION);
+		preamble.writeInt(accessPolicyIntArrays.length);
+		for (int[] row : accessPolicyIntArrays) {
+			preamble.writeInt(row.length);
+			for (int value : row) {
+				preamble.writeInt(value);
+			}
+		}
+		preamble.writeInt(rhos.length);
+		for (String rho : rhos) {
+			byte[] byteArrayRho = rho.getBytes(StandardCharsets.UTF_8);
+			preamble.writeInt(byteArrayRho.length);
+			preamble.write(byteArrayRho);
+		}
+		byte[] byteArrayHeader;
+		if (PairingSerCodecs.isSupported(header)) {
+			preamble.writeByte(HEADER_FORMAT_COMPACT);
+			byteArrayHeader = PairingSerCodecs.Encode(header);
+		} else {
+			preamble.writeByte(HEADER_FORMAT_SERIALIZATION);
+			byteArrayHeader = CommonUtils.SerObject(header);
+		}
+		preamble.writeInt(byteArrayHeader.length);
+		preamble.write(byteArrayHeader);
+		preamble.write(salt);
+		preamble.writeInt(this.chunkSize);
+		preamble.flush();
+		byte[] byteArrayPreamble = byteArrayOutputStream.toByteArray();
+		outputStream.write(byteArrayPreamble);
+
+		SecretKeySpec key = deriveKey(encapsulationPair.getSessionKey(), salt, byteArrayPreamble);
+		Cipher cipher = getCipher();
+		// one more byte is read ahead to tell whether the current chunk is the last one
+		byte[] plaintext = new byte[this.chunkSize + 1];
+		byte[] ciphertext = new byte[this.chunkSize + TAG_LENGTH];
+		int length = readFully(inputStream, plaintext, 0, plaintext.length);
+		for (long index = 0;; index++) {
+			boolean isLast = length <= this.chunkSize;
+			int chunkLength = isLast ? length : this.chunkSize;
+			try {
+				cipher.init(Cipher.ENCRYPT_MODE, key, nonce(index, isLast));
+				int ciphertextLength = cipher.doFinal(plaintext, 0, chunkLength, ciphertext, 0);
+				outputStream.write(ciphertext, 0, ciphertextLength);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Cannot encrypt chunk " + index, e);
+			}
+			if (isLast) {
+				break;
+			}
+			plaintext[0] = plaintext[this.chunkSize];
+			length = 1 + readFully(inputStream, plaintext, 1, this.chunkSize);
+		}
+		outputStream.flush();
+	}
+
+	/**
+	 * Decrypt the container.
+	 * @param publicKey public key
+	 * @param secretKey secret key associated with an attribute set
+	 * @param inputStream the container, read until its end but not closed
+	 * @param outputStream the plaintext, not closed
+	 * @throws IOException if reading the input or writing the output fails, or the container is malformed
+	 * @throws InvalidCipherTextException if the attributes do not satisfy the access policy,
+	 *                                    or a chunk fails authentication
+	 */
+	public void decrypt(PairingKeySerParameter publicKey, PairingKeySerParameter secretKey, InputStream inputStream,
+			OutputStream outputStream) throws IOException, InvalidCipherTextException {
+		// digest the preamble while reading it
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		DataInputStream preamble = new DataInputStream(new RecordingInputStream(inputStream, byteArrayOutputStream));
+		byte[] magic = new byte[MAGIC.length];
+		preamble.readFully(magic);
+		if (!Arrays.equals(magic, MAGIC)) {
+			throw new IOException("Not a hybrid encryption container.");
+		}
+		int version = preamble.readUnsignedByte();
+		if (version != VERSION) {
+			throw new IOException("Unsupported container version " + version);
+		}
+		int[][] accessPolicyIntArrays = new int[readLength(preamble, MAX_POLICY_LENGTH)][];
+		for (int i = 0; i < accessPolicyIntArrays.length; i++) {
+			accessPolicyIntArrays[i] = new int[readLength(preamble, MAX_POLICY_LENGTH)];
+			for (int j = 0; j < accessPolicyIntArrays[i].length; j++) {
+				accessPolicyIntArrays[i][j] = preamble.readInt();
+			}
+		}
+		String[] rhos = new String[readLength(preamble, MAX_POLICY_LENGTH)];
+		for (int i = 0; i < rhos.length; i++) {
+			byte[] byteArrayRho = new byte[readLength(preamble, MAX_POLICY_LENGTH)];
+			preamble.readFully(byteArrayRho);
+			rhos[i] = new String(byteArrayRho, StandardCharsets.UTF_8);
+		}
+		int headerFormat = preamble.readUnsignedByte();
+		byte[] byteArrayHeader = new byte[readLength(preamble, MAX_HEADER_LENGTH)];
+		preamble.readFully(byteArrayHeader);
+		byte[] salt = new byte[SALT_LENGTH];
+		preamble.readFully(salt);
+		int containerChunkSize = preamble.readInt();
+		if (containerChunkSize <= 0 || containerChunkSize > MAX_CHUNK_SIZE) {
+			throw new IOException("Malformed container, chunk size " + containerChunkSize);
+		}
+		byte[] byteArrayPreamble = byteArrayOutputStream.toByteArray();
+
+		PairingCipherSerParameter header;
+		if (headerFormat == HEADER_FORMAT_COMPACT) {
+			header = PairingSerCodecs.Decode(byteArrayHeader, publicKey.getParameters());
+		} else if (headerFormat == HEADER_FORMAT_SERIALIZATION) {
+			try (ObjectInputStream objectInputStream = new HeaderInputStream(byteArrayHeader)) {
+				header = (PairingCipherSerParameter) objectInputStream.readObject();
+			} catch (ClassNotFoundException | ClassCastException e) {
+				throw new IOException("Malformed container, cannot deserialize header", e);
+			}
+		} else {
+			throw new IOException("Unsupported header format " + headerFormat);
+		}
+		byte[] sessionKey = this.engine.decapsulation(publicKey, secretKey, accessPolicyIntArrays, rhos, header);
+
+		SecretKeySpec key = deriveKey(sessionKey, salt, byteArrayPreamble);
+		Cipher cipher = getCipher();
+		int ciphertextChunkSize = containerChunkSize + TAG_LENGTH;
+		byte[] ciphertext = new byte[ciphertextChunkSize + 1];
+		byte[] plaintext = new byte[containerChunkSize];
+		int length = readFully(inputStream, ciphertext, 0, ciphertext.length);
+		for (long index = 0;; index++) {
+			boolean isLast = length <= ciphertextChunkSize;
+			int chunkLength = isLast ? length : ciphertextChunkSize;
+			if (chunkLength < TAG_LENGTH) {
+				throw new InvalidCipherTextException("Truncated container, chunk " + index);
+			}
+			try {
+				cipher.init(Cipher.DECRYPT_MODE, key, nonce(index, isLast));
+				int plaintextLength = cipher.doFinal(ciphertext, 0, chunkLength, plaintext, 0);
+				outputStream.write(plaintext, 0, plaintextLength);
+			} catch (AEADBadTagException e) {
+				throw new InvalidCipherTextException("Authentication of chunk " + index + " failed", e);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Cannot decrypt chunk " + index, e);
+			}
+			if (isLast) {
+				break;
+			}
+			ciphertext[0] = ciphertext[ciphertextChunkSize];
+			length = 1 + readFully(inputStream, ciphertext, 1, ciphertextChunkSize);
+		}
+		outputStream.flush();
+	}
+
+	private static SecretKeySpec deriveKey(byte[] sessionKey, byte[] salt, byte[] byteArrayPreamble) {
+		SHA256Digest digest = new SHA256Digest();
+		byte[] info = new byte[digest.getDigestSize()];
+		digest.update(byteArrayPreamble, 0, byteArrayPreamble.length);
+		digest.doFinal(info, 0);
+		HKDFBytesGenerator hkdfBytesGenerator = new HKDFBytesGenerator(new SHA256Digest());
+		hkdfBytesGenerator.init(new HKDFParameters(sessionKey, salt, info));
+		byte[] byteArrayKey = new byte[KEY_LENGTH];
+		hkdfBytesGenerator.generateBytes(byteArrayKey, 0, KEY_LENGTH);
+		SecretKeySpec key = new SecretKeySpec(byteArrayKey, "AES");
+		Arrays.fill(byteArrayKey, (byte) 0);
+		Arrays.fill(sessionKey, (byte) 0);
+		return key;
+	}
+
+	private static GCMParameterSpec nonce(long index, boolean isLast) {
+		byte[] nonce = new byte[NONCE_LENGTH];
+		for (int i = 7; i >= 0; i--) {
+			nonce[i] = (byte) index;
+			index >>>= 8;
+		}
+		nonce[NONCE_LENGTH - 1] = (byte) (isLast ? 1 : 0);
+		return new GCMParameterSpec(TAG_LENGTH * 8, nonce);
+	}
+
+	private static Cipher getCipher() {
+		try {
+			return Cipher.getInstance(CIPHER_TRANSFORMATION);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(CIPHER_TRANSFORMATION + " is not available", e);
+		}
+	}
+
+	private static int readLength(DataInputStream inputStream, int maxLength) throws IOException {
+		int length = inputStream.readInt();
+		if (length < 0 || length > maxLength) {
+			throw new IOException("Malformed container, length " + length + " out of range.");
+		}
+		return length;
+	}
+
+	/**
+	 * Read until the buffer range is filled or the end of the stream is reached.
+	 * @return number of bytes read
+	 */
+	private static int readFully(InputStream inputStream, byte[] buffer, int offset, int length) throws IOException {
+		int total = 0;
+		while (total < length) {
+			int read = inputStream.read(buffer, offset + total, length - total);
+			if (read < 0) {
+				break;
+			}
+			total += read;
+		}
+		return total;
+	}
+
+	/**
+	 * Deserializes headers, rejecting classes other than SerParameters, pairing parameters
+	 * and the JDK classes they consist of, before they are instantiated.
+	 */
+	private static class HeaderInputStream extends ObjectInputStream {
+		private static final Set<String> ALLOWED_CLASS_NAMES = new HashSet<String>(Arrays.asList(
+				String.class.getName(), Number.class.getName(), Integer.class.getName(), Long.class.getName(),
+				BigInteger.class.getName(), HashMap.class.getName(), LinkedHashMap.class.getName()));
+		private static final String SER_PARAMETER_PACKAGE_PREFIX = "cn.edu.ncepu.crypto.";
+		private static final String SER_PARAMETER_PACKAGE_SUFFIX = ".serparams";
+		private static final String PAIRING_PARAMETERS_PACKAGE = "it.unisa.dia.gas.plaf.jpbc.pairing.parameters";
+
+		HeaderInputStream(byte[] byteArrayHeader) throws IOException {
+			super(new ByteArrayInputStream(byteArrayHeader));
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass objectStreamClass)
+				throws IOException, ClassNotFoundException {
+			String className = objectStreamClass.getName();
+			// array descriptors, e.g., [[B or [Ljava.lang.String;
+			String componentName = className.replaceFirst("^\\[+", "");
+			if (componentName.length() != className.length()) {
+				componentName = componentName.startsWith("L") && componentName.endsWith(";")
+						? componentName.substring(1, componentName.length() - 1) : null;
+			}
+			if (componentName != null && !isAllowed(componentName)) {
+				throw new InvalidClassException(className, "Class is not allowed in a header.");
+			}
+			return super.resolveClass(objectStreamClass);
+		}
+
+		@Override
+		protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+			throw new InvalidClassException("Proxy classes are not allowed in a header.");
+		}
+
+		private static boolean isAllowed(String className) {
+			int index = className.lastIndexOf('.');
+			String packageName = index < 0 ? "" : className.substring(0, index);
+			return ALLOWED_CLASS_NAMES.contains(className) || packageName.equals(PAIRING_PARAMETERS_PACKAGE)
+					|| (packageName.startsWith(SER_PARAMETER_PACKAGE_PREFIX)
+							&& packageName.endsWith(SER_PARAMETER_PACKAGE_SUFFIX));
+		}
+	}
+
+	/**
+	 * Input stream copying the bytes read from the underlying stream, used to digest the preamble.
+	 */
+	private static class RecordingInputStream extends InputStream {
+		private final InputStream inputStream;
+		private final OutputStream record;
+
+		RecordingInputStream(InputStream inputStream, OutputStream record) {
+			this.inputStream = inputStream;
+			this.record = record;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = this.inputStream.read();
+			if (b >= 0) {
+				this.record.write(b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			int read = this.inputStream.read(buffer, offset, length);
+			if (read > 0) {
+				this.record.write(buffer, offset, read);
+			}
+			return read;
+		}
+	}
+}
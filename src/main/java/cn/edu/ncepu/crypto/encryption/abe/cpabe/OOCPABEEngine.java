@@ -1,6 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe;
 
-import cn.edu.ncepu.crypto.access.parser.ParserUtils;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
@@ -40,8 +41,9 @@ public abstract class OOCPABEEngine extends CPABEEngine {
 
 	public PairingKeyEncapsulationSerPair encapsulation(PairingKeySerParameter publicKey,
 			PairingCipherSerParameter intermediate, String accessPolicy) throws PolicySyntaxException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return encapsulation(publicKey, intermediate, accessPolicyIntArrays, rhos);
 	}
 
@@ -59,8 +61,9 @@ public abstract class OOCPABEEngine extends CPABEEngine {
 
 	public PairingCipherSerParameter encryption(PairingKeySerParameter publicKey,
 			PairingCipherSerParameter intermediate, String accessPolicy, Element message) throws PolicySyntaxException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return encryption(publicKey, intermediate, accessPolicyIntArrays, rhos, message);
 	}
 
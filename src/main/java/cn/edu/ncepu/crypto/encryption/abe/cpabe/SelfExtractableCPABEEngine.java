@@ -1,11 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe;
 
+import java.util.function.Supplier;
+
 import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.PBEParametersGenerator;
 
-import cn.edu.ncepu.crypto.access.parser.ParserUtils;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
 import cn.edu.ncepu.crypto.algebra.Engine;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,6 +16,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine;
+import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine.KeyDerivation;
 import cn.edu.ncepu.crypto.encryption.sepe.serparams.SEPEHeaderParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.PairingParameters;
@@ -39,6 +43,18 @@ public class SelfExtractableCPABEEngine extends Engine {
 				digest);
 	}
 
+	/**
+	 * Self-extractable CP-ABE engine that can be shared by threads, each thread using its own supplied primitives.
+	 */
+	public SelfExtractableCPABEEngine(CPABEEngine engine, Supplier<PBEParametersGenerator> pbeParametersGenerator,
+			Supplier<BlockCipher> blockCipher, Supplier<Digest> digest) {
+		super(engine.getEngineName(), engine.getProveSecModel(), engine.getPayloadSecLevel(),
+				engine.getPredicateSecLevel());
+		this.engine = engine;
+		this.selfExtractableBaseEngine = new SelfExtractableBaseEngine(engine, pbeParametersGenerator, blockCipher,
+				digest);
+	}
+
 	public PairingKeySerPair setup(PairingParameters pairingParameters, int maxAttributeNum) {
 		return engine.setup(pairingParameters, maxAttributeNum);
 	}
@@ -52,6 +68,10 @@ public class SelfExtractableCPABEEngine extends Engine {
 		return this.selfExtractableBaseEngine.selfKeyGen();
 	}
 
+	public void setKeyDerivation(KeyDerivation keyDerivation) {
+		this.selfExtractableBaseEngine.setKeyDerivation(keyDerivation);
+	}
+
 	public PairingCipherSerParameter offlineEncryption(PairingKeySerParameter publicKey, int n) {
 		if (!(this.engine instanceof OOCPABEEngine)) {
 			throw new IllegalArgumentException("Engine does not support online/offline mechanism");
@@ -65,8 +85,9 @@ public class SelfExtractableCPABEEngine extends Engine {
 		if (!(this.engine instanceof OOCPABEEngine)) {
 			throw new IllegalArgumentException("Engine does not support online/offline mechanism");
 		}
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return this.encapsulation(publicKey, intermediate, accessPolicyIntArrays, rhos, ek);
 	}
 
@@ -83,8 +104,9 @@ public class SelfExtractableCPABEEngine extends Engine {
 
 	public PairingKeyEncapsulationSerPair encapsulation(PairingKeySerParameter publicKey, String accessPolicy,
 			byte[] ek) throws PolicySyntaxException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return encapsulation(publicKey, accessPolicyIntArrays, rhos, ek);
 	}
 
@@ -97,8 +119,9 @@ public class SelfExtractableCPABEEngine extends Engine {
 
 	public byte[] decapsulation(PairingKeySerParameter publicKey, PairingKeySerParameter secretKey, String accessPolicy,
 			PairingCipherSerParameter header) throws PolicySyntaxException, InvalidCipherTextException {
-		int[][] accessPolicyIntArrays = ParserUtils.GenerateAccessPolicy(accessPolicy);
-		String[] rhos = ParserUtils.GenerateRhos(accessPolicy);
+		CompiledAccessPolicy compiledAccessPolicy = AccessPolicyCache.getInstance().compile(accessPolicy);
+		int[][] accessPolicyIntArrays = compiledAccessPolicy.getAccessPolicy();
+		String[] rhos = compiledAccessPolicy.getRhos();
 		return decapsulation(publicKey, secretKey, accessPolicyIntArrays, rhos, header);
 	}
 
@@ -75,8 +75,10 @@ public class CPABEBSW07Engine extends CPABEEngine {
 					CPABEBSW07PublicKeySerParameter.class.getName());
 		}
 		CPABEBSW07EncryptionGenerator encryptionGenerator = new CPABEBSW07EncryptionGenerator();
-		encryptionGenerator.init(new CPABEEncryptionGenerationParameter(accessControlEngine, publicKey,
-				accessPolicyIntArrays, rhos, message));
+		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
+				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, message);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 
 		return encryptionGenerator.generateCiphertext();
 	}
@@ -88,8 +90,10 @@ public class CPABEBSW07Engine extends CPABEEngine {
 					CPABEBSW07PublicKeySerParameter.class.getName());
 		}
 		CPABEBSW07EncryptionGenerator encryptionGenerator = new CPABEBSW07EncryptionGenerator();
-		encryptionGenerator.init(new CPABEEncryptionGenerationParameter(accessControlEngine, publicKey,
-				accessPolicyIntArrays, rhos, null));
+		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
+				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, null);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 
 		return encryptionGenerator.generateEncryptionPair();
 	}
@@ -110,8 +114,10 @@ public class CPABEBSW07Engine extends CPABEEngine {
 					CPABEBSW07CiphertextSerParameter.class.getName());
 		}
 		CPABEBSW07DecryptionGenerator decryptionGenerator = new CPABEBSW07DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, ciphertext));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
 
@@ -131,8 +137,10 @@ public class CPABEBSW07Engine extends CPABEEngine {
 					CPABEBSW07HeaderSerParameter.class.getName());
 		}
 		CPABEBSW07DecryptionGenerator decryptionGenerator = new CPABEBSW07DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, header));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, header);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
 }
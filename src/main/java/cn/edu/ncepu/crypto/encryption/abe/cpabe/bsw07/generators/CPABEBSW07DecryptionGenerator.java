@@ -8,6 +8,8 @@ import org.bouncycastle.crypto.InvalidCipherTextException;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07CiphertextSerParameter;
@@ -17,7 +19,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07Secret
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEDecryptionGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -40,23 +41,23 @@ public class CPABEBSW07DecryptionGenerator implements PairingDecryptionGenerator
 		CPABEBSW07HeaderSerParameter ciphertextParameter = (CPABEBSW07HeaderSerParameter) this.parameter
 				.getCiphertextParameter();
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
 			AccessControlParameter accessControlParameter = accessControlEngine
 					.generateAccessControl(this.parameter.getAccessPolicy(), this.parameter.getRhos());
 			Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing,
 					secretKeyParameter.getAttributes(), accessControlParameter);
-			Element A = pairing.getGT().newOneElement().getImmutable();
+			// sessionKey = e(C, D) / prod (e(D1, C1) / e(D2, C2))^lambda
+			MultiPairing multiPairing = new MultiPairing(pairing, secretKeyParameter, this.parameter.getExecutor());
+			multiPairing.mulKey(ciphertextParameter.getC(), secretKeyParameter.getD());
 			for (String attribute : omegaElementsMap.keySet()) {
-				Element D1 = secretKeyParameter.getD1sAt(attribute);
-				Element D2 = secretKeyParameter.getD2sAt(attribute);
-				Element C1 = ciphertextParameter.getC1sAt(attribute);
-				Element C2 = ciphertextParameter.getC2sAt(attribute);
 				Element lambda = omegaElementsMap.get(attribute);
-				A = A.mul(pairing.pairing(D1, C1).div(pairing.pairing(D2, C2)).powZn(lambda)).getImmutable();
+				multiPairing.divKey(ciphertextParameter.getC1sAt(attribute), secretKeyParameter.getD1sAt(attribute),
+						lambda);
+				multiPairing.mulKey(ciphertextParameter.getC2sAt(attribute), secretKeyParameter.getD2sAt(attribute),
+						lambda);
 			}
-			this.sessionKey = pairing.pairing(ciphertextParameter.getC(), secretKeyParameter.getD()).div(A)
-					.getImmutable();
+			this.sessionKey = multiPairing.evaluate();
 		} catch (UnsatisfiedAccessControlException e) {
 			throw new InvalidCipherTextException(
 					"Attributes associated with the ciphertext do not satisfy access policy associated with the secret key.");
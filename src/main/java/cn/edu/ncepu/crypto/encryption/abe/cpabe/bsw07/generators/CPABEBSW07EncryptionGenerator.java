@@ -1,12 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.generators;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -16,9 +18,9 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07Header
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07PublicKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEEncryptionGenerationParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -45,18 +47,24 @@ public class CPABEBSW07EncryptionGenerator implements PairingEncryptionGenerator
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
 		AccessControlParameter accessControlParameter = accessControlEngine.generateAccessControl(accessPolicy, rhos);
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C = publicKeyParameter.getH().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C = publicKeyParameter.powH(s).getImmutable();
 		Map<String, Element> lambdas = accessControlEngine.secretSharing(pairing, s, accessControlParameter);
 
 		this.C1s = new HashMap<String, Element>();
 		this.C2s = new HashMap<String, Element>();
-		for (String rho : lambdas.keySet()) {
-			C1s.put(rho, publicKeyParameter.getG().powZn(lambdas.get(rho)).getImmutable());
-			C2s.put(rho, PairingUtils.MapStringToGroup(pairing, rho, PairingUtils.PairingGroupType.G1)
-					.powZn(lambdas.get(rho)).getImmutable());
+		String[] lambdaRhos = lambdas.keySet().toArray(new String[0]);
+		List<Element[]> components = ParallelUtils.Compute(this.parameter.getExecutor(), lambdaRhos.length, i -> {
+			Element lambda = lambdas.get(lambdaRhos[i]);
+			return new Element[] { publicKeyParameter.powG(lambda).getImmutable(),
+					PairingUtils.MapStringToGroup(pairing, lambdaRhos[i], PairingUtils.PairingGroupType.G1)
+							.powZn(lambda).getImmutable() };
+		});
+		for (int i = 0; i < lambdaRhos.length; i++) {
+			C1s.put(lambdaRhos[i], components.get(i)[0]);
+			C2s.put(lambdaRhos[i], components.get(i)[1]);
 		}
 	}
 
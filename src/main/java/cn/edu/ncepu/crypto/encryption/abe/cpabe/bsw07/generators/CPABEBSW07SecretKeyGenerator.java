@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07MasterSecretKeySerParameter;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABESecretKeyGenerati
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -35,18 +35,18 @@ public class CPABEBSW07SecretKeyGenerator implements PairingKeyParameterGenerato
 				.getPublicKeyParameter();
 
 		String[] attributes = this.parameter.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Map<String, Element> D1s = new HashMap<String, Element>();
 		Map<String, Element> D2s = new HashMap<String, Element>();
 		Element r = pairing.getZr().newRandomElement().getImmutable();
-		Element D = masterSecretKeyParameter.getGAlpha().mul(publicKeyParameter.getG().powZn(r))
+		Element D = masterSecretKeyParameter.getGAlpha().mul(publicKeyParameter.powG(r))
 				.powZn(masterSecretKeyParameter.getBeta().invert()).getImmutable();
 		for (String attribute : attributes) {
 			Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attribute,
 					PairingUtils.PairingGroupType.G1);
 			Element ri = pairing.getZr().newRandomElement().getImmutable();
-			D1s.put(attribute, publicKeyParameter.getG().powZn(r).mul(elementAttribute.powZn(ri)).getImmutable());
-			D2s.put(attribute, publicKeyParameter.getG().powZn(ri).getImmutable());
+			D1s.put(attribute, publicKeyParameter.powG(r).mul(elementAttribute.powZn(ri)).getImmutable());
+			D2s.put(attribute, publicKeyParameter.powG(ri).getImmutable());
 		}
 		return new CPABEBSW07SecretKeySerParameter(publicKeyParameter.getParameters(), D, D1s, D2s);
 	}
@@ -3,11 +3,11 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -31,7 +31,7 @@ public class CPABEBSW07CiphertextSerParameter extends CPABEBSW07HeaderSerParamet
 	}
 
 	public Element getCPrime() {
-		return this.CPrime.duplicate();
+		return this.CPrime;
 	}
 
 	@Override
@@ -50,7 +50,7 @@ public class CPABEBSW07CiphertextSerParameter extends CPABEBSW07HeaderSerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.CPrime = pairing.getGT().newElementFromBytes(this.byteArrayCPrime).getImmutable();
 	}
 }
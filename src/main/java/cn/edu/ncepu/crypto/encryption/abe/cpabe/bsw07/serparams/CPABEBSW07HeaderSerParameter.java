@@ -1,15 +1,15 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -26,10 +26,10 @@ public class CPABEBSW07HeaderSerParameter extends PairingCipherSerParameter {
 	private final byte[] byteArrayC;
 
 	private transient Map<String, Element> C1s;
-	private final byte[][] byteArraysC1s;
+	private byte[][] byteArraysC1s;
 
 	private transient Map<String, Element> C2s;
-	private final byte[][] byteArraysC2s;
+	private byte[][] byteArraysC2s;
 
 	public CPABEBSW07HeaderSerParameter(PairingParameters pairingParameters, Element C, Map<String, Element> C1s,
 			Map<String, Element> C2s) {
@@ -39,32 +39,24 @@ public class CPABEBSW07HeaderSerParameter extends PairingCipherSerParameter {
 		this.C = C.getImmutable();
 		this.byteArrayC = this.C.toBytes();
 
-		this.C1s = new HashMap<String, Element>();
-		this.byteArraysC1s = new byte[this.rhos.length][];
-		this.C2s = new HashMap<String, Element>();
-		this.byteArraysC2s = new byte[this.rhos.length][];
-
-		for (int i = 0; i < this.rhos.length; i++) {
-			Element C1 = C1s.get(this.rhos[i]).duplicate().getImmutable();
-			this.C1s.put(this.rhos[i], C1);
-			this.byteArraysC1s[i] = C1.toBytes();
+		this.C1s = LazyElementMap.ImmutableElements(C1s, this.rhos);
+		this.C2s = LazyElementMap.ImmutableElements(C2s, this.rhos);
+	}
 
-			Element C2 = C2s.get(this.rhos[i]).duplicate().getImmutable();
-			this.C2s.put(this.rhos[i], C2);
-			this.byteArraysC2s[i] = C2.toBytes();
-		}
+	public String[] getRhos() {
+		return this.rhos.clone();
 	}
 
 	public Element getC() {
-		return this.C.duplicate();
+		return this.C;
 	}
 
 	public Element getC1sAt(String rho) {
-		return this.C1s.get(rho).duplicate();
+		return this.C1s.get(rho);
 	}
 
 	public Element getC2sAt(String rho) {
-		return this.C2s.get(rho).duplicate();
+		return this.C2s.get(rho);
 	}
 
 	@Override
@@ -74,6 +66,8 @@ public class CPABEBSW07HeaderSerParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof CPABEBSW07HeaderSerParameter) {
 			CPABEBSW07HeaderSerParameter that = (CPABEBSW07HeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare C
 			if (!PairingUtils.isEqualElement(this.C, that.C)) {
 				return false;
@@ -96,21 +90,30 @@ public class CPABEBSW07HeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysC1s == null) {
+			this.byteArraysC1s = LazyElementMap.ToByteArrays(this.C1s, this.rhos);
+			this.byteArraysC2s = LazyElementMap.ToByteArrays(this.C2s, this.rhos);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C = pairing.getG1().newElementFromBytes(this.byteArrayC).getImmutable();
-		this.C1s = new HashMap<String, Element>();
-		this.C2s = new HashMap<String, Element>();
-		for (int i = 0; i < this.rhos.length; i++) {
-			this.C1s.put(this.rhos[i], pairing.getG1().newElementFromBytes(this.byteArraysC1s[i]).getImmutable());
-			this.C2s.put(this.rhos[i], pairing.getG1().newElementFromBytes(this.byteArraysC2s[i]).getImmutable());
-		}
+		this.C1s = new LazyElementMap(pairing.getG1(), this.rhos, this.byteArraysC1s);
+		this.C2s = new LazyElementMap(pairing.getG1(), this.rhos, this.byteArraysC2s);
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -35,11 +35,11 @@ public class CPABEBSW07MasterSecretKeySerParameter extends PairingKeySerParamete
 	}
 
 	public Element getGAlpha() {
-		return this.gAlpha.duplicate();
+		return this.gAlpha;
 	}
 
 	public Element getBeta() {
-		return this.beta.duplicate();
+		return this.beta;
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class CPABEBSW07MasterSecretKeySerParameter extends PairingKeySerParamete
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -72,7 +72,7 @@ public class CPABEBSW07MasterSecretKeySerParameter extends PairingKeySerParamete
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.gAlpha = pairing.getG1().newElementFromBytes(this.byteArrayGAlpha).getImmutable();
 		this.beta = pairing.getZr().newElementFromBytes(this.byteArrayBeta).getImmutable();
 	}
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -49,15 +49,31 @@ public class CPABEBSW07PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getH() {
-		return this.h.duplicate();
+		return this.h;
+	}
+
+	public Element powH(Element exponent) {
+		return powZn("h", this.h, exponent);
+	}
+
+	public Element getF() {
+		return this.f;
 	}
 
 	public Element getEggAlpha() {
-		return this.eggAlpha.duplicate();
+		return this.eggAlpha;
+	}
+
+	public Element powEggAlpha(Element exponent) {
+		return powZn("eggAlpha", this.eggAlpha, exponent);
 	}
 
 	@Override
@@ -96,7 +112,7 @@ public class CPABEBSW07PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -104,10 +120,10 @@ public class CPABEBSW07PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
-		this.f = pairing.getGT().newElementFromBytes(this.byteArrayF).getImmutable();
+		this.f = pairing.getG1().newElementFromBytes(this.byteArrayF).getImmutable();
 		this.eggAlpha = pairing.getGT().newElementFromBytes(this.byteArrayEggAlpha).getImmutable();
 	}
 }
@@ -4,12 +4,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -43,10 +43,10 @@ public class CPABEBSW07SecretKeySerParameter extends PairingKeySerParameter {
 		this.byteArraysD2s = new HashMap<String, byte[]>();
 
 		for (String attribute : D1s.keySet()) {
-			this.D1s.put(attribute, D1s.get(attribute).duplicate().getImmutable());
-			this.byteArraysD1s.put(attribute, D1s.get(attribute).duplicate().getImmutable().toBytes());
-			this.D2s.put(attribute, D2s.get(attribute).duplicate().getImmutable());
-			this.byteArraysD2s.put(attribute, D2s.get(attribute).duplicate().getImmutable().toBytes());
+			this.D1s.put(attribute, D1s.get(attribute).getImmutable());
+			this.byteArraysD1s.put(attribute, D1s.get(attribute).getImmutable().toBytes());
+			this.D2s.put(attribute, D2s.get(attribute).getImmutable());
+			this.byteArraysD2s.put(attribute, D2s.get(attribute).getImmutable().toBytes());
 		}
 	}
 
@@ -55,15 +55,15 @@ public class CPABEBSW07SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getD() {
-		return this.D.duplicate();
+		return this.D;
 	}
 
 	public Element getD1sAt(String attribute) {
-		return this.D1s.get(attribute).duplicate();
+		return this.D1s.get(attribute);
 	}
 
 	public Element getD2sAt(String attribute) {
-		return this.D2s.get(attribute).duplicate();
+		return this.D2s.get(attribute);
 	}
 
 	@Override
@@ -95,7 +95,7 @@ public class CPABEBSW07SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -103,8 +103,8 @@ public class CPABEBSW07SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.D = pairing.getG1().newElementFromBytes(this.byteArrayD);
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.D = pairing.getG1().newElementFromBytes(this.byteArrayD).getImmutable();
 		this.D1s = new HashMap<String, Element>();
 		this.D2s = new HashMap<String, Element>();
 		for (String attribute : this.byteArraysD1s.keySet()) {
@@ -0,0 +1,137 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Bethencourt-Sahai-Waters CP-ABE headers, ciphertexts and keys.
+ */
+public class CPABEBSW07SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x11;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					CPABEBSW07HeaderSerParameter.class, CPABEBSW07CiphertextSerParameter.class,
+					CPABEBSW07PublicKeySerParameter.class, CPABEBSW07MasterSecretKeySerParameter.class,
+					CPABEBSW07SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof CPABEBSW07PublicKeySerParameter) {
+			CPABEBSW07PublicKeySerParameter publicKey = (CPABEBSW07PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getF());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof CPABEBSW07MasterSecretKeySerParameter) {
+			CPABEBSW07MasterSecretKeySerParameter masterSecretKey = (CPABEBSW07MasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getGAlpha());
+			output.writeElement(masterSecretKey.getBeta());
+			return;
+		}
+		if (parameter instanceof CPABEBSW07SecretKeySerParameter) {
+			CPABEBSW07SecretKeySerParameter secretKey = (CPABEBSW07SecretKeySerParameter) parameter;
+			String[] attributes = secretKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(secretKey.getD());
+			for (String attribute : attributes) {
+				output.writeElement(secretKey.getD1sAt(attribute));
+				output.writeElement(secretKey.getD2sAt(attribute));
+			}
+			return;
+		}
+		CPABEBSW07HeaderSerParameter header = (CPABEBSW07HeaderSerParameter) parameter;
+		if (header instanceof CPABEBSW07CiphertextSerParameter) {
+			output.writeElement(((CPABEBSW07CiphertextSerParameter) header).getCPrime());
+		}
+		String[] rhos = header.getRhos();
+		output.writeStrings(rhos);
+		output.writeElement(header.getC());
+		for (String rho : rhos) {
+			output.writeElement(header.getC1sAt(rho));
+			output.writeElement(header.getC2sAt(rho));
+		}
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new CPABEBSW07PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new CPABEBSW07MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return decodeSecretKey(pairingParameters, pairing, input);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element CPrime = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] rhos = input.readKeys();
+		Element C = input.readElement(pairing.getG1());
+		// C1s and C2s are interleaved per row and decoded on first access
+		byte[][] byteArraysC1s = new byte[rhos.length][];
+		byte[][] byteArraysC2s = new byte[rhos.length][];
+		for (int i = 0; i < rhos.length; i++) {
+			byteArraysC1s[i] = input.readElementBytes(pairing.getG1());
+			byteArraysC2s[i] = input.readElementBytes(pairing.getG1());
+		}
+		Map<String, Element> C1s = new LazyElementMap(pairing.getG1(), rhos, byteArraysC1s, input.isCompressPoints());
+		Map<String, Element> C2s = new LazyElementMap(pairing.getG1(), rhos, byteArraysC2s, input.isCompressPoints());
+		if (kind == KIND_CIPHERTEXT) {
+			return new CPABEBSW07CiphertextSerParameter(pairingParameters, CPrime, C, C1s, C2s);
+		}
+		return new CPABEBSW07HeaderSerParameter(pairingParameters, C, C1s, C2s);
+	}
+
+	private static PairingCipherSerParameter decodeSecretKey(PairingParameters pairingParameters, Pairing pairing,
+			PairingSerInput input) throws IOException {
+		String[] attributes = input.readKeys();
+		Element D = input.readElement(pairing.getG1());
+		Map<String, Element> D1s = new HashMap<String, Element>();
+		Map<String, Element> D2s = new HashMap<String, Element>();
+		for (String attribute : attributes) {
+			D1s.put(attribute, input.readElement(pairing.getG1()));
+			D2s.put(attribute, input.readElement(pairing.getG1()));
+		}
+		return new CPABEBSW07SecretKeySerParameter(pairingParameters, D, D1s, D2s);
+	}
+}
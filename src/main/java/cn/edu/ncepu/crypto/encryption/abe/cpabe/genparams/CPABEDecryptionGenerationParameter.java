@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams;
 
+import java.util.concurrent.Executor;
+
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.algebra.genparams.PairingDecryptionGenerationParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -16,6 +18,7 @@ public class CPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 	private final String[] rhos;
 	private final AccessControlEngine accessControlEngine;
 	private ChameleonHasher chameleonHasher;
+	private Executor executor;
 
 	public CPABEDecryptionGenerationParameter(AccessControlEngine accessControlEngine,
 			PairingKeySerParameter publicKeyParameter, PairingKeySerParameter secretKeyParameter, int[][] accessPolicy,
@@ -30,6 +33,13 @@ public class CPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 		this.chameleonHasher = chameleonHasher;
 	}
 
+	/**
+	 * Set the executor evaluating the decryption pairings in parallel, null for sequential evaluation.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	public int[][] getAccessPolicy() {
 		return this.accessPolicy;
 	}
@@ -45,4 +55,8 @@ public class CPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 	public ChameleonHasher getChameleonHasher() {
 		return this.chameleonHasher;
 	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
 }
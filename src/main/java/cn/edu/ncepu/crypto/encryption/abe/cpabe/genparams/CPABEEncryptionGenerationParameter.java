@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams;
 
+import java.util.concurrent.Executor;
+
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
@@ -23,6 +25,7 @@ public class CPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 	private AsymmetricKeySerPairGenerator chameleonHashKeyPairGenerator;
 	private KeyGenerationParameters chameleonHashKeyPairGenerationParameter;
 	private PairingCipherSerParameter intermediate;
+	private Executor executor;
 
 	public CPABEEncryptionGenerationParameter(AccessControlEngine accessControlEngine,
 			PairingKeySerParameter publicKeyParameter, int[][] accessPolicy, String[] rhos, Element message) {
@@ -36,6 +39,13 @@ public class CPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 		this.intermediate = intermediate;
 	}
 
+	/**
+	 * Set the executor computing per-attribute ciphertext components in parallel, null for sequential computation.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	public void setChameleonHasher(ChameleonHasher chameleonHasher) {
 		this.chameleonHasher = chameleonHasher;
 	}
@@ -79,4 +89,8 @@ public class CPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 	public KeyGenerationParameters getChameleonHashKeyPairGenerationParameter() {
 		return this.chameleonHashKeyPairGenerationParameter;
 	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
 }
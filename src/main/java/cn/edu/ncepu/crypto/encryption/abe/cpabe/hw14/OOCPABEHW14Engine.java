@@ -112,8 +112,10 @@ public class OOCPABEHW14Engine extends OOCPABEEngine {
 					CPABEHW14CiphertextSerParameter.class.getName());
 		}
 		CPABEHW14DecryptionGenerator decryptionGenerator = new CPABEHW14DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, ciphertext));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
 
@@ -133,8 +135,10 @@ public class OOCPABEHW14Engine extends OOCPABEEngine {
 					CPABEHW14HeaderSerParameter.class.getName());
 		}
 		CPABEHW14DecryptionGenerator decryptionGenerator = new CPABEHW14DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, header));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, header);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
 
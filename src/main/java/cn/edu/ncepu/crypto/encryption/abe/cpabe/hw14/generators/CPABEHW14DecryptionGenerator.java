@@ -33,12 +33,12 @@ public class CPABEHW14DecryptionGenerator extends CPABERW13DecryptionGenerator {
 		Map<String, Element> newC1s = new HashMap<String, Element>();
 		Map<String, Element> newC2s = new HashMap<String, Element>();
 		for (String attribute : oriC1s.keySet()) {
-			Element newC1 = oriC1s.get(attribute).mul(oriPublicKeyParameter.getW().powZn(oriC4s.get(attribute)))
+			Element newC1 = oriC1s.get(attribute).mul(oriPublicKeyParameter.powW(oriC4s.get(attribute)))
 					.getImmutable();
 			newC1s.put(attribute, newC1);
 		}
 		for (String attribute : oriC2s.keySet()) {
-			Element newC2 = oriC2s.get(attribute).mul(oriPublicKeyParameter.getU().powZn(oriC5s.get(attribute)))
+			Element newC2 = oriC2s.get(attribute).mul(oriPublicKeyParameter.powU(oriC5s.get(attribute)))
 					.getImmutable();
 			newC2s.put(attribute, newC2);
 		}
@@ -51,6 +51,7 @@ public class CPABEHW14DecryptionGenerator extends CPABERW13DecryptionGenerator {
 					oriParameter.getAccessControlEngine(), oriParameter.getPublicKeyParameter(),
 					oriParameter.getSecretKeyParameter(), oriParameter.getAccessPolicy(), oriParameter.getRhos(),
 					newCiphertextParameter);
+			resultParameter.setExecutor(oriParameter.getExecutor());
 			super.init(resultParameter);
 		} else {
 			CPABEHW14HeaderSerParameter newHeaderParameter = new CPABEHW14HeaderSerParameter(
@@ -60,6 +61,7 @@ public class CPABEHW14DecryptionGenerator extends CPABERW13DecryptionGenerator {
 					oriParameter.getAccessControlEngine(), oriParameter.getPublicKeyParameter(),
 					oriParameter.getSecretKeyParameter(), oriParameter.getAccessPolicy(), oriParameter.getRhos(),
 					newHeaderParameter);
+			resultParameter.setExecutor(oriParameter.getExecutor());
 			super.init(resultParameter);
 		}
 	}
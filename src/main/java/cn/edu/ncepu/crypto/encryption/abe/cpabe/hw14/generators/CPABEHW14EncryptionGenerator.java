@@ -6,6 +6,7 @@ import java.util.Map;
 import org.bouncycastle.crypto.CipherParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEEncryptionGenerationParameter;
@@ -17,7 +18,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.generators.CPABERW13Encrypt
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/1.
@@ -40,15 +40,15 @@ public class CPABEHW14EncryptionGenerator extends CPABERW13EncryptionGenerator {
 	}
 
 	protected void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		if (this.parameter.isIntermediateGeneration()) {
 			int[][] accessPolicy = this.parameter.getAccessPolicy();
 			String[] rhos = this.parameter.getRhos();
 			AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
 			this.accessControlParameter = accessControlEngine.generateAccessControl(accessPolicy, rhos);
-			this.s = this.intermediate.getS().getImmutable();
-			this.sessionKey = this.intermediate.getSessionKey().getImmutable();
-			this.C0 = this.intermediate.getC0().getImmutable();
+			this.s = this.intermediate.getS();
+			this.sessionKey = this.intermediate.getSessionKey();
+			this.C0 = this.intermediate.getC0();
 			Map<String, Element> lambdas = accessControlEngine.secretSharing(pairing, s, accessControlParameter);
 			if (lambdas.keySet().size() > this.intermediate.getN()) {
 				throw new IllegalArgumentException("Intermediate size smaller than the number of rhos");
@@ -61,9 +61,9 @@ public class CPABEHW14EncryptionGenerator extends CPABERW13EncryptionGenerator {
 			int index = 0;
 			for (String rho : lambdas.keySet()) {
 				Element elementRho = PairingUtils.MapStringToGroup(pairing, rho, PairingUtils.PairingGroupType.Zr);
-				C1s.put(rho, this.intermediate.getC1sAt(index).getImmutable());
-				C2s.put(rho, this.intermediate.getC2sAt(index).getImmutable());
-				C3s.put(rho, this.intermediate.getC3sAt(index).getImmutable());
+				C1s.put(rho, this.intermediate.getC1sAt(index));
+				C2s.put(rho, this.intermediate.getC2sAt(index));
+				C3s.put(rho, this.intermediate.getC3sAt(index));
 				C4s.put(rho, lambdas.get(rho).sub(this.intermediate.getLambdasAt(index)).getImmutable());
 				C5s.put(rho, this.intermediate.getTsAt(index).mulZn(this.intermediate.getXsAt(index).sub(elementRho))
 						.getImmutable());
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEIntermediateGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams.CPABEHW14Intermed
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams.CPABEHW14PublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/1.
@@ -44,19 +44,19 @@ public class CPABEHW14IntermediateGenerator implements PairingEncryptionGenerato
 		this.C2s = new Element[n];
 		this.C3s = new Element[n];
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 		for (int i = 0; i < n; i++) {
 			this.lambdas[i] = pairing.getZr().newRandomElement().getImmutable();
 			this.ts[i] = pairing.getZr().newRandomElement().getImmutable();
 			this.xs[i] = pairing.getZr().newRandomElement().getImmutable();
-			this.C1s[i] = publicKeyParameter.getW().powZn(lambdas[i]).mul(publicKeyParameter.getV().powZn(ts[i]))
+			this.C1s[i] = publicKeyParameter.powW(lambdas[i]).mul(publicKeyParameter.powV(ts[i]))
 					.getImmutable();
-			this.C2s[i] = publicKeyParameter.getU().powZn(xs[i]).mul(publicKeyParameter.getH()).powZn(ts[i].negate())
+			this.C2s[i] = publicKeyParameter.powU(xs[i]).mul(publicKeyParameter.getH()).powZn(ts[i].negate())
 					.getImmutable();
-			this.C3s[i] = publicKeyParameter.getG().powZn(ts[i]).getImmutable();
+			this.C3s[i] = publicKeyParameter.powG(ts[i]).getImmutable();
 		}
 	}
 
@@ -1,14 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/1.
@@ -21,29 +21,17 @@ public class CPABEHW14HeaderSerParameter extends CPABERW13HeaderSerParameter {
 	 */
 	private static final long serialVersionUID = 2998145567676003003L;
 	private transient Map<String, Element> C4s;
-	private final byte[][] byteArraysC4s;
+	private byte[][] byteArraysC4s;
 
 	private transient Map<String, Element> C5s;
-	private final byte[][] byteArraysC5s;
+	private byte[][] byteArraysC5s;
 
 	public CPABEHW14HeaderSerParameter(PairingParameters pairingParameters, Element C0, Map<String, Element> C1s,
 			Map<String, Element> C2s, Map<String, Element> C3s, Map<String, Element> C4s, Map<String, Element> C5s) {
 		super(pairingParameters, C0, C1s, C2s, C3s);
 
-		this.C4s = new HashMap<String, Element>();
-		this.byteArraysC4s = new byte[rhos.length][];
-		this.C5s = new HashMap<String, Element>();
-		this.byteArraysC5s = new byte[rhos.length][];
-
-		for (int i = 0; i < rhos.length; i++) {
-			Element C4 = C4s.get(rhos[i]).duplicate().getImmutable();
-			this.C4s.put(rhos[i], C4);
-			this.byteArraysC4s[i] = C4.toBytes();
-
-			Element C5 = C5s.get(rhos[i]).duplicate().getImmutable();
-			this.C5s.put(rhos[i], C5);
-			this.byteArraysC5s[i] = C5.toBytes();
-		}
+		this.C4s = LazyElementMap.ImmutableElements(C4s, this.rhos);
+		this.C5s = LazyElementMap.ImmutableElements(C5s, this.rhos);
 	}
 
 	public Map<String, Element> getC4s() {
@@ -51,7 +39,7 @@ public class CPABEHW14HeaderSerParameter extends CPABERW13HeaderSerParameter {
 	}
 
 	public Element getC4sAt(String rho) {
-		return this.C4s.get(rho).duplicate();
+		return this.C4s.get(rho);
 	}
 
 	public Map<String, Element> getC5s() {
@@ -59,7 +47,7 @@ public class CPABEHW14HeaderSerParameter extends CPABERW13HeaderSerParameter {
 	}
 
 	public Element getC5sAt(String rho) {
-		return this.C5s.get(rho).duplicate();
+		return this.C5s.get(rho);
 	}
 
 	@Override
@@ -69,6 +57,8 @@ public class CPABEHW14HeaderSerParameter extends CPABERW13HeaderSerParameter {
 		}
 		if (anObject instanceof CPABEHW14HeaderSerParameter) {
 			CPABEHW14HeaderSerParameter that = (CPABEHW14HeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare C4s
 			if (!this.C4s.equals(that.C4s)) {
 				return false;
@@ -89,15 +79,24 @@ public class CPABEHW14HeaderSerParameter extends CPABERW13HeaderSerParameter {
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysC4s == null) {
+			this.byteArraysC4s = LazyElementMap.ToByteArrays(this.C4s, this.rhos);
+			this.byteArraysC5s = LazyElementMap.ToByteArrays(this.C5s, this.rhos);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.C4s = new HashMap<String, Element>();
-		this.C5s = new HashMap<String, Element>();
-		for (int i = 0; i < this.rhos.length; i++) {
-			this.C4s.put(this.rhos[i], pairing.getZr().newElementFromBytes(this.byteArraysC4s[i]).getImmutable());
-			this.C5s.put(this.rhos[i], pairing.getZr().newElementFromBytes(this.byteArraysC5s[i]).getImmutable());
-		}
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.C4s = new LazyElementMap(pairing.getZr(), this.rhos, this.byteArraysC4s);
+		this.C5s = new LazyElementMap(pairing.getZr(), this.rhos, this.byteArraysC5s);
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -88,15 +88,15 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getSessionKey() {
-		return this.sessionKey.duplicate();
+		return this.sessionKey;
 	}
 
 	public Element getS() {
-		return this.s.duplicate();
+		return this.s;
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	public Element[] getLambdas() {
@@ -104,7 +104,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getLambdasAt(int index) {
-		return this.lambdas[index].duplicate();
+		return this.lambdas[index];
 	}
 
 	public Element[] getTs() {
@@ -112,7 +112,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getTsAt(int index) {
-		return this.ts[index].duplicate();
+		return this.ts[index];
 	}
 
 	public Element[] getXs() {
@@ -120,7 +120,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getXsAt(int index) {
-		return this.xs[index].duplicate();
+		return this.xs[index];
 	}
 
 	public Element[] getC1s() {
@@ -128,7 +128,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getC1sAt(int index) {
-		return this.C1s[index].duplicate();
+		return this.C1s[index];
 	}
 
 	public Element[] getC2s() {
@@ -136,7 +136,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getC2sAt(int index) {
-		return this.C2s[index].duplicate();
+		return this.C2s[index];
 	}
 
 	public Element[] getC3s() {
@@ -144,7 +144,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getC3sAt(int index) {
-		return this.C3s[index].duplicate();
+		return this.C3s[index];
 	}
 
 	@Override
@@ -222,7 +222,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -230,7 +230,7 @@ public class CPABEHW14IntermediateSerParameter extends PairingCipherSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.sessionKey = pairing.getGT().newElementFromBytes(this.byteArraySessionKey).getImmutable();
 		this.s = pairing.getZr().newElementFromBytes(this.byteArrayS).getImmutable();
 		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0).getImmutable();
@@ -0,0 +1,151 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Hohenberger-Waters CP-ABE headers, ciphertexts, intermediates and keys.
+ */
+public class CPABEHW14SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x13;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					CPABEHW14HeaderSerParameter.class, CPABEHW14CiphertextSerParameter.class,
+					CPABEHW14PublicKeySerParameter.class, CPABEHW14MasterSecretKeySerParameter.class,
+					CPABEHW14SecretKeySerParameter.class, CPABEHW14IntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof CPABEHW14PublicKeySerParameter) {
+			CPABEHW14PublicKeySerParameter publicKey = (CPABEHW14PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getV());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof CPABEHW14MasterSecretKeySerParameter) {
+			output.writeElement(((CPABEHW14MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof CPABEHW14SecretKeySerParameter) {
+			CPABEHW14SecretKeySerParameter secretKey = (CPABEHW14SecretKeySerParameter) parameter;
+			String[] attributes = secretKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(secretKey.getK0());
+			output.writeElement(secretKey.getK1());
+			output.writeElements(secretKey.getK2s(), attributes);
+			output.writeElements(secretKey.getK3s(), attributes);
+			return;
+		}
+		if (parameter instanceof CPABEHW14IntermediateSerParameter) {
+			CPABEHW14IntermediateSerParameter intermediate = (CPABEHW14IntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getLambdas());
+			output.writeElementArray(intermediate.getTs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			output.writeElementArray(intermediate.getC3s());
+			return;
+		}
+		CPABEHW14HeaderSerParameter header = (CPABEHW14HeaderSerParameter) parameter;
+		if (header instanceof CPABEHW14CiphertextSerParameter) {
+			output.writeElement(((CPABEHW14CiphertextSerParameter) header).getC());
+		}
+		String[] rhos = header.getRhos();
+		output.writeStrings(rhos);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), rhos);
+		output.writeElements(header.getC2s(), rhos);
+		output.writeElements(header.getC3s(), rhos);
+		output.writeElements(header.getC4s(), rhos);
+		output.writeElements(header.getC5s(), rhos);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new CPABEHW14PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new CPABEHW14MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			String[] attributes = input.readKeys();
+			Element K0 = input.readElement(pairing.getG1());
+			Element K1 = input.readElement(pairing.getG1());
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), attributes);
+			Map<String, Element> K3s = input.readElements(pairing.getG1(), attributes);
+			return new CPABEHW14SecretKeySerParameter(pairingParameters, K0, K1, K2s, K3s);
+		case KIND_INTERMEDIATE:
+			int n = input.readVarInt();
+			Element sessionKey = input.readElement(pairing.getGT());
+			Element s = input.readElement(pairing.getZr());
+			Element C0 = input.readElement(pairing.getG1());
+			Element[] lambdas = input.readElementArray(pairing.getZr());
+			Element[] ts = input.readElementArray(pairing.getZr());
+			Element[] xs = input.readElementArray(pairing.getZr());
+			Element[] C1s = input.readElementArray(pairing.getG1());
+			Element[] C2s = input.readElementArray(pairing.getG1());
+			Element[] C3s = input.readElementArray(pairing.getG1());
+			return new CPABEHW14IntermediateSerParameter(pairingParameters, n, sessionKey, s, C0, lambdas, ts, xs, C1s,
+					C2s, C3s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] rhos = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C3s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C4s = input.readElements(pairing.getZr(), rhos);
+		Map<String, Element> C5s = input.readElements(pairing.getZr(), rhos);
+		if (kind == KIND_CIPHERTEXT) {
+			return new CPABEHW14CiphertextSerParameter(pairingParameters, C, C0, C1s, C2s, C3s, C4s, C5s);
+		}
+		return new CPABEHW14HeaderSerParameter(pairingParameters, C0, C1s, C2s, C3s, C4s, C5s);
+	}
+}
@@ -100,6 +100,7 @@ public class CPABELLW14Engine extends CPABEEngine {
 		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
 				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, message);
 		encryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
 		encryptionGenerator.init(encryptionGenerationParameter);
 		return encryptionGenerator.generateCiphertext();
 	}
@@ -114,6 +115,7 @@ public class CPABELLW14Engine extends CPABEEngine {
 		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
 				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, null);
 		encryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
 		encryptionGenerator.init(encryptionGenerationParameter);
 		return encryptionGenerator.generateEncryptionPair();
 	}
@@ -137,6 +139,7 @@ public class CPABELLW14Engine extends CPABEEngine {
 		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
@@ -160,6 +163,7 @@ public class CPABELLW14Engine extends CPABEEngine {
 		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, header);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
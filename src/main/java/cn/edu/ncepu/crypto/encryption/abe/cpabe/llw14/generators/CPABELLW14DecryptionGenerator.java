@@ -2,6 +2,8 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.generators;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.chameleonhash.ChameleonHasher;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEDecryptionGenerationParameter;
@@ -13,7 +15,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -36,7 +37,7 @@ public class CPABELLW14DecryptionGenerator extends CPABERW13DecryptionGenerator
 		this.publicKeyParameter = (CPABELLW14PublicKeySerParameter) oriDecryptionGenerationParameter
 				.getPublicKeyParameter();
 		this.headerParameter = (CPABELLW14HeaderSerParameter) oriDecryptionGenerationParameter.getCiphertextParameter();
-		Pairing pairing = PairingFactory
+		Pairing pairing = PairingRegistry
 				.getPairing(oriDecryptionGenerationParameter.getPublicKeyParameter().getParameters());
 		String[] rhos = oriDecryptionGenerationParameter.getRhos();
 		Element[] mappedElementRhos = PairingUtils.MapStringArrayToFirstHalfZr(pairing, rhos);
@@ -48,20 +49,21 @@ public class CPABELLW14DecryptionGenerator extends CPABERW13DecryptionGenerator
 				oriDecryptionGenerationParameter.getAccessPolicy(), mappedStringRhos,
 				oriDecryptionGenerationParameter.getCiphertextParameter());
 		decryptionGenerationParameter.setChameleonHasher(chameleonHasher);
+		decryptionGenerationParameter.setExecutor(oriDecryptionGenerationParameter.getExecutor());
 		super.init(decryptionGenerationParameter);
 	}
 
 	private void verifyCiphertext() throws InvalidCipherTextException {
 		int[][] accessPolicy = this.parameter.getAccessPolicy();
 		String[] mappedStringRhos = this.parameter.getRhos();
-		Element C0 = headerParameter.getC0().getImmutable();
-		Element C01 = headerParameter.getC01().getImmutable();
-		Element C02 = headerParameter.getC02().getImmutable();
-		Element C03 = headerParameter.getC03().getImmutable();
+		Element C0 = headerParameter.getC0();
+		Element C01 = headerParameter.getC01();
+		Element C02 = headerParameter.getC02();
+		Element C03 = headerParameter.getC03();
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
 		AccessControlParameter accessControlParameter = accessControlEngine.generateAccessControl(accessPolicy,
 				mappedStringRhos);
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		// compute Xch
 		try {
 			AsymmetricKeySerParameter chameleonHashPublicKey = publicKeyParameter.getChameleonHashPublicKey();
@@ -109,9 +111,9 @@ public class CPABELLW14DecryptionGenerator extends CPABERW13DecryptionGenerator
 				temp2 = temp2.mul(headerParameter.getC3sAt(rho).powZn(taui.mulZn(elementRho))).getImmutable();
 				temp3 = temp3.mul(headerParameter.getC2sAt(rho).powZn(taui));
 			}
-			Element verifyResult = pairing.pairing(temp1, publicKeyParameter.getH())
-					.mul(pairing.pairing(temp2, publicKeyParameter.getU()))
-					.mul(pairing.pairing(temp3, publicKeyParameter.getG())).getImmutable();
+			Element verifyResult = new MultiPairing(pairing, null, this.parameter.getExecutor())
+					.mul(temp1, publicKeyParameter.getH())
+					.mul(temp2, publicKeyParameter.getU()).mul(temp3, publicKeyParameter.getG()).evaluate();
 			if (!verifyResult.equals(pairing.getGT().newOneElement())) {
 				throw new InvalidCipherTextException("Illegal ciphertext, reject to decrypt.");
 			}
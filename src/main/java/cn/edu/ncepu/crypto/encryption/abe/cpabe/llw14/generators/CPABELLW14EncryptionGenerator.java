@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 
@@ -38,23 +38,24 @@ public class CPABELLW14EncryptionGenerator extends CPABERW13EncryptionGenerator
 		this.chameleonHasher = oriEncryptionParameter.getChameleonHasher();
 		this.publicKeyParameter = (CPABELLW14PublicKeySerParameter) oriEncryptionParameter.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
 		String[] rhos = oriEncryptionParameter.getRhos();
 		Element[] mappedElementRhos = PairingUtils.MapStringArrayToFirstHalfZr(pairing, rhos);
 		String[] mappedStringRhos = PairingUtils.MapElementArrayToStringArray(mappedElementRhos);
 		CPABEEncryptionGenerationParameter resultEncryptionParameter = new CPABEEncryptionGenerationParameter(
 				oriEncryptionParameter.getAccessControlEngine(), oriEncryptionParameter.getPublicKeyParameter(),
 				oriEncryptionParameter.getAccessPolicy(), mappedStringRhos, oriEncryptionParameter.getMessage());
+		resultEncryptionParameter.setExecutor(oriEncryptionParameter.getExecutor());
 		super.init(resultEncryptionParameter);
 	}
 
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(this.publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(this.publicKeyParameter.getParameters());
 			Element t0 = pairing.getZr().newRandomElement().getImmutable();
-			this.C01 = publicKeyParameter.getW().powZn(s).mul(publicKeyParameter.getV().powZn(t0)).getImmutable();
-			this.C03 = publicKeyParameter.getG().powZn(t0).getImmutable();
+			this.C01 = publicKeyParameter.powW(s).mul(publicKeyParameter.powV(t0)).getImmutable();
+			this.C03 = publicKeyParameter.powG(t0).getImmutable();
 			AsymmetricKeySerParameter chameleonHashPublicKey = publicKeyParameter.getChameleonHashPublicKey();
 			chameleonHasher.init(false, chameleonHashPublicKey);
 			byte[] byteArrayChPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
@@ -86,7 +87,7 @@ public class CPABELLW14EncryptionGenerator extends CPABERW13EncryptionGenerator
 			Element tempV = PairingUtils.MapByteArrayToSecondHalfZr(pairing, chResult[0]);
 			String mappedStringV = tempV.toString();
 			Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
-			this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
+			this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
 					.getImmutable();
 		} catch (IOException e) {
 			throw new RuntimeException("Cannot serialize chk.");
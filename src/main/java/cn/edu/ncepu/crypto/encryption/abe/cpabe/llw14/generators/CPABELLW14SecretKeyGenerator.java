@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABESecretKeyGenerationParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.serparams.CPABELLW14SecretKeySerParameter;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13SecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/28.
@@ -21,7 +21,7 @@ public class CPABELLW14SecretKeyGenerator extends CPABERW13SecretKeyGenerator {
 	public void init(KeyGenerationParameters keyGenerationParameter) {
 		CPABESecretKeyGenerationParameter oriParameter = (CPABESecretKeyGenerationParameter) keyGenerationParameter;
 		String[] oriAttributes = oriParameter.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(oriParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriParameter.getPublicKeyParameter().getParameters());
 		Element[] mappedElementAttributes = PairingUtils.MapStringArrayToFirstHalfZr(pairing, oriAttributes);
 		String[] mappedAttributes = PairingUtils.MapElementArrayToStringArray(mappedElementAttributes);
 		CPABESecretKeyGenerationParameter parameter = new CPABESecretKeyGenerationParameter(
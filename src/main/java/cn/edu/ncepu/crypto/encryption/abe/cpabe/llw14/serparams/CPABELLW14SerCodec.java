@@ -0,0 +1,134 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams.DLogKR00bKeySerCodec;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu CCA2-secure CP-ABE headers, ciphertexts and keys.
+ */
+public class CPABELLW14SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x14;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					CPABELLW14HeaderSerParameter.class, CPABELLW14CiphertextSerParameter.class,
+					CPABELLW14PublicKeySerParameter.class, CPABELLW14MasterSecretKeySerParameter.class,
+					CPABELLW14SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof CPABELLW14PublicKeySerParameter) {
+			CPABELLW14PublicKeySerParameter publicKey = (CPABELLW14PublicKeySerParameter) parameter;
+			DLogKR00bKeySerCodec.Write(publicKey.getChameleonHashPublicKey(), output);
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getV());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof CPABELLW14MasterSecretKeySerParameter) {
+			output.writeElement(((CPABELLW14MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof CPABELLW14SecretKeySerParameter) {
+			CPABELLW14SecretKeySerParameter secretKey = (CPABELLW14SecretKeySerParameter) parameter;
+			String[] attributes = secretKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(secretKey.getK0());
+			output.writeElement(secretKey.getK1());
+			output.writeElements(secretKey.getK2s(), attributes);
+			output.writeElements(secretKey.getK3s(), attributes);
+			return;
+		}
+		CPABELLW14HeaderSerParameter header = (CPABELLW14HeaderSerParameter) parameter;
+		if (header instanceof CPABELLW14CiphertextSerParameter) {
+			output.writeElement(((CPABELLW14CiphertextSerParameter) header).getC());
+		}
+		output.writeBytes(header.getChameleonHash());
+		output.writeBytes(header.getR());
+		String[] rhos = header.getRhos();
+		output.writeStrings(rhos);
+		output.writeElement(header.getC01());
+		output.writeElement(header.getC02());
+		output.writeElement(header.getC03());
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), rhos);
+		output.writeElements(header.getC2s(), rhos);
+		output.writeElements(header.getC3s(), rhos);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+			return new CPABELLW14PublicKeySerParameter(pairingParameters, chameleonHashPublicKey,
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new CPABELLW14MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			String[] attributes = input.readKeys();
+			Element K0 = input.readElement(pairing.getG1());
+			Element K1 = input.readElement(pairing.getG1());
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), attributes);
+			Map<String, Element> K3s = input.readElements(pairing.getG1(), attributes);
+			return new CPABELLW14SecretKeySerParameter(pairingParameters, K0, K1, K2s, K3s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		String[] rhos = input.readKeys();
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element C03 = input.readElement(pairing.getG1());
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C3s = input.readElements(pairing.getG1(), rhos);
+		if (kind == KIND_CIPHERTEXT) {
+			return new CPABELLW14CiphertextSerParameter(pairingParameters, chameleonHash, r, C01, C02, C03, C, C0,
+					C1s, C2s, C3s);
+		}
+		return new CPABELLW14HeaderSerParameter(pairingParameters, chameleonHash, r, C01, C02, C03, C0, C1s, C2s, C3s);
+	}
+}
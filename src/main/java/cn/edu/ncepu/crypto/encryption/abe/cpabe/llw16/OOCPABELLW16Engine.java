@@ -146,6 +146,7 @@ public class OOCPABELLW16Engine extends OOCPABEEngine {
 		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
@@ -169,6 +170,7 @@ public class OOCPABELLW16Engine extends OOCPABEEngine {
 		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, header);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -17,7 +18,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -59,7 +59,7 @@ public class CPABELLW16EncryptionGenerator extends CPABEHW14EncryptionGenerator
 			this.chameleonHashPublicKey = chKeyPair.getPublic();
 			this.chameleonHashSecretKey = chKeyPair.getPrivate();
 		}
-		Pairing pairing = PairingFactory.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
 		String[] rhos = oriEncryptionParameter.getRhos();
 		Element[] mappedElementRhos = PairingUtils.MapStringArrayToFirstHalfZr(pairing, rhos);
 		String[] mappedStringRhos = PairingUtils.MapElementArrayToStringArray(mappedElementRhos);
@@ -80,17 +80,17 @@ public class CPABELLW16EncryptionGenerator extends CPABEHW14EncryptionGenerator
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(this.publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(this.publicKeyParameter.getParameters());
 			if (this.parameter.isIntermediateGeneration()) {
-				this.C01 = this.intermediate.getC01().getImmutable();
-				this.C02 = this.intermediate.getC02().getImmutable();
-				this.C03 = this.intermediate.getC03().getImmutable();
+				this.C01 = this.intermediate.getC01();
+				this.C02 = this.intermediate.getC02();
+				this.C03 = this.intermediate.getC03();
 				this.chameleonHash = this.intermediate.getChameleonHash();
 				this.r = this.intermediate.getR();
 			} else {
 				Element t0 = pairing.getZr().newRandomElement().getImmutable();
-				this.C01 = publicKeyParameter.getW().powZn(s).mul(publicKeyParameter.getV().powZn(t0)).getImmutable();
-				this.C03 = publicKeyParameter.getG().powZn(t0).getImmutable();
+				this.C01 = publicKeyParameter.powW(s).mul(publicKeyParameter.powV(t0)).getImmutable();
+				this.C03 = publicKeyParameter.powG(t0).getImmutable();
 				chameleonHasher.init(false, chameleonHashPublicKey);
 				byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 				chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -100,7 +100,7 @@ public class CPABELLW16EncryptionGenerator extends CPABEHW14EncryptionGenerator
 				Element tempV = PairingUtils.MapByteArrayToSecondHalfZr(pairing, chResult[0]);
 				String mappedStringV = tempV.toString();
 				Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
-				this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
+				this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
 						.getImmutable();
 			}
 			chameleonHasher.init(true, chameleonHashSecretKey);
@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -56,7 +56,7 @@ public class CPABELLW16IntermediateGenerator extends CPABEHW14IntermediateGenera
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			chameleonHasher.init(false, chameleonHashPublicKey);
 			byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 			chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -67,9 +67,9 @@ public class CPABELLW16IntermediateGenerator extends CPABEHW14IntermediateGenera
 			String mappedStringV = tempV.toString();
 			Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
 			Element t0 = pairing.getZr().newRandomElement().getImmutable();
-			this.C01 = publicKeyParameter.getW().powZn(s).mul(publicKeyParameter.getV().powZn(t0)).getImmutable();
-			this.C03 = publicKeyParameter.getG().powZn(t0).getImmutable();
-			this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
+			this.C01 = publicKeyParameter.powW(s).mul(publicKeyParameter.powV(t0)).getImmutable();
+			this.C03 = publicKeyParameter.powG(t0).getImmutable();
+			this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(t0.negate())
 					.getImmutable();
 		} catch (IOException e) {
 			throw new RuntimeException("Cannot serialize chk.");
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABESecretKeyGenerationParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.generators.CPABEHW14SecretKeyGenerator;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.serparams.CPABELLW16Secret
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -21,7 +21,7 @@ public class CPABELLW16SecretKeyGenerator extends CPABEHW14SecretKeyGenerator {
 	public void init(KeyGenerationParameters keyGenerationParameter) {
 		CPABESecretKeyGenerationParameter oriParameter = (CPABESecretKeyGenerationParameter) keyGenerationParameter;
 		String[] oriAttributes = oriParameter.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(oriParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriParameter.getPublicKeyParameter().getParameters());
 		Element[] mappedElementAttributes = PairingUtils.MapStringArrayToFirstHalfZr(pairing, oriAttributes);
 		String[] mappedAttributes = PairingUtils.MapElementArrayToStringArray(mappedElementAttributes);
 		CPABESecretKeyGenerationParameter parameter = new CPABESecretKeyGenerationParameter(
@@ -3,12 +3,12 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -33,7 +33,7 @@ public class CPABELLW16CiphertextSerParameter extends CPABELLW16HeaderSerParamet
 	}
 
 	public Element getC() {
-		return this.C.duplicate();
+		return this.C;
 	}
 
 	@Override
@@ -52,7 +52,7 @@ public class CPABELLW16CiphertextSerParameter extends CPABELLW16HeaderSerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C = pairing.getGT().newElementFromBytes(this.byteArrayC).getImmutable();
 	}
 }
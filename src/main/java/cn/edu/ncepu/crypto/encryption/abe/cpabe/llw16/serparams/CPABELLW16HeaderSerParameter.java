@@ -3,13 +3,13 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.serparams.CPABEHW14HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -68,15 +68,15 @@ public class CPABELLW16HeaderSerParameter extends CPABEHW14HeaderSerParameter {
 	}
 
 	public Element getC01() {
-		return this.C01.duplicate();
+		return this.C01;
 	}
 
 	public Element getC02() {
-		return this.C02.duplicate();
+		return this.C02;
 	}
 
 	public Element getC03() {
-		return this.C03.duplicate();
+		return this.C03;
 	}
 
 	@Override
@@ -118,7 +118,7 @@ public class CPABELLW16HeaderSerParameter extends CPABEHW14HeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C01 = pairing.getG1().newElementFromBytes(this.byteArrayC01).getImmutable();
 		this.C02 = pairing.getG1().newElementFromBytes(this.byteArrayC02).getImmutable();
 		this.C03 = pairing.getG1().newElementFromBytes(this.byteArrayC03).getImmutable();
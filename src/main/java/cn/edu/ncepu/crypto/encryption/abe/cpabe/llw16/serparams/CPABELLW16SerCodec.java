@@ -0,0 +1,186 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams.DLogKR00bKeySerCodec;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu CP-ABE headers, ciphertexts, intermediates and keys.
+ */
+public class CPABELLW16SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x15;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					CPABELLW16HeaderSerParameter.class, CPABELLW16CiphertextSerParameter.class,
+					CPABELLW16PublicKeySerParameter.class, CPABELLW16MasterSecretKeySerParameter.class,
+					CPABELLW16SecretKeySerParameter.class, CPABELLW16IntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof CPABELLW16PublicKeySerParameter) {
+			CPABELLW16PublicKeySerParameter publicKey = (CPABELLW16PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getV());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof CPABELLW16MasterSecretKeySerParameter) {
+			output.writeElement(((CPABELLW16MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof CPABELLW16SecretKeySerParameter) {
+			CPABELLW16SecretKeySerParameter secretKey = (CPABELLW16SecretKeySerParameter) parameter;
+			String[] attributes = secretKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(secretKey.getK0());
+			output.writeElement(secretKey.getK1());
+			output.writeElements(secretKey.getK2s(), attributes);
+			output.writeElements(secretKey.getK3s(), attributes);
+			return;
+		}
+		if (parameter instanceof CPABELLW16IntermediateSerParameter) {
+			CPABELLW16IntermediateSerParameter intermediate = (CPABELLW16IntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeBytes(intermediate.getChameleonHash());
+			output.writeBytes(intermediate.getR());
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashPublicKey(), output);
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashSecretKey(), output);
+			output.writeElement(intermediate.getC01());
+			output.writeElement(intermediate.getC02());
+			output.writeElement(intermediate.getC03());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getLambdas());
+			output.writeElementArray(intermediate.getTs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			output.writeElementArray(intermediate.getC3s());
+			return;
+		}
+		CPABELLW16HeaderSerParameter header = (CPABELLW16HeaderSerParameter) parameter;
+		if (header instanceof CPABELLW16CiphertextSerParameter) {
+			output.writeElement(((CPABELLW16CiphertextSerParameter) header).getC());
+		}
+		output.writeBytes(header.getChameleonHash());
+		output.writeBytes(header.getR());
+		DLogKR00bKeySerCodec.Write(header.getChameleonHashPublicKey(), output);
+		String[] rhos = header.getRhos();
+		output.writeStrings(rhos);
+		output.writeElement(header.getC01());
+		output.writeElement(header.getC02());
+		output.writeElement(header.getC03());
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), rhos);
+		output.writeElements(header.getC2s(), rhos);
+		output.writeElements(header.getC3s(), rhos);
+		output.writeElements(header.getC4s(), rhos);
+		output.writeElements(header.getC5s(), rhos);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new CPABELLW16PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new CPABELLW16MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			String[] attributes = input.readKeys();
+			Element K0 = input.readElement(pairing.getG1());
+			Element K1 = input.readElement(pairing.getG1());
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), attributes);
+			Map<String, Element> K3s = input.readElements(pairing.getG1(), attributes);
+			return new CPABELLW16SecretKeySerParameter(pairingParameters, K0, K1, K2s, K3s);
+		case KIND_INTERMEDIATE:
+			return decodeIntermediate(pairingParameters, pairing, input);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		String[] rhos = input.readKeys();
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element C03 = input.readElement(pairing.getG1());
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C3s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C4s = input.readElements(pairing.getZr(), rhos);
+		Map<String, Element> C5s = input.readElements(pairing.getZr(), rhos);
+		if (kind == KIND_CIPHERTEXT) {
+			return new CPABELLW16CiphertextSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey,
+					C01, C02, C03, C, C0, C1s, C2s, C3s, C4s, C5s);
+		}
+		return new CPABELLW16HeaderSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey, C01, C02,
+				C03, C0, C1s, C2s, C3s, C4s, C5s);
+	}
+
+	private static PairingCipherSerParameter decodeIntermediate(PairingParameters pairingParameters, Pairing pairing,
+			PairingSerInput input) throws IOException {
+		int n = input.readVarInt();
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		AsymmetricKeySerParameter chameleonHashSecretKey = DLogKR00bKeySerCodec.Read(input);
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element C03 = input.readElement(pairing.getG1());
+		Element sessionKey = input.readElement(pairing.getGT());
+		Element s = input.readElement(pairing.getZr());
+		Element C0 = input.readElement(pairing.getG1());
+		Element[] lambdas = input.readElementArray(pairing.getZr());
+		Element[] ts = input.readElementArray(pairing.getZr());
+		Element[] xs = input.readElementArray(pairing.getZr());
+		Element[] C1s = input.readElementArray(pairing.getG1());
+		Element[] C2s = input.readElementArray(pairing.getG1());
+		Element[] C3s = input.readElementArray(pairing.getG1());
+		return new CPABELLW16IntermediateSerParameter(pairingParameters, n, chameleonHash, r, chameleonHashPublicKey,
+				chameleonHashSecretKey, C01, C02, C03, sessionKey, s, C0, lambdas, ts, xs, C1s, C2s, C3s);
+	}
+}
@@ -73,8 +73,10 @@ public class CPABERW13Engine extends CPABEEngine {
 					CPABERW13PublicKeySerParameter.class.getName());
 		}
 		CPABERW13EncryptionGenerator encryptionGenerator = new CPABERW13EncryptionGenerator();
-		encryptionGenerator.init(new CPABEEncryptionGenerationParameter(accessControlEngine, publicKey,
-				accessPolicyIntArrays, rhos, message));
+		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
+				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, message);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 		return encryptionGenerator.generateCiphertext();
 	}
 
@@ -85,8 +87,10 @@ public class CPABERW13Engine extends CPABEEngine {
 					CPABERW13PublicKeySerParameter.class.getName());
 		}
 		CPABERW13EncryptionGenerator encryptionGenerator = new CPABERW13EncryptionGenerator();
-		encryptionGenerator.init(new CPABEEncryptionGenerationParameter(accessControlEngine, publicKey,
-				accessPolicyIntArrays, rhos, null));
+		CPABEEncryptionGenerationParameter encryptionGenerationParameter = new CPABEEncryptionGenerationParameter(
+				accessControlEngine, publicKey, accessPolicyIntArrays, rhos, null);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 		return encryptionGenerator.generateEncryptionPair();
 	}
 
@@ -106,8 +110,10 @@ public class CPABERW13Engine extends CPABEEngine {
 					CPABERW13CiphertextSerParameter.class.getName());
 		}
 		CPABERW13DecryptionGenerator decryptionGenerator = new CPABERW13DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, ciphertext));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, ciphertext);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
 
@@ -127,8 +133,10 @@ public class CPABERW13Engine extends CPABEEngine {
 					CPABERW13HeaderSerParameter.class.getName());
 		}
 		CPABERW13DecryptionGenerator decryptionGenerator = new CPABERW13DecryptionGenerator();
-		decryptionGenerator.init(new CPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				accessPolicyIntArrays, rhos, header));
+		CPABEDecryptionGenerationParameter decryptionGenerationParameter = new CPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, accessPolicyIntArrays, rhos, header);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
 }
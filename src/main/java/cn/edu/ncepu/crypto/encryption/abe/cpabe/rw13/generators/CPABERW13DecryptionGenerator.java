@@ -8,6 +8,8 @@ import org.bouncycastle.crypto.InvalidCipherTextException;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEDecryptionGenerationParameter;
@@ -17,7 +19,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13PublicKe
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13SecretKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -40,28 +41,26 @@ public class CPABERW13DecryptionGenerator implements PairingDecryptionGenerator,
 		CPABERW13HeaderSerParameter ciphertextParameter = (CPABERW13HeaderSerParameter) this.parameter
 				.getCiphertextParameter();
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
 			AccessControlParameter accessControlParameter = accessControlEngine
 					.generateAccessControl(this.parameter.getAccessPolicy(), this.parameter.getRhos());
 			Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing,
 					secretKeyParameter.getAttributes(), accessControlParameter);
 
-			this.sessionKey = pairing.pairing(ciphertextParameter.getC0(), secretKeyParameter.getK0());
-			Element A = pairing.getGT().newOneElement().getImmutable();
+			// sessionKey = e(C0, K0) / prod (e(K1, C1) * e(K2, C2) * e(K3, C3))^lambda,
+			// where all e(C1, K1)^lambda share K1 and are merged into one pairing
+			MultiPairing multiPairing = new MultiPairing(pairing, secretKeyParameter, this.parameter.getExecutor());
+			multiPairing.mulKey(ciphertextParameter.getC0(), secretKeyParameter.getK0());
 			for (String attribute : omegaElementsMap.keySet()) {
-				Element C1 = ciphertextParameter.getC1sAt(attribute);
-				Element K1 = secretKeyParameter.getK1();
-				Element C2 = ciphertextParameter.getC2sAt(attribute);
-				Element K2 = secretKeyParameter.getK2sAt(attribute);
-				Element C3 = ciphertextParameter.getC3sAt(attribute);
-				Element K3 = secretKeyParameter.getK3sAt(attribute);
 				Element lambda = omegaElementsMap.get(attribute);
-				A = A.mul(
-						pairing.pairing(C1, K1).mul(pairing.pairing(C2, K2)).mul(pairing.pairing(C3, K3)).powZn(lambda))
-						.getImmutable();
+				multiPairing.divKey(ciphertextParameter.getC1sAt(attribute), secretKeyParameter.getK1(), lambda);
+				multiPairing.divKey(ciphertextParameter.getC2sAt(attribute), secretKeyParameter.getK2sAt(attribute),
+						lambda);
+				multiPairing.divKey(ciphertextParameter.getC3sAt(attribute), secretKeyParameter.getK3sAt(attribute),
+						lambda);
 			}
-			sessionKey = sessionKey.div(A).getImmutable();
+			this.sessionKey = multiPairing.evaluate();
 		} catch (UnsatisfiedAccessControlException e) {
 			throw new InvalidCipherTextException(
 					"Attributes associated with the ciphertext do not satisfy access policy associated with the secret key.");
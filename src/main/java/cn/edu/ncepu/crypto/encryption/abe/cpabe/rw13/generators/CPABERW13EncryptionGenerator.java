@@ -1,12 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.generators;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -16,9 +18,9 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13Cipherte
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13PublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -47,23 +49,34 @@ public class CPABERW13EncryptionGenerator implements PairingEncryptionGenerator,
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
 		this.accessControlParameter = accessControlEngine.generateAccessControl(accessPolicy, rhos);
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 
 		Map<String, Element> lambdas = accessControlEngine.secretSharing(pairing, s, accessControlParameter);
 		this.C1s = new HashMap<String, Element>();
 		this.C2s = new HashMap<String, Element>();
 		this.C3s = new HashMap<String, Element>();
-		for (String rho : lambdas.keySet()) {
-			Element elementRho = PairingUtils.MapStringToGroup(pairing, rho, PairingUtils.PairingGroupType.Zr);
-			Element ti = pairing.getZr().newRandomElement().getImmutable();
-			C1s.put(rho, publicKeyParameter.getW().powZn(lambdas.get(rho)).mul(publicKeyParameter.getV().powZn(ti))
-					.getImmutable());
-			C2s.put(rho, publicKeyParameter.getU().powZn(elementRho).mul(publicKeyParameter.getH()).powZn(ti.negate())
-					.getImmutable());
-			C3s.put(rho, publicKeyParameter.getG().powZn(ti).getImmutable());
+		String[] lambdaRhos = lambdas.keySet().toArray(new String[0]);
+		Element[] ts = new Element[lambdaRhos.length];
+		for (int i = 0; i < ts.length; i++) {
+			ts[i] = pairing.getZr().newRandomElement().getImmutable();
+		}
+		List<Element[]> components = ParallelUtils.Compute(this.parameter.getExecutor(), lambdaRhos.length, i -> {
+			Element elementRho = PairingUtils.MapStringToGroup(pairing, lambdaRhos[i],
+					PairingUtils.PairingGroupType.Zr);
+			return new Element[] {
+					publicKeyParameter.powW(lambdas.get(lambdaRhos[i])).mul(publicKeyParameter.powV(ts[i]))
+							.getImmutable(),
+					publicKeyParameter.powU(elementRho).mul(publicKeyParameter.getH()).powZn(ts[i].negate())
+							.getImmutable(),
+					publicKeyParameter.powG(ts[i]).getImmutable() };
+		});
+		for (int i = 0; i < lambdaRhos.length; i++) {
+			C1s.put(lambdaRhos[i], components.get(i)[0]);
+			C2s.put(lambdaRhos[i], components.get(i)[1]);
+			C3s.put(lambdaRhos[i], components.get(i)[2]);
 		}
 	}
 
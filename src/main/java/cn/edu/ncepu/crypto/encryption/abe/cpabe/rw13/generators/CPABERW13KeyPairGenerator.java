@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABEKeyPairGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13MasterSe
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13PublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -24,7 +24,7 @@ public class CPABERW13KeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
 		Element g = pairing.getG1().newRandomElement().getImmutable();
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.genparams.CPABESecretKeyGenerationParameter;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13SecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -35,21 +35,21 @@ public class CPABERW13SecretKeyGenerator implements PairingKeyParameterGenerator
 				.getPublicKeyParameter();
 
 		String[] attributes = this.parameter.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Map<String, Element> K2s = new HashMap<String, Element>();
 		Map<String, Element> K3s = new HashMap<String, Element>();
 		Element r = pairing.getZr().newRandomElement().getImmutable();
-		Element K0 = publicKeyParameter.getG().powZn(masterSecretKeyParameter.getAlpha())
-				.mul(publicKeyParameter.getW().powZn(r)).getImmutable();
-		Element K1 = publicKeyParameter.getG().powZn(r).getImmutable();
+		Element K0 = publicKeyParameter.powG(masterSecretKeyParameter.getAlpha())
+				.mul(publicKeyParameter.powW(r)).getImmutable();
+		Element K1 = publicKeyParameter.powG(r).getImmutable();
 
-		Element K3Temp = publicKeyParameter.getV().powZn(r.negate()).getImmutable();
+		Element K3Temp = publicKeyParameter.powV(r.negate()).getImmutable();
 		for (String attribute : attributes) {
 			Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attribute,
 					PairingUtils.PairingGroupType.Zr);
 			Element ri = pairing.getZr().newRandomElement().getImmutable();
-			K2s.put(attribute, publicKeyParameter.getG().powZn(ri).getImmutable());
-			Element K3i = publicKeyParameter.getU().powZn(elementAttribute).mul(publicKeyParameter.getH()).powZn(ri)
+			K2s.put(attribute, publicKeyParameter.powG(ri).getImmutable());
+			Element K3i = publicKeyParameter.powU(elementAttribute).mul(publicKeyParameter.getH()).powZn(ri)
 					.getImmutable();
 			K3i = K3i.mul(K3Temp).getImmutable();
 			K3s.put(attribute, K3i);
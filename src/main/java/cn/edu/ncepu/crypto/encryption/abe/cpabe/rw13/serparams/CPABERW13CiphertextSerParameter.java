@@ -3,11 +3,11 @@ package cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -31,7 +31,7 @@ public class CPABERW13CiphertextSerParameter extends CPABERW13HeaderSerParameter
 	}
 
 	public Element getC() {
-		return this.C.duplicate();
+		return this.C;
 	}
 
 	@Override
@@ -50,7 +50,7 @@ public class CPABERW13CiphertextSerParameter extends CPABERW13HeaderSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C = pairing.getGT().newElementFromBytes(this.byteArrayC).getImmutable();
 	}
 }
\ No newline at end of file
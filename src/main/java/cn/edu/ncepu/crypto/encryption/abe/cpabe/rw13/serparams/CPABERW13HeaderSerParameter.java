@@ -1,15 +1,15 @@
 package cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -26,13 +26,13 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	protected final byte[] byteArrayC0;
 
 	protected transient Map<String, Element> C1s;
-	private final byte[][] byteArraysC1s;
+	private byte[][] byteArraysC1s;
 
 	protected transient Map<String, Element> C2s;
-	private final byte[][] byteArraysC2s;
+	private byte[][] byteArraysC2s;
 
 	protected transient Map<String, Element> C3s;
-	private final byte[][] byteArraysC3s;
+	private byte[][] byteArraysC3s;
 
 	public CPABERW13HeaderSerParameter(PairingParameters pairingParameters, Element C0, Map<String, Element> C1s,
 			Map<String, Element> C2s, Map<String, Element> C3s) {
@@ -42,30 +42,17 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 		this.C0 = C0.getImmutable();
 		this.byteArrayC0 = this.C0.toBytes();
 
-		this.C1s = new HashMap<String, Element>();
-		this.byteArraysC1s = new byte[this.rhos.length][];
-		this.C2s = new HashMap<String, Element>();
-		this.byteArraysC2s = new byte[this.rhos.length][];
-		this.C3s = new HashMap<String, Element>();
-		this.byteArraysC3s = new byte[this.rhos.length][];
-
-		for (int i = 0; i < this.rhos.length; i++) {
-			Element C1 = C1s.get(this.rhos[i]).duplicate().getImmutable();
-			this.C1s.put(this.rhos[i], C1);
-			this.byteArraysC1s[i] = C1.toBytes();
-
-			Element C2 = C2s.get(this.rhos[i]).duplicate().getImmutable();
-			this.C2s.put(this.rhos[i], C2);
-			this.byteArraysC2s[i] = C2.toBytes();
-
-			Element C3 = C3s.get(this.rhos[i]).duplicate().getImmutable();
-			this.C3s.put(this.rhos[i], C3);
-			this.byteArraysC3s[i] = C3.toBytes();
-		}
+		this.C1s = LazyElementMap.ImmutableElements(C1s, this.rhos);
+		this.C2s = LazyElementMap.ImmutableElements(C2s, this.rhos);
+		this.C3s = LazyElementMap.ImmutableElements(C3s, this.rhos);
+	}
+
+	public String[] getRhos() {
+		return this.rhos.clone();
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	public Map<String, Element> getC1s() {
@@ -73,7 +60,7 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC1sAt(String rho) {
-		return this.C1s.get(rho).duplicate();
+		return this.C1s.get(rho);
 	}
 
 	public Map<String, Element> getC2s() {
@@ -81,7 +68,7 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC2sAt(String rho) {
-		return this.C2s.get(rho).duplicate();
+		return this.C2s.get(rho);
 	}
 
 	public Map<String, Element> getC3s() {
@@ -89,7 +76,7 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC3sAt(String rho) {
-		return this.C3s.get(rho).duplicate();
+		return this.C3s.get(rho);
 	}
 
 	@Override
@@ -99,6 +86,8 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof CPABERW13HeaderSerParameter) {
 			CPABERW13HeaderSerParameter that = (CPABERW13HeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare C0
 			if (!PairingUtils.isEqualElement(this.C0, that.C0)) {
 				return false;
@@ -128,23 +117,32 @@ public class CPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysC1s == null) {
+			this.byteArraysC1s = LazyElementMap.ToByteArrays(this.C1s, this.rhos);
+			this.byteArraysC2s = LazyElementMap.ToByteArrays(this.C2s, this.rhos);
+			this.byteArraysC3s = LazyElementMap.ToByteArrays(this.C3s, this.rhos);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0).getImmutable();
-		this.C1s = new HashMap<String, Element>();
-		this.C2s = new HashMap<String, Element>();
-		this.C3s = new HashMap<String, Element>();
-		for (int i = 0; i < this.rhos.length; i++) {
-			this.C1s.put(this.rhos[i], pairing.getG1().newElementFromBytes(this.byteArraysC1s[i]).getImmutable());
-			this.C2s.put(this.rhos[i], pairing.getG1().newElementFromBytes(this.byteArraysC2s[i]).getImmutable());
-			this.C3s.put(this.rhos[i], pairing.getG1().newElementFromBytes(this.byteArraysC3s[i]).getImmutable());
-		}
+		this.C1s = new LazyElementMap(pairing.getG1(), this.rhos, this.byteArraysC1s);
+		this.C2s = new LazyElementMap(pairing.getG1(), this.rhos, this.byteArraysC2s);
+		this.C3s = new LazyElementMap(pairing.getG1(), this.rhos, this.byteArraysC3s);
 	}
 }
\ No newline at end of file
@@ -4,12 +4,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/29.
@@ -49,10 +49,10 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 		this.byteArraysK3s = new HashMap<String, byte[]>();
 
 		for (String attribute : K2s.keySet()) {
-			this.K2s.put(attribute, K2s.get(attribute).duplicate().getImmutable());
-			this.byteArraysK2s.put(attribute, K2s.get(attribute).duplicate().getImmutable().toBytes());
-			this.K3s.put(attribute, K3s.get(attribute).duplicate().getImmutable());
-			this.byteArraysK3s.put(attribute, K3s.get(attribute).duplicate().getImmutable().toBytes());
+			this.K2s.put(attribute, K2s.get(attribute).getImmutable());
+			this.byteArraysK2s.put(attribute, K2s.get(attribute).getImmutable().toBytes());
+			this.K3s.put(attribute, K3s.get(attribute).getImmutable());
+			this.byteArraysK3s.put(attribute, K3s.get(attribute).getImmutable().toBytes());
 		}
 	}
 
@@ -61,11 +61,11 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK0() {
-		return this.K0.duplicate();
+		return this.K0;
 	}
 
 	public Element getK1() {
-		return this.K1.duplicate();
+		return this.K1;
 	}
 
 	public Map<String, Element> getK2s() {
@@ -73,7 +73,7 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK2sAt(String attribute) {
-		return this.K2s.get(attribute).duplicate();
+		return this.K2s.get(attribute);
 	}
 
 	public Map<String, Element> getK3s() {
@@ -81,7 +81,7 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK3sAt(String attribute) {
-		return this.K3s.get(attribute).duplicate();
+		return this.K3s.get(attribute);
 	}
 
 	@Override
@@ -120,7 +120,7 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -128,9 +128,9 @@ public class CPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.K0 = pairing.getG1().newElementFromBytes(this.byteArrayK0);
-		this.K1 = pairing.getG1().newElementFromBytes(this.byteArrayK1);
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.K0 = pairing.getG1().newElementFromBytes(this.byteArrayK0).getImmutable();
+		this.K1 = pairing.getG1().newElementFromBytes(this.byteArrayK1).getImmutable();
 		this.K2s = new HashMap<String, Element>();
 		this.K3s = new HashMap<String, Element>();
 		for (String attribute : this.byteArraysK2s.keySet()) {
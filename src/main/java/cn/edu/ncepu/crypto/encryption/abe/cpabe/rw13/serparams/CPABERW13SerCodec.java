@@ -0,0 +1,119 @@
+package cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Rouselakis-Waters CP-ABE headers, ciphertexts and keys.
+ */
+public class CPABERW13SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x12;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					CPABERW13HeaderSerParameter.class, CPABERW13CiphertextSerParameter.class,
+					CPABERW13PublicKeySerParameter.class, CPABERW13MasterSecretKeySerParameter.class,
+					CPABERW13SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof CPABERW13PublicKeySerParameter) {
+			CPABERW13PublicKeySerParameter publicKey = (CPABERW13PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getV());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof CPABERW13MasterSecretKeySerParameter) {
+			output.writeElement(((CPABERW13MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof CPABERW13SecretKeySerParameter) {
+			CPABERW13SecretKeySerParameter secretKey = (CPABERW13SecretKeySerParameter) parameter;
+			String[] attributes = secretKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(secretKey.getK0());
+			output.writeElement(secretKey.getK1());
+			output.writeElements(secretKey.getK2s(), attributes);
+			output.writeElements(secretKey.getK3s(), attributes);
+			return;
+		}
+		CPABERW13HeaderSerParameter header = (CPABERW13HeaderSerParameter) parameter;
+		if (header instanceof CPABERW13CiphertextSerParameter) {
+			output.writeElement(((CPABERW13CiphertextSerParameter) header).getC());
+		}
+		String[] rhos = header.getRhos();
+		output.writeStrings(rhos);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), rhos);
+		output.writeElements(header.getC2s(), rhos);
+		output.writeElements(header.getC3s(), rhos);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new CPABERW13PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new CPABERW13MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			String[] attributes = input.readKeys();
+			Element K0 = input.readElement(pairing.getG1());
+			Element K1 = input.readElement(pairing.getG1());
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), attributes);
+			Map<String, Element> K3s = input.readElements(pairing.getG1(), attributes);
+			return new CPABERW13SecretKeySerParameter(pairingParameters, K0, K1, K2s, K3s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] rhos = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), rhos);
+		Map<String, Element> C3s = input.readElements(pairing.getG1(), rhos);
+		if (kind == KIND_CIPHERTEXT) {
+			return new CPABERW13CiphertextSerParameter(pairingParameters, C, C0, C1s, C2s, C3s);
+		}
+		return new CPABERW13HeaderSerParameter(pairingParameters, C0, C1s, C2s, C3s);
+	}
+}
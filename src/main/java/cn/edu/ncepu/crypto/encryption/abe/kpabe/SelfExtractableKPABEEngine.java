@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe;
 
+import java.util.function.Supplier;
+
 import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -12,6 +14,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine;
+import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine.KeyDerivation;
 import cn.edu.ncepu.crypto.encryption.sepe.serparams.SEPEHeaderParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.PairingParameters;
@@ -34,6 +37,18 @@ public class SelfExtractableKPABEEngine extends Engine {
 				digest);
 	}
 
+	/**
+	 * Self-extractable KP-ABE engine that can be shared by threads, each thread using its own supplied primitives.
+	 */
+	public SelfExtractableKPABEEngine(KPABEEngine engine, Supplier<PBEParametersGenerator> pbeParametersGenerator,
+			Supplier<BlockCipher> blockCipher, Supplier<Digest> digest) {
+		super(engine.getEngineName(), engine.getProveSecModel(), engine.getPayloadSecLevel(),
+				engine.getPredicateSecLevel());
+		this.engine = engine;
+		this.selfExtractableBaseEngine = new SelfExtractableBaseEngine(engine, pbeParametersGenerator, blockCipher,
+				digest);
+	}
+
 	public boolean isSupportIntermediate() {
 		return (this.engine instanceof OOKPABEEngine);
 	}
@@ -56,6 +71,10 @@ public class SelfExtractableKPABEEngine extends Engine {
 		return this.selfExtractableBaseEngine.selfKeyGen();
 	}
 
+	public void setKeyDerivation(KeyDerivation keyDerivation) {
+		this.selfExtractableBaseEngine.setKeyDerivation(keyDerivation);
+	}
+
 	public PairingCipherSerParameter offlineEncryption(PairingKeySerParameter publicKey, int n) {
 		if (!(this.engine instanceof OOKPABEEngine)) {
 			throw new IllegalArgumentException("Engine does not support online/offline mechanism");
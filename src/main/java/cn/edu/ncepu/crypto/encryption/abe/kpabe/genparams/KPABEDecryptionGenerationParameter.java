@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams;
 
+import java.util.concurrent.Executor;
+
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.algebra.genparams.PairingDecryptionGenerationParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -16,6 +18,7 @@ public class KPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 	private final String[] attributes;
 	private final AccessControlEngine accessControlEngine;
 	private ChameleonHasher chameleonHasher;
+	private Executor executor;
 
 	public KPABEDecryptionGenerationParameter(AccessControlEngine accessControlEngine,
 			PairingKeySerParameter publicKeyParameter, PairingKeySerParameter secretKeyParameter, String[] attributes,
@@ -29,6 +32,13 @@ public class KPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 		this.chameleonHasher = chameleonHasher;
 	}
 
+	/**
+	 * Set the executor evaluating the decryption pairings in parallel, null for sequential evaluation.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	public String[] getAttributes() {
 		return this.attributes;
 	}
@@ -40,4 +50,8 @@ public class KPABEDecryptionGenerationParameter extends PairingDecryptionGenerat
 	public ChameleonHasher getChameleonHasher() {
 		return this.chameleonHasher;
 	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
 }
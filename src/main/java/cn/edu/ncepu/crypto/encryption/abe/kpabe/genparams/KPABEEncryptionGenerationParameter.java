@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams;
 
+import java.util.concurrent.Executor;
+
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
@@ -21,6 +23,7 @@ public class KPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 	private AsymmetricKeySerPairGenerator chameleonHashKeyPairGenerator;
 	private KeyGenerationParameters chameleonHashKeyPairGenerationParameter;
 	private PairingCipherSerParameter intermediate;
+	private Executor executor;
 
 	public KPABEEncryptionGenerationParameter(PairingKeySerParameter publicKeyParameter, String[] attributes,
 			Element message) {
@@ -44,6 +47,13 @@ public class KPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 		this.intermediate = intermediate;
 	}
 
+	/**
+	 * Set the executor computing per-attribute ciphertext components in parallel, null for sequential computation.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
 	public String[] getAttributes() {
 		return this.attributes;
 	}
@@ -67,4 +77,8 @@ public class KPABEEncryptionGenerationParameter extends PairingEncryptionGenerat
 	public PairingCipherSerParameter getIntermediate() {
 		return this.intermediate;
 	}
+
+	public Executor getExecutor() {
+		return this.executor;
+	}
 }
@@ -9,6 +9,8 @@ import org.bouncycastle.crypto.InvalidCipherTextException;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEDecryptionGenerationParameter;
@@ -18,7 +20,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aPu
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aSecretKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -44,11 +45,11 @@ public class KPABEGPSW06aDecryptionGenerator implements PairingDecryptionGenerat
 		AccessControlEngine accessControlEngine = this.params.getAccessControlEngine();
 		String[] attributes = this.params.getAttributes();
 		assert (attributes.length <= publicKeyParameter.getMaxAttributesNum());
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
 			Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing, attributes,
 					accessControlParameter);
-			this.sessionKey = pairing.getGT().newOneElement().getImmutable();
+			MultiPairing multiPairing = new MultiPairing(pairing, secretKeyParameter, this.params.getExecutor());
 			for (String attribute : omegaElementsMap.keySet()) {
 				int index = Integer.parseInt(attribute);
 				if (index >= publicKeyParameter.getMaxAttributesNum() || index < 0) {
@@ -58,8 +59,9 @@ public class KPABEGPSW06aDecryptionGenerator implements PairingDecryptionGenerat
 				Element D = secretKeyParameter.getDsAt(String.valueOf(index));
 				Element E = ciphertextParameter.getEsAt(String.valueOf(index));
 				Element lambda = omegaElementsMap.get(attribute);
-				sessionKey = sessionKey.mul(pairing.pairing(D, E).powZn(lambda)).getImmutable();
+				multiPairing.mulKey(E, D, lambda);
 			}
+			this.sessionKey = multiPairing.evaluate();
 		} catch (UnsatisfiedAccessControlException e) {
 			throw new InvalidCipherTextException(
 					"Attributes associated with the ciphertext do not satisfy access policy associated with the secret key.");
@@ -2,10 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.generators;
 
 import java.security.InvalidParameterException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -14,9 +16,9 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEEncryptionGenerat
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aCiphertextSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aHeaderSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aPublicKeySerParameter;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -36,7 +38,7 @@ public class KPABEGPSW06aEncryptionGenerator implements PairingEncryptionGenerat
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] attributes = this.params.getAttributes();
 		assert (attributes.length <= publicKeyParameter.getMaxAttributesNum());
 		if (attributes.length > publicKeyParameter.getMaxAttributesNum()) {
@@ -46,16 +48,21 @@ public class KPABEGPSW06aEncryptionGenerator implements PairingEncryptionGenerat
 
 		try {
 			Element s = pairing.getZr().newRandomElement().getImmutable();
-			this.sessionKey = publicKeyParameter.getY().powZn(s).getImmutable();
-			this.Es = new HashMap<String, Element>();
-			for (String attribute : attributes) {
-				int index = Integer.parseInt(attribute);
+			this.sessionKey = publicKeyParameter.powY(s).getImmutable();
+			String[] indexes = new String[attributes.length];
+			for (int i = 0; i < attributes.length; i++) {
+				int index = Integer.parseInt(attributes[i]);
 				if (index >= publicKeyParameter.getMaxAttributesNum() || index < 0) {
 					throw new InvalidParameterException(
 							"Rho index greater than or equal to the max number of attributes supported");
 				}
-				Element E = publicKeyParameter.getTsAt(String.valueOf(index)).powZn(s).getImmutable();
-				Es.put(String.valueOf(index), E);
+				indexes[i] = String.valueOf(index);
+			}
+			List<Element> components = ParallelUtils.Compute(this.params.getExecutor(), indexes.length,
+					i -> publicKeyParameter.getTsAt(indexes[i]).powZn(s).getImmutable());
+			this.Es = new HashMap<String, Element>();
+			for (int i = 0; i < indexes.length; i++) {
+				Es.put(indexes[i], components.get(i));
 			}
 		} catch (NumberFormatException e) {
 			throw new InvalidParameterException("Invalid rhos, require rhos represented by integers");
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEKeyPairGenerationParameter;
@@ -12,7 +13,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aMa
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aPublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -27,7 +27,7 @@ public class KPABEGPSW06aKeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 
 		Map<String, Element> ts = new HashMap<String, Element>();
 		Map<String, Element> Ts = new HashMap<String, Element>();
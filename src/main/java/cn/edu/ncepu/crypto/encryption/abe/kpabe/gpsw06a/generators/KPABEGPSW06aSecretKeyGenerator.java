@@ -7,6 +7,7 @@ import java.util.Map;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABESecretKeyGenerationParameter;
@@ -15,7 +16,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aPu
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams.KPABEGPSW06aSecretKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -39,9 +39,9 @@ public class KPABEGPSW06aSecretKeyGenerator implements PairingKeyParameterGenera
 		String[] stringRhos = this.parameters.getRhos();
 		Map<String, Element> Ds = new HashMap<String, Element>();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
-			Element y = masterSecretKeyParameter.getY().getImmutable();
+			Element y = masterSecretKeyParameter.getY();
 			AccessControlParameter accessControlParameter = this.parameters.getAccessControlEngine()
 					.generateAccessControl(accessPolicy, stringRhos);
 			Map<String, Element> lambdaElementsMap = this.parameters.getAccessControlEngine().secretSharing(pairing, y,
@@ -3,11 +3,11 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -30,7 +30,7 @@ public class KPABEGPSW06aCiphertextSerParameter extends KPABEGPSW06aHeaderSerPar
 	}
 
 	public Element getEPrime() {
-		return this.EPrime.duplicate();
+		return this.EPrime;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class KPABEGPSW06aCiphertextSerParameter extends KPABEGPSW06aHeaderSerPar
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.EPrime = pairing.getGT().newElementFromBytes(this.byteArrayEPrime);
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.EPrime = pairing.getGT().newElementFromBytes(this.byteArrayEPrime).getImmutable();
 	}
 }
@@ -1,14 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -22,23 +22,21 @@ public class KPABEGPSW06aHeaderSerParameter extends PairingCipherSerParameter {
 	private static final long serialVersionUID = -2199225146564909585L;
 	private final String[] attributes;
 	private transient Map<String, Element> Es;
-	private final byte[][] byteArraysEs;
+	private byte[][] byteArraysEs;
 
 	public KPABEGPSW06aHeaderSerParameter(PairingParameters pairingParameters, Map<String, Element> Es) {
 		super(pairingParameters);
 
-		this.Es = new HashMap<String, Element>();
 		this.attributes = Es.keySet().toArray(new String[1]);
-		this.byteArraysEs = new byte[this.attributes.length][];
-		for (int i = 0; i < this.attributes.length; i++) {
-			Element E = Es.get(this.attributes[i]).duplicate().getImmutable();
-			this.Es.put(this.attributes[i], E);
-			this.byteArraysEs[i] = E.toBytes();
-		}
+		this.Es = LazyElementMap.ImmutableElements(Es, this.attributes);
+	}
+
+	public String[] getAttributes() {
+		return this.attributes.clone();
 	}
 
 	public Element getEsAt(String attribute) {
-		return this.Es.get(attribute).duplicate();
+		return this.Es.get(attribute);
 	}
 
 	@Override
@@ -48,6 +46,8 @@ public class KPABEGPSW06aHeaderSerParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof KPABEGPSW06aHeaderSerParameter) {
 			KPABEGPSW06aHeaderSerParameter that = (KPABEGPSW06aHeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare Es
 			if (!this.Es.equals(that.Es)) {
 				return false;
@@ -56,18 +56,27 @@ public class KPABEGPSW06aHeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysEs == null) {
+			this.byteArraysEs = LazyElementMap.ToByteArrays(this.Es, this.attributes);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.Es = new HashMap<String, Element>();
-		for (int i = 0; i < this.attributes.length; i++) {
-			this.Es.put(attributes[i], pairing.getG1().newElementFromBytes(this.byteArraysEs[i]).getImmutable());
-		}
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.Es = new LazyElementMap(pairing.getG1(), this.attributes, this.byteArraysEs);
 	}
 }
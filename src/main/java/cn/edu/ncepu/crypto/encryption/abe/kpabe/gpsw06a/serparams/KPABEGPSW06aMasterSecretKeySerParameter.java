@@ -4,12 +4,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -34,7 +34,7 @@ public class KPABEGPSW06aMasterSecretKeySerParameter extends PairingKeySerParame
 		this.ts = new HashMap<String, Element>();
 		this.byteArraysTs = new HashMap<String, byte[]>();
 		for (String attribute : ts.keySet()) {
-			Element elementAttribute = ts.get(attribute).duplicate().getImmutable();
+			Element elementAttribute = ts.get(attribute).getImmutable();
 			this.ts.put(attribute, elementAttribute);
 			this.byteArraysTs.put(attribute, elementAttribute.toBytes());
 		}
@@ -43,12 +43,16 @@ public class KPABEGPSW06aMasterSecretKeySerParameter extends PairingKeySerParame
 		this.byteArrayY = this.y.toBytes();
 	}
 
+	public String[] getAttributes() {
+		return this.ts.keySet().toArray(new String[1]);
+	}
+
 	public Element getTsAt(String attribute) {
-		return this.ts.get(attribute).duplicate();
+		return this.ts.get(attribute);
 	}
 
 	public Element getY() {
-		return this.y.duplicate();
+		return this.y;
 	}
 
 	@Override
@@ -73,7 +77,7 @@ public class KPABEGPSW06aMasterSecretKeySerParameter extends PairingKeySerParame
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -81,7 +85,7 @@ public class KPABEGPSW06aMasterSecretKeySerParameter extends PairingKeySerParame
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.ts = new HashMap<String, Element>();
 		for (String attribute : this.byteArraysTs.keySet()) {
 			this.ts.put(attribute,
@@ -4,12 +4,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -44,7 +44,7 @@ public class KPABEGPSW06aPublicKeySerParameter extends PairingKeySerParameter {
 		this.Ts = new HashMap<String, Element>();
 		this.byteArraysTs = new HashMap<String, byte[]>();
 		for (String attribute : Ts.keySet()) {
-			Element T = Ts.get(attribute).duplicate().getImmutable();
+			Element T = Ts.get(attribute).getImmutable();
 			this.Ts.put(attribute, T);
 			this.byteArraysTs.put(attribute, T.toBytes());
 		}
@@ -56,15 +56,23 @@ public class KPABEGPSW06aPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public String[] getAttributes() {
+		return this.Ts.keySet().toArray(new String[1]);
 	}
 
 	public Element getTsAt(String attribute) {
-		return this.Ts.get(attribute).duplicate();
+		return this.Ts.get(attribute);
 	}
 
 	public Element getY() {
-		return this.Y.duplicate();
+		return this.Y;
+	}
+
+	public Element powY(Element exponent) {
+		return powZn("Y", this.Y, exponent);
 	}
 
 	public int getMaxAttributesNum() {
@@ -104,7 +112,7 @@ public class KPABEGPSW06aPublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -112,7 +120,7 @@ public class KPABEGPSW06aPublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.Ts = new HashMap<String, Element>();
 		for (String attribute : this.byteArraysTs.keySet()) {
@@ -4,12 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/17.
@@ -36,7 +36,7 @@ public class KPABEGPSW06aSecretKeySerParameter extends PairingKeySerParameter {
 		this.Ds = new HashMap<String, Element>();
 		this.byteArraysDs = new HashMap<String, byte[]>();
 		for (String rho : Ds.keySet()) {
-			Element elementRho = Ds.get(rho).duplicate().getImmutable();
+			Element elementRho = Ds.get(rho).getImmutable();
 			this.Ds.put(rho, elementRho);
 			this.byteArraysDs.put(rho, elementRho.toBytes());
 		}
@@ -51,7 +51,7 @@ public class KPABEGPSW06aSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getDsAt(String rho) {
-		return this.Ds.get(rho).duplicate();
+		return this.Ds.get(rho);
 	}
 
 	@Override
@@ -74,7 +74,7 @@ public class KPABEGPSW06aSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -82,7 +82,7 @@ public class KPABEGPSW06aSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.Ds = new HashMap<String, Element>();
 		for (String rho : this.byteArraysDs.keySet()) {
 			this.Ds.put(rho, pairing.getG1().newElementFromBytes(this.byteArraysDs.get(rho)).getImmutable());
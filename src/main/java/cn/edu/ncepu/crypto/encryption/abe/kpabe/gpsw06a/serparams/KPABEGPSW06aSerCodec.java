@@ -0,0 +1,124 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Goyal-Pandey-Sahai-Waters small-universe KP-ABE headers, ciphertexts and keys.
+ */
+public class KPABEGPSW06aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x21;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABEGPSW06aHeaderSerParameter.class, KPABEGPSW06aCiphertextSerParameter.class,
+					KPABEGPSW06aPublicKeySerParameter.class, KPABEGPSW06aMasterSecretKeySerParameter.class,
+					KPABEGPSW06aSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABEGPSW06aPublicKeySerParameter) {
+			KPABEGPSW06aPublicKeySerParameter publicKey = (KPABEGPSW06aPublicKeySerParameter) parameter;
+			String[] attributes = publicKey.getAttributes();
+			output.writeStrings(attributes);
+			output.writeElement(publicKey.getG());
+			for (String attribute : attributes) {
+				output.writeElement(publicKey.getTsAt(attribute));
+			}
+			output.writeElement(publicKey.getY());
+			return;
+		}
+		if (parameter instanceof KPABEGPSW06aMasterSecretKeySerParameter) {
+			KPABEGPSW06aMasterSecretKeySerParameter masterSecretKey =
+					(KPABEGPSW06aMasterSecretKeySerParameter) parameter;
+			String[] attributes = masterSecretKey.getAttributes();
+			output.writeStrings(attributes);
+			for (String attribute : attributes) {
+				output.writeElement(masterSecretKey.getTsAt(attribute));
+			}
+			output.writeElement(masterSecretKey.getY());
+			return;
+		}
+		if (parameter instanceof KPABEGPSW06aSecretKeySerParameter) {
+			KPABEGPSW06aSecretKeySerParameter secretKey = (KPABEGPSW06aSecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			for (String rho : rhos) {
+				output.writeElement(secretKey.getDsAt(rho));
+			}
+			return;
+		}
+		KPABEGPSW06aHeaderSerParameter header = (KPABEGPSW06aHeaderSerParameter) parameter;
+		if (header instanceof KPABEGPSW06aCiphertextSerParameter) {
+			output.writeElement(((KPABEGPSW06aCiphertextSerParameter) header).getEPrime());
+		}
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		for (String attribute : attributes) {
+			output.writeElement(header.getEsAt(attribute));
+		}
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			String[] attributes = input.readKeys();
+			Element g = input.readElement(pairing.getG1());
+			Map<String, Element> Ts = input.readElements(pairing.getG1(), attributes);
+			return new KPABEGPSW06aPublicKeySerParameter(pairingParameters, g, Ts, input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			Map<String, Element> ts = input.readElements(pairing.getZr(), input.readKeys());
+			Element y = input.readElement(pairing.getZr());
+			return new KPABEGPSW06aMasterSecretKeySerParameter(pairingParameters, ts, y);
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			Map<String, Element> Ds = input.readElements(pairing.getG1(), input.readKeys());
+			return new KPABEGPSW06aSecretKeySerParameter(pairingParameters, accessControlParameter, Ds);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element EPrime = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] attributes = input.readKeys();
+		Map<String, Element> Es = input.readElements(pairing.getG1(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABEGPSW06aCiphertextSerParameter(pairingParameters, EPrime, Es);
+		}
+		return new KPABEGPSW06aHeaderSerParameter(pairingParameters, Es);
+	}
+}
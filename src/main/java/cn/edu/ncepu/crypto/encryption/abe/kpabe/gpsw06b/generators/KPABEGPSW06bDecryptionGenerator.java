@@ -8,6 +8,8 @@ import org.bouncycastle.crypto.InvalidCipherTextException;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEDecryptionGenerationParameter;
@@ -17,7 +19,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bPu
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bSecretKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -42,20 +43,19 @@ public class KPABEGPSW06bDecryptionGenerator implements PairingDecryptionGenerat
 		AccessControlParameter accessControlParameter = secretKeyParameter.getAccessControlParameter();
 		AccessControlEngine accessControlEngine = this.params.getAccessControlEngine();
 		String[] attributes = this.params.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
 			Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing, attributes,
 					accessControlParameter);
-			this.sessionKey = pairing.getGT().newOneElement().getImmutable();
+			// sessionKey = prod (e(D, E2) / e(R, E))^lambda, where all e(D, E2)^lambda share E2 and are merged
+			MultiPairing multiPairing = new MultiPairing(pairing, secretKeyParameter, this.params.getExecutor());
 			for (String attribute : omegaElementsMap.keySet()) {
-				Element D = secretKeyParameter.getDsAt(attribute);
-				Element E = ciphertextParameter.getEsAt(attribute);
-				Element R = secretKeyParameter.getRsAt(attribute);
 				Element lambda = omegaElementsMap.get(attribute);
-				sessionKey = sessionKey
-						.mul(pairing.pairing(D, ciphertextParameter.getE2()).div(pairing.pairing(R, E)).powZn(lambda))
-						.getImmutable();
+				multiPairing.mul(secretKeyParameter.getDsAt(attribute), ciphertextParameter.getE2(), lambda);
+				multiPairing.divKey(ciphertextParameter.getEsAt(attribute), secretKeyParameter.getRsAt(attribute),
+						lambda);
 			}
+			this.sessionKey = multiPairing.evaluate();
 		} catch (UnsatisfiedAccessControlException e) {
 			throw new InvalidCipherTextException(
 					"Attributes associated with the ciphertext do not satisfy access policy associated with the secret key.");
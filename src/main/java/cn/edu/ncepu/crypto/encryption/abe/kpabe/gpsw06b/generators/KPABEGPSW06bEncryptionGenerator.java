@@ -1,10 +1,12 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.generators;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -14,9 +16,9 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bCi
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bHeaderSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bPublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -37,18 +39,18 @@ public class KPABEGPSW06bEncryptionGenerator implements PairingEncryptionGenerat
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] attributes = this.params.getAttributes();
 		Element s = pairing.getZr().newRandomElement().getImmutable();
 		this.sessionKey = pairing.pairing(publicKeyParameter.getG1(), publicKeyParameter.getG2()).powZn(s)
 				.getImmutable();
-		this.E2 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.E2 = publicKeyParameter.powG(s).getImmutable();
+		List<Element> components = ParallelUtils.Compute(this.params.getExecutor(), attributes.length,
+				i -> PairingUtils.MapStringToGroup(pairing, attributes[i], PairingUtils.PairingGroupType.G1).powZn(s)
+						.getImmutable());
 		this.Es = new HashMap<String, Element>();
-		for (String attribute : attributes) {
-			Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attribute,
-					PairingUtils.PairingGroupType.G1);
-			Element E = elementAttribute.powZn(s).getImmutable();
-			Es.put(attribute, E);
+		for (int i = 0; i < attributes.length; i++) {
+			Es.put(attributes[i], components.get(i));
 		}
 	}
 
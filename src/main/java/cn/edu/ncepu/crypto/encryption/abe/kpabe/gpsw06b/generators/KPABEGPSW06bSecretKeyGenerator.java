@@ -7,6 +7,7 @@ import java.util.Map;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABESecretKeyGenerationParameter;
@@ -16,7 +17,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams.KPABEGPSW06bSe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -40,9 +40,9 @@ public class KPABEGPSW06bSecretKeyGenerator implements PairingKeyParameterGenera
 		Map<String, Element> Ds = new HashMap<String, Element>();
 		Map<String, Element> Rs = new HashMap<String, Element>();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
-			Element y = masterSecretKeyParameter.getY().getImmutable();
+			Element y = masterSecretKeyParameter.getY();
 			AccessControlParameter accessControlParameter = this.parameters.getAccessControlEngine()
 					.generateAccessControl(accessPolicy, stringRhos);
 			Map<String, Element> lambdaElementsMap = this.parameters.getAccessControlEngine().secretSharing(pairing, y,
@@ -50,10 +50,10 @@ public class KPABEGPSW06bSecretKeyGenerator implements PairingKeyParameterGenera
 			for (String rho : lambdaElementsMap.keySet()) {
 				Element ri = pairing.getZr().newRandomElement().getImmutable();
 				Element elementRho = PairingUtils.MapStringToGroup(pairing, rho, PairingUtils.PairingGroupType.G1);
-				Element D = publicKeyParameter.getG2().powZn(lambdaElementsMap.get(rho)).mul(elementRho.powZn(ri))
+				Element D = publicKeyParameter.powG2(lambdaElementsMap.get(rho)).mul(elementRho.powZn(ri))
 						.getImmutable();
 				Ds.put(rho, D);
-				Element R = publicKeyParameter.getG().powZn(ri).getImmutable();
+				Element R = publicKeyParameter.powG(ri).getImmutable();
 				Rs.put(rho, R);
 			}
 			return new KPABEGPSW06bSecretKeySerParameter(publicKeyParameter.getParameters(), accessControlParameter, Ds,
@@ -3,11 +3,11 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -30,7 +30,7 @@ public class KPABEGPSW06bCiphertextSerParameter extends KPABEGPSW06bHeaderSerPar
 	}
 
 	public Element getE1() {
-		return this.E1.duplicate();
+		return this.E1;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class KPABEGPSW06bCiphertextSerParameter extends KPABEGPSW06bHeaderSerPar
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.E1 = pairing.getGT().newElementFromBytes(this.byteArrayE1);
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.E1 = pairing.getGT().newElementFromBytes(this.byteArrayE1).getImmutable();
 	}
 }
@@ -1,15 +1,15 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -28,7 +28,7 @@ public class KPABEGPSW06bHeaderSerParameter extends PairingCipherSerParameter {
 	private final byte[] byteArrayE2;
 
 	private transient Map<String, Element> Es;
-	private final byte[][] byteArraysEs;
+	private byte[][] byteArraysEs;
 
 	public KPABEGPSW06bHeaderSerParameter(PairingParameters pairingParameters, Element E2, Map<String, Element> Es) {
 		super(pairingParameters);
@@ -36,22 +36,20 @@ public class KPABEGPSW06bHeaderSerParameter extends PairingCipherSerParameter {
 		this.E2 = E2.getImmutable();
 		this.byteArrayE2 = this.E2.toBytes();
 
-		this.Es = new HashMap<String, Element>();
 		this.attributes = Es.keySet().toArray(new String[1]);
-		this.byteArraysEs = new byte[this.attributes.length][];
-		for (int i = 0; i < this.attributes.length; i++) {
-			Element E = Es.get(this.attributes[i]).duplicate().getImmutable();
-			this.Es.put(this.attributes[i], E);
-			this.byteArraysEs[i] = E.toBytes();
-		}
+		this.Es = LazyElementMap.ImmutableElements(Es, this.attributes);
+	}
+
+	public String[] getAttributes() {
+		return this.attributes.clone();
 	}
 
 	public Element getEsAt(String attribute) {
-		return this.Es.get(attribute).duplicate();
+		return this.Es.get(attribute);
 	}
 
 	public Element getE2() {
-		return this.E2.duplicate();
+		return this.E2;
 	}
 
 	@Override
@@ -61,6 +59,8 @@ public class KPABEGPSW06bHeaderSerParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof KPABEGPSW06bHeaderSerParameter) {
 			KPABEGPSW06bHeaderSerParameter that = (KPABEGPSW06bHeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare E2
 			if (!PairingUtils.isEqualElement(this.E2, that.E2)) {
 				return false;
@@ -76,19 +76,28 @@ public class KPABEGPSW06bHeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysEs == null) {
+			this.byteArraysEs = LazyElementMap.ToByteArrays(this.Es, this.attributes);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.E2 = pairing.getG1().newElementFromBytes(this.byteArrayE2);
-		this.Es = new HashMap<String, Element>();
-		for (int i = 0; i < this.attributes.length; i++) {
-			this.Es.put(this.attributes[i], pairing.getG1().newElementFromBytes(this.byteArraysEs[i]).getImmutable());
-		}
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.E2 = pairing.getG1().newElementFromBytes(this.byteArrayE2).getImmutable();
+		this.Es = new LazyElementMap(pairing.getG1(), this.attributes, this.byteArraysEs);
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -30,7 +30,7 @@ public class KPABEGPSW06bMasterSecretKeySerParameter extends PairingKeySerParame
 	}
 
 	public Element getY() {
-		return this.y.duplicate();
+		return this.y;
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class KPABEGPSW06bMasterSecretKeySerParameter extends PairingKeySerParame
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -56,7 +56,7 @@ public class KPABEGPSW06bMasterSecretKeySerParameter extends PairingKeySerParame
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.y = pairing.getZr().newElementFromBytes(this.byteArrayY).getImmutable();
 	}
 }
\ No newline at end of file
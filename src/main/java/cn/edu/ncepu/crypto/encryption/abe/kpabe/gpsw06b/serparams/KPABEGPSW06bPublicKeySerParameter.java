@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -42,15 +42,23 @@ public class KPABEGPSW06bPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getG1() {
-		return this.g1.duplicate();
+		return this.g1;
 	}
 
 	public Element getG2() {
-		return this.g2.duplicate();
+		return this.g2;
+	}
+
+	public Element powG2(Element exponent) {
+		return powZn("g2", this.g2, exponent);
 	}
 
 	@Override
@@ -82,7 +90,7 @@ public class KPABEGPSW06bPublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -90,7 +98,7 @@ public class KPABEGPSW06bPublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.g1 = pairing.getG1().newElementFromBytes(this.byteArrayG1).getImmutable();
 		this.g2 = pairing.getG1().newElementFromBytes(this.byteArrayG2).getImmutable();
@@ -4,12 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -41,10 +41,10 @@ public class KPABEGPSW06bSecretKeySerParameter extends PairingKeySerParameter {
 		this.Rs = new HashMap<String, Element>();
 		this.byteArraysRs = new HashMap<String, byte[]>();
 		for (String rho : Ds.keySet()) {
-			this.Ds.put(rho, Ds.get(rho).duplicate().getImmutable());
-			this.byteArraysDs.put(rho, Ds.get(rho).duplicate().getImmutable().toBytes());
-			this.Rs.put(rho, Rs.get(rho).duplicate().getImmutable());
-			this.byteArraysRs.put(rho, Rs.get(rho).duplicate().getImmutable().toBytes());
+			this.Ds.put(rho, Ds.get(rho).getImmutable());
+			this.byteArraysDs.put(rho, Ds.get(rho).getImmutable().toBytes());
+			this.Rs.put(rho, Rs.get(rho).getImmutable());
+			this.byteArraysRs.put(rho, Rs.get(rho).getImmutable().toBytes());
 		}
 	}
 
@@ -57,11 +57,11 @@ public class KPABEGPSW06bSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getDsAt(String rho) {
-		return this.Ds.get(rho).duplicate();
+		return this.Ds.get(rho);
 	}
 
 	public Element getRsAt(String rho) {
-		return this.Rs.get(rho).duplicate();
+		return this.Rs.get(rho);
 	}
 
 	@Override
@@ -90,7 +90,7 @@ public class KPABEGPSW06bSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -98,7 +98,7 @@ public class KPABEGPSW06bSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.Ds = new HashMap<String, Element>();
 		this.Rs = new HashMap<String, Element>();
 		for (String rho : this.byteArraysDs.keySet()) {
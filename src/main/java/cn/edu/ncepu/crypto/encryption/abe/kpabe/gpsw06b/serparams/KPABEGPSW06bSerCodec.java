@@ -0,0 +1,120 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06b.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Goyal-Pandey-Sahai-Waters large-universe KP-ABE with random oracles headers, ciphertexts
+ * and keys.
+ */
+public class KPABEGPSW06bSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x22;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABEGPSW06bHeaderSerParameter.class, KPABEGPSW06bCiphertextSerParameter.class,
+					KPABEGPSW06bPublicKeySerParameter.class, KPABEGPSW06bMasterSecretKeySerParameter.class,
+					KPABEGPSW06bSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABEGPSW06bPublicKeySerParameter) {
+			KPABEGPSW06bPublicKeySerParameter publicKey = (KPABEGPSW06bPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			return;
+		}
+		if (parameter instanceof KPABEGPSW06bMasterSecretKeySerParameter) {
+			output.writeElement(((KPABEGPSW06bMasterSecretKeySerParameter) parameter).getY());
+			return;
+		}
+		if (parameter instanceof KPABEGPSW06bSecretKeySerParameter) {
+			KPABEGPSW06bSecretKeySerParameter secretKey = (KPABEGPSW06bSecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			for (String rho : rhos) {
+				output.writeElement(secretKey.getDsAt(rho));
+				output.writeElement(secretKey.getRsAt(rho));
+			}
+			return;
+		}
+		KPABEGPSW06bHeaderSerParameter header = (KPABEGPSW06bHeaderSerParameter) parameter;
+		if (header instanceof KPABEGPSW06bCiphertextSerParameter) {
+			output.writeElement(((KPABEGPSW06bCiphertextSerParameter) header).getE1());
+		}
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		output.writeElement(header.getE2());
+		for (String attribute : attributes) {
+			output.writeElement(header.getEsAt(attribute));
+		}
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new KPABEGPSW06bPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new KPABEGPSW06bMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			String[] rhos = input.readKeys();
+			Map<String, Element> Ds = new HashMap<String, Element>();
+			Map<String, Element> Rs = new HashMap<String, Element>();
+			for (String rho : rhos) {
+				Ds.put(rho, input.readElement(pairing.getG1()));
+				Rs.put(rho, input.readElement(pairing.getG1()));
+			}
+			return new KPABEGPSW06bSecretKeySerParameter(pairingParameters, accessControlParameter, Ds, Rs);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element E1 = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] attributes = input.readKeys();
+		Element E2 = input.readElement(pairing.getG1());
+		Map<String, Element> Es = input.readElements(pairing.getG1(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABEGPSW06bCiphertextSerParameter(pairingParameters, E1, E2, Es);
+		}
+		return new KPABEGPSW06bHeaderSerParameter(pairingParameters, E2, Es);
+	}
+}
@@ -111,8 +111,10 @@ public class OOKPABEHW14Engine extends OOKPABEEngine {
 					KPABEHW14CiphertextSerParameter.class.getName());
 		}
 		KPABEHW14DecryptionGenerator decryptionGenerator = new KPABEHW14DecryptionGenerator();
-		decryptionGenerator.init(new KPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				attributes, ciphertext));
+		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, attributes, ciphertext);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
 
@@ -131,8 +133,10 @@ public class OOKPABEHW14Engine extends OOKPABEEngine {
 					KPABEHW14HeaderSerParameter.class.getName());
 		}
 		KPABEHW14DecryptionGenerator decryptionGenerator = new KPABEHW14DecryptionGenerator();
-		decryptionGenerator.init(
-				new KPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey, attributes, header));
+		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, attributes, header);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
 
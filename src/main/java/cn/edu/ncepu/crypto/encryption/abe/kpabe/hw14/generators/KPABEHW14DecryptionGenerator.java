@@ -30,7 +30,7 @@ public class KPABEHW14DecryptionGenerator extends KPABERW13DecryptionGenerator {
 		Map<String, Element> oriC3s = oriHeaderParameter.getC3s();
 		Map<String, Element> newC2s = new HashMap<String, Element>();
 		for (String attribute : oriC2s.keySet()) {
-			Element newC2 = oriC2s.get(attribute).mul(oriPublicKeyParameter.getU().powZn(oriC3s.get(attribute)))
+			Element newC2 = oriC2s.get(attribute).mul(oriPublicKeyParameter.powU(oriC3s.get(attribute)))
 					.getImmutable();
 			newC2s.put(attribute, newC2);
 		}
@@ -42,6 +42,7 @@ public class KPABEHW14DecryptionGenerator extends KPABERW13DecryptionGenerator {
 			KPABEDecryptionGenerationParameter resultParameter = new KPABEDecryptionGenerationParameter(
 					oriParameter.getAccessControlEngine(), oriParameter.getPublicKeyParameter(),
 					oriParameter.getSecretKeyParameter(), oriParameter.getAttributes(), newCiphertextParameter);
+			resultParameter.setExecutor(oriParameter.getExecutor());
 			super.init(resultParameter);
 		} else {
 			KPABEHW14HeaderSerParameter newHeaderParameter = new KPABEHW14HeaderSerParameter(
@@ -50,6 +51,7 @@ public class KPABEHW14DecryptionGenerator extends KPABERW13DecryptionGenerator {
 			KPABEDecryptionGenerationParameter resultParameter = new KPABEDecryptionGenerationParameter(
 					oriParameter.getAccessControlEngine(), oriParameter.getPublicKeyParameter(),
 					oriParameter.getSecretKeyParameter(), oriParameter.getAttributes(), newHeaderParameter);
+			resultParameter.setExecutor(oriParameter.getExecutor());
 			super.init(resultParameter);
 		}
 	}
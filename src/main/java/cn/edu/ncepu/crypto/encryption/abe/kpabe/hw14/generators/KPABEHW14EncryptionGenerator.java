@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEEncryptionGenerationParameter;
@@ -16,7 +17,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.generators.KPABERW13Encrypt
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -39,7 +39,7 @@ public class KPABEHW14EncryptionGenerator extends KPABERW13EncryptionGenerator {
 	}
 
 	protected void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		attributes = this.parameter.getAttributes();
 		this.C3s = new HashMap<String, Element>();
 
@@ -49,15 +49,15 @@ public class KPABEHW14EncryptionGenerator extends KPABERW13EncryptionGenerator {
 			}
 			this.C1s = new HashMap<String, Element>();
 			this.C2s = new HashMap<String, Element>();
-			this.s = this.intermedate.getS().getImmutable();
-			this.sessionKey = this.intermedate.getSessionKey().getImmutable();
-			this.C0 = this.intermedate.getC0().getImmutable();
+			this.s = this.intermedate.getS();
+			this.sessionKey = this.intermedate.getSessionKey();
+			this.C0 = this.intermedate.getC0();
 			int index = 0;
 			for (String attribute : attributes) {
 				Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attribute,
 						PairingUtils.PairingGroupType.Zr);
-				C1s.put(attribute, this.intermedate.getC1sAt(index).getImmutable());
-				C2s.put(attribute, this.intermedate.getC2sAt(index).getImmutable());
+				C1s.put(attribute, this.intermedate.getC1sAt(index));
+				C2s.put(attribute, this.intermedate.getC2sAt(index));
 				C3s.put(attribute, this.intermedate.getRsAt(index)
 						.mulZn(elementAttribute.sub(this.intermedate.getXsAt(index))).getImmutable());
 				index++;
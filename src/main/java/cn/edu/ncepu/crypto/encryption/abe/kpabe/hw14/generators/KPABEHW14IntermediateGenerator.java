@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEIntermediateGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams.KPABEHW14Intermed
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams.KPABEHW14PublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -40,16 +40,16 @@ public class KPABEHW14IntermediateGenerator implements PairingEncryptionGenerato
 		this.C1s = new Element[n];
 		this.C2s = new Element[n];
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 		for (int i = 0; i < n; i++) {
 			this.rs[i] = pairing.getZr().newRandomElement().getImmutable();
 			this.xs[i] = pairing.getZr().newRandomElement().getImmutable();
-			this.C1s[i] = publicKeyParameter.getG().powZn(rs[i]).getImmutable();
-			this.C2s[i] = publicKeyParameter.getU().powZn(xs[i]).mul(publicKeyParameter.getH()).powZn(rs[i])
-					.mul(publicKeyParameter.getW().powZn(s.negate())).getImmutable();
+			this.C1s[i] = publicKeyParameter.powG(rs[i]).getImmutable();
+			this.C2s[i] = publicKeyParameter.powU(xs[i]).mul(publicKeyParameter.getH()).powZn(rs[i])
+					.mul(publicKeyParameter.powW(s.negate())).getImmutable();
 		}
 	}
 
@@ -3,11 +3,11 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -30,7 +30,7 @@ public class KPABEHW14CiphertextSerParameter extends KPABEHW14HeaderSerParameter
 	}
 
 	public Element getC() {
-		return this.C.duplicate();
+		return this.C;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class KPABEHW14CiphertextSerParameter extends KPABEHW14HeaderSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.C = pairing.getGT().newElementFromBytes(this.byteArrayC);
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.C = pairing.getGT().newElementFromBytes(this.byteArrayC).getImmutable();
 	}
 }
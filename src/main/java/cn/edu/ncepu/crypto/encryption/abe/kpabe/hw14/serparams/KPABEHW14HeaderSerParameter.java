@@ -1,14 +1,14 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 17/1/2.
@@ -21,19 +21,12 @@ public class KPABEHW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 	 */
 	private static final long serialVersionUID = -2303218871051035249L;
 	private transient Map<String, Element> C3s;
-	private final byte[][] byteArraysC3s;
+	private byte[][] byteArraysC3s;
 
 	public KPABEHW14HeaderSerParameter(PairingParameters pairingParameters, Element C0, Map<String, Element> C1s,
 			Map<String, Element> C2s, Map<String, Element> C3s) {
 		super(pairingParameters, C0, C1s, C2s);
-		this.C3s = new HashMap<String, Element>();
-		this.byteArraysC3s = new byte[attributes.length][];
-
-		for (int i = 0; i < attributes.length; i++) {
-			Element C3 = C3s.get(attributes[i]).duplicate().getImmutable();
-			this.C3s.put(attributes[i], C3);
-			this.byteArraysC3s[i] = C3.toBytes();
-		}
+		this.C3s = LazyElementMap.ImmutableElements(C3s, this.attributes);
 	}
 
 	public Map<String, Element> getC3s() {
@@ -41,7 +34,7 @@ public class KPABEHW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 	}
 
 	public Element getC3sAt(String attribute) {
-		return this.C3s.get(attribute).duplicate();
+		return this.C3s.get(attribute);
 	}
 
 	@Override
@@ -51,6 +44,8 @@ public class KPABEHW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 		}
 		if (anObject instanceof KPABEHW14HeaderSerParameter) {
 			KPABEHW14HeaderSerParameter that = (KPABEHW14HeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare C3s
 			if (!this.C3s.equals(that.C3s)) {
 				return false;
@@ -64,13 +59,22 @@ public class KPABEHW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysC3s == null) {
+			this.byteArraysC3s = LazyElementMap.ToByteArrays(this.C3s, this.attributes);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.C3s = new HashMap<String, Element>();
-		for (int i = 0; i < this.attributes.length; i++) {
-			this.C3s.put(this.attributes[i], pairing.getZr().newElementFromBytes(this.byteArraysC3s[i]).getImmutable());
-		}
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.C3s = new LazyElementMap(pairing.getZr(), this.attributes, this.byteArraysC3s);
 	}
 }
@@ -0,0 +1,142 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Hohenberger-Waters KP-ABE headers, ciphertexts, intermediates and keys.
+ */
+public class KPABEHW14SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x24;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABEHW14HeaderSerParameter.class, KPABEHW14CiphertextSerParameter.class,
+					KPABEHW14PublicKeySerParameter.class, KPABEHW14MasterSecretKeySerParameter.class,
+					KPABEHW14SecretKeySerParameter.class, KPABEHW14IntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABEHW14PublicKeySerParameter) {
+			KPABEHW14PublicKeySerParameter publicKey = (KPABEHW14PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof KPABEHW14MasterSecretKeySerParameter) {
+			output.writeElement(((KPABEHW14MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof KPABEHW14SecretKeySerParameter) {
+			KPABEHW14SecretKeySerParameter secretKey = (KPABEHW14SecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			output.writeElements(secretKey.getK0s(), rhos);
+			output.writeElements(secretKey.getK1s(), rhos);
+			output.writeElements(secretKey.getK2s(), rhos);
+			return;
+		}
+		if (parameter instanceof KPABEHW14IntermediateSerParameter) {
+			KPABEHW14IntermediateSerParameter intermediate = (KPABEHW14IntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getRs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			return;
+		}
+		KPABEHW14HeaderSerParameter header = (KPABEHW14HeaderSerParameter) parameter;
+		if (header instanceof KPABEHW14CiphertextSerParameter) {
+			output.writeElement(((KPABEHW14CiphertextSerParameter) header).getC());
+		}
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), attributes);
+		output.writeElements(header.getC2s(), attributes);
+		output.writeElements(header.getC3s(), attributes);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new KPABEHW14PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new KPABEHW14MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			String[] rhos = input.readKeys();
+			Map<String, Element> K0s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K1s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), rhos);
+			return new KPABEHW14SecretKeySerParameter(pairingParameters, accessControlParameter, K0s, K1s, K2s);
+		case KIND_INTERMEDIATE:
+			int n = input.readVarInt();
+			Element sessionKey = input.readElement(pairing.getGT());
+			Element s = input.readElement(pairing.getZr());
+			Element C0 = input.readElement(pairing.getG1());
+			Element[] rs = input.readElementArray(pairing.getZr());
+			Element[] xs = input.readElementArray(pairing.getZr());
+			Element[] C1s = input.readElementArray(pairing.getG1());
+			Element[] C2s = input.readElementArray(pairing.getG1());
+			return new KPABEHW14IntermediateSerParameter(pairingParameters, n, sessionKey, s, C0, rs, xs, C1s, C2s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] attributes = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C3s = input.readElements(pairing.getZr(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABEHW14CiphertextSerParameter(pairingParameters, C, C0, C1s, C2s, C3s);
+		}
+		return new KPABEHW14HeaderSerParameter(pairingParameters, C0, C1s, C2s, C3s);
+	}
+}
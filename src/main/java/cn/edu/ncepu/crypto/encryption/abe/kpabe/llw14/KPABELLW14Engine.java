@@ -102,6 +102,7 @@ public class KPABELLW14Engine extends KPABEEngine {
 		KPABEEncryptionGenerationParameter encryptionGenerationParameter = new KPABEEncryptionGenerationParameter(
 				publicKey, attributes, message);
 		encryptionGenerationParameter.setChameleonHasher(chameleonHasher);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
 		encryptionGenerator.init(encryptionGenerationParameter);
 		return encryptionGenerator.generateCiphertext();
 	}
@@ -115,6 +116,7 @@ public class KPABELLW14Engine extends KPABEEngine {
 		KPABEEncryptionGenerationParameter encryptionGenerationParameter = new KPABEEncryptionGenerationParameter(
 				publicKey, attributes, null);
 		encryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
 		encryptionGenerator.init(encryptionGenerationParameter);
 
 		return encryptionGenerator.generateEncryptionPair();
@@ -138,6 +140,7 @@ public class KPABELLW14Engine extends KPABEEngine {
 		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, attributes, ciphertext);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
@@ -160,6 +163,7 @@ public class KPABELLW14Engine extends KPABEEngine {
 		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, attributes, header);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
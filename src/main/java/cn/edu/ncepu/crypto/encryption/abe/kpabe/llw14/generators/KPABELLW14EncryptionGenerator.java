@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 
@@ -38,22 +38,23 @@ public class KPABELLW14EncryptionGenerator extends KPABERW13EncryptionGenerator
 		this.chameleonHasher = oriEncryptionParameter.getChameleonHasher();
 		this.publicKeyParameter = (KPABELLW14PublicKeySerParameter) oriEncryptionParameter.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
 		String[] attributes = oriEncryptionParameter.getAttributes();
 		Element[] mappedElementAttributes = PairingUtils.MapStringArrayToFirstHalfZr(pairing, attributes);
 		String[] mappedStringAttributes = PairingUtils.MapElementArrayToStringArray(mappedElementAttributes);
 		KPABEEncryptionGenerationParameter resultEncryptionParameter = new KPABEEncryptionGenerationParameter(
 				oriEncryptionParameter.getPublicKeyParameter(), mappedStringAttributes,
 				oriEncryptionParameter.getMessage());
+		resultEncryptionParameter.setExecutor(oriEncryptionParameter.getExecutor());
 		super.init(resultEncryptionParameter);
 	}
 
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(this.publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(this.publicKeyParameter.getParameters());
 			Element r0 = pairing.getZr().newRandomElement().getImmutable();
-			this.C01 = publicKeyParameter.getG().powZn(r0).getImmutable();
+			this.C01 = publicKeyParameter.powG(r0).getImmutable();
 			AsymmetricKeySerParameter chameleonHashPublicKey = publicKeyParameter.getChameleonHashPublicKey();
 			chameleonHasher.init(false, chameleonHashPublicKey);
 			byte[] byteArrayChPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
@@ -84,8 +85,8 @@ public class KPABELLW14EncryptionGenerator extends KPABERW13EncryptionGenerator
 			Element tempV = PairingUtils.MapByteArrayToSecondHalfZr(pairing, chResult[0]);
 			String mappedStringV = tempV.toString();
 			Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
-			this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(r0)
-					.mul(publicKeyParameter.getW().powZn(s.negate())).getImmutable();
+			this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(r0)
+					.mul(publicKeyParameter.powW(s.negate())).getImmutable();
 		} catch (IOException e) {
 			throw new RuntimeException("Cannot serialize chk.");
 		} catch (CryptoException e) {
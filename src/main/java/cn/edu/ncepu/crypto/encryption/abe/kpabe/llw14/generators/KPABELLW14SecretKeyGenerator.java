@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABESecretKeyGenerationParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.serparams.KPABELLW14SecretKeySerParameter;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13SecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/1.
@@ -21,7 +21,7 @@ public class KPABELLW14SecretKeyGenerator extends KPABERW13SecretKeyGenerator {
 	public void init(KeyGenerationParameters keyGenerationParameter) {
 		KPABESecretKeyGenerationParameter oriParameter = (KPABESecretKeyGenerationParameter) keyGenerationParameter;
 		String[] oriRhos = oriParameter.getRhos();
-		Pairing pairing = PairingFactory.getPairing(oriParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriParameter.getPublicKeyParameter().getParameters());
 		Element[] mappedElementRhos = PairingUtils.MapStringArrayToFirstHalfZr(pairing, oriRhos);
 		String[] mappedRhos = PairingUtils.MapElementArrayToStringArray(mappedElementRhos);
 		KPABESecretKeyGenerationParameter parameter = new KPABESecretKeyGenerationParameter(
@@ -3,12 +3,12 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/1.
@@ -51,11 +51,11 @@ public class KPABELLW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 	}
 
 	public Element getC01() {
-		return this.C01.duplicate();
+		return this.C01;
 	}
 
 	public Element getC02() {
-		return this.C02.duplicate();
+		return this.C02;
 	}
 
 	@Override
@@ -87,7 +87,7 @@ public class KPABELLW14HeaderSerParameter extends KPABERW13HeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C01 = pairing.getG1().newElementFromBytes(this.byteArrayC01).getImmutable();
 		this.C02 = pairing.getG1().newElementFromBytes(this.byteArrayC02).getImmutable();
 	}
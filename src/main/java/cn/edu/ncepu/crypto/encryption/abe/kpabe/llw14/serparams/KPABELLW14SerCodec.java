@@ -0,0 +1,130 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams.DLogKR00bKeySerCodec;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu CCA2-secure KP-ABE headers, ciphertexts and keys.
+ */
+public class KPABELLW14SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x25;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABELLW14HeaderSerParameter.class, KPABELLW14CiphertextSerParameter.class,
+					KPABELLW14PublicKeySerParameter.class, KPABELLW14MasterSecretKeySerParameter.class,
+					KPABELLW14SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABELLW14PublicKeySerParameter) {
+			KPABELLW14PublicKeySerParameter publicKey = (KPABELLW14PublicKeySerParameter) parameter;
+			DLogKR00bKeySerCodec.Write(publicKey.getChameleonHashPublicKey(), output);
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof KPABELLW14MasterSecretKeySerParameter) {
+			output.writeElement(((KPABELLW14MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof KPABELLW14SecretKeySerParameter) {
+			KPABELLW14SecretKeySerParameter secretKey = (KPABELLW14SecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			output.writeElements(secretKey.getK0s(), rhos);
+			output.writeElements(secretKey.getK1s(), rhos);
+			output.writeElements(secretKey.getK2s(), rhos);
+			return;
+		}
+		KPABELLW14HeaderSerParameter header = (KPABELLW14HeaderSerParameter) parameter;
+		if (header instanceof KPABELLW14CiphertextSerParameter) {
+			output.writeElement(((KPABELLW14CiphertextSerParameter) header).getC());
+		}
+		output.writeBytes(header.getChameleonHash());
+		output.writeBytes(header.getR());
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		output.writeElement(header.getC01());
+		output.writeElement(header.getC02());
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), attributes);
+		output.writeElements(header.getC2s(), attributes);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+			return new KPABELLW14PublicKeySerParameter(pairingParameters, chameleonHashPublicKey,
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new KPABELLW14MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			String[] rhos = input.readKeys();
+			Map<String, Element> K0s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K1s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), rhos);
+			return new KPABELLW14SecretKeySerParameter(pairingParameters, accessControlParameter, K0s, K1s, K2s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		String[] attributes = input.readKeys();
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABELLW14CiphertextSerParameter(pairingParameters, chameleonHash, r, C01, C02, C, C0, C1s, C2s);
+		}
+		return new KPABELLW14HeaderSerParameter(pairingParameters, chameleonHash, r, C01, C02, C0, C1s, C2s);
+	}
+}
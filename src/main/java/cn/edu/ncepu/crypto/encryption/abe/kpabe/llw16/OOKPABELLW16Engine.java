@@ -145,6 +145,7 @@ public class OOKPABELLW16Engine extends OOKPABEEngine {
 		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, attributes, ciphertext);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
@@ -167,6 +168,7 @@ public class OOKPABELLW16Engine extends OOKPABEEngine {
 		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
 				accessControlEngine, publicKey, secretKey, attributes, header);
 		decryptionGenerationParameter.setChameleonHasher(this.chameleonHasher);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
 		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.chameleonhash.ChameleonHasher;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEDecryptionGenerationParameter;
@@ -11,7 +13,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -42,7 +43,7 @@ public class KPABELLW16DecryptionGenerator extends KPABEHW14DecryptionGenerator
 		this.chameleonHash = this.headerParameter.getChameleonHash();
 		this.r = this.headerParameter.getR();
 
-		Pairing pairing = PairingFactory
+		Pairing pairing = PairingRegistry
 				.getPairing(oriDecryptionGenerationParameter.getPublicKeyParameter().getParameters());
 		String[] attributes = oriDecryptionGenerationParameter.getAttributes();
 		Element[] mappedElementAttributes = PairingUtils.MapStringArrayToFirstHalfZr(pairing, attributes);
@@ -52,14 +53,15 @@ public class KPABELLW16DecryptionGenerator extends KPABEHW14DecryptionGenerator
 				oriDecryptionGenerationParameter.getPublicKeyParameter(),
 				oriDecryptionGenerationParameter.getSecretKeyParameter(), mappedAttributes,
 				oriDecryptionGenerationParameter.getCiphertextParameter());
+		decryptionGenerationParameter.setExecutor(oriDecryptionGenerationParameter.getExecutor());
 		super.init(decryptionGenerationParameter);
 	}
 
 	private void verifyCiphertext() throws InvalidCipherTextException {
-		Element C0 = headerParameter.getC0().getImmutable();
-		Element C01 = headerParameter.getC01().getImmutable();
-		Element C02 = headerParameter.getC02().getImmutable();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Element C0 = headerParameter.getC0();
+		Element C01 = headerParameter.getC01();
+		Element C02 = headerParameter.getC02();
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		// compute Xch
 		try {
 			chameleonHasher.init(false, chameleonHashPublicKey);
@@ -103,17 +105,17 @@ public class KPABELLW16DecryptionGenerator extends KPABEHW14DecryptionGenerator
 				Element taui = pairing.getZr().newRandomElement().getImmutable();
 				temp1 = temp1
 						.mul(headerParameter.getC2sAt(attribute)
-								.mul(publicKeyParameter.getU().powZn(headerParameter.getC3sAt(attribute))).powZn(taui))
+								.mul(publicKeyParameter.powU(headerParameter.getC3sAt(attribute))).powZn(taui))
 						.getImmutable();
 				temp2 = temp2.add(taui).getImmutable();
 				temp3 = temp3.mul(headerParameter.getC1sAt(attribute).powZn(taui)).getImmutable();
 				temp4 = temp4.mul(headerParameter.getC1sAt(attribute).powZn(elementAttribute.mulZn(taui)))
 						.getImmutable();
 			}
-			Element verifyResult = pairing.pairing(temp1, publicKeyParameter.getG())
-					.mul(pairing.pairing(headerParameter.getC0(), publicKeyParameter.getW()).powZn(temp2))
-					.div(pairing.pairing(temp3, publicKeyParameter.getH()))
-					.div(pairing.pairing(temp4, publicKeyParameter.getU())).getImmutable();
+			Element verifyResult = new MultiPairing(pairing, null, this.parameter.getExecutor())
+					.mul(temp1, publicKeyParameter.getG())
+					.mul(headerParameter.getC0(), publicKeyParameter.getW(), temp2)
+					.div(temp3, publicKeyParameter.getH()).div(temp4, publicKeyParameter.getU()).evaluate();
 			if (!verifyResult.equals(pairing.getGT().newOneElement())) {
 				throw new InvalidCipherTextException("Illegal ciphertext, reject to decrypt.");
 			}
@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -17,7 +18,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -59,7 +59,7 @@ public class KPABELLW16EncryptionGenerator extends KPABEHW14EncryptionGenerator
 			this.chameleonHashPublicKey = chKeyPair.getPublic();
 			this.chameleonHashSecretKey = chKeyPair.getPrivate();
 		}
-		Pairing pairing = PairingFactory.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
 		String[] attributes = oriEncryptionParameter.getAttributes();
 		Element[] mappedElementAttributes = PairingUtils.MapStringArrayToFirstHalfZr(pairing, attributes);
 		String[] mappedStringAttributes = PairingUtils.MapElementArrayToStringArray(mappedElementAttributes);
@@ -79,15 +79,15 @@ public class KPABELLW16EncryptionGenerator extends KPABEHW14EncryptionGenerator
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(this.publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(this.publicKeyParameter.getParameters());
 			if (this.parameter.isIntermediateGeneration()) {
-				this.C01 = this.intermediate.getC01().getImmutable();
-				this.C02 = this.intermediate.getC02().getImmutable();
+				this.C01 = this.intermediate.getC01();
+				this.C02 = this.intermediate.getC02();
 				this.chameleonHash = this.intermediate.getChameleonHash();
 				this.r = this.intermediate.getR();
 			} else {
 				Element r0 = pairing.getZr().newRandomElement().getImmutable();
-				this.C01 = publicKeyParameter.getG().powZn(r0).getImmutable();
+				this.C01 = publicKeyParameter.powG(r0).getImmutable();
 				chameleonHasher.init(false, chameleonHashPublicKey);
 				byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 				chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -97,8 +97,8 @@ public class KPABELLW16EncryptionGenerator extends KPABEHW14EncryptionGenerator
 				Element tempV = PairingUtils.MapByteArrayToSecondHalfZr(pairing, chResult[0]);
 				String mappedStringV = tempV.toString();
 				Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
-				this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(r0)
-						.mul(publicKeyParameter.getW().powZn(s.negate())).getImmutable();
+				this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(r0)
+						.mul(publicKeyParameter.powW(s.negate())).getImmutable();
 			}
 			chameleonHasher.init(true, chameleonHashSecretKey);
 			byte[] byteArrayChPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -55,7 +55,7 @@ public class KPABELLW16IntermediateGenerator extends KPABEHW14IntermediateGenera
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			chameleonHasher.init(false, chameleonHashPublicKey);
 			byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 			chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -66,9 +66,9 @@ public class KPABELLW16IntermediateGenerator extends KPABEHW14IntermediateGenera
 			String mappedStringV = tempV.toString();
 			Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
 			Element r0 = pairing.getZr().newRandomElement().getImmutable();
-			this.C01 = publicKeyParameter.getG().powZn(r0).getImmutable();
-			this.C02 = publicKeyParameter.getU().powZn(V).mul(publicKeyParameter.getH()).powZn(r0)
-					.mul(publicKeyParameter.getW().powZn(s.negate())).getImmutable();
+			this.C01 = publicKeyParameter.powG(r0).getImmutable();
+			this.C02 = publicKeyParameter.powU(V).mul(publicKeyParameter.getH()).powZn(r0)
+					.mul(publicKeyParameter.powW(s.negate())).getImmutable();
 		} catch (IOException e) {
 			throw new RuntimeException("Cannot serialize chk.");
 		} catch (CryptoException e) {
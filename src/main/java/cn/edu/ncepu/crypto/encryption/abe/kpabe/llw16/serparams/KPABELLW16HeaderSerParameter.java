@@ -3,13 +3,13 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.serparams;
 import java.util.Arrays;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.serparams.KPABEHW14HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/3.
@@ -61,11 +61,11 @@ public class KPABELLW16HeaderSerParameter extends KPABEHW14HeaderSerParameter {
 	}
 
 	public Element getC01() {
-		return this.C01.duplicate();
+		return this.C01;
 	}
 
 	public Element getC02() {
-		return this.C02.duplicate();
+		return this.C02;
 	}
 
 	@Override
@@ -101,7 +101,7 @@ public class KPABELLW16HeaderSerParameter extends KPABEHW14HeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C01 = pairing.getG1().newElementFromBytes(this.byteArrayC01).getImmutable();
 		this.C02 = pairing.getG1().newElementFromBytes(this.byteArrayC02).getImmutable();
 	}
@@ -0,0 +1,174 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams.DLogKR00bKeySerCodec;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu KP-ABE headers, ciphertexts, intermediates and keys.
+ */
+public class KPABELLW16SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x26;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABELLW16HeaderSerParameter.class, KPABELLW16CiphertextSerParameter.class,
+					KPABELLW16PublicKeySerParameter.class, KPABELLW16MasterSecretKeySerParameter.class,
+					KPABELLW16SecretKeySerParameter.class, KPABELLW16IntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABELLW16PublicKeySerParameter) {
+			KPABELLW16PublicKeySerParameter publicKey = (KPABELLW16PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof KPABELLW16MasterSecretKeySerParameter) {
+			output.writeElement(((KPABELLW16MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof KPABELLW16SecretKeySerParameter) {
+			KPABELLW16SecretKeySerParameter secretKey = (KPABELLW16SecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			output.writeElements(secretKey.getK0s(), rhos);
+			output.writeElements(secretKey.getK1s(), rhos);
+			output.writeElements(secretKey.getK2s(), rhos);
+			return;
+		}
+		if (parameter instanceof KPABELLW16IntermediateSerParameter) {
+			KPABELLW16IntermediateSerParameter intermediate = (KPABELLW16IntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeBytes(intermediate.getChameleonHash());
+			output.writeBytes(intermediate.getR());
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashPublicKey(), output);
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashSecretKey(), output);
+			output.writeElement(intermediate.getC01());
+			output.writeElement(intermediate.getC02());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getRs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			return;
+		}
+		KPABELLW16HeaderSerParameter header = (KPABELLW16HeaderSerParameter) parameter;
+		if (header instanceof KPABELLW16CiphertextSerParameter) {
+			output.writeElement(((KPABELLW16CiphertextSerParameter) header).getC());
+		}
+		output.writeBytes(header.getChameleonHash());
+		output.writeBytes(header.getR());
+		DLogKR00bKeySerCodec.Write(header.getChameleonHashPublicKey(), output);
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		output.writeElement(header.getC01());
+		output.writeElement(header.getC02());
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), attributes);
+		output.writeElements(header.getC2s(), attributes);
+		output.writeElements(header.getC3s(), attributes);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new KPABELLW16PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new KPABELLW16MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			String[] rhos = input.readKeys();
+			Map<String, Element> K0s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K1s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), rhos);
+			return new KPABELLW16SecretKeySerParameter(pairingParameters, accessControlParameter, K0s, K1s, K2s);
+		case KIND_INTERMEDIATE:
+			return decodeIntermediate(pairingParameters, pairing, input);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		String[] attributes = input.readKeys();
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C3s = input.readElements(pairing.getZr(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABELLW16CiphertextSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey,
+					C01, C02, C, C0, C1s, C2s, C3s);
+		}
+		return new KPABELLW16HeaderSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey, C01, C02,
+				C0, C1s, C2s, C3s);
+	}
+
+	private static PairingCipherSerParameter decodeIntermediate(PairingParameters pairingParameters, Pairing pairing,
+			PairingSerInput input) throws IOException {
+		int n = input.readVarInt();
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		AsymmetricKeySerParameter chameleonHashSecretKey = DLogKR00bKeySerCodec.Read(input);
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element sessionKey = input.readElement(pairing.getGT());
+		Element s = input.readElement(pairing.getZr());
+		Element C0 = input.readElement(pairing.getG1());
+		Element[] rs = input.readElementArray(pairing.getZr());
+		Element[] xs = input.readElementArray(pairing.getZr());
+		Element[] C1s = input.readElementArray(pairing.getG1());
+		Element[] C2s = input.readElementArray(pairing.getG1());
+		return new KPABELLW16IntermediateSerParameter(pairingParameters, n, chameleonHash, r, chameleonHashPublicKey,
+				chameleonHashSecretKey, C01, C02, sessionKey, s, C0, rs, xs, C1s, C2s);
+	}
+}
@@ -76,7 +76,10 @@ public class KPABERW13Engine extends KPABEEngine {
 					KPABERW13PublicKeySerParameter.class.getName());
 		}
 		KPABERW13EncryptionGenerator encryptionGenerator = new KPABERW13EncryptionGenerator();
-		encryptionGenerator.init(new KPABEEncryptionGenerationParameter(publicKey, attributes, message));
+		KPABEEncryptionGenerationParameter encryptionGenerationParameter = new KPABEEncryptionGenerationParameter(
+				publicKey, attributes, message);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 
 		return encryptionGenerator.generateCiphertext();
 	}
@@ -87,7 +90,10 @@ public class KPABERW13Engine extends KPABEEngine {
 					KPABERW13PublicKeySerParameter.class.getName());
 		}
 		KPABERW13EncryptionGenerator encryptionGenerator = new KPABERW13EncryptionGenerator();
-		encryptionGenerator.init(new KPABEEncryptionGenerationParameter(publicKey, attributes, null));
+		KPABEEncryptionGenerationParameter encryptionGenerationParameter = new KPABEEncryptionGenerationParameter(
+				publicKey, attributes, null);
+		encryptionGenerationParameter.setExecutor(this.encryptionExecutor);
+		encryptionGenerator.init(encryptionGenerationParameter);
 
 		return encryptionGenerator.generateEncryptionPair();
 	}
@@ -107,8 +113,10 @@ public class KPABERW13Engine extends KPABEEngine {
 					KPABERW13CiphertextSerParameter.class.getName());
 		}
 		KPABERW13DecryptionGenerator decryptionGenerator = new KPABERW13DecryptionGenerator();
-		decryptionGenerator.init(new KPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey,
-				attributes, ciphertext));
+		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, attributes, ciphertext);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverMessage();
 	}
 
@@ -127,8 +135,10 @@ public class KPABERW13Engine extends KPABEEngine {
 					KPABERW13HeaderSerParameter.class.getName());
 		}
 		KPABERW13DecryptionGenerator decryptionGenerator = new KPABERW13DecryptionGenerator();
-		decryptionGenerator.init(
-				new KPABEDecryptionGenerationParameter(accessControlEngine, publicKey, secretKey, attributes, header));
+		KPABEDecryptionGenerationParameter decryptionGenerationParameter = new KPABEDecryptionGenerationParameter(
+				accessControlEngine, publicKey, secretKey, attributes, header);
+		decryptionGenerationParameter.setExecutor(this.decryptionExecutor);
+		decryptionGenerator.init(decryptionGenerationParameter);
 		return decryptionGenerator.recoverKey();
 	}
 }
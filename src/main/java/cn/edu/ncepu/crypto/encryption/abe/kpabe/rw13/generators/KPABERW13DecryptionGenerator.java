@@ -8,6 +8,8 @@ import org.bouncycastle.crypto.InvalidCipherTextException;
 import cn.edu.ncepu.crypto.access.AccessControlEngine;
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEDecryptionGenerationParameter;
@@ -17,7 +19,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13PublicKe
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13SecretKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -42,23 +43,22 @@ public class KPABERW13DecryptionGenerator implements PairingDecryptionGenerator,
 		AccessControlParameter accessControlParameter = secretKeyParameter.getAccessControlParameter();
 		AccessControlEngine accessControlEngine = this.parameter.getAccessControlEngine();
 		String[] attributes = this.parameter.getAttributes();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
 			Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing, attributes,
 					accessControlParameter);
-			this.sessionKey = pairing.getGT().newOneElement().getImmutable();
+			// sessionKey = prod (e(K0, C0) * e(K1, C1) * e(K2, C2))^lambda,
+			// where all e(K0, C0)^lambda share C0 and are merged into one pairing
+			MultiPairing multiPairing = new MultiPairing(pairing, secretKeyParameter, this.parameter.getExecutor());
 			for (String attribute : omegaElementsMap.keySet()) {
-				Element C0 = ciphertextParameter.getC0();
-				Element K0 = secretKeyParameter.getK0sAt(attribute);
-				Element C1 = ciphertextParameter.getC1sAt(attribute);
-				Element K1 = secretKeyParameter.getK1sAt(attribute);
-				Element C2 = ciphertextParameter.getC2sAt(attribute);
-				Element K2 = secretKeyParameter.getK2sAt(attribute);
 				Element lambda = omegaElementsMap.get(attribute);
-				sessionKey = sessionKey.mul(
-						pairing.pairing(C0, K0).mul(pairing.pairing(C1, K1)).mul(pairing.pairing(C2, K2)).powZn(lambda))
-						.getImmutable();
+				multiPairing.mul(secretKeyParameter.getK0sAt(attribute), ciphertextParameter.getC0(), lambda);
+				multiPairing.mulKey(ciphertextParameter.getC1sAt(attribute), secretKeyParameter.getK1sAt(attribute),
+						lambda);
+				multiPairing.mulKey(ciphertextParameter.getC2sAt(attribute), secretKeyParameter.getK2sAt(attribute),
+						lambda);
 			}
+			this.sessionKey = multiPairing.evaluate();
 		} catch (UnsatisfiedAccessControlException e) {
 			throw new InvalidCipherTextException(
 					"Attributes associated with the ciphertext do not satisfy access policy associated with the secret key.");
@@ -1,10 +1,12 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.generators;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -14,9 +16,9 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13Cipherte
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13PublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
+import cn.edu.ncepu.crypto.utils.ParallelUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -39,22 +41,28 @@ public class KPABERW13EncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	protected void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] attributes = this.parameter.getAttributes();
 		this.s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 		this.C1s = new HashMap<String, Element>();
 		this.C2s = new HashMap<String, Element>();
-		for (String attribute : attributes) {
-			Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attribute,
+		Element[] rs = new Element[attributes.length];
+		for (int i = 0; i < rs.length; i++) {
+			rs[i] = pairing.getZr().newRandomElement().getImmutable();
+		}
+		Element wNegS = publicKeyParameter.powW(s.negate()).getImmutable();
+		List<Element[]> components = ParallelUtils.Compute(this.parameter.getExecutor(), attributes.length, i -> {
+			Element elementAttribute = PairingUtils.MapStringToGroup(pairing, attributes[i],
 					PairingUtils.PairingGroupType.Zr);
-			Element ri = pairing.getZr().newRandomElement().getImmutable();
-			Element C1 = publicKeyParameter.getG().powZn(ri).getImmutable();
-			C1s.put(attribute, C1);
-			Element C2 = publicKeyParameter.getU().powZn(elementAttribute).mul(publicKeyParameter.getH()).powZn(ri)
-					.mul(publicKeyParameter.getW().powZn(s.negate())).getImmutable();
-			C2s.put(attribute, C2);
+			return new Element[] { publicKeyParameter.powG(rs[i]).getImmutable(),
+					publicKeyParameter.powU(elementAttribute).mul(publicKeyParameter.getH()).powZn(rs[i]).mul(wNegS)
+							.getImmutable() };
+		});
+		for (int i = 0; i < attributes.length; i++) {
+			C1s.put(attributes[i], components.get(i)[0]);
+			C2s.put(attributes[i], components.get(i)[1]);
 		}
 	}
 
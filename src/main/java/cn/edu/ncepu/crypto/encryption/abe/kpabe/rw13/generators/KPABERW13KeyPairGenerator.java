@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABEKeyPairGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13MasterSe
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13PublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -24,7 +24,7 @@ public class KPABERW13KeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
 		Element g = pairing.getG1().newRandomElement().getImmutable();
@@ -7,6 +7,7 @@ import java.util.Map;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.genparams.KPABESecretKeyGenerationParameter;
@@ -16,7 +17,6 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13SecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -41,9 +41,9 @@ public class KPABERW13SecretKeyGenerator implements PairingKeyParameterGenerator
 		Map<String, Element> K1s = new HashMap<String, Element>();
 		Map<String, Element> K2s = new HashMap<String, Element>();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		try {
-			Element alpha = masterSecretKeyParameter.getAlpha().getImmutable();
+			Element alpha = masterSecretKeyParameter.getAlpha();
 			AccessControlParameter accessControlParameter = this.parameters.getAccessControlEngine()
 					.generateAccessControl(accessPolicy, stringRhos);
 			Map<String, Element> lambdaElementsMap = this.parameters.getAccessControlEngine().secretSharing(pairing,
@@ -51,13 +51,13 @@ public class KPABERW13SecretKeyGenerator implements PairingKeyParameterGenerator
 			for (String rho : lambdaElementsMap.keySet()) {
 				Element elementRho = PairingUtils.MapStringToGroup(pairing, rho, PairingUtils.PairingGroupType.Zr);
 				Element ti = pairing.getZr().newRandomElement().getImmutable();
-				Element K0 = publicKeyParameter.getG().powZn(lambdaElementsMap.get(rho))
-						.mul(publicKeyParameter.getW().powZn(ti)).getImmutable();
+				Element K0 = publicKeyParameter.powG(lambdaElementsMap.get(rho))
+						.mul(publicKeyParameter.powW(ti)).getImmutable();
 				K0s.put(rho, K0);
-				Element K1 = publicKeyParameter.getU().powZn(elementRho).mul(publicKeyParameter.getH())
+				Element K1 = publicKeyParameter.powU(elementRho).mul(publicKeyParameter.getH())
 						.powZn(ti.negate()).getImmutable();
 				K1s.put(rho, K1);
-				Element K2 = publicKeyParameter.getG().powZn(ti).getImmutable();
+				Element K2 = publicKeyParameter.powG(ti).getImmutable();
 				K2s.put(rho, K2);
 			}
 			return new KPABERW13SecretKeySerParameter(publicKeyParameter.getParameters(), accessControlParameter, K0s,
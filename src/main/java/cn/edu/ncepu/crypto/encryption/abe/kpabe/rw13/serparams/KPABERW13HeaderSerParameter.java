@@ -1,15 +1,15 @@
 package cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/30.
@@ -28,10 +28,10 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	protected final byte[] byteArrayC0;
 
 	protected transient Map<String, Element> C1s;
-	private final byte[][] byteArraysC1s;
+	private byte[][] byteArraysC1s;
 
 	protected transient Map<String, Element> C2s;
-	private final byte[][] byteArraysC2s;
+	private byte[][] byteArraysC2s;
 
 	public KPABERW13HeaderSerParameter(PairingParameters pairingParameters, Element C0, Map<String, Element> C1s,
 			Map<String, Element> C2s) {
@@ -41,25 +41,16 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 		this.C0 = C0.getImmutable();
 		this.byteArrayC0 = this.C0.toBytes();
 
-		this.C1s = new HashMap<String, Element>();
-		this.byteArraysC1s = new byte[this.attributes.length][];
-
-		this.C2s = new HashMap<String, Element>();
-		this.byteArraysC2s = new byte[this.attributes.length][];
-
-		for (int i = 0; i < this.attributes.length; i++) {
-			Element C1 = C1s.get(this.attributes[i]).duplicate().getImmutable();
-			this.C1s.put(this.attributes[i], C1);
-			this.byteArraysC1s[i] = C1.toBytes();
+		this.C1s = LazyElementMap.ImmutableElements(C1s, this.attributes);
+		this.C2s = LazyElementMap.ImmutableElements(C2s, this.attributes);
+	}
 
-			Element C2 = C2s.get(this.attributes[i]).duplicate().getImmutable();
-			this.C2s.put(this.attributes[i], C2);
-			this.byteArraysC2s[i] = C2.toBytes();
-		}
+	public String[] getAttributes() {
+		return this.attributes.clone();
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	public Map<String, Element> getC1s() {
@@ -67,7 +58,7 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC1sAt(String attribute) {
-		return this.C1s.get(attribute).duplicate();
+		return this.C1s.get(attribute);
 	}
 
 	public Map<String, Element> getC2s() {
@@ -75,7 +66,7 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC2sAt(String attribute) {
-		return this.C2s.get(attribute).duplicate();
+		return this.C2s.get(attribute);
 	}
 
 	@Override
@@ -85,6 +76,8 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof KPABERW13HeaderSerParameter) {
 			KPABERW13HeaderSerParameter that = (KPABERW13HeaderSerParameter) anObject;
+			this.encodeElements();
+			that.encodeElements();
 			// Compare C0
 			if (!PairingUtils.isEqualElement(this.C0, that.C0)) {
 				return false;
@@ -107,21 +100,30 @@ public class KPABERW13HeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
 
+	private synchronized void encodeElements() {
+		// elements decoded by PairingSerCodecs are kept encoded, so the byte arrays are computed on demand
+		if (this.byteArraysC1s == null) {
+			this.byteArraysC1s = LazyElementMap.ToByteArrays(this.C1s, this.attributes);
+			this.byteArraysC2s = LazyElementMap.ToByteArrays(this.C2s, this.attributes);
+		}
+	}
+
+	private void writeObject(java.io.ObjectOutputStream objectOutputStream) throws java.io.IOException {
+		encodeElements();
+		objectOutputStream.defaultWriteObject();
+	}
+
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
-		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0);
-		this.C1s = new HashMap<String, Element>();
-		this.C2s = new HashMap<String, Element>();
-		for (int i = 0; i < this.attributes.length; i++) {
-			this.C1s.put(this.attributes[i], pairing.getG1().newElementFromBytes(this.byteArraysC1s[i]).getImmutable());
-			this.C2s.put(this.attributes[i], pairing.getG1().newElementFromBytes(this.byteArraysC2s[i]).getImmutable());
-		}
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0).getImmutable();
+		this.C1s = new LazyElementMap(pairing.getG1(), this.attributes, this.byteArraysC1s);
+		this.C2s = new LazyElementMap(pairing.getG1(), this.attributes, this.byteArraysC2s);
 	}
 }
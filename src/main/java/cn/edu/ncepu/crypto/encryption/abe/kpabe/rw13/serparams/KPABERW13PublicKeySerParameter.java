@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/30.
@@ -55,23 +55,39 @@ public class KPABERW13PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getU() {
-		return this.u.duplicate();
+		return this.u;
+	}
+
+	public Element powU(Element exponent) {
+		return powZn("u", this.u, exponent);
 	}
 
 	public Element getH() {
-		return this.h.duplicate();
+		return this.h;
 	}
 
 	public Element getW() {
-		return this.w.duplicate();
+		return this.w;
+	}
+
+	public Element powW(Element exponent) {
+		return powZn("w", this.w, exponent);
 	}
 
 	public Element getEggAlpha() {
-		return this.eggAlpha.duplicate();
+		return this.eggAlpha;
+	}
+
+	public Element powEggAlpha(Element exponent) {
+		return powZn("eggAlpha", this.eggAlpha, exponent);
 	}
 
 	@Override
@@ -117,7 +133,7 @@ public class KPABERW13PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -125,7 +141,7 @@ public class KPABERW13PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.u = pairing.getG1().newElementFromBytes(this.byteArrayU).getImmutable();
 		this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
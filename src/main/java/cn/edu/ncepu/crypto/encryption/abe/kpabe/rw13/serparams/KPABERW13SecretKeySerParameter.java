@@ -4,12 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/30.
@@ -47,12 +47,12 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 		this.byteArraysK2s = new HashMap<String, byte[]>();
 
 		for (String rho : K0s.keySet()) {
-			this.K0s.put(rho, K0s.get(rho).duplicate().getImmutable());
-			this.byteArraysK0s.put(rho, K0s.get(rho).duplicate().getImmutable().toBytes());
-			this.K1s.put(rho, K1s.get(rho).duplicate().getImmutable());
-			this.byteArraysK1s.put(rho, K1s.get(rho).duplicate().getImmutable().toBytes());
-			this.K2s.put(rho, K2s.get(rho).duplicate().getImmutable());
-			this.byteArraysK2s.put(rho, K2s.get(rho).duplicate().getImmutable().toBytes());
+			this.K0s.put(rho, K0s.get(rho).getImmutable());
+			this.byteArraysK0s.put(rho, K0s.get(rho).getImmutable().toBytes());
+			this.K1s.put(rho, K1s.get(rho).getImmutable());
+			this.byteArraysK1s.put(rho, K1s.get(rho).getImmutable().toBytes());
+			this.K2s.put(rho, K2s.get(rho).getImmutable());
+			this.byteArraysK2s.put(rho, K2s.get(rho).getImmutable().toBytes());
 		}
 	}
 
@@ -69,7 +69,7 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK0sAt(String rho) {
-		return this.K0s.get(rho).duplicate();
+		return this.K0s.get(rho);
 	}
 
 	public Map<String, Element> getK1s() {
@@ -77,7 +77,7 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK1sAt(String rho) {
-		return this.K1s.get(rho).duplicate();
+		return this.K1s.get(rho);
 	}
 
 	public Map<String, Element> getK2s() {
@@ -85,7 +85,7 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getK2sAt(String rho) {
-		return this.K2s.get(rho).duplicate();
+		return this.K2s.get(rho);
 	}
 
 	@Override
@@ -121,7 +121,7 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -129,7 +129,7 @@ public class KPABERW13SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.K0s = new HashMap<String, Element>();
 		this.K1s = new HashMap<String, Element>();
 		this.K2s = new HashMap<String, Element>();
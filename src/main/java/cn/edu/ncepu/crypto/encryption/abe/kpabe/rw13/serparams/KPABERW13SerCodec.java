@@ -0,0 +1,117 @@
+package cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessControlSerCodec;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Rouselakis-Waters KP-ABE headers, ciphertexts and keys.
+ */
+public class KPABERW13SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x23;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					KPABERW13HeaderSerParameter.class, KPABERW13CiphertextSerParameter.class,
+					KPABERW13PublicKeySerParameter.class, KPABERW13MasterSecretKeySerParameter.class,
+					KPABERW13SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof KPABERW13PublicKeySerParameter) {
+			KPABERW13PublicKeySerParameter publicKey = (KPABERW13PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof KPABERW13MasterSecretKeySerParameter) {
+			output.writeElement(((KPABERW13MasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof KPABERW13SecretKeySerParameter) {
+			KPABERW13SecretKeySerParameter secretKey = (KPABERW13SecretKeySerParameter) parameter;
+			AccessControlSerCodec.Write(secretKey.getAccessControlParameter(), output);
+			String[] rhos = secretKey.getRhos();
+			output.writeStrings(rhos);
+			output.writeElements(secretKey.getK0s(), rhos);
+			output.writeElements(secretKey.getK1s(), rhos);
+			output.writeElements(secretKey.getK2s(), rhos);
+			return;
+		}
+		KPABERW13HeaderSerParameter header = (KPABERW13HeaderSerParameter) parameter;
+		if (header instanceof KPABERW13CiphertextSerParameter) {
+			output.writeElement(((KPABERW13CiphertextSerParameter) header).getC());
+		}
+		String[] attributes = header.getAttributes();
+		output.writeStrings(attributes);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), attributes);
+		output.writeElements(header.getC2s(), attributes);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new KPABERW13PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new KPABERW13MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			AccessControlParameter accessControlParameter = AccessControlSerCodec.Read(input);
+			String[] rhos = input.readKeys();
+			Map<String, Element> K0s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K1s = input.readElements(pairing.getG1(), rhos);
+			Map<String, Element> K2s = input.readElements(pairing.getG1(), rhos);
+			return new KPABERW13SecretKeySerParameter(pairingParameters, accessControlParameter, K0s, K1s, K2s);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] attributes = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), attributes);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), attributes);
+		if (kind == KIND_CIPHERTEXT) {
+			return new KPABERW13CiphertextSerParameter(pairingParameters, C, C0, C1s, C2s);
+		}
+		return new KPABERW13HeaderSerParameter(pairingParameters, C0, C1s, C2s);
+	}
+}
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.be.bgw05.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05HeaderSerParameter;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05PublicKeySerParameter;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05SecretKeySerPara
 import cn.edu.ncepu.crypto.encryption.be.genparams.BEDecapsulationGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -32,7 +32,7 @@ public class BEBGW05DecapsulationGenerator implements PairingDecapsulationGenera
 		BEBGW05HeaderSerParameter ciphertextParameters = (BEBGW05HeaderSerParameter) this.params
 				.getCiphertextParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 
 		int i = secretKeyParameters.getIndex();
 		int[] indexSet = this.params.getIndexSet();
@@ -51,7 +51,7 @@ public class BEBGW05DecapsulationGenerator implements PairingDecapsulationGenera
 			throw new InvalidCipherTextException("index is not in the indexSet: " + i);
 		}
 		// decapsulation
-		Element temp = secretKeyParameters.getD().getImmutable();
+		Element temp = secretKeyParameters.getD();
 		for (int j : indexSet) {
 			if (j == i) {
 				continue;
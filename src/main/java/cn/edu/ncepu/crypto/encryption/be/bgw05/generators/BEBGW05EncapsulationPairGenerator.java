@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.be.bgw05.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05HeaderSerParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05PublicKeySerPara
 import cn.edu.ncepu.crypto.encryption.be.genparams.BEEncapsulationGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -27,7 +27,7 @@ public class BEBGW05EncapsulationPairGenerator implements PairingEncapsulationPa
 	public PairingKeyEncapsulationSerPair generateEncryptionPair() {
 		BEBGW05PublicKeySerParameter publicKeyParameters = (BEBGW05PublicKeySerParameter) this.params
 				.getPublicKeyParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		int[] indexSet = this.params.getIndexSet();
 		Element t = pairing.getZr().newRandomElement().getImmutable();
 		// Computer session key
@@ -35,10 +35,10 @@ public class BEBGW05EncapsulationPairGenerator implements PairingEncapsulationPa
 				publicKeyParameters.getGsAt(publicKeyParameters.getMaxUserNum())).powZn(t).getImmutable();
 
 		// Computer C0
-		Element C0 = publicKeyParameters.getG().powZn(t).getImmutable();
+		Element C0 = publicKeyParameters.powG(t).getImmutable();
 
 		// Compute C1
-		Element C1 = publicKeyParameters.getV().getImmutable();
+		Element C1 = publicKeyParameters.getV();
 		for (int j : indexSet) {
 			if (j > publicKeyParameters.getMaxUserNum() || j < 1) {
 				throw new IllegalArgumentException("Illegal index in the indexSet: " + j);
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.be.bgw05.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05MasterSecretKeySerParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.be.bgw05.serparams.BEBGW05PublicKeySerPara
 import cn.edu.ncepu.crypto.encryption.be.genparams.BEKeyPairGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -24,7 +24,7 @@ public class BEBGW05KeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 
 		Element gamma = pairing.getZr().newRandomElement().getImmutable();
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
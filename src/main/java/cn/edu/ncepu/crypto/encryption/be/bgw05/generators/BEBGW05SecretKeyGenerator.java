@@ -31,7 +31,7 @@ public class BEBGW05SecretKeyGenerator implements PairingKeyParameterGenerator {
 		if (index > publicKeyParameter.getMaxUserNum() || index < 1) {
 			throw new IllegalArgumentException("Illegal index: " + index);
 		}
-		Element d = publicKeyParameter.getGsAt(index).powZn(masterSecretKeyParameter.getGamma()).getImmutable();
+		Element d = publicKeyParameter.powGsAt(index, masterSecretKeyParameter.getGamma()).getImmutable();
 		return new BEBGW05SecretKeySerParameter(publicKeyParameter.getParameters(), index, d);
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.be.bgw05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -30,7 +30,7 @@ public class BEBGW05MasterSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getGamma() {
-		return this.gamma.duplicate();
+		return this.gamma;
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class BEBGW05MasterSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -56,7 +56,7 @@ public class BEBGW05MasterSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.gamma = pairing.getZr().newElementFromBytes(this.byteArrayGamma).getImmutable();
 	}
 }
\ No newline at end of file
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.be.bgw05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -53,15 +53,27 @@ public class BEBGW05PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getGsAt(int index) {
-		return this.gs[index].duplicate();
+		return this.gs[index];
+	}
+
+	public Element[] getGs() {
+		return this.gs;
+	}
+
+	public Element powGsAt(int index, Element exponent) {
+		return powZn("gs[" + index + "]", this.gs[index], exponent);
 	}
 
 	public Element getV() {
-		return this.v.duplicate();
+		return this.v;
 	}
 
 	@Override
@@ -97,7 +109,7 @@ public class BEBGW05PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -105,7 +117,7 @@ public class BEBGW05PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.gs = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysGs, PairingUtils.PairingGroupType.G1);
 		this.v = pairing.getG1().newElementFromBytes(this.byteArrayV).getImmutable();
@@ -0,0 +1,85 @@
+package cn.edu.ncepu.crypto.encryption.be.bgw05.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Gentry-Waters BE headers and keys.
+ */
+public class BEBGW05SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x61;
+	private static final int KIND_PUBLIC_KEY = 1;
+	private static final int KIND_MASTER_SECRET_KEY = 2;
+	private static final int KIND_SECRET_KEY = 3;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					BEBGW05HeaderSerParameter.class, BEBGW05PublicKeySerParameter.class,
+					BEBGW05MasterSecretKeySerParameter.class, BEBGW05SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof BEBGW05PublicKeySerParameter) {
+			BEBGW05PublicKeySerParameter publicKey = (BEBGW05PublicKeySerParameter) parameter;
+			output.writeVarInt(publicKey.getMaxUserNum());
+			output.writeElement(publicKey.getG());
+			// g_0 is unused and g_{n + 1} must stay secret, both are null
+			output.writeNullableElementArray(publicKey.getGs());
+			output.writeElement(publicKey.getV());
+			return;
+		}
+		if (parameter instanceof BEBGW05MasterSecretKeySerParameter) {
+			output.writeElement(((BEBGW05MasterSecretKeySerParameter) parameter).getGamma());
+			return;
+		}
+		if (parameter instanceof BEBGW05SecretKeySerParameter) {
+			BEBGW05SecretKeySerParameter secretKey = (BEBGW05SecretKeySerParameter) parameter;
+			output.writeVarInt(secretKey.getIndex());
+			output.writeElement(secretKey.getD());
+			return;
+		}
+		BEBGW05HeaderSerParameter header = (BEBGW05HeaderSerParameter) parameter;
+		output.writeElement(header.getC0());
+		output.writeElement(header.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new BEBGW05PublicKeySerParameter(pairingParameters, input.readVarInt(),
+					input.readElement(pairing.getG1()), input.readNullableElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new BEBGW05MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new BEBGW05SecretKeySerParameter(pairingParameters, input.readVarInt(),
+					input.readElement(pairing.getG1()));
+		default:
+			return new BEBGW05HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
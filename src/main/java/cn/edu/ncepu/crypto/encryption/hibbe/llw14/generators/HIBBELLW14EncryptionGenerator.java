@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw14.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams.HIBBELLW14PublicKeyS
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/16.
@@ -34,7 +34,7 @@ public class HIBBELLW14EncryptionGenerator implements PairingEncryptionGenerator
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] ids = this.params.getIds();
 		if (ids.length != publicKeyParameter.getMaxUser()) {
 			throw new IllegalArgumentException("Invalid identity vector set length");
@@ -42,12 +42,12 @@ public class HIBBELLW14EncryptionGenerator implements PairingEncryptionGenerator
 		Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 
 		Element beta = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(beta).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(beta).getImmutable();
-		this.C1 = publicKeyParameter.getH().getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(beta).getImmutable();
+		this.C0 = publicKeyParameter.powG(beta).getImmutable();
+		this.C1 = publicKeyParameter.getH();
 		for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 			if (ids[i] != null) {
-				C1 = C1.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+				C1 = C1.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 			}
 		}
 		C1 = C1.powZn(beta).getImmutable();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw14.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDelegateGenerationParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams.HIBBELLW14SecretKeyS
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/16.
@@ -39,7 +39,7 @@ public class HIBBELLW14SecretKeyGenerator implements PairingKeyParameterGenerato
 			if (parameter.getIds().length != publicKeyParameter.getMaxUser()) {
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameter.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element r = pairing.getZr().newRandomElement().getImmutable();
@@ -47,25 +47,25 @@ public class HIBBELLW14SecretKeyGenerator implements PairingKeyParameterGenerato
 			Element a1_r = pairing.getZr().newRandomElement().getImmutable();
 			Element[] bs_r = new Element[publicKeyParameter.getMaxUser()];
 
-			Element a1 = publicKeyParameter.getG().powZn(r).mul(publicKeyParameter.getX3().powZn(a1_r)).getImmutable();
-			Element a0 = publicKeyParameter.getH().getImmutable();
+			Element a1 = publicKeyParameter.powG(r).mul(publicKeyParameter.powX3(a1_r)).getImmutable();
+			Element a0 = publicKeyParameter.getH();
 			Element[] bs = new Element[publicKeyParameter.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 				if (parameter.getIdAt(i) != null) {
 					// Compute a0
-					a0 = a0.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					// Set h[i] to be h_i^r
 					bs_r[i] = pairing.getZr().newRandomElement().getImmutable();
-					bs[i] = publicKeyParameter.getUsAt(i).powZn(r).mul(publicKeyParameter.getX3().powZn(bs_r[i]))
+					bs[i] = publicKeyParameter.powUsAt(i, r).mul(publicKeyParameter.powX3(bs_r[i]))
 							.getImmutable();
 				}
 			}
 			// raise a0 to the power of r and then multiple it by gAlpha
-			a0 = a0.powZn(r).mul(masterSecretKeyParameter.getGAlpha()).mul(publicKeyParameter.getX3().powZn(a0_r))
+			a0 = a0.powZn(r).mul(masterSecretKeyParameter.getGAlpha()).mul(publicKeyParameter.powX3(a0_r))
 					.getImmutable();
 
 			return new HIBBELLW14SecretKeySerParameter(publicKeyParameter.getParameters(), parameter.getIds(),
@@ -82,7 +82,7 @@ public class HIBBELLW14SecretKeyGenerator implements PairingKeyParameterGenerato
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			String[] ids = new String[publicKeyParameter.getMaxUser()];
 			Element[] elementIds = new Element[publicKeyParameter.getMaxUser()];
 			Element elementDelegateId = PairingUtils
@@ -93,8 +93,8 @@ public class HIBBELLW14SecretKeyGenerator implements PairingKeyParameterGenerato
 			Element a1_r = pairing.getZr().newRandomElement().getImmutable();
 			Element[] bs_r = new Element[publicKeyParameter.getMaxUser()];
 			Element t = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameter.getH().getImmutable();
-			Element a1 = publicKeyParameter.getG().powZn(t).getImmutable();
+			Element a0 = publicKeyParameter.getH();
+			Element a1 = publicKeyParameter.powG(t).getImmutable();
 			Element[] bs = new Element[publicKeyParameter.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
@@ -102,28 +102,28 @@ public class HIBBELLW14SecretKeyGenerator implements PairingKeyParameterGenerato
 					ids[i] = secretKeyParameter.getIdAt(i);
 					elementIds[i] = secretKeyParameter.getElementIdAt(i);
 					// Compute a0
-					a0 = a0.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else if (i == parameter.getIndex()) {
 					ids[i] = parameter.getDelegateId();
 					elementIds[i] = elementDelegateId;
 					// Compute a0
-					a0 = a0.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					bs_r[i] = pairing.getZr().newRandomElement().getImmutable();
-					bs[i] = secretKeyParameter.getBsAt(i).mul(publicKeyParameter.getUsAt(i).powZn(t))
-							.mul(publicKeyParameter.getX3().powZn(bs_r[i])).getImmutable();
+					bs[i] = secretKeyParameter.getBsAt(i).mul(publicKeyParameter.powUsAt(i, t))
+							.mul(publicKeyParameter.powX3(bs_r[i])).getImmutable();
 				}
 			}
 			// Compute the rest of a0
 			a0 = a0.powZn(t).mul(secretKeyParameter.getA0())
 					.mul(secretKeyParameter.getBsAt(parameter.getIndex()).powZn(elementIds[parameter.getIndex()]))
-					.mul(publicKeyParameter.getX3().powZn(a0_r)).getImmutable();
+					.mul(publicKeyParameter.powX3(a0_r)).getImmutable();
 			// Compute the result of a1
-			a1 = a1.mul(secretKeyParameter.getA1()).mul(publicKeyParameter.getX3().powZn(a1_r)).getImmutable();
+			a1 = a1.mul(secretKeyParameter.getA1()).mul(publicKeyParameter.powX3(a1_r)).getImmutable();
 
 			return new HIBBELLW14SecretKeySerParameter(publicKeyParameter.getParameters(), ids, elementIds, a0, a1, bs);
 		} else {
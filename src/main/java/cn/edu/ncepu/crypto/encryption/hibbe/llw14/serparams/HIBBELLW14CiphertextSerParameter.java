@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/16.
@@ -29,7 +29,7 @@ public class HIBBELLW14CiphertextSerParameter extends HIBBELLW14HeaderSerParamet
 	}
 
 	public Element getC2() {
-		return this.C2.duplicate();
+		return this.C2;
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class HIBBELLW14CiphertextSerParameter extends HIBBELLW14HeaderSerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C2 = pairing.getGT().newElementFromBytes(this.byteArrayC2).getImmutable();
 	}
 }
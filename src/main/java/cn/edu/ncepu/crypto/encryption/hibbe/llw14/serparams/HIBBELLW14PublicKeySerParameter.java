@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -62,11 +62,15 @@ public class HIBBELLW14PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getH() {
-		return this.h.duplicate();
+		return this.h;
 	}
 
 	public Element[] getUs() {
@@ -74,15 +78,27 @@ public class HIBBELLW14PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getUsAt(int index) {
-		return this.us[index].duplicate();
+		return this.us[index];
+	}
+
+	public Element powUsAt(int index, Element exponent) {
+		return powZn("us[" + index + "]", this.us[index], exponent);
 	}
 
 	public Element getX3() {
-		return this.X3.duplicate();
+		return this.X3;
+	}
+
+	public Element powX3(Element exponent) {
+		return powZn("X3", this.X3, exponent);
 	}
 
 	public Element getEggAlpha() {
-		return this.eggAlpha.duplicate();
+		return this.eggAlpha;
+	}
+
+	public Element powEggAlpha(Element exponent) {
+		return powZn("eggAlpha", this.eggAlpha, exponent);
 	}
 
 	public int getMaxUser() {
@@ -132,7 +148,7 @@ public class HIBBELLW14PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -140,7 +156,7 @@ public class HIBBELLW14PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
 		this.us = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysUs, PairingUtils.PairingGroupType.G1);
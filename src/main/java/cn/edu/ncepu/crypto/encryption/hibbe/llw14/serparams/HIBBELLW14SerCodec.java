@@ -0,0 +1,101 @@
+package cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu composite-order HIBBE headers, ciphertexts and keys.
+ */
+public class HIBBELLW14SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x51;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBBELLW14HeaderSerParameter.class, HIBBELLW14CiphertextSerParameter.class,
+					HIBBELLW14PublicKeySerParameter.class, HIBBELLW14MasterSecretKeySerParameter.class,
+					HIBBELLW14SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBBELLW14PublicKeySerParameter) {
+			HIBBELLW14PublicKeySerParameter publicKey = (HIBBELLW14PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getH());
+			output.writeElementArray(publicKey.getUs());
+			output.writeElement(publicKey.getX3());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW14MasterSecretKeySerParameter) {
+			output.writeElement(((HIBBELLW14MasterSecretKeySerParameter) parameter).getGAlpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW14SecretKeySerParameter) {
+			HIBBELLW14SecretKeySerParameter secretKey = (HIBBELLW14SecretKeySerParameter) parameter;
+			output.writeNullableStrings(secretKey.getIds());
+			output.writeNullableElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getA0());
+			output.writeElement(secretKey.getA1());
+			output.writeElementArray(secretKey.getBs());
+			return;
+		}
+		if (parameter instanceof HIBBELLW14CiphertextSerParameter) {
+			HIBBELLW14CiphertextSerParameter ciphertext = (HIBBELLW14CiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getC0());
+			output.writeElement(ciphertext.getC1());
+			output.writeElement(ciphertext.getC2());
+			return;
+		}
+		HIBBELLW14HeaderSerParameter header = (HIBBELLW14HeaderSerParameter) parameter;
+		output.writeElement(header.getC0());
+		output.writeElement(header.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBBELLW14CiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new HIBBELLW14PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBBELLW14MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBBELLW14SecretKeySerParameter(pairingParameters, input.readNullableStrings(),
+					input.readNullableElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		default:
+			return new HIBBELLW14HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
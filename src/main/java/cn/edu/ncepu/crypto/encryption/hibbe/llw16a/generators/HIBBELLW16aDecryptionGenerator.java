@@ -3,6 +3,8 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDecryptionGenerationParameter;
@@ -13,7 +15,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aSecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/17.
@@ -39,7 +40,7 @@ public class HIBBELLW16aDecryptionGenerator implements PairingDecryptionGenerato
 				|| secretKeyParameters.getIds().length != publicKeyParameters.getMaxUser()) {
 			throw new IllegalArgumentException("Invalid identity vector / identity vector set length");
 		}
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element[] elementIdsCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getIds(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -51,19 +52,17 @@ public class HIBBELLW16aDecryptionGenerator implements PairingDecryptionGenerato
 			}
 		}
 
-		Element a0 = secretKeyParameters.getA0().getImmutable();
-		Element C0 = ciphertextParameters.getC0().getImmutable();
-		Element C1 = ciphertextParameters.getC1().getImmutable();
-		Element a1 = secretKeyParameters.getA1().getImmutable();
+		Element a0 = secretKeyParameters.getA0();
+		Element C0 = ciphertextParameters.getC0();
+		Element C1 = ciphertextParameters.getC1();
 
 		for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 			if (secretKeyParameters.getIdAt(i) == null && params.getIdsAt(i) != null) {
 				a0 = a0.mul(secretKeyParameters.getBsAt(i).powZn(elementIdsCT[i])).getImmutable();
 			}
 		}
-		Element temp0 = pairing.pairing(C0, a0).getImmutable();
-		Element temp1 = pairing.pairing(a1, C1).getImmutable();
-		this.sessionKey = temp0.div(temp1).getImmutable();
+		this.sessionKey = new MultiPairing(pairing, secretKeyParameters).mul(a0, C0)
+				.divKey(C1, secretKeyParameters.getA1()).evaluate();
 	}
 
 	public Element recoverMessage() throws InvalidCipherTextException {
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aPublicKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/17.
@@ -36,7 +36,7 @@ public class HIBBELLW16aEncryptionGenerator implements PairingEncryptionGenerato
 	private void computeEncapsulation() {
 		HIBBELLW16aPublicKeySerParameter publicKeyParameters = (HIBBELLW16aPublicKeySerParameter) this.params
 				.getPublicKeyParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		String[] ids = this.params.getIds();
 		if (this.params.getIds().length != publicKeyParameters.getMaxUser()) {
 			throw new IllegalArgumentException("Invalid identity vector set length");
@@ -46,11 +46,11 @@ public class HIBBELLW16aEncryptionGenerator implements PairingEncryptionGenerato
 
 		this.sessionKey = pairing.pairing(publicKeyParameters.getG1(), publicKeyParameters.getG2()).powZn(beta)
 				.getImmutable();
-		this.C0 = publicKeyParameters.getG().powZn(beta).getImmutable();
-		this.C1 = publicKeyParameters.getG3().getImmutable();
+		this.C0 = publicKeyParameters.powG(beta).getImmutable();
+		this.C1 = publicKeyParameters.getG3();
 		for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 			if (ids[i] != null) {
-				C1 = C1.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+				C1 = C1.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 			}
 		}
 		C1 = C1.powZn(beta).getImmutable();
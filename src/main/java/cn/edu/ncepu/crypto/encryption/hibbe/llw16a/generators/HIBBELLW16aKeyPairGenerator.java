@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEKeyPairGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aMasterSe
 import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aPublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.pairing.parameters.PropertiesParameters;
 
 /**
@@ -26,7 +26,7 @@ public class HIBBELLW16aKeyPairGenerator implements PairingKeyPairGenerator {
 
 	public PairingKeySerPair generateKeyPair() {
 		PropertiesParameters parameters = (PropertiesParameters) this.parameters.getPairingParameters();
-		Pairing pairing = PairingFactory.getPairing(parameters);
+		Pairing pairing = PairingRegistry.getPairing(parameters);
 
 		Element g = pairing.getG1().newRandomElement().getImmutable();
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
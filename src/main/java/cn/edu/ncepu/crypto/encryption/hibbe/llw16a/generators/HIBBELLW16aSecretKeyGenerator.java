@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDelegateGenerationParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aSecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/17.
@@ -39,24 +39,24 @@ public class HIBBELLW16aSecretKeyGenerator implements PairingKeyParameterGenerat
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameters.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element r = pairing.getZr().newRandomElement().getImmutable();
 
-			Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
+			Element a1 = publicKeyParameters.powG(r).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 				if (parameters.getIdAt(i) != null) {
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					// Set h[i] to be h_i^r
-					bs[i] = publicKeyParameters.getUsAt(i).powZn(r).getImmutable();
+					bs[i] = publicKeyParameters.powUsAt(i, r).getImmutable();
 				}
 			}
 			// raise a0 to the power of r and then multiple it by gAlpha
@@ -76,7 +76,7 @@ public class HIBBELLW16aSecretKeyGenerator implements PairingKeyParameterGenerat
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] ids = new String[publicKeyParameters.getMaxUser()];
 			Element[] elementIds = new Element[publicKeyParameters.getMaxUser()];
 			Element elementDelegateId = PairingUtils
@@ -84,8 +84,8 @@ public class HIBBELLW16aSecretKeyGenerator implements PairingKeyParameterGenerat
 					.getImmutable();
 
 			Element t = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
-			Element a1 = publicKeyParameters.getG().powZn(t).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
+			Element a1 = publicKeyParameters.powG(t).getImmutable();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
@@ -93,18 +93,18 @@ public class HIBBELLW16aSecretKeyGenerator implements PairingKeyParameterGenerat
 					ids[i] = secretKeyParameters.getIdAt(i);
 					elementIds[i] = secretKeyParameters.getElementIdAt(i);
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else if (i == parameters.getIndex()) {
 					ids[i] = parameters.getDelegateId();
 					elementIds[i] = elementDelegateId;
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
-					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.getUsAt(i).powZn(t)).getImmutable();
+					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.powUsAt(i, t)).getImmutable();
 				}
 			}
 			// Compute the rest of a0
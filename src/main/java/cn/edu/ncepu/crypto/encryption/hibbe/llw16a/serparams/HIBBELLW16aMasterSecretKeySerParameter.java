@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/5/17.
@@ -29,7 +29,7 @@ public class HIBBELLW16aMasterSecretKeySerParameter extends PairingKeySerParamet
 	}
 
 	public Element getG2Alpha() {
-		return this.g2Alpha.duplicate();
+		return this.g2Alpha;
 	}
 
 	@Override
@@ -47,7 +47,7 @@ public class HIBBELLW16aMasterSecretKeySerParameter extends PairingKeySerParamet
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -55,7 +55,7 @@ public class HIBBELLW16aMasterSecretKeySerParameter extends PairingKeySerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g2Alpha = pairing.getG1().newElementFromBytes(this.byteArrayG2Alpha).getImmutable();
 	}
 }
\ No newline at end of file
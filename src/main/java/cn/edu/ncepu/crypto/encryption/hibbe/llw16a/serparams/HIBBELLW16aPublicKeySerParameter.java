@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -62,19 +62,23 @@ public class HIBBELLW16aPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getG1() {
-		return this.g1.duplicate();
+		return this.g1;
 	}
 
 	public Element getG2() {
-		return this.g2.duplicate();
+		return this.g2;
 	}
 
 	public Element getG3() {
-		return this.g3.duplicate();
+		return this.g3;
 	}
 
 	public Element[] getUs() {
@@ -82,7 +86,11 @@ public class HIBBELLW16aPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getUsAt(int index) {
-		return this.us[index].duplicate();
+		return this.us[index];
+	}
+
+	public Element powUsAt(int index, Element exponent) {
+		return powZn("us[" + index + "]", this.us[index], exponent);
 	}
 
 	public int getMaxUser() {
@@ -132,7 +140,7 @@ public class HIBBELLW16aPublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -140,7 +148,7 @@ public class HIBBELLW16aPublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.g1 = pairing.getG1().newElementFromBytes(this.byteArrayG1).getImmutable();
 		this.g2 = pairing.getG1().newElementFromBytes(this.byteArrayG2).getImmutable();
@@ -0,0 +1,101 @@
+package cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu prime-order HIBBE headers, ciphertexts and keys.
+ */
+public class HIBBELLW16aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x52;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBBELLW16aHeaderSerParameter.class, HIBBELLW16aCiphertextSerParameter.class,
+					HIBBELLW16aPublicKeySerParameter.class, HIBBELLW16aMasterSecretKeySerParameter.class,
+					HIBBELLW16aSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBBELLW16aPublicKeySerParameter) {
+			HIBBELLW16aPublicKeySerParameter publicKey = (HIBBELLW16aPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElement(publicKey.getG3());
+			output.writeElementArray(publicKey.getUs());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16aMasterSecretKeySerParameter) {
+			output.writeElement(((HIBBELLW16aMasterSecretKeySerParameter) parameter).getG2Alpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16aSecretKeySerParameter) {
+			HIBBELLW16aSecretKeySerParameter secretKey = (HIBBELLW16aSecretKeySerParameter) parameter;
+			output.writeNullableStrings(secretKey.getIds());
+			output.writeNullableElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getA0());
+			output.writeElement(secretKey.getA1());
+			output.writeElementArray(secretKey.getBs());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16aCiphertextSerParameter) {
+			HIBBELLW16aCiphertextSerParameter ciphertext = (HIBBELLW16aCiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getC0());
+			output.writeElement(ciphertext.getC1());
+			output.writeElement(ciphertext.getC2());
+			return;
+		}
+		HIBBELLW16aHeaderSerParameter header = (HIBBELLW16aHeaderSerParameter) parameter;
+		output.writeElement(header.getC0());
+		output.writeElement(header.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBBELLW16aCiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new HIBBELLW16aPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBBELLW16aMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBBELLW16aSecretKeySerParameter(pairingParameters, input.readNullableStrings(),
+					input.readNullableElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		default:
+			return new HIBBELLW16aHeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
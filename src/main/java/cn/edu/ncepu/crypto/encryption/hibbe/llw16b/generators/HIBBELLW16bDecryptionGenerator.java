@@ -8,6 +8,8 @@ import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.Signer;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDecryptionGenerationParameter;
@@ -18,7 +20,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams.HIBBELLW16bSecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -63,7 +64,7 @@ public class HIBBELLW16bDecryptionGenerator implements PairingDecryptionGenerato
 			throw new IllegalArgumentException("Invalid identity vector / identity vector set length");
 		}
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element[] elementIdsCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getIds(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -75,10 +76,9 @@ public class HIBBELLW16bDecryptionGenerator implements PairingDecryptionGenerato
 			}
 		}
 
-		Element a0 = secretKeyParameters.getA0().getImmutable();
-		Element C0 = ciphertextParameters.getC0().getImmutable();
-		Element C1 = ciphertextParameters.getC1().getImmutable();
-		Element a1 = secretKeyParameters.getA1().getImmutable();
+		Element a0 = secretKeyParameters.getA0();
+		Element C0 = ciphertextParameters.getC0();
+		Element C1 = ciphertextParameters.getC1();
 
 		// decapsulation
 		try {
@@ -97,9 +97,8 @@ public class HIBBELLW16bDecryptionGenerator implements PairingDecryptionGenerato
 				}
 			}
 			a0 = a0.mul(secretKeyParameters.getBv().powZn(elementVk)).getImmutable();
-			Element temp0 = pairing.pairing(C0, a0).getImmutable();
-			Element temp1 = pairing.pairing(a1, C1).getImmutable();
-			this.sessionKey = temp0.div(temp1).getImmutable();
+			this.sessionKey = new MultiPairing(pairing, secretKeyParameters).mul(a0, C0)
+					.divKey(C1, secretKeyParameters.getA1()).evaluate();
 		} catch (IOException e) {
 			e.printStackTrace();
 		}
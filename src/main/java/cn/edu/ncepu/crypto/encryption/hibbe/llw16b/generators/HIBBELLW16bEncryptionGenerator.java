@@ -8,6 +8,7 @@ import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.Signer;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
@@ -22,7 +23,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams.HIBBELLW16bPublicKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -62,7 +62,7 @@ public class HIBBELLW16bEncryptionGenerator implements PairingEncryptionGenerato
 			if (this.params.getIds().length != publicKeyParameter.getMaxUser()) {
 				throw new IllegalArgumentException("Invalid identity vector set length");
 			}
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			String[] ids = this.params.getIds();
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 			Element elementVk = PairingUtils.MapByteArrayToGroup(pairing, byteArraySignPublicKey,
@@ -71,14 +71,14 @@ public class HIBBELLW16bEncryptionGenerator implements PairingEncryptionGenerato
 
 			this.sessionKey = pairing.pairing(publicKeyParameter.getG1(), publicKeyParameter.getG2()).powZn(beta)
 					.getImmutable();
-			this.C0 = publicKeyParameter.getG().powZn(beta).getImmutable();
-			this.C1 = publicKeyParameter.getG3().getImmutable();
+			this.C0 = publicKeyParameter.powG(beta).getImmutable();
+			this.C1 = publicKeyParameter.getG3();
 			for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 				if (ids[i] != null) {
-					C1 = C1.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					C1 = C1.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 				}
 			}
-			C1 = C1.mul(publicKeyParameter.getUv().powZn(elementVk)).getImmutable();
+			C1 = C1.mul(publicKeyParameter.powUv(elementVk)).getImmutable();
 			C1 = C1.powZn(beta).getImmutable();
 		} catch (IOException e) {
 			e.printStackTrace();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16b.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDelegateGenerationParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams.HIBBELLW16bSecretKe
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -39,25 +39,25 @@ public class HIBBELLW16bSecretKeyGenerator implements PairingKeyParameterGenerat
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameters.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element r = pairing.getZr().newRandomElement().getImmutable();
 
-			Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
+			Element a1 = publicKeyParameters.powG(r).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
-			Element bv = publicKeyParameters.getUv().getImmutable();
+			Element bv = publicKeyParameters.getUv();
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 				if (parameters.getIdAt(i) != null) {
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					// Set h[i] to be h_i^r
-					bs[i] = publicKeyParameters.getUsAt(i).powZn(r).getImmutable();
+					bs[i] = publicKeyParameters.powUsAt(i, r).getImmutable();
 				}
 			}
 			// raise a0 to the power of r and then multiple it by gAlpha
@@ -78,7 +78,7 @@ public class HIBBELLW16bSecretKeyGenerator implements PairingKeyParameterGenerat
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] ids = new String[publicKeyParameters.getMaxUser()];
 			Element[] elementIds = new Element[publicKeyParameters.getMaxUser()];
 			Element elementDelegateId = PairingUtils
@@ -86,8 +86,8 @@ public class HIBBELLW16bSecretKeyGenerator implements PairingKeyParameterGenerat
 					.getImmutable();
 
 			Element t = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
-			Element a1 = publicKeyParameters.getG().powZn(t).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
+			Element a1 = publicKeyParameters.powG(t).getImmutable();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
@@ -95,18 +95,18 @@ public class HIBBELLW16bSecretKeyGenerator implements PairingKeyParameterGenerat
 					ids[i] = secretKeyParameters.getIdAt(i);
 					elementIds[i] = secretKeyParameters.getElementIdAt(i);
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else if (i == parameters.getIndex()) {
 					ids[i] = parameters.getDelegateId();
 					elementIds[i] = elementDelegateId;
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
-					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.getUsAt(i).powZn(t)).getImmutable();
+					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.powUsAt(i, t)).getImmutable();
 				}
 			}
 			// Compute the rest of a0
@@ -115,7 +115,7 @@ public class HIBBELLW16bSecretKeyGenerator implements PairingKeyParameterGenerat
 					.getImmutable();
 			// Compute the result of a1
 			a1 = a1.mul(secretKeyParameters.getA1()).getImmutable();
-			Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.getUv().powZn(t)).getImmutable();
+			Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.powUv(t)).getImmutable();
 
 			return new HIBBELLW16bSecretKeySerParameter(publicKeyParameters.getParameters(), ids, elementIds, a0, a1,
 					bs, bv);
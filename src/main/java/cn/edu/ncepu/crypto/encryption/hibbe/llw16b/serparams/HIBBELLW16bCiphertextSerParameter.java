@@ -4,11 +4,11 @@ import java.util.Arrays;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -31,7 +31,7 @@ public class HIBBELLW16bCiphertextSerParameter extends HIBBELLW16bHeaderSerParam
 	}
 
 	public Element getC2() {
-		return this.C2.duplicate();
+		return this.C2;
 	}
 
 	@Override
@@ -50,7 +50,7 @@ public class HIBBELLW16bCiphertextSerParameter extends HIBBELLW16bHeaderSerParam
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C2 = pairing.getGT().newElementFromBytes(this.byteArrayC2).getImmutable();
 	}
 }
\ No newline at end of file
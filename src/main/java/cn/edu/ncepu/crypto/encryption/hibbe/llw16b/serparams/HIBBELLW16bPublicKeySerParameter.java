@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aPublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -30,7 +30,11 @@ public class HIBBELLW16bPublicKeySerParameter extends HIBBELLW16aPublicKeySerPar
 	}
 
 	public Element getUv() {
-		return this.uv.duplicate();
+		return this.uv;
+	}
+
+	public Element powUv(Element exponent) {
+		return powZn("uv", this.uv, exponent);
 	}
 
 	@Override
@@ -50,7 +54,7 @@ public class HIBBELLW16bPublicKeySerParameter extends HIBBELLW16aPublicKeySerPar
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.uv = pairing.getG1().newElementFromBytes(this.byteArrayUv).getImmutable();
 	}
 }
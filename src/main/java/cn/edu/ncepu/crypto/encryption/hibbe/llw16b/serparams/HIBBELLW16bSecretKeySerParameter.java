@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.serparams.HIBBELLW16aSecretKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -30,7 +30,7 @@ public class HIBBELLW16bSecretKeySerParameter extends HIBBELLW16aSecretKeySerPar
 	}
 
 	public Element getBv() {
-		return this.bv.duplicate();
+		return this.bv;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class HIBBELLW16bSecretKeySerParameter extends HIBBELLW16aSecretKeySerPar
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.bv = pairing.getG1().newElementFromBytes(this.byteArrayBv).getImmutable();
 	}
 }
@@ -0,0 +1,127 @@
+package cn.edu.ncepu.crypto.encryption.hibbe.llw16b.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bouncycastle.crypto.CipherParameters;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu prime-order CCA2-secure HIBBE headers, ciphertexts and keys.
+ */
+public class HIBBELLW16bSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x53;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBBELLW16bHeaderSerParameter.class, HIBBELLW16bCiphertextSerParameter.class,
+					HIBBELLW16bPublicKeySerParameter.class, HIBBELLW16bMasterSecretKeySerParameter.class,
+					HIBBELLW16bSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBBELLW16bPublicKeySerParameter) {
+			HIBBELLW16bPublicKeySerParameter publicKey = (HIBBELLW16bPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElement(publicKey.getG3());
+			output.writeElementArray(publicKey.getUs());
+			output.writeElement(publicKey.getUv());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16bMasterSecretKeySerParameter) {
+			output.writeElement(((HIBBELLW16bMasterSecretKeySerParameter) parameter).getG2Alpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16bSecretKeySerParameter) {
+			HIBBELLW16bSecretKeySerParameter secretKey = (HIBBELLW16bSecretKeySerParameter) parameter;
+			output.writeNullableStrings(secretKey.getIds());
+			output.writeNullableElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getA0());
+			output.writeElement(secretKey.getA1());
+			output.writeElementArray(secretKey.getBs());
+			output.writeElement(secretKey.getBv());
+			return;
+		}
+		if (parameter instanceof HIBBELLW16bCiphertextSerParameter) {
+			HIBBELLW16bCiphertextSerParameter ciphertext = (HIBBELLW16bCiphertextSerParameter) parameter;
+			WriteSignPublicKey(ciphertext.getSignPublicKey(), output);
+			output.writeBytes(ciphertext.getSignature());
+			output.writeElement(ciphertext.getC0());
+			output.writeElement(ciphertext.getC1());
+			output.writeElement(ciphertext.getC2());
+			return;
+		}
+		HIBBELLW16bHeaderSerParameter header = (HIBBELLW16bHeaderSerParameter) parameter;
+		WriteSignPublicKey(header.getSignPublicKey(), output);
+		output.writeBytes(header.getSignature());
+		output.writeElement(header.getC0());
+		output.writeElement(header.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBBELLW16bCiphertextSerParameter(pairingParameters, ReadSignPublicKey(input),
+					input.readBytes(), input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new HIBBELLW16bPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBBELLW16bMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBBELLW16bSecretKeySerParameter(pairingParameters, input.readNullableStrings(),
+					input.readNullableElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		default:
+			return new HIBBELLW16bHeaderSerParameter(pairingParameters, ReadSignPublicKey(input),
+					input.readBytes(), input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		}
+	}
+
+	// the signature public key is embedded by its own compact encoding, e.g., of BB08SignSerCodec
+	private static void WriteSignPublicKey(CipherParameters signPublicKey, PairingSerOutput output) {
+		if (!(signPublicKey instanceof PairingCipherSerParameter)) {
+			throw new IllegalArgumentException(
+					"Cannot encode signature public key " + signPublicKey.getClass().getName());
+		}
+		output.writeBytes(
+				PairingSerCodecs.Encode((PairingCipherSerParameter) signPublicKey, output.isCompressPoints()));
+	}
+
+	private static CipherParameters ReadSignPublicKey(PairingSerInput input) throws IOException {
+		return PairingSerCodecs.Decode(input.readBytes());
+	}
+}
@@ -4,6 +4,8 @@ import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDecryptionGenerationParameter;
@@ -14,7 +16,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams.HIBBELLW17SecretKeyS
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -38,10 +39,10 @@ public class HIBBELLW17DecryptionGenerator implements PairingDecryptionGenerator
 				.getPublicKeyParameter();
 		HIBBELLW17HeaderSerParameter headerParameter = (HIBBELLW17HeaderSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.elementIdsCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getIds(),
 				PairingUtils.PairingGroupType.Zr);
-		Element C0 = headerParameter.getC0().getImmutable();
+		Element C0 = headerParameter.getC0();
 		byte[] byteArrayC0 = C0.toBytes();
 		digest.update(byteArrayC0, 0, byteArrayC0.length);
 		if (headerParameter instanceof HIBBELLW17CiphertextSerParameter) {
@@ -49,22 +50,22 @@ public class HIBBELLW17DecryptionGenerator implements PairingDecryptionGenerator
 			byte[] byteArrayC2 = C2.toBytes();
 			digest.update(byteArrayC2, 0, byteArrayC2.length);
 		}
-		Element C1 = headerParameter.getC1().getImmutable();
+		Element C1 = headerParameter.getC1();
 		byte[] byteArrayIDv = new byte[digest.getDigestSize()];
 		digest.doFinal(byteArrayIDv, 0);
 		this.elementIDv = PairingUtils.MapByteArrayToGroup(pairing, byteArrayIDv, PairingUtils.PairingGroupType.Zr)
 				.getImmutable();
 		Element Z3_r = pairing.getZr().newRandomElement().getImmutable();
-		Element Z3 = publicKeyParameter.getX3().powZn(Z3_r).getImmutable();
+		Element Z3 = publicKeyParameter.powX3(Z3_r).getImmutable();
 		Element Z3Prime_r = pairing.getZr().newRandomElement().getImmutable();
-		Element Z3Prime = publicKeyParameter.getX3().powZn(Z3Prime_r).getImmutable();
+		Element Z3Prime = publicKeyParameter.powX3(Z3Prime_r).getImmutable();
 		Element tempVerify = publicKeyParameter.getH();
 		for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 			if (params.getIdsAt(i) != null) {
-				tempVerify = tempVerify.mul(publicKeyParameter.getUsAt(i).powZn(elementIdsCT[i]));
+				tempVerify = tempVerify.mul(publicKeyParameter.powUsAt(i, elementIdsCT[i]));
 			}
 		}
-		tempVerify = tempVerify.mul(publicKeyParameter.getUv().powZn(elementIDv)).getImmutable();
+		tempVerify = tempVerify.mul(publicKeyParameter.powUv(elementIDv)).getImmutable();
 		Element tempVerifyPairing1 = pairing.pairing(publicKeyParameter.getG().mul(Z3), C1).getImmutable();
 		Element tempVerifyPairing2 = pairing.pairing(C0, tempVerify.mul(Z3Prime)).getImmutable();
 		if (!tempVerifyPairing1.equals(tempVerifyPairing2)) {
@@ -83,7 +84,7 @@ public class HIBBELLW17DecryptionGenerator implements PairingDecryptionGenerator
 				|| secretKeyParameters.getIds().length != publicKeyParameters.getMaxUser()) {
 			throw new IllegalArgumentException("Invalid identity vector / identity vector set length");
 		}
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 
 		for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 			if (secretKeyParameters.getIdAt(i) != null
@@ -93,10 +94,9 @@ public class HIBBELLW17DecryptionGenerator implements PairingDecryptionGenerator
 			}
 		}
 
-		Element a0 = secretKeyParameters.getA0().getImmutable();
-		Element C0 = ciphertextParameters.getC0().getImmutable();
-		Element C1 = ciphertextParameters.getC1().getImmutable();
-		Element a1 = secretKeyParameters.getA1().getImmutable();
+		Element a0 = secretKeyParameters.getA0();
+		Element C0 = ciphertextParameters.getC0();
+		Element C1 = ciphertextParameters.getC1();
 
 		// decapsulation
 		for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
@@ -105,9 +105,8 @@ public class HIBBELLW17DecryptionGenerator implements PairingDecryptionGenerator
 			}
 		}
 		a0 = a0.mul(secretKeyParameters.getBv().powZn(elementIDv)).getImmutable();
-		Element temp0 = pairing.pairing(C0, a0).getImmutable();
-		Element temp1 = pairing.pairing(a1, C1).getImmutable();
-		this.sessionKey = temp0.div(temp1).getImmutable();
+		this.sessionKey = new MultiPairing(pairing, secretKeyParameters).mul(a0, C0)
+				.divKey(C1, secretKeyParameters.getA1()).evaluate();
 	}
 
 	public Element recoverMessage() throws InvalidCipherTextException {
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw17.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.Digest;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams.HIBBELLW17PublicKeyS
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -39,19 +39,19 @@ public class HIBBELLW17EncryptionGenerator implements PairingEncryptionGenerator
 			throw new IllegalArgumentException("Invalid identity vector set length");
 		}
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] ids = this.params.getIds();
 		Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 
 		Element beta = pairing.getZr().newRandomElement().getImmutable();
-		Element sessionKey = publicKeyParameter.getEggAlpha().powZn(beta).getImmutable();
+		Element sessionKey = publicKeyParameter.powEggAlpha(beta).getImmutable();
 		Element C2 = sessionKey.mul(this.params.getMessage()).getImmutable();
 
-		Element C0 = publicKeyParameter.getG().powZn(beta).getImmutable();
-		Element C1 = publicKeyParameter.getH().getImmutable();
+		Element C0 = publicKeyParameter.powG(beta).getImmutable();
+		Element C1 = publicKeyParameter.getH();
 		for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 			if (ids[i] != null) {
-				C1 = C1.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+				C1 = C1.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 			}
 		}
 		byte[] byteArrayC0 = C0.toBytes();
@@ -62,7 +62,7 @@ public class HIBBELLW17EncryptionGenerator implements PairingEncryptionGenerator
 		digest.doFinal(byteArrayIDv, 0);
 
 		Element elementIDv = PairingUtils.MapByteArrayToGroup(pairing, byteArrayIDv, PairingUtils.PairingGroupType.Zr);
-		C1 = C1.mul(publicKeyParameter.getUv().powZn(elementIDv)).powZn(beta).getImmutable();
+		C1 = C1.mul(publicKeyParameter.powUv(elementIDv)).powZn(beta).getImmutable();
 		return new HIBBELLW17CiphertextSerParameter(publicKeyParameter.getParameters(), C0, C1, C2);
 	}
 
@@ -74,17 +74,17 @@ public class HIBBELLW17EncryptionGenerator implements PairingEncryptionGenerator
 			throw new IllegalArgumentException("Invalid identity vector set length");
 		}
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] ids = this.params.getIds();
 		Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 
 		Element beta = pairing.getZr().newRandomElement().getImmutable();
-		Element sessionKey = publicKeyParameter.getEggAlpha().powZn(beta).getImmutable();
-		Element C0 = publicKeyParameter.getG().powZn(beta).getImmutable();
-		Element C1 = publicKeyParameter.getH().getImmutable();
+		Element sessionKey = publicKeyParameter.powEggAlpha(beta).getImmutable();
+		Element C0 = publicKeyParameter.powG(beta).getImmutable();
+		Element C1 = publicKeyParameter.getH();
 		for (int i = 0; i < publicKeyParameter.getMaxUser(); i++) {
 			if (ids[i] != null) {
-				C1 = C1.mul(publicKeyParameter.getUsAt(i).powZn(elementIds[i])).getImmutable();
+				C1 = C1.mul(publicKeyParameter.powUsAt(i, elementIds[i])).getImmutable();
 			}
 		}
 		byte[] byteArrayC0 = C0.toBytes();
@@ -93,7 +93,7 @@ public class HIBBELLW17EncryptionGenerator implements PairingEncryptionGenerator
 		digest.doFinal(byteArrayIDv, 0);
 
 		Element elementIDv = PairingUtils.MapByteArrayToGroup(pairing, byteArrayIDv, PairingUtils.PairingGroupType.Zr);
-		C1 = C1.mul(publicKeyParameter.getUv().powZn(elementIDv)).powZn(beta).getImmutable();
+		C1 = C1.mul(publicKeyParameter.powUv(elementIDv)).powZn(beta).getImmutable();
 		return new PairingKeyEncapsulationSerPair(sessionKey.toBytes(),
 				new HIBBELLW17HeaderSerParameter(publicKeyParameter.getParameters(), C0, C1));
 	}
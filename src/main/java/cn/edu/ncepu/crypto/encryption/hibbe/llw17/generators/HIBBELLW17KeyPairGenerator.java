@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw17.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEKeyPairGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams.HIBBELLW17MasterSecr
 import cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams.HIBBELLW17PublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.pairing.parameters.PropertiesParameters;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
@@ -27,7 +27,7 @@ public class HIBBELLW17KeyPairGenerator implements PairingKeyPairGenerator {
 
 	public PairingKeySerPair generateKeyPair() {
 		PropertiesParameters parameters = (PropertiesParameters) this.parameters.getPairingParameters();
-		Pairing pairing = PairingFactory.getPairing(parameters);
+		Pairing pairing = PairingRegistry.getPairing(parameters);
 		Element generator = pairing.getG1().newRandomElement().getImmutable();
 
 		Element g = ElementUtils.getGenerator(pairing, generator, parameters, 0, 3).getImmutable();
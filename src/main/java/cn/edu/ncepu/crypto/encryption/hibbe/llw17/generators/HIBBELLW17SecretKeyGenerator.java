@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw17.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibbe.genparams.HIBBEDelegateGenerationParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams.HIBBELLW17SecretKeyS
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -39,7 +39,7 @@ public class HIBBELLW17SecretKeyGenerator implements PairingKeyParameterGenerato
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameters.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element r = pairing.getZr().newRandomElement().getImmutable();
@@ -47,29 +47,29 @@ public class HIBBELLW17SecretKeyGenerator implements PairingKeyParameterGenerato
 			Element a1_r = pairing.getZr().newRandomElement().getImmutable();
 			Element[] bs_r = new Element[publicKeyParameters.getMaxUser()];
 
-			Element a1 = publicKeyParameters.getG().powZn(r).mul(publicKeyParameters.getX3().powZn(a1_r))
+			Element a1 = publicKeyParameters.powG(r).mul(publicKeyParameters.powX3(a1_r))
 					.getImmutable();
-			Element a0 = publicKeyParameters.getH().getImmutable();
+			Element a0 = publicKeyParameters.getH();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
 				if (parameters.getIdAt(i) != null) {
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					// Set h[i] to be h_i^r
 					bs_r[i] = pairing.getZr().newRandomElement().getImmutable();
-					bs[i] = publicKeyParameters.getUsAt(i).powZn(r).mul(publicKeyParameters.getX3().powZn(bs_r[i]))
+					bs[i] = publicKeyParameters.powUsAt(i, r).mul(publicKeyParameters.powX3(bs_r[i]))
 							.getImmutable();
 				}
 			}
 			Element bv_r = pairing.getZr().newRandomElement().getImmutable();
-			Element bv = publicKeyParameters.getUv().powZn(r).mul(publicKeyParameters.getX3().powZn(bv_r))
+			Element bv = publicKeyParameters.powUv(r).mul(publicKeyParameters.powX3(bv_r))
 					.getImmutable();
 			// raise a0 to the power of r and then multiple it by gAlpha
-			a0 = a0.powZn(r).mul(masterSecretKeyParameters.getGAlpha()).mul(publicKeyParameters.getX3().powZn(a0_r))
+			a0 = a0.powZn(r).mul(masterSecretKeyParameters.getGAlpha()).mul(publicKeyParameters.powX3(a0_r))
 					.getImmutable();
 
 			return new HIBBELLW17SecretKeySerParameter(publicKeyParameters.getParameters(), parameters.getIds(),
@@ -86,7 +86,7 @@ public class HIBBELLW17SecretKeyGenerator implements PairingKeyParameterGenerato
 				throw new IllegalArgumentException("Invalid identity vector length");
 			}
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] ids = new String[publicKeyParameters.getMaxUser()];
 			Element[] elementIds = new Element[publicKeyParameters.getMaxUser()];
 			Element elementDelegateId = PairingUtils
@@ -97,8 +97,8 @@ public class HIBBELLW17SecretKeyGenerator implements PairingKeyParameterGenerato
 			Element a1_r = pairing.getZr().newRandomElement().getImmutable();
 			Element[] bs_r = new Element[publicKeyParameters.getMaxUser()];
 			Element t = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameters.getH().getImmutable();
-			Element a1 = publicKeyParameters.getG().powZn(t).getImmutable();
+			Element a0 = publicKeyParameters.getH();
+			Element a1 = publicKeyParameters.powG(t).getImmutable();
 			Element[] bs = new Element[publicKeyParameters.getMaxUser()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxUser(); i++) {
@@ -106,31 +106,31 @@ public class HIBBELLW17SecretKeyGenerator implements PairingKeyParameterGenerato
 					ids[i] = secretKeyParameters.getIdAt(i);
 					elementIds[i] = secretKeyParameters.getElementIdAt(i);
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else if (i == parameters.getIndex()) {
 					ids[i] = parameters.getDelegateId();
 					elementIds[i] = elementDelegateId;
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getUsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powUsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					bs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					bs_r[i] = pairing.getZr().newRandomElement().getImmutable();
-					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.getUsAt(i).powZn(t))
-							.mul(publicKeyParameters.getX3().powZn(bs_r[i])).getImmutable();
+					bs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.powUsAt(i, t))
+							.mul(publicKeyParameters.powX3(bs_r[i])).getImmutable();
 				}
 			}
 			Element bv_r = pairing.getZr().newRandomElement().getImmutable();
-			Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.getUv().powZn(t))
-					.mul(publicKeyParameters.getX3().powZn(bv_r)).getImmutable();
+			Element bv = secretKeyParameters.getBv().mul(publicKeyParameters.powUv(t))
+					.mul(publicKeyParameters.powX3(bv_r)).getImmutable();
 			// Compute the rest of a0
 			a0 = a0.powZn(t).mul(secretKeyParameters.getA0())
 					.mul(secretKeyParameters.getBsAt(parameters.getIndex()).powZn(elementIds[parameters.getIndex()]))
-					.mul(publicKeyParameters.getX3().powZn(a0_r)).getImmutable();
+					.mul(publicKeyParameters.powX3(a0_r)).getImmutable();
 			// Compute the result of a1
-			a1 = a1.mul(secretKeyParameters.getA1()).mul(publicKeyParameters.getX3().powZn(a1_r)).getImmutable();
+			a1 = a1.mul(secretKeyParameters.getA1()).mul(publicKeyParameters.powX3(a1_r)).getImmutable();
 
 			return new HIBBELLW17SecretKeySerParameter(publicKeyParameters.getParameters(), ids, elementIds, a0, a1, bs,
 					bv);
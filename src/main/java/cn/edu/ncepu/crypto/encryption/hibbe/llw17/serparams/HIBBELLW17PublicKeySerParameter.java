@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams.HIBBELLW14PublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -31,7 +31,11 @@ public class HIBBELLW17PublicKeySerParameter extends HIBBELLW14PublicKeySerParam
 	}
 
 	public Element getUv() {
-		return this.uv.duplicate();
+		return this.uv;
+	}
+
+	public Element powUv(Element exponent) {
+		return powZn("uv", this.uv, exponent);
 	}
 
 	@Override
@@ -50,7 +54,7 @@ public class HIBBELLW17PublicKeySerParameter extends HIBBELLW14PublicKeySerParam
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.uv = pairing.getG1().newElementFromBytes(this.byteArrayUv).getImmutable();
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw14.serparams.HIBBELLW14SecretKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/11.
@@ -30,7 +30,7 @@ public class HIBBELLW17SecretKeySerParameter extends HIBBELLW14SecretKeySerParam
 	}
 
 	public Element getBv() {
-		return this.bv.duplicate();
+		return this.bv;
 	}
 
 	@Override
@@ -50,7 +50,7 @@ public class HIBBELLW17SecretKeySerParameter extends HIBBELLW14SecretKeySerParam
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.bv = pairing.getG1().newElementFromBytes(this.byteArrayBv).getImmutable();
 	}
 }
@@ -0,0 +1,105 @@
+package cn.edu.ncepu.crypto.encryption.hibbe.llw17.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu composite-order CCA2-secure HIBBE headers, ciphertexts and keys.
+ */
+public class HIBBELLW17SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x54;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBBELLW17HeaderSerParameter.class, HIBBELLW17CiphertextSerParameter.class,
+					HIBBELLW17PublicKeySerParameter.class, HIBBELLW17MasterSecretKeySerParameter.class,
+					HIBBELLW17SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBBELLW17PublicKeySerParameter) {
+			HIBBELLW17PublicKeySerParameter publicKey = (HIBBELLW17PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getH());
+			output.writeElementArray(publicKey.getUs());
+			output.writeElement(publicKey.getUv());
+			output.writeElement(publicKey.getX3());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW17MasterSecretKeySerParameter) {
+			output.writeElement(((HIBBELLW17MasterSecretKeySerParameter) parameter).getGAlpha());
+			return;
+		}
+		if (parameter instanceof HIBBELLW17SecretKeySerParameter) {
+			HIBBELLW17SecretKeySerParameter secretKey = (HIBBELLW17SecretKeySerParameter) parameter;
+			output.writeNullableStrings(secretKey.getIds());
+			output.writeNullableElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getA0());
+			output.writeElement(secretKey.getA1());
+			output.writeElementArray(secretKey.getBs());
+			output.writeElement(secretKey.getBv());
+			return;
+		}
+		if (parameter instanceof HIBBELLW17CiphertextSerParameter) {
+			HIBBELLW17CiphertextSerParameter ciphertext = (HIBBELLW17CiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getC0());
+			output.writeElement(ciphertext.getC1());
+			output.writeElement(ciphertext.getC2());
+			return;
+		}
+		HIBBELLW17HeaderSerParameter header = (HIBBELLW17HeaderSerParameter) parameter;
+		output.writeElement(header.getC0());
+		output.writeElement(header.getC1());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBBELLW17CiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new HIBBELLW17PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBBELLW17MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBBELLW17SecretKeySerParameter(pairingParameters, input.readNullableStrings(),
+					input.readNullableElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		default:
+			return new HIBBELLW17HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bb04.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.hibe.bb04.serparams.HIBEBB04CiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBEDecryptionGenerationPar
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 15-10-1.
@@ -39,7 +39,7 @@ public class HIBEBB04DecryptionGenerator implements PairingDecryptionGenerator,
 
 		int secretKeyLength = secretKeyParameters.getLength();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element[] elementIdsCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getIds(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -50,19 +50,19 @@ public class HIBEBB04DecryptionGenerator implements PairingDecryptionGenerator,
 			}
 		}
 
-		Element d0 = secretKeyParameters.getD0().getImmutable();
-		Element B = ciphertextParameters.getB().getImmutable();
+		Element d0 = secretKeyParameters.getD0();
+		Element B = ciphertextParameters.getB();
 		Element[] Cs = ciphertextParameters.getCs();
 		Element[] ds = new Element[Cs.length];
 
 		Element temp1 = pairing.getGT().newOneElement().getImmutable();
 		for (int i = 0; i < Cs.length; i++) {
 			if (i < secretKeyLength) {
-				ds[i] = secretKeyParameters.getDsAt(i).getImmutable();
+				ds[i] = secretKeyParameters.getDsAt(i);
 			} else {
-				d0 = d0.mul(publicKeyParameters.getG1().powZn(elementIdsCT[i]).mul(publicKeyParameters.getHsAt(i)))
+				d0 = d0.mul(publicKeyParameters.powG1(elementIdsCT[i]).mul(publicKeyParameters.getHsAt(i)))
 						.getImmutable();
-				ds[i] = publicKeyParameters.getG().getImmutable();
+				ds[i] = publicKeyParameters.getG();
 			}
 			temp1 = temp1.mul(pairing.pairing(Cs[i], ds[i])).getImmutable();
 		}
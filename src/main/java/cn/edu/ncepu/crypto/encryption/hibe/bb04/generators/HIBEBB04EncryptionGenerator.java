@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bb04.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBEEncryptionGenerationPar
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 15-10-1.
@@ -35,7 +35,7 @@ public class HIBEBB04EncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] ids = this.params.getIds();
 		Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 
@@ -43,10 +43,10 @@ public class HIBEBB04EncryptionGenerator implements PairingEncryptionGenerator,
 		this.sessionKey = pairing.pairing(publicKeyParameter.getG1(), publicKeyParameter.getG2()).powZn(s)
 				.getImmutable();
 
-		this.B = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.B = publicKeyParameter.powG(s).getImmutable();
 		this.Cs = new Element[ids.length];
 		for (int i = 0; i < Cs.length; i++) {
-			Cs[i] = publicKeyParameter.getG1().powZn(elementIds[i]).mul(publicKeyParameter.getHsAt(i)).powZn(s)
+			Cs[i] = publicKeyParameter.powG1(elementIds[i]).mul(publicKeyParameter.getHsAt(i)).powZn(s)
 					.getImmutable();
 		}
 	}
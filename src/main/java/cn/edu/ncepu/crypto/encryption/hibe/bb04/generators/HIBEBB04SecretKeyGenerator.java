@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bb04.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibe.bb04.HIBEBB04Engine;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBESecretKeyGenerationPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 15-9-30.
@@ -38,7 +38,7 @@ public class HIBEBB04SecretKeyGenerator implements PairingKeyParameterGenerator
 			int length = parameters.getLength();
 			assert (length <= publicKeyParameters.getMaxDepth());
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameters.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element[] rs = new Element[length];
@@ -48,8 +48,8 @@ public class HIBEBB04SecretKeyGenerator implements PairingKeyParameterGenerator
 
 			for (int i = 0; i < rs.length; i++) {
 				rs[i] = pairing.getZr().newRandomElement().getImmutable();
-				ds[i] = publicKeyParameters.getG().powZn(rs[i]).getImmutable();
-				d0 = d0.mul(publicKeyParameters.getG1().powZn(elementIds[i]).mul(publicKeyParameters.getHsAt(i))
+				ds[i] = publicKeyParameters.powG(rs[i]).getImmutable();
+				d0 = d0.mul(publicKeyParameters.powG1(elementIds[i]).mul(publicKeyParameters.getHsAt(i))
 						.powZn(rs[i])).getImmutable();
 			}
 
@@ -65,7 +65,7 @@ public class HIBEBB04SecretKeyGenerator implements PairingKeyParameterGenerator
 			int length = secretKeyParameters.getLength() + 1;
 			assert (length <= publicKeyParameters.getMaxDepth());
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] ids = new String[length];
 			Element[] elementIds = new Element[length];
 			Element[] ds = new Element[length];
@@ -74,9 +74,9 @@ public class HIBEBB04SecretKeyGenerator implements PairingKeyParameterGenerator
 					.MapStringToGroup(pairing, parameters.getDelegateId(), PairingUtils.PairingGroupType.Zr)
 					.getImmutable();
 			Element r_j = pairing.getZr().newRandomElement().getImmutable();
-			Element d_j = publicKeyParameters.getG().powZn(r_j).getImmutable();
+			Element d_j = publicKeyParameters.powG(r_j).getImmutable();
 			Element d0 = secretKeyParameters.getD0();
-			d0 = d0.mul(publicKeyParameters.getG1().powZn(elementDelegateId)
+			d0 = d0.mul(publicKeyParameters.powG1(elementDelegateId)
 					.mul(publicKeyParameters.getHsAt(length - 1)).powZn(r_j)).getImmutable();
 			for (int i = 0; i < length - 1; i++) {
 				ids[i] = secretKeyParameters.getIdAt(i);
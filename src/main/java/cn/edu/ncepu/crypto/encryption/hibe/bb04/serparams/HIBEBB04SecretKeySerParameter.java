@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibe.bb04.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -59,7 +59,7 @@ public class HIBEBB04SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementIdAt(int index) {
-		return this.elementIds[index].duplicate();
+		return this.elementIds[index];
 	}
 
 	public Element[] getElementIds() {
@@ -67,11 +67,15 @@ public class HIBEBB04SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getD0() {
-		return this.d0.duplicate();
+		return this.d0;
 	}
 
 	public Element getDsAt(int index) {
-		return this.ds[index].duplicate();
+		return this.ds[index];
+	}
+
+	public Element[] getDs() {
+		return this.ds;
 	}
 
 	@Override
@@ -111,7 +115,7 @@ public class HIBEBB04SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -119,7 +123,7 @@ public class HIBEBB04SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.d0 = pairing.getG1().newElementFromBytes(this.byteArrayD0).getImmutable();
 		this.elementIds = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysElementIds,
 				PairingUtils.PairingGroupType.Zr);
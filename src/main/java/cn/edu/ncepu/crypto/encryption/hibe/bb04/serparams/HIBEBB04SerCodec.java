@@ -0,0 +1,99 @@
+package cn.edu.ncepu.crypto.encryption.hibe.bb04.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Boyen HIBE headers, ciphertexts and keys.
+ */
+public class HIBEBB04SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x41;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBEBB04HeaderSerParameter.class, HIBEBB04CiphertextSerParameter.class,
+					HIBEBB04PublicKeySerParameter.class, HIBEBB04MasterSecretKeySerParameter.class,
+					HIBEBB04SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBEBB04PublicKeySerParameter) {
+			HIBEBB04PublicKeySerParameter publicKey = (HIBEBB04PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElementArray(publicKey.getHs());
+			return;
+		}
+		if (parameter instanceof HIBEBB04MasterSecretKeySerParameter) {
+			output.writeElement(((HIBEBB04MasterSecretKeySerParameter) parameter).getG2Alpha());
+			return;
+		}
+		if (parameter instanceof HIBEBB04SecretKeySerParameter) {
+			HIBEBB04SecretKeySerParameter secretKey = (HIBEBB04SecretKeySerParameter) parameter;
+			output.writeStrings(secretKey.getIds());
+			output.writeElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getD0());
+			output.writeElementArray(secretKey.getDs());
+			return;
+		}
+		if (parameter instanceof HIBEBB04CiphertextSerParameter) {
+			HIBEBB04CiphertextSerParameter ciphertext = (HIBEBB04CiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getA());
+			output.writeElement(ciphertext.getB());
+			output.writeElementArray(ciphertext.getCs());
+			return;
+		}
+		HIBEBB04HeaderSerParameter header = (HIBEBB04HeaderSerParameter) parameter;
+		output.writeElement(header.getB());
+		output.writeElementArray(header.getCs());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBEBB04CiphertextSerParameter(pairingParameters, input.readElement(pairing.getGT()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		case KIND_PUBLIC_KEY:
+			return new HIBEBB04PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElementArray(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBEBB04MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBEBB04SecretKeySerParameter(pairingParameters, input.readStrings(),
+					input.readElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElementArray(pairing.getG1()));
+		default:
+			return new HIBEBB04HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElementArray(pairing.getG1()));
+		}
+	}
+}
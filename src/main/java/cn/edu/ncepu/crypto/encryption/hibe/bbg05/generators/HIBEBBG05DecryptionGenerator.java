@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams.HIBEBBG05CiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBEDecryptionGenerationPar
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -39,7 +39,7 @@ public class HIBEBBG05DecryptionGenerator implements PairingDecryptionGenerator,
 		int secretKeyLength = secretKeyParameters.getLength();
 		int ciphertextLength = this.params.getLength();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element[] elementIdsCT = PairingUtils.MapStringArrayToGroup(pairing, this.params.getIds(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -54,16 +54,15 @@ public class HIBEBBG05DecryptionGenerator implements PairingDecryptionGenerator,
 			}
 		}
 
-		Element a0 = secretKeyParameters.getA0().getImmutable();
-		Element B = ciphertextParameters.getB().getImmutable();
-		Element C = ciphertextParameters.getC().getImmutable();
-		Element a1 = secretKeyParameters.getA1().getImmutable();
+		Element a0 = secretKeyParameters.getA0();
+		Element B = ciphertextParameters.getB();
+		Element C = ciphertextParameters.getC();
 
 		for (int i = secretKeyParameters.getLength(); i < ciphertextLength; i++) {
 			a0 = a0.mul(secretKeyParameters.getBsAt(i).powZn(elementIdsCT[i])).getImmutable();
 		}
 		Element temp0 = pairing.pairing(B, a0).getImmutable();
-		Element temp1 = pairing.pairing(a1, C).getImmutable();
+		Element temp1 = secretKeyParameters.pairingA1(C).getImmutable();
 		this.sessionKey = temp0.div(temp1).getImmutable();
 	}
 
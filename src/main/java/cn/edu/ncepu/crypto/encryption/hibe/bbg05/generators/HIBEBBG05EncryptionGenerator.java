@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBEEncryptionGenerationPar
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -35,7 +35,7 @@ public class HIBEBBG05EncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] ids = this.params.getIds();
 		Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, ids, PairingUtils.PairingGroupType.Zr);
 
@@ -43,10 +43,10 @@ public class HIBEBBG05EncryptionGenerator implements PairingEncryptionGenerator,
 		this.sessionKey = pairing.pairing(publicKeyParameter.getG1(), publicKeyParameter.getG2()).powZn(s)
 				.getImmutable();
 
-		this.B = publicKeyParameter.getG().powZn(s).getImmutable();
-		this.C = publicKeyParameter.getG3().getImmutable();
+		this.B = publicKeyParameter.powG(s).getImmutable();
+		this.C = publicKeyParameter.getG3();
 		for (int i = 0; i < this.params.getLength(); i++) {
-			C = C.mul(publicKeyParameter.getHsAt(i).powZn(elementIds[i])).getImmutable();
+			C = C.mul(publicKeyParameter.powHsAt(i, elementIds[i])).getImmutable();
 		}
 		C = C.powZn(s).getImmutable();
 	}
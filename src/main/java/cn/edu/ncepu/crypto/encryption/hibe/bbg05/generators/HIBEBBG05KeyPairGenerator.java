@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams.HIBEBBG05MasterSecretKeySerParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams.HIBEBBG05PublicKeySer
 import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBEKeyPairGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -24,7 +24,7 @@ public class HIBEBBG05KeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 
 		Element g = pairing.getG1().newRandomElement().getImmutable();
 		Element alpha = pairing.getZr().newRandomElement().getImmutable();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.hibe.bbg05.HIBEBBG05Engine;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.hibe.genparams.HIBESecretKeyGenerationPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -38,23 +38,23 @@ public class HIBEBBG05SecretKeyGenerator implements PairingKeyParameterGenerator
 			int length = parameters.getLength();
 			assert (length <= publicKeyParameters.getMaxLength());
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			Element[] elementIds = PairingUtils.MapStringArrayToGroup(pairing, parameters.getIds(),
 					PairingUtils.PairingGroupType.Zr);
 			Element r = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
-			Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
+			Element a1 = publicKeyParameters.powG(r).getImmutable();
 			Element[] hs = new Element[publicKeyParameters.getMaxLength()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxLength(); i++) {
 				if (i < parameters.getLength()) {
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getHsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powHsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					hs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 					// Set h[i] to be h_i^r
-					hs[i] = publicKeyParameters.getHsAt(i).powZn(r).getImmutable();
+					hs[i] = publicKeyParameters.powHsAt(i, r).getImmutable();
 				}
 			}
 			// raise a0 to the power of r and then multiple it by g2Alpha
@@ -72,15 +72,15 @@ public class HIBEBBG05SecretKeyGenerator implements PairingKeyParameterGenerator
 			int length = secretKeyParameters.getLength() + 1;
 			assert (length <= publicKeyParameters.getMaxLength());
 
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 			String[] ids = new String[length];
 			Element[] elementIds = new Element[length];
 			Element elementDelegateId = PairingUtils
 					.MapStringToGroup(pairing, parameters.getDelegateId(), PairingUtils.PairingGroupType.Zr)
 					.getImmutable();
 			Element r = pairing.getZr().newRandomElement().getImmutable();
-			Element a0 = publicKeyParameters.getG3().getImmutable();
-			Element a1 = publicKeyParameters.getG().powZn(r).getImmutable();
+			Element a0 = publicKeyParameters.getG3();
+			Element a1 = publicKeyParameters.powG(r).getImmutable();
 			Element[] hs = new Element[publicKeyParameters.getMaxLength()];
 
 			for (int i = 0; i < publicKeyParameters.getMaxLength(); i++) {
@@ -88,14 +88,14 @@ public class HIBEBBG05SecretKeyGenerator implements PairingKeyParameterGenerator
 					ids[i] = secretKeyParameters.getIdAt(i);
 					elementIds[i] = secretKeyParameters.getElementIdAt(i);
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getHsAt(i).powZn(elementIds[i])).getImmutable();
+					a0 = a0.mul(publicKeyParameters.powHsAt(i, elementIds[i])).getImmutable();
 					// Set h[i] to be one
 					hs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else if (i == length - 1) {
 					ids[i] = parameters.getDelegateId();
 					elementIds[i] = elementDelegateId;
 					// Compute a0
-					a0 = a0.mul(publicKeyParameters.getHsAt(i).powZn(elementIds[i])).powZn(r)
+					a0 = a0.mul(publicKeyParameters.powHsAt(i, elementIds[i])).powZn(r)
 							.mul(secretKeyParameters.getA0()).mul(secretKeyParameters.getBsAt(i).powZn(elementIds[i]))
 							.getImmutable();
 					// Compute a1
@@ -104,7 +104,7 @@ public class HIBEBBG05SecretKeyGenerator implements PairingKeyParameterGenerator
 					hs[i] = pairing.getG1().newOneElement().getImmutable();
 				} else {
 
-					hs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.getHsAt(i).powZn(r)).getImmutable();
+					hs[i] = secretKeyParameters.getBsAt(i).mul(publicKeyParameters.powHsAt(i, r)).getImmutable();
 				}
 			}
 			return new HIBEBBG05SecretKeySerParameter(publicKeyParameters.getParameters(), ids, elementIds, a0, a1, hs);
@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -29,7 +29,7 @@ public class HIBEBBG05CiphertextSerParameter extends HIBEBBG05HeaderSerParameter
 	}
 
 	public Element getA() {
-		return this.A.duplicate();
+		return this.A;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class HIBEBBG05CiphertextSerParameter extends HIBEBBG05HeaderSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.A = pairing.getGT().newElementFromBytes(this.byteArrayA).getImmutable();
 	}
 }
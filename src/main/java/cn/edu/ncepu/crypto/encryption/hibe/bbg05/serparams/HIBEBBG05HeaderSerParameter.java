@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -36,11 +36,11 @@ public class HIBEBBG05HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getB() {
-		return this.B.duplicate();
+		return this.B;
 	}
 
 	public Element getC() {
-		return this.C.duplicate();
+		return this.C;
 	}
 
 	@Override
@@ -65,7 +65,7 @@ public class HIBEBBG05HeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -73,7 +73,7 @@ public class HIBEBBG05HeaderSerParameter extends PairingCipherSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.B = pairing.getG1().newElementFromBytes(this.byteArrayB).getImmutable();
 		this.C = pairing.getG1().newElementFromBytes(this.byteArrayC).getImmutable();
 	}
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2015/11/3.
@@ -29,7 +29,7 @@ public class HIBEBBG05MasterSecretKeySerParameter extends PairingKeySerParameter
 	}
 
 	public Element getG2Alpha() {
-		return this.g2Alpha.duplicate();
+		return this.g2Alpha;
 	}
 
 	@Override
@@ -46,7 +46,7 @@ public class HIBEBBG05MasterSecretKeySerParameter extends PairingKeySerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -54,7 +54,7 @@ public class HIBEBBG05MasterSecretKeySerParameter extends PairingKeySerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g2Alpha = pairing.getG1().newElementFromBytes(this.byteArrayG2Alpha).getImmutable();
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -61,23 +61,35 @@ public class HIBEBBG05PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getG1() {
-		return this.g1.duplicate();
+		return this.g1;
 	}
 
 	public Element getG2() {
-		return this.g2.duplicate();
+		return this.g2;
 	}
 
 	public Element getG3() {
-		return this.g3.duplicate();
+		return this.g3;
 	}
 
 	public Element getHsAt(int index) {
-		return this.hs[index].duplicate();
+		return this.hs[index];
+	}
+
+	public Element[] getHs() {
+		return this.hs;
+	}
+
+	public Element powHsAt(int index, Element exponent) {
+		return powZn("hs[" + index + "]", this.hs[index], exponent);
 	}
 
 	public int getMaxLength() {
@@ -131,7 +143,7 @@ public class HIBEBBG05PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -139,7 +151,7 @@ public class HIBEBBG05PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.g1 = pairing.getG1().newElementFromBytes(this.byteArrayG1).getImmutable();
 		this.g2 = pairing.getG1().newElementFromBytes(this.byteArrayG2).getImmutable();
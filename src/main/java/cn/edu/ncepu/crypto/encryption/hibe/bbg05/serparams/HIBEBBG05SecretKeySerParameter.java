@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -64,7 +64,7 @@ public class HIBEBBG05SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementIdAt(int index) {
-		return this.elementIds[index].duplicate();
+		return this.elementIds[index];
 	}
 
 	public Element[] getElementIds() {
@@ -72,15 +72,19 @@ public class HIBEBBG05SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getA0() {
-		return this.a0.duplicate();
+		return this.a0;
 	}
 
 	public Element getA1() {
-		return this.a1.duplicate();
+		return this.a1;
+	}
+
+	public Element pairingA1(Element that) {
+		return pairing(this.a1, that);
 	}
 
 	public Element getBsAt(int index) {
-		return this.bs[index].duplicate();
+		return this.bs[index];
 	}
 
 	public Element[] getBs() {
@@ -131,7 +135,7 @@ public class HIBEBBG05SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -139,7 +143,7 @@ public class HIBEBBG05SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementIds = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysElementIds,
 				PairingUtils.PairingGroupType.Zr);
 		this.a0 = pairing.getG1().newElementFromBytes(this.byteArrayA0).getImmutable();
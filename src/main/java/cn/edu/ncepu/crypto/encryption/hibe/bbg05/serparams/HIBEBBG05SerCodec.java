@@ -0,0 +1,101 @@
+package cn.edu.ncepu.crypto.encryption.hibe.bbg05.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Boyen-Goh HIBE headers, ciphertexts and keys.
+ */
+public class HIBEBBG05SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x42;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					HIBEBBG05HeaderSerParameter.class, HIBEBBG05CiphertextSerParameter.class,
+					HIBEBBG05PublicKeySerParameter.class, HIBEBBG05MasterSecretKeySerParameter.class,
+					HIBEBBG05SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof HIBEBBG05PublicKeySerParameter) {
+			HIBEBBG05PublicKeySerParameter publicKey = (HIBEBBG05PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElement(publicKey.getG3());
+			output.writeElementArray(publicKey.getHs());
+			return;
+		}
+		if (parameter instanceof HIBEBBG05MasterSecretKeySerParameter) {
+			output.writeElement(((HIBEBBG05MasterSecretKeySerParameter) parameter).getG2Alpha());
+			return;
+		}
+		if (parameter instanceof HIBEBBG05SecretKeySerParameter) {
+			HIBEBBG05SecretKeySerParameter secretKey = (HIBEBBG05SecretKeySerParameter) parameter;
+			output.writeStrings(secretKey.getIds());
+			output.writeElementArray(secretKey.getElementIds());
+			output.writeElement(secretKey.getA0());
+			output.writeElement(secretKey.getA1());
+			output.writeElementArray(secretKey.getBs());
+			return;
+		}
+		if (parameter instanceof HIBEBBG05CiphertextSerParameter) {
+			HIBEBBG05CiphertextSerParameter ciphertext = (HIBEBBG05CiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getA());
+			output.writeElement(ciphertext.getB());
+			output.writeElement(ciphertext.getC());
+			return;
+		}
+		HIBEBBG05HeaderSerParameter header = (HIBEBBG05HeaderSerParameter) parameter;
+		output.writeElement(header.getB());
+		output.writeElement(header.getC());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new HIBEBBG05CiphertextSerParameter(pairingParameters, input.readElement(pairing.getGT()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_PUBLIC_KEY:
+			return new HIBEBBG05PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new HIBEBBG05MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new HIBEBBG05SecretKeySerParameter(pairingParameters, input.readStrings(),
+					input.readElementArray(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getG1()));
+		default:
+			return new HIBEBBG05HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.algorithms.HornerRule;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams.IBBEDel07HeaderSerParameter;
@@ -12,7 +13,6 @@ import cn.edu.ncepu.crypto.encryption.ibbe.genparams.IBBEDecapsulationGeneration
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/8/24.
@@ -34,7 +34,7 @@ public class IBBEDel07DecapsulationGenerator implements PairingDecapsulationGene
 		IBBEDel07HeaderSerParameter ciphertextParameters = (IBBEDel07HeaderSerParameter) this.params
 				.getCiphertextParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 
 		int index;
 		// test if the user is in the broadcast receiver set
@@ -64,7 +64,7 @@ public class IBBEDel07DecapsulationGenerator implements PairingDecapsulationGene
 		Element temp1 = pairing.getG2().newOneElement().getImmutable();
 
 		for (int i = 1; i < coefficientsForP.length; i++) {
-			temp1 = temp1.mul(publicKeyParameters.getHsAt(i - 1).powZn(coefficientsForP[i])).getImmutable();
+			temp1 = temp1.mul(publicKeyParameters.powHsAt(i - 1, coefficientsForP[i])).getImmutable();
 		}
 
 		Element tempPow = pairing.getZr().newOneElement().getImmutable();
@@ -74,7 +74,7 @@ public class IBBEDel07DecapsulationGenerator implements PairingDecapsulationGene
 		tempPow = tempPow.invert().getImmutable();
 
 		return pairing.pairing(ciphertextParameters.getC1(), temp1)
-				.mul(pairing.pairing(secretKeyParameters.getSecretKey(), ciphertextParameters.getC2())).powZn(tempPow)
+				.mul(secretKeyParameters.pairingSecretKey(ciphertextParameters.getC2())).powZn(tempPow)
 				.getImmutable().toBytes();
 	}
 }
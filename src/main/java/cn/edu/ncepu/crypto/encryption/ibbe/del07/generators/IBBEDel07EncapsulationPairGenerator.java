@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.algorithms.HornerRule;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibbe.genparams.IBBEEncapsulationGeneration
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/8/24.
@@ -29,7 +29,7 @@ public class IBBEDel07EncapsulationPairGenerator implements PairingEncapsulation
 	public PairingKeyEncapsulationSerPair generateEncryptionPair() {
 		IBBEDel07PublicKeySerParameter publicKeyParameters = (IBBEDel07PublicKeySerParameter) this.params
 				.getPublicKeyParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		String[] ids = this.params.getIds();
 		if (ids.length > publicKeyParameters.getMaxBroadcastReceiver()) {
 			throw new IllegalArgumentException(
@@ -41,17 +41,17 @@ public class IBBEDel07EncapsulationPairGenerator implements PairingEncapsulation
 
 		Element k = pairing.getZr().newRandomElement().getImmutable();
 		// Computer session key
-		Element sessionKey = publicKeyParameters.getV().powZn(k).getImmutable();
+		Element sessionKey = publicKeyParameters.powV(k).getImmutable();
 		byte[] byteArraySessionKey = sessionKey.toBytes();
 
 		// Computer C1
-		Element C1 = publicKeyParameters.getW().powZn(k.negate()).getImmutable();
+		Element C1 = publicKeyParameters.powW(k.negate()).getImmutable();
 
 		// Compute C2
 		Element C2 = pairing.getG2().newOneElement().getImmutable();
 		Element[] allCoefficients = HornerRule.ComputeEfficients(pairing, elementIds);
 		for (int i = 0; i < allCoefficients.length; i++) {
-			C2 = C2.mul(publicKeyParameters.getHsAt(i).powZn(allCoefficients[i])).getImmutable();
+			C2 = C2.mul(publicKeyParameters.powHsAt(i, allCoefficients[i])).getImmutable();
 		}
 		C2 = C2.powZn(k).getImmutable();
 
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams.IBBEDel07MasterSecretKeySerParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams.IBBEDel07PublicKeySer
 import cn.edu.ncepu.crypto.encryption.ibbe.genparams.IBBEKeyPairGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/8/24.
@@ -24,7 +24,7 @@ public class IBBEDel07KeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.parameters.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.parameters.getPairingParameters());
 		Element[] hs = new Element[this.parameters.getMaxBroadcastReceiver() + 1];
 		hs[0] = pairing.getG2().newRandomElement().getImmutable();
 		Element g = pairing.getG1().newRandomElement().getImmutable();
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams.IBBEDel07MasterSecretKeySerParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibbe.genparams.IBBESecretKeyGenerationPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/8/24.
@@ -31,7 +31,7 @@ public class IBBEDel07SecretKeyGenerator implements PairingKeyParameterGenerator
 		IBBEDel07PublicKeySerParameter publicKeyParameters = (IBBEDel07PublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(),
 				PairingUtils.PairingGroupType.Zr);
 
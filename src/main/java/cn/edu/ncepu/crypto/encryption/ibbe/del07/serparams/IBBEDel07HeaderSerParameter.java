@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/8/24.
@@ -35,11 +35,11 @@ public class IBBEDel07HeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC1() {
-		return this.C1.duplicate();
+		return this.C1;
 	}
 
 	public Element getC2() {
-		return this.C2.duplicate();
+		return this.C2;
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class IBBEDel07HeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -72,7 +72,7 @@ public class IBBEDel07HeaderSerParameter extends PairingCipherSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C1 = pairing.getG1().newElementFromBytes(this.byteArrayC1).getImmutable();
 		this.C2 = pairing.getG1().newElementFromBytes(this.byteArrayC2).getImmutable();
 	}
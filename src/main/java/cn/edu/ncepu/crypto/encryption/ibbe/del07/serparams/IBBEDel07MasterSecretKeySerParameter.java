@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/8/23.
@@ -35,11 +35,11 @@ public class IBBEDel07MasterSecretKeySerParameter extends PairingKeySerParameter
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
 	}
 
 	public Element getGamma() {
-		return this.gamma.duplicate();
+		return this.gamma;
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class IBBEDel07MasterSecretKeySerParameter extends PairingKeySerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -72,7 +72,7 @@ public class IBBEDel07MasterSecretKeySerParameter extends PairingKeySerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.gamma = pairing.getZr().newElementFromBytes(this.byteArrayGamma).getImmutable();
 	}
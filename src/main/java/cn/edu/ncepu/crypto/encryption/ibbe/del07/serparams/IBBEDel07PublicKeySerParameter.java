@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -49,15 +49,31 @@ public class IBBEDel07PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getW() {
-		return this.w.duplicate();
+		return this.w;
+	}
+
+	public Element powW(Element exponent) {
+		return powZn("w", this.w, exponent);
 	}
 
 	public Element getV() {
-		return this.v.duplicate();
+		return this.v;
+	}
+
+	public Element powV(Element exponent) {
+		return powZn("v", this.v, exponent);
 	}
 
 	public Element getHsAt(int index) {
-		return this.hs[index].duplicate();
+		return this.hs[index];
+	}
+
+	public Element[] getHs() {
+		return this.hs;
+	}
+
+	public Element powHsAt(int index, Element exponent) {
+		return powZn("hs[" + index + "]", this.hs[index], exponent);
 	}
 
 	public int getMaxBroadcastReceiver() {
@@ -97,7 +113,7 @@ public class IBBEDel07PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -105,7 +121,7 @@ public class IBBEDel07PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.w = pairing.getG1().newElementFromBytes(this.byteArrayW).getImmutable();
 		this.v = pairing.getGT().newElementFromBytes(this.byteArrayV).getImmutable();
 		this.hs = PairingUtils.GetElementArrayFromBytes(pairing, this.byteArraysHs, PairingUtils.PairingGroupType.G2);
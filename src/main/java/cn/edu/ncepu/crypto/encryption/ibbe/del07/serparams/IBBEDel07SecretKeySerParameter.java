@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/8/23.
@@ -43,11 +43,15 @@ public class IBBEDel07SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getSecretKey() {
-		return this.secretKey.duplicate();
+		return this.secretKey;
+	}
+
+	public Element pairingSecretKey(Element that) {
+		return pairing(this.secretKey, that);
 	}
 
 	@Override
@@ -76,7 +80,7 @@ public class IBBEDel07SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -84,7 +88,7 @@ public class IBBEDel07SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getZr().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.secretKey = pairing.getG1().newElementFromBytes(this.byteArraySecretKey).getImmutable();
 	}
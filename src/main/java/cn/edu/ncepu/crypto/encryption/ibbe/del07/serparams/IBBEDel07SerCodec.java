@@ -0,0 +1,86 @@
+package cn.edu.ncepu.crypto.encryption.ibbe.del07.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Delerablée IBBE headers and keys.
+ */
+public class IBBEDel07SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x71;
+	private static final int KIND_PUBLIC_KEY = 1;
+	private static final int KIND_MASTER_SECRET_KEY = 2;
+	private static final int KIND_SECRET_KEY = 3;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBBEDel07HeaderSerParameter.class, IBBEDel07PublicKeySerParameter.class,
+					IBBEDel07MasterSecretKeySerParameter.class, IBBEDel07SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBBEDel07PublicKeySerParameter) {
+			IBBEDel07PublicKeySerParameter publicKey = (IBBEDel07PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getW());
+			output.writeElement(publicKey.getV());
+			output.writeElementArray(publicKey.getHs());
+			return;
+		}
+		if (parameter instanceof IBBEDel07MasterSecretKeySerParameter) {
+			IBBEDel07MasterSecretKeySerParameter masterSecretKey = (IBBEDel07MasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getG());
+			output.writeElement(masterSecretKey.getGamma());
+			return;
+		}
+		if (parameter instanceof IBBEDel07SecretKeySerParameter) {
+			IBBEDel07SecretKeySerParameter secretKey = (IBBEDel07SecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getSecretKey());
+			return;
+		}
+		IBBEDel07HeaderSerParameter header = (IBBEDel07HeaderSerParameter) parameter;
+		output.writeElement(header.getC1());
+		output.writeElement(header.getC2());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new IBBEDel07PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()), input.readElementArray(pairing.getG2()));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBBEDel07MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new IBBEDel07SecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()));
+		default:
+			return new IBBEDel07HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
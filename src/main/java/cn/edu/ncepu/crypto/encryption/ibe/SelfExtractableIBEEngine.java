@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.ibe;
 
+import java.util.function.Supplier;
+
 import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -11,6 +13,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine;
+import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine.KeyDerivation;
 import cn.edu.ncepu.crypto.encryption.sepe.serparams.SEPEHeaderParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.PairingParameters;
@@ -34,6 +37,19 @@ public class SelfExtractableIBEEngine extends Engine {
 				digest);
 	}
 
+	/**
+	 * Self-extractable IBE engine that can be shared by threads, each thread using its own supplied primitives.
+	 */
+	public SelfExtractableIBEEngine(IBEEngine engine, Supplier<PBEParametersGenerator> pbeParametersGenerator,
+			Supplier<BlockCipher> blockCipher, Supplier<Digest> digest) {
+		super(engine.getEngineName(), engine.getProveSecModel(), engine.getPayloadSecLevel(),
+				engine.getPredicateSecLevel());
+
+		this.engine = engine;
+		this.selfExtractableBaseEngine = new SelfExtractableBaseEngine(engine, pbeParametersGenerator, blockCipher,
+				digest);
+	}
+
 	public PairingKeySerPair setup(PairingParameters pairingParameters) {
 		return engine.setup(pairingParameters);
 	}
@@ -47,6 +63,10 @@ public class SelfExtractableIBEEngine extends Engine {
 		return this.selfExtractableBaseEngine.selfKeyGen();
 	}
 
+	public void setKeyDerivation(KeyDerivation keyDerivation) {
+		this.selfExtractableBaseEngine.setKeyDerivation(keyDerivation);
+	}
+
 	public PairingKeyEncapsulationSerPair encapsulation(PairingKeySerParameter publicKey, String id, byte[] ek) {
 		PairingKeyEncapsulationSerPair encapsulationPair = this.engine.encapsulation(publicKey, id);
 		return this.selfExtractableBaseEngine.encapsulation(encapsulationPair, ek);
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01a.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aCiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEDecryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -36,7 +36,7 @@ public class IBEBF01aDecryptionGenerator implements PairingDecryptionGenerator,
 		IBEBF01aSecretKeySerParameter secretKeyParameter = (IBEBF01aSecretKeySerParameter) this.params
 				.getSecretKeyParameter();
 		IBEBF01aHeaderSerParameter headerParameter = (IBEBF01aHeaderSerParameter) this.params.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.G1);
 
@@ -46,7 +46,7 @@ public class IBEBF01aDecryptionGenerator implements PairingDecryptionGenerator,
 		}
 
 		this.sessionKey = PairingUtils.MapByteArrayToGroup(pairing,
-				pairing.pairing(secretKeyParameter.getD(), headerParameter.getU()).toBytes(),
+				secretKeyParameter.pairingD(headerParameter.getU()).toBytes(),
 				PairingUtils.PairingGroupType.GT);
 	}
 
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01a.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.utils.PairingUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils.PairingGroupType;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -34,14 +34,14 @@ public class IBEBF01aEncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	private Element computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String id = this.params.getId();
 		Element elementId = PairingUtils.MapStringToGroup(pairing, id, PairingGroupType.G1).getImmutable();
 		Element r = pairing.getZr().newRandomElement().getImmutable();
 		this.sessionKey = PairingUtils.MapByteArrayToGroup(pairing,
 				pairing.pairing(elementId, publicKeyParameter.getGs()).powZn(r).toBytes(),
 				PairingUtils.PairingGroupType.GT);
-		return publicKeyParameter.getG().powZn(r).getImmutable();
+		return publicKeyParameter.powG(r).getImmutable();
 	}
 
 	@Override
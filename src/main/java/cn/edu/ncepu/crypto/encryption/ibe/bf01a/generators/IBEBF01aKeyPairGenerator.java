@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aMasterSecretKeySerParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aPublicKeySerPa
 import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEKeyPairGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -26,7 +26,7 @@ public class IBEBF01aKeyPairGenerator implements PairingKeyPairGenerator {
 
 	@Override
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.params.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.params.getPairingParameters());
 		// P which belongs to E/Fq, can also regard as a generator of the E/Fq
 		Element g = pairing.getG1().newRandomElement().getImmutable();
 		// master key s
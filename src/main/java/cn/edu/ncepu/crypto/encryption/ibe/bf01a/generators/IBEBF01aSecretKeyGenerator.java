@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aMasterSecretKeySerParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBESecretKeyGenerationParame
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -33,7 +33,7 @@ public class IBEBF01aSecretKeyGenerator implements PairingKeyParameterGenerator
 		IBEBF01aPublicKeySerParameter publicKeyParameters = (IBEBF01aPublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.G1)
 				.getImmutable();
 		Element d = elementId.powZn(masterSecretKeyParameters.getS()).getImmutable();
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran liu on 2016/12/1.
@@ -45,11 +45,15 @@ public class IBEBF01aSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getD() {
-		return this.d.duplicate();
+		return this.d;
+	}
+
+	public Element pairingD(Element that) {
+		return pairing(this.d, that);
 	}
 
 	@Override
@@ -78,7 +82,7 @@ public class IBEBF01aSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -86,7 +90,7 @@ public class IBEBF01aSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getG1().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.d = pairing.getG1().newElementFromBytes(this.byteArrayD).getImmutable();
 	}
@@ -0,0 +1,91 @@
+package cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Franklin CPA-secure IBE headers, ciphertexts and keys.
+ */
+public class IBEBF01aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x31;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBEBF01aHeaderSerParameter.class, IBEBF01aCiphertextSerParameter.class,
+					IBEBF01aPublicKeySerParameter.class, IBEBF01aMasterSecretKeySerParameter.class,
+					IBEBF01aSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBEBF01aPublicKeySerParameter) {
+			IBEBF01aPublicKeySerParameter publicKey = (IBEBF01aPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getGs());
+			return;
+		}
+		if (parameter instanceof IBEBF01aMasterSecretKeySerParameter) {
+			output.writeElement(((IBEBF01aMasterSecretKeySerParameter) parameter).getS());
+			return;
+		}
+		if (parameter instanceof IBEBF01aSecretKeySerParameter) {
+			IBEBF01aSecretKeySerParameter secretKey = (IBEBF01aSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD());
+			return;
+		}
+		if (parameter instanceof IBEBF01aCiphertextSerParameter) {
+			IBEBF01aCiphertextSerParameter ciphertext = (IBEBF01aCiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getU());
+			output.writeElement(ciphertext.getV());
+			return;
+		}
+		IBEBF01aHeaderSerParameter header = (IBEBF01aHeaderSerParameter) parameter;
+		output.writeElement(header.getU());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new IBEBF01aCiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new IBEBF01aPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBEBF01aMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new IBEBF01aSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		default:
+			return new IBEBF01aHeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()));
+		}
+	}
+}
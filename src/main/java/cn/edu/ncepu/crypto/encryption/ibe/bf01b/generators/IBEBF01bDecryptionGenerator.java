@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01b.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.ibe.bf01b.serparams.IBEBF01bCiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEDecryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -34,7 +34,7 @@ public class IBEBF01bDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		IBEBF01bHeaderSerParameter ciphertextParameter = (IBEBF01bHeaderSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.G1);
 
@@ -45,14 +45,14 @@ public class IBEBF01bDecryptionGenerator implements PairingDecryptionGenerator,
 
 		Element sigma = ciphertextParameter.getV()
 				.div(PairingUtils.MapByteArrayToGroup(pairing,
-						pairing.pairing(secretKeyParameter.getD(), ciphertextParameter.getU()).toBytes(),
+						secretKeyParameter.pairingD(ciphertextParameter.getU()).toBytes(),
 						PairingUtils.PairingGroupType.GT))
 				.getImmutable();
 		byte[] byteArraySigma = sigma.toBytes();
 		Element sessionKey = PairingUtils.MapByteArrayToGroup(pairing, byteArraySigma, PairingUtils.PairingGroupType.GT)
 				.getImmutable();
 		Element r = PairingUtils.MapByteArrayToGroup(pairing, byteArraySigma, PairingUtils.PairingGroupType.Zr);
-		if (!publicKeyParameter.getG().powZn(r).equals(ciphertextParameter.getU())) {
+		if (!publicKeyParameter.powG(r).equals(ciphertextParameter.getU())) {
 			throw new InvalidCipherTextException("Invalid ciphertext");
 		}
 		return sessionKey.toBytes();
@@ -65,7 +65,7 @@ public class IBEBF01bDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		IBEBF01bCiphertextSerParameter ciphertextParameter = (IBEBF01bCiphertextSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.G1);
 
@@ -76,7 +76,7 @@ public class IBEBF01bDecryptionGenerator implements PairingDecryptionGenerator,
 
 		Element sigma = ciphertextParameter.getV()
 				.div(PairingUtils.MapByteArrayToGroup(pairing,
-						pairing.pairing(secretKeyParameter.getD(), ciphertextParameter.getU()).toBytes(),
+						secretKeyParameter.pairingD(ciphertextParameter.getU()).toBytes(),
 						PairingUtils.PairingGroupType.GT))
 				.getImmutable();
 		byte[] byteArraySigma = sigma.toBytes();
@@ -88,7 +88,7 @@ public class IBEBF01bDecryptionGenerator implements PairingDecryptionGenerator,
 		System.arraycopy(byteArraySigma, 0, byteArrayH3, 0, byteArraySigma.length);
 		System.arraycopy(byteArrayMessage, 0, byteArrayH3, byteArraySigma.length, byteArrayMessage.length);
 		Element r = PairingUtils.MapByteArrayToGroup(pairing, byteArrayH3, PairingUtils.PairingGroupType.Zr);
-		if (!publicKeyParameter.getG().powZn(r).equals(ciphertextParameter.getU())) {
+		if (!publicKeyParameter.powG(r).equals(ciphertextParameter.getU())) {
 			throw new InvalidCipherTextException("Invalid ciphertext");
 		}
 		return message;
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01b.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEEncryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -31,7 +31,7 @@ public class IBEBF01bEncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	public PairingKeyEncapsulationSerPair generateEncryptionPair() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String id = this.params.getId();
 		Element elementId = PairingUtils.MapStringToGroup(pairing, id, PairingUtils.PairingGroupType.G1).getImmutable();
 
@@ -40,7 +40,7 @@ public class IBEBF01bEncryptionGenerator implements PairingEncryptionGenerator,
 		Element sessionKey = PairingUtils.MapByteArrayToGroup(pairing, byteArraySigma,
 				PairingUtils.PairingGroupType.GT);
 		Element r = PairingUtils.MapByteArrayToGroup(pairing, byteArraySigma, PairingUtils.PairingGroupType.Zr);
-		Element U = publicKeyParameter.getG().powZn(r).getImmutable();
+		Element U = publicKeyParameter.powG(r).getImmutable();
 		Element V = sigma.mul(PairingUtils.MapByteArrayToGroup(pairing,
 				pairing.pairing(elementId, publicKeyParameter.getGs()).powZn(r).toBytes(),
 				PairingUtils.PairingGroupType.GT)).getImmutable();
@@ -50,12 +50,12 @@ public class IBEBF01bEncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	public PairingCipherSerParameter generateCiphertext() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String id = this.params.getId();
 		Element elementId = PairingUtils.MapStringToGroup(pairing, id, PairingUtils.PairingGroupType.G1).getImmutable();
 
 		Element sigma = pairing.getGT().newRandomElement().getImmutable();
-		Element message = this.params.getMessage().getImmutable();
+		Element message = this.params.getMessage();
 		byte[] byteArraySigma = sigma.toBytes();
 		byte[] byteArrayMessage = message.toBytes();
 		byte[] byteArrayH3 = new byte[byteArraySigma.length + byteArrayMessage.length];
@@ -64,7 +64,7 @@ public class IBEBF01bEncryptionGenerator implements PairingEncryptionGenerator,
 		Element sessionKey = PairingUtils.MapByteArrayToGroup(pairing, byteArraySigma,
 				PairingUtils.PairingGroupType.GT);
 		Element r = PairingUtils.MapByteArrayToGroup(pairing, byteArrayH3, PairingUtils.PairingGroupType.Zr);
-		Element U = publicKeyParameter.getG().powZn(r).getImmutable();
+		Element U = publicKeyParameter.powG(r).getImmutable();
 		Element V = sigma.mul(PairingUtils.MapByteArrayToGroup(pairing,
 				pairing.pairing(elementId, publicKeyParameter.getGs()).powZn(r).toBytes(),
 				PairingUtils.PairingGroupType.GT)).getImmutable();
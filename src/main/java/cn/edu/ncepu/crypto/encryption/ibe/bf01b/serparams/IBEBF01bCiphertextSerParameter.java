@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -28,7 +28,7 @@ public class IBEBF01bCiphertextSerParameter extends IBEBF01bHeaderSerParameter {
 	}
 
 	public Element getW() {
-		return this.W.duplicate();
+		return this.W;
 	}
 
 	@Override
@@ -47,7 +47,7 @@ public class IBEBF01bCiphertextSerParameter extends IBEBF01bHeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.W = pairing.getGT().newElementFromBytes(this.byteArrayW).getImmutable();
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.bf01b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aHeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -29,7 +29,7 @@ public class IBEBF01bHeaderSerParameter extends IBEBF01aHeaderSerParameter {
 	}
 
 	public Element getV() {
-		return this.V.duplicate();
+		return this.V;
 	}
 
 	@Override
@@ -48,7 +48,7 @@ public class IBEBF01bHeaderSerParameter extends IBEBF01aHeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.V = pairing.getGT().newElementFromBytes(this.byteArrayV).getImmutable();
 	}
 }
@@ -0,0 +1,98 @@
+package cn.edu.ncepu.crypto.encryption.ibe.bf01b.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aMasterSecretKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aPublicKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.serparams.IBEBF01aSecretKeySerParameter;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Franklin CCA2-secure IBE headers, ciphertexts and keys.
+ */
+public class IBEBF01bSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x32;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBEBF01bHeaderSerParameter.class, IBEBF01bCiphertextSerParameter.class,
+					IBEBF01bPublicKeySerParameter.class, IBEBF01bMasterSecretKeySerParameter.class,
+					IBEBF01bSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBEBF01bPublicKeySerParameter) {
+			IBEBF01bPublicKeySerParameter publicKey = (IBEBF01bPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getGs());
+			return;
+		}
+		if (parameter instanceof IBEBF01bMasterSecretKeySerParameter) {
+			output.writeElement(((IBEBF01bMasterSecretKeySerParameter) parameter).getS());
+			return;
+		}
+		if (parameter instanceof IBEBF01bSecretKeySerParameter) {
+			IBEBF01bSecretKeySerParameter secretKey = (IBEBF01bSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD());
+			return;
+		}
+		if (parameter instanceof IBEBF01bCiphertextSerParameter) {
+			IBEBF01bCiphertextSerParameter ciphertext = (IBEBF01bCiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getU());
+			output.writeElement(ciphertext.getV());
+			output.writeElement(ciphertext.getW());
+			return;
+		}
+		IBEBF01bHeaderSerParameter header = (IBEBF01bHeaderSerParameter) parameter;
+		output.writeElement(header.getU());
+		output.writeElement(header.getV());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new IBEBF01bCiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()), input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new IBEBF01bPublicKeySerParameter(new IBEBF01aPublicKeySerParameter(pairingParameters,
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1())));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBEBF01bMasterSecretKeySerParameter(new IBEBF01aMasterSecretKeySerParameter(pairingParameters,
+					input.readElement(pairing.getZr())));
+		case KIND_SECRET_KEY:
+			return new IBEBF01bSecretKeySerParameter(new IBEBF01aSecretKeySerParameter(pairingParameters,
+					input.readString(), input.readElement(pairing.getG1()), input.readElement(pairing.getG1())));
+		default:
+			return new IBEBF01bHeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		}
+	}
+}
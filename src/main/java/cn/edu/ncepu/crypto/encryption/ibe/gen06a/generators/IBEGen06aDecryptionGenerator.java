@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams.IBEGen06aCiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEDecryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -36,7 +36,7 @@ public class IBEGen06aDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		IBEGen06aHeaderSerParameter headerParameter = (IBEGen06aHeaderSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -45,7 +45,7 @@ public class IBEGen06aDecryptionGenerator implements PairingDecryptionGenerator,
 					"Secret Key identity vector does not match Ciphertext identity vector");
 		}
 
-		this.sessionKey = pairing.pairing(headerParameter.getU(), secretKeyParameter.getHId())
+		this.sessionKey = secretKeyParameter.pairingHId(headerParameter.getU())
 				.mul(headerParameter.getV().powZn(secretKeyParameter.getRId())).getImmutable();
 	}
 
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEEncryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -34,13 +34,13 @@ public class IBEGen06aEncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String id = this.params.getId();
 		Element elementId = PairingUtils.MapStringToGroup(pairing, id, PairingUtils.PairingGroupType.Zr).getImmutable();
 
 		Element s = pairing.getZr().newRandomElement().getImmutable();
 		this.sessionKey = pairing.pairing(publicKeyParameter.getG(), publicKeyParameter.getH()).powZn(s).getImmutable();
-		this.u = publicKeyParameter.getG1().powZn(s).mul(publicKeyParameter.getG().powZn(elementId.mul(s).negate()))
+		this.u = publicKeyParameter.powG1(s).mul(publicKeyParameter.powG(elementId.mul(s).negate()))
 				.getImmutable();
 		this.v = pairing.pairing(publicKeyParameter.getG(), publicKeyParameter.getG()).powZn(s).getImmutable();
 	}
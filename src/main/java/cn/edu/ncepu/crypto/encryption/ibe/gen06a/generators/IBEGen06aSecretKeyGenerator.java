@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams.IBEGen06aMasterSecretKeySerParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBESecretKeyGenerationParame
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -31,11 +31,11 @@ public class IBEGen06aSecretKeyGenerator implements PairingKeyParameterGenerator
 		IBEGen06aPublicKeySerParameter publicKeyParameters = (IBEGen06aPublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.Zr)
 				.getImmutable();
 		Element rId = pairing.getZr().newRandomElement().getImmutable();
-		Element hId = publicKeyParameters.getG().powZn(rId.negate()).mul(publicKeyParameters.getH())
+		Element hId = publicKeyParameters.powG(rId.negate()).mul(publicKeyParameters.getH())
 				.powZn(masterSecretKeyParameters.getAlpha().sub(elementId).invert()).getImmutable();
 		return new IBEGen06aSecretKeySerParameter(publicKeyParameters.getParameters(), parameters.getId(), elementId,
 				rId, hId);
@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -29,7 +29,7 @@ public class IBEGen06aCiphertextSerParameter extends IBEGen06aHeaderSerParameter
 	}
 
 	public Element getW() {
-		return this.w.duplicate();
+		return this.w;
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class IBEGen06aCiphertextSerParameter extends IBEGen06aHeaderSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.w = pairing.getGT().newElementFromBytes(this.byteArrayW).getImmutable();
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -35,11 +35,11 @@ public class IBEGen06aHeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getU() {
-		return this.u.duplicate();
+		return this.u;
 	}
 
 	public Element getV() {
-		return this.v.duplicate();
+		return this.v;
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class IBEGen06aHeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -72,7 +72,7 @@ public class IBEGen06aHeaderSerParameter extends PairingCipherSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.u = pairing.getG1().newElementFromBytes(this.byteArrayU).getImmutable();
 		this.v = pairing.getGT().newElementFromBytes(this.byteArrayV).getImmutable();
 	}
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -49,15 +49,19 @@ public class IBEGen06aSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getRId() {
-		return this.rId.duplicate();
+		return this.rId;
 	}
 
 	public Element getHId() {
-		return this.hId.duplicate();
+		return this.hId;
+	}
+
+	public Element pairingHId(Element that) {
+		return pairing(this.hId, that);
 	}
 
 	@Override
@@ -93,7 +97,7 @@ public class IBEGen06aSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -101,7 +105,7 @@ public class IBEGen06aSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getZr().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.rId = pairing.getZr().newElementFromBytes(this.byteArrayRId).getImmutable();
 		this.hId = pairing.getG1().newElementFromBytes(this.byteArrayHId).getImmutable();
@@ -0,0 +1,97 @@
+package cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Gentry CPA-secure IBE headers, ciphertexts and keys.
+ */
+public class IBEGen06aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x33;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBEGen06aHeaderSerParameter.class, IBEGen06aCiphertextSerParameter.class,
+					IBEGen06aPublicKeySerParameter.class, IBEGen06aMasterSecretKeySerParameter.class,
+					IBEGen06aSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBEGen06aPublicKeySerParameter) {
+			IBEGen06aPublicKeySerParameter publicKey = (IBEGen06aPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getH());
+			return;
+		}
+		if (parameter instanceof IBEGen06aMasterSecretKeySerParameter) {
+			output.writeElement(((IBEGen06aMasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof IBEGen06aSecretKeySerParameter) {
+			IBEGen06aSecretKeySerParameter secretKey = (IBEGen06aSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getRId());
+			output.writeElement(secretKey.getHId());
+			return;
+		}
+		if (parameter instanceof IBEGen06aCiphertextSerParameter) {
+			IBEGen06aCiphertextSerParameter ciphertext = (IBEGen06aCiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getU());
+			output.writeElement(ciphertext.getV());
+			output.writeElement(ciphertext.getW());
+			return;
+		}
+		IBEGen06aHeaderSerParameter header = (IBEGen06aHeaderSerParameter) parameter;
+		output.writeElement(header.getU());
+		output.writeElement(header.getV());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new IBEGen06aCiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()), input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new IBEGen06aPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBEGen06aMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new IBEGen06aSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()));
+		default:
+			return new IBEGen06aHeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		}
+	}
+}
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams.IBEGen06bCiphertextSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEDecryptionGenerationParam
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -34,7 +34,7 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		IBEGen06bHeaderSerParameter ciphertextParameter = (IBEGen06bHeaderSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -44,9 +44,9 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 		}
 
 		// verify ciphertext
-		Element u = ciphertextParameter.getU().getImmutable();
+		Element u = ciphertextParameter.getU();
 		byte[] byteArrayU = u.toBytes();
-		Element v = ciphertextParameter.getV().getImmutable();
+		Element v = ciphertextParameter.getV();
 		byte[] byteArrayV = v.toBytes();
 		byte[] byteArrayH = new byte[byteArrayU.length + byteArrayV.length];
 		System.arraycopy(byteArrayU, 0, byteArrayH, 0, byteArrayU.length);
@@ -57,7 +57,7 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 						.mul(v.powZn(secretKeyParameter.getRId2().add(secretKeyParameter.getRId3().mulZn(beta)))))) {
 			throw new InvalidCipherTextException("Invalid ciphertext.");
 		}
-		return pairing.pairing(u, secretKeyParameter.getHId()).mul(v.powZn(secretKeyParameter.getRId())).toBytes();
+		return secretKeyParameter.pairingHId(u).mul(v.powZn(secretKeyParameter.getRId())).toBytes();
 	}
 
 	public Element recoverMessage() throws InvalidCipherTextException {
@@ -67,7 +67,7 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		IBEGen06bCiphertextSerParameter ciphertextParameter = (IBEGen06bCiphertextSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -77,11 +77,11 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 		}
 
 		// verify ciphertext
-		Element u = ciphertextParameter.getU().getImmutable();
+		Element u = ciphertextParameter.getU();
 		byte[] byteArrayU = u.toBytes();
-		Element v = ciphertextParameter.getV().getImmutable();
+		Element v = ciphertextParameter.getV();
 		byte[] byteArrayV = v.toBytes();
-		Element w = ciphertextParameter.getW().getImmutable();
+		Element w = ciphertextParameter.getW();
 		byte[] byteArrayW = w.toBytes();
 		byte[] byteArrayH = new byte[byteArrayU.length + byteArrayV.length + byteArrayW.length];
 		System.arraycopy(byteArrayU, 0, byteArrayH, 0, byteArrayU.length);
@@ -93,7 +93,7 @@ public class IBEGen06bDecryptionGenerator implements PairingDecryptionGenerator,
 		if (!ciphertextParameter.getY().equals(yPrime)) {
 			throw new InvalidCipherTextException("Invalid ciphertext.");
 		}
-		Element sessionKey = pairing.pairing(u, secretKeyParameter.getHId()).mul(v.powZn(secretKeyParameter.getRId()))
+		Element sessionKey = secretKeyParameter.pairingHId(u).mul(v.powZn(secretKeyParameter.getRId()))
 				.getImmutable();
 		return ciphertextParameter.getW().div(sessionKey).getImmutable();
 	}
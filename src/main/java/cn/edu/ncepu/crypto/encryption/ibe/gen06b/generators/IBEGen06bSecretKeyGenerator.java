@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams.IBEGen06bMasterSecretKeySerParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBESecretKeyGenerationParame
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/2.
@@ -31,17 +31,17 @@ public class IBEGen06bSecretKeyGenerator implements PairingKeyParameterGenerator
 		IBEGen06bPublicKeySerParameter publicKeyParameters = (IBEGen06bPublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.Zr)
 				.getImmutable();
 		Element rId = pairing.getZr().newRandomElement().getImmutable();
-		Element hId = publicKeyParameters.getG().powZn(rId.negate()).mul(publicKeyParameters.getH())
+		Element hId = publicKeyParameters.powG(rId.negate()).mul(publicKeyParameters.getH())
 				.powZn(masterSecretKeyParameters.getAlpha().sub(elementId).invert()).getImmutable();
 		Element rId2 = pairing.getZr().newRandomElement().getImmutable();
-		Element hId2 = publicKeyParameters.getG().powZn(rId2.negate()).mul(publicKeyParameters.getH2())
+		Element hId2 = publicKeyParameters.powG(rId2.negate()).mul(publicKeyParameters.getH2())
 				.powZn(masterSecretKeyParameters.getAlpha().sub(elementId).invert()).getImmutable();
 		Element rId3 = pairing.getZr().newRandomElement().getImmutable();
-		Element hId3 = publicKeyParameters.getG().powZn(rId3.negate()).mul(publicKeyParameters.getH3())
+		Element hId3 = publicKeyParameters.powG(rId3.negate()).mul(publicKeyParameters.getH3())
 				.powZn(masterSecretKeyParameters.getAlpha().sub(elementId).invert()).getImmutable();
 
 		return new IBEGen06bSecretKeySerParameter(publicKeyParameters.getParameters(), parameters.getId(), elementId,
@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -30,7 +30,7 @@ public class IBEGen06bCiphertextSerParameter extends IBEGen06bHeaderSerParameter
 	}
 
 	public Element getW() {
-		return this.w.duplicate();
+		return this.w;
 	}
 
 	@Override
@@ -50,7 +50,7 @@ public class IBEGen06bCiphertextSerParameter extends IBEGen06bHeaderSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.w = pairing.getGT().newElementFromBytes(this.byteArrayW).getImmutable();
 	}
 }
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams.IBEGen06aHeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -29,7 +29,7 @@ public class IBEGen06bHeaderSerParameter extends IBEGen06aHeaderSerParameter {
 	}
 
 	public Element getY() {
-		return this.y.duplicate();
+		return this.y;
 	}
 
 	@Override
@@ -55,7 +55,7 @@ public class IBEGen06bHeaderSerParameter extends IBEGen06aHeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.y = pairing.getGT().newElementFromBytes(this.byteArrayY).getImmutable();
 	}
 }
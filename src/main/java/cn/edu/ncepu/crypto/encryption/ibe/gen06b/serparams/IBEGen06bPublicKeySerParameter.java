@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams.IBEGen06aPublicKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -36,11 +36,11 @@ public class IBEGen06bPublicKeySerParameter extends IBEGen06aPublicKeySerParamet
 	}
 
 	public Element getH2() {
-		return this.h2.duplicate();
+		return this.h2;
 	}
 
 	public Element getH3() {
-		return this.h3.duplicate();
+		return this.h3;
 	}
 
 	@Override
@@ -67,7 +67,7 @@ public class IBEGen06bPublicKeySerParameter extends IBEGen06aPublicKeySerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.h2 = pairing.getG1().newElementFromBytes(this.byteArrayH2).getImmutable();
 		this.h3 = pairing.getG1().newElementFromBytes(this.byteArrayH3).getImmutable();
 	}
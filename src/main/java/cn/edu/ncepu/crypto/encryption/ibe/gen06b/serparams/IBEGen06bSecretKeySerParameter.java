@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.ibe.gen06a.serparams.IBEGen06aSecretKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/12/1.
@@ -49,19 +49,19 @@ public class IBEGen06bSecretKeySerParameter extends IBEGen06aSecretKeySerParamet
 	}
 
 	public Element getRId2() {
-		return this.rId2.duplicate();
+		return this.rId2;
 	}
 
 	public Element getHId2() {
-		return this.hId2.duplicate();
+		return this.hId2;
 	}
 
 	public Element getRId3() {
-		return this.rId3.duplicate();
+		return this.rId3;
 	}
 
 	public Element getHId3() {
-		return this.hId3.duplicate();
+		return this.hId3;
 	}
 
 	@Override
@@ -108,7 +108,7 @@ public class IBEGen06bSecretKeySerParameter extends IBEGen06aSecretKeySerParamet
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.rId2 = pairing.getZr().newElementFromBytes(this.byteArrayRId2).getImmutable();
 		this.hId2 = pairing.getG1().newElementFromBytes(this.byteArrayHId2).getImmutable();
 		this.rId3 = pairing.getZr().newElementFromBytes(this.byteArrayRId3).getImmutable();
@@ -0,0 +1,109 @@
+package cn.edu.ncepu.crypto.encryption.ibe.gen06b.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Gentry CCA2-secure IBE headers, ciphertexts and keys.
+ */
+public class IBEGen06bSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x34;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBEGen06bHeaderSerParameter.class, IBEGen06bCiphertextSerParameter.class,
+					IBEGen06bPublicKeySerParameter.class, IBEGen06bMasterSecretKeySerParameter.class,
+					IBEGen06bSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBEGen06bPublicKeySerParameter) {
+			IBEGen06bPublicKeySerParameter publicKey = (IBEGen06bPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getH2());
+			output.writeElement(publicKey.getH3());
+			return;
+		}
+		if (parameter instanceof IBEGen06bMasterSecretKeySerParameter) {
+			output.writeElement(((IBEGen06bMasterSecretKeySerParameter) parameter).getAlpha());
+			return;
+		}
+		if (parameter instanceof IBEGen06bSecretKeySerParameter) {
+			IBEGen06bSecretKeySerParameter secretKey = (IBEGen06bSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getRId());
+			output.writeElement(secretKey.getHId());
+			output.writeElement(secretKey.getRId2());
+			output.writeElement(secretKey.getHId2());
+			output.writeElement(secretKey.getRId3());
+			output.writeElement(secretKey.getHId3());
+			return;
+		}
+		if (parameter instanceof IBEGen06bCiphertextSerParameter) {
+			IBEGen06bCiphertextSerParameter ciphertext = (IBEGen06bCiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getU());
+			output.writeElement(ciphertext.getV());
+			output.writeElement(ciphertext.getW());
+			output.writeElement(ciphertext.getY());
+			return;
+		}
+		IBEGen06bHeaderSerParameter header = (IBEGen06bHeaderSerParameter) parameter;
+		output.writeElement(header.getU());
+		output.writeElement(header.getV());
+		output.writeElement(header.getY());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new IBEGen06bCiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()), input.readElement(pairing.getGT()),
+					input.readElement(pairing.getGT()));
+		case KIND_PUBLIC_KEY:
+			return new IBEGen06bPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBEGen06bMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new IBEGen06bSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()));
+		default:
+			return new IBEGen06bHeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()), input.readElement(pairing.getGT()));
+		}
+	}
+}
@@ -3,6 +3,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBEDecryptionGenerationParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams.IBELW10SecretKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/7.
@@ -35,7 +35,7 @@ public class IBELW10DecryptionGenerator implements PairingDecryptionGenerator, P
 		IBELW10SecretKeySerParameter secretKeyParameter = (IBELW10SecretKeySerParameter) this.params
 				.getSecretKeyParameter();
 		IBELW10HeaderSerParameter headerParameter = (IBELW10HeaderSerParameter) this.params.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		Element elementIdCT = PairingUtils.MapStringToGroup(pairing, this.params.getId(),
 				PairingUtils.PairingGroupType.Zr);
 
@@ -44,8 +44,8 @@ public class IBELW10DecryptionGenerator implements PairingDecryptionGenerator, P
 					"Secret Key identity vector does not match Ciphertext identity vector");
 		}
 
-		Element temp0 = pairing.pairing(secretKeyParameter.getK2(), headerParameter.getC2()).getImmutable();
-		Element temp1 = pairing.pairing(secretKeyParameter.getK1(), headerParameter.getC1()).getImmutable();
+		Element temp0 = secretKeyParameter.pairingK2(headerParameter.getC2()).getImmutable();
+		Element temp1 = secretKeyParameter.pairingK1(headerParameter.getC1()).getImmutable();
 		this.sessionKey = temp0.div(temp1).getImmutable();
 	}
 
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams.IBELW10PublicKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/7.
@@ -34,15 +34,15 @@ public class IBELW10EncryptionGenerator implements PairingEncryptionGenerator, P
 	}
 
 	private void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String id = this.params.getId();
 		Element elementId = PairingUtils.MapStringToGroup(pairing, id, PairingUtils.PairingGroupType.Zr).getImmutable();
 
 		Element s = pairing.getZr().newRandomElement().getImmutable();
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
 
-		this.C1 = publicKeyParameter.getU().powZn(elementId).mul(publicKeyParameter.getH()).powZn(s).getImmutable();
-		this.C2 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.C1 = publicKeyParameter.powU(elementId).mul(publicKeyParameter.getH()).powZn(s).getImmutable();
+		this.C2 = publicKeyParameter.powG(s).getImmutable();
 	}
 
 	public PairingKeyEncapsulationSerPair generateEncryptionPair() {
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.ibe.genparams.IBESecretKeyGenerationParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams.IBELW10SecretKeySerPara
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/7.
@@ -31,7 +31,7 @@ public class IBELW10SecretKeyGenerator implements PairingKeyParameterGenerator {
 		IBELW10PublicKeySerParameter publicKeyParameters = (IBELW10PublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.Zr)
 				.getImmutable();
 		Element Zr_R3 = pairing.getZr().newRandomElement().getImmutable();
@@ -41,10 +41,10 @@ public class IBELW10SecretKeyGenerator implements PairingKeyParameterGenerator {
 		Element r = pairing.getZr().newRandomElement().getImmutable();
 
 		// Compute k1
-		Element k1 = publicKeyParameters.getG().powZn(r).mul(R3).getImmutable();
+		Element k1 = publicKeyParameters.powG(r).mul(R3).getImmutable();
 		// Compute k2
-		Element k2 = publicKeyParameters.getG().powZn(masterSecretKeyParameters.getAlpha())
-				.mul(publicKeyParameters.getU().powZn(elementId).mul(publicKeyParameters.getH()).powZn(r)).mul(R3Prime)
+		Element k2 = publicKeyParameters.powG(masterSecretKeyParameters.getAlpha())
+				.mul(publicKeyParameters.powU(elementId).mul(publicKeyParameters.getH()).powZn(r)).mul(R3Prime)
 				.getImmutable();
 		return new IBELW10SecretKeySerParameter(publicKeyParameters.getParameters(), parameters.getId(), elementId, k1,
 				k2);
@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/6.
@@ -28,7 +28,7 @@ public class IBELW10CiphertextSerParameter extends IBELW10HeaderSerParameter {
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	@Override
@@ -47,7 +47,7 @@ public class IBELW10CiphertextSerParameter extends IBELW10HeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C0 = pairing.getGT().newElementFromBytes(this.byteArrayC0).getImmutable();
 	}
 }
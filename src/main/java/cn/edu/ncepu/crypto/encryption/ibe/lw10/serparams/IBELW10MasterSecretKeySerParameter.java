@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/6.
@@ -35,11 +35,11 @@ public class IBELW10MasterSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getAlpha() {
-		return this.alpha.duplicate();
+		return this.alpha;
 	}
 
 	public Element getG3Generator() {
-		return this.g3Generator.duplicate();
+		return this.g3Generator;
 	}
 
 	@Override
@@ -64,7 +64,7 @@ public class IBELW10MasterSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -72,7 +72,7 @@ public class IBELW10MasterSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.alpha = pairing.getZr().newElementFromBytes(this.byteArrayAlpha).getImmutable();
 		this.g3Generator = pairing.getG1().newElementFromBytes(this.byteArrayG3Generator).getImmutable();
 	}
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/6.
@@ -50,19 +50,31 @@ public class IBELW10PublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getU() {
-		return this.u.duplicate();
+		return this.u;
+	}
+
+	public Element powU(Element exponent) {
+		return powZn("u", this.u, exponent);
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getH() {
-		return this.h.duplicate();
+		return this.h;
 	}
 
 	public Element getEggAlpha() {
-		return this.eggAlpha.duplicate();
+		return this.eggAlpha;
+	}
+
+	public Element powEggAlpha(Element exponent) {
+		return powZn("eggAlpha", this.eggAlpha, exponent);
 	}
 
 	@Override
@@ -101,7 +113,7 @@ public class IBELW10PublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -109,7 +121,7 @@ public class IBELW10PublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.u = pairing.getG1().newElementFromBytes(this.byteArrayU).getImmutable();
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
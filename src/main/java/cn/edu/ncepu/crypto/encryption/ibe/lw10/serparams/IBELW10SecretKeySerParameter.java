@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/5/6.
@@ -50,15 +50,23 @@ public class IBELW10SecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getK1() {
-		return this.k1.duplicate();
+		return this.k1;
+	}
+
+	public Element pairingK1(Element that) {
+		return pairing(this.k1, that);
 	}
 
 	public Element getK2() {
-		return this.k2.duplicate();
+		return this.k2;
+	}
+
+	public Element pairingK2(Element that) {
+		return pairing(this.k2, that);
 	}
 
 	@Override
@@ -94,7 +102,7 @@ public class IBELW10SecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -102,7 +110,7 @@ public class IBELW10SecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getZr().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.k1 = pairing.getG1().newElementFromBytes(this.byteArrayK1).getImmutable();
 		this.k2 = pairing.getG1().newElementFromBytes(this.byteArrayK2).getImmutable();
@@ -0,0 +1,102 @@
+package cn.edu.ncepu.crypto.encryption.ibe.lw10.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Lewko-Waters IBE headers, ciphertexts and keys.
+ */
+public class IBELW10SerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x35;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					IBELW10HeaderSerParameter.class, IBELW10CiphertextSerParameter.class,
+					IBELW10PublicKeySerParameter.class, IBELW10MasterSecretKeySerParameter.class,
+					IBELW10SecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof IBELW10PublicKeySerParameter) {
+			IBELW10PublicKeySerParameter publicKey = (IBELW10PublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getH());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof IBELW10MasterSecretKeySerParameter) {
+			IBELW10MasterSecretKeySerParameter masterSecretKey = (IBELW10MasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getAlpha());
+			output.writeElement(masterSecretKey.getG3Generator());
+			return;
+		}
+		if (parameter instanceof IBELW10SecretKeySerParameter) {
+			IBELW10SecretKeySerParameter secretKey = (IBELW10SecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getK1());
+			output.writeElement(secretKey.getK2());
+			return;
+		}
+		if (parameter instanceof IBELW10CiphertextSerParameter) {
+			IBELW10CiphertextSerParameter ciphertext = (IBELW10CiphertextSerParameter) parameter;
+			output.writeElement(ciphertext.getC0());
+			output.writeElement(ciphertext.getC1());
+			output.writeElement(ciphertext.getC2());
+			return;
+		}
+		IBELW10HeaderSerParameter header = (IBELW10HeaderSerParameter) parameter;
+		output.writeElement(header.getC1());
+		output.writeElement(header.getC2());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_CIPHERTEXT:
+			return new IBELW10CiphertextSerParameter(pairingParameters, input.readElement(pairing.getGT()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_PUBLIC_KEY:
+			return new IBELW10PublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new IBELW10MasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new IBELW10SecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		default:
+			return new IBELW10HeaderSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		}
+	}
+}
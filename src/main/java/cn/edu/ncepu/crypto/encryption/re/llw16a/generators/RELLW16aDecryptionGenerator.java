@@ -30,7 +30,7 @@ public class RELLW16aDecryptionGenerator extends RELSW10aDecryptionGenerator {
 		Map<String, Element> oriC3s = oriHeaderParameter.getC3s();
 		Map<String, Element> newC2s = new HashMap<String, Element>();
 		for (String revokeId : oriC2s.keySet()) {
-			Element newC2 = oriC2s.get(revokeId).mul(oriPublicKeyParameter.getGb2().powZn(oriC3s.get(revokeId)))
+			Element newC2 = oriC2s.get(revokeId).mul(oriPublicKeyParameter.powGb2(oriC3s.get(revokeId)))
 					.getImmutable();
 			newC2s.put(revokeId, newC2);
 		}
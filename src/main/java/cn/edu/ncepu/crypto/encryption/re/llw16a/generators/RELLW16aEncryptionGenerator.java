@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.encryption.re.genparams.REEncryptionGenerationParameter;
@@ -16,7 +17,6 @@ import cn.edu.ncepu.crypto.encryption.re.lsw10a.generators.RELSW10aEncryptionGen
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/4.
@@ -38,7 +38,7 @@ public class RELLW16aEncryptionGenerator extends RELSW10aEncryptionGenerator {
 	}
 
 	protected void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		String[] revokeIds = this.parameter.getIds();
 		this.C3s = new HashMap<String, Element>();
 
@@ -48,15 +48,15 @@ public class RELLW16aEncryptionGenerator extends RELSW10aEncryptionGenerator {
 			}
 			this.C1s = new HashMap<String, Element>();
 			this.C2s = new HashMap<String, Element>();
-			this.s = this.intermediate.getS().getImmutable();
-			this.sessionKey = this.intermediate.getSessionKey().getImmutable();
-			this.C0 = this.intermediate.getC0().getImmutable();
+			this.s = this.intermediate.getS();
+			this.sessionKey = this.intermediate.getSessionKey();
+			this.C0 = this.intermediate.getC0();
 			int index = 0;
 			for (String revokeId : revokeIds) {
 				Element elementRevokeId = PairingUtils.MapStringToGroup(pairing, revokeId,
 						PairingUtils.PairingGroupType.Zr);
-				C1s.put(revokeId, this.intermediate.getC1sAt(index).getImmutable());
-				C2s.put(revokeId, this.intermediate.getC2sAt(index).getImmutable());
+				C1s.put(revokeId, this.intermediate.getC1sAt(index));
+				C2s.put(revokeId, this.intermediate.getC2sAt(index));
 				C3s.put(revokeId, this.intermediate.getSsAt(index)
 						.mulZn(elementRevokeId.sub(this.intermediate.getXsAt(index))).getImmutable());
 				index++;
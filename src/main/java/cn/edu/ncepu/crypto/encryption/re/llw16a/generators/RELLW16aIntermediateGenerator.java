@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.re.llw16a.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.encryption.re.genparams.REIntermediateGenerationParameter;
@@ -9,7 +10,6 @@ import cn.edu.ncepu.crypto.encryption.re.llw16a.serparams.RELLW16aIntermediateSe
 import cn.edu.ncepu.crypto.encryption.re.llw16a.serparams.RELLW16aPublicKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/4.
@@ -40,18 +40,18 @@ public class RELLW16aIntermediateGenerator implements PairingEncryptionGenerator
 		this.C1s = new Element[n];
 		this.C2s = new Element[n];
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.s = pairing.getZr().newZeroElement().getImmutable();
 		for (int i = 0; i < n; i++) {
 			this.ss[i] = pairing.getZr().newRandomElement().getImmutable();
 			this.xs[i] = pairing.getZr().newRandomElement().getImmutable();
-			this.C1s[i] = publicKeyParameter.getGb().powZn(ss[i]).getImmutable();
-			this.C2s[i] = publicKeyParameter.getGb2().powZn(xs[i]).mul(publicKeyParameter.getHb()).powZn(ss[i])
+			this.C1s[i] = publicKeyParameter.powGb(ss[i]).getImmutable();
+			this.C2s[i] = publicKeyParameter.powGb2(xs[i]).mul(publicKeyParameter.getHb()).powZn(ss[i])
 					.getImmutable();
 			this.s = this.s.add(this.ss[i]).getImmutable();
 		}
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 	}
 
 	public PairingCipherSerParameter generateCiphertext() {
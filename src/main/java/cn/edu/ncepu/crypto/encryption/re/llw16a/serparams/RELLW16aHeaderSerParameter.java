@@ -3,12 +3,12 @@ package cn.edu.ncepu.crypto.encryption.re.llw16a.serparams;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams.RELSW10aHeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/4.
@@ -31,8 +31,8 @@ public class RELLW16aHeaderSerParameter extends RELSW10aHeaderSerParameter {
 		this.byteArraysC3s = new HashMap<String, byte[]>();
 
 		for (String revokeId : C3s.keySet()) {
-			this.C3s.put(revokeId, C3s.get(revokeId).duplicate().getImmutable());
-			this.byteArraysC3s.put(revokeId, C3s.get(revokeId).duplicate().getImmutable().toBytes());
+			this.C3s.put(revokeId, C3s.get(revokeId).getImmutable());
+			this.byteArraysC3s.put(revokeId, C3s.get(revokeId).getImmutable().toBytes());
 		}
 	}
 
@@ -41,7 +41,7 @@ public class RELLW16aHeaderSerParameter extends RELSW10aHeaderSerParameter {
 	}
 
 	public Element getC3sAt(String revokeId) {
-		return this.C3s.get(revokeId).duplicate();
+		return this.C3s.get(revokeId);
 	}
 
 	@Override
@@ -67,7 +67,7 @@ public class RELLW16aHeaderSerParameter extends RELSW10aHeaderSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C3s = new HashMap<String, Element>();
 		for (String revokeId : this.byteArraysC3s.keySet()) {
 			this.C3s.put(revokeId,
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.re.llw16a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import it.unisa.dia.gas.plaf.jpbc.util.ElementUtils;
 
 /**
@@ -76,15 +76,15 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getSessionKey() {
-		return this.sessionKey.duplicate();
+		return this.sessionKey;
 	}
 
 	public Element getS() {
-		return this.s.duplicate();
+		return this.s;
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	public Element[] getSs() {
@@ -92,7 +92,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getSsAt(int index) {
-		return this.ss[index].duplicate();
+		return this.ss[index];
 	}
 
 	public Element[] getXs() {
@@ -100,7 +100,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getXsAt(int index) {
-		return this.xs[index].duplicate();
+		return this.xs[index];
 	}
 
 	public Element[] getC1s() {
@@ -108,7 +108,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getC1sAt(int index) {
-		return this.C1s[index].duplicate();
+		return this.C1s[index];
 	}
 
 	public Element[] getC2s() {
@@ -116,7 +116,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	}
 
 	public Element getC2sAt(int index) {
-		return this.C2s[index].duplicate();
+		return this.C2s[index];
 	}
 
 	@Override
@@ -180,7 +180,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -188,7 +188,7 @@ public class RELLW16aIntermediateSerParameter extends PairingCipherSerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.sessionKey = pairing.getGT().newElementFromBytes(this.byteArraySessionKey).getImmutable();
 		this.s = pairing.getZr().newElementFromBytes(this.byteArrayS).getImmutable();
 		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0).getImmutable();
@@ -0,0 +1,136 @@
+package cn.edu.ncepu.crypto.encryption.re.llw16a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu revocation headers, ciphertexts, intermediates and keys.
+ */
+public class RELLW16aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x82;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					RELLW16aHeaderSerParameter.class, RELLW16aCiphertextSerParameter.class,
+					RELLW16aPublicKeySerParameter.class, RELLW16aMasterSecretKeySerParameter.class,
+					RELLW16aSecretKeySerParameter.class, RELLW16aIntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof RELLW16aPublicKeySerParameter) {
+			RELLW16aPublicKeySerParameter publicKey = (RELLW16aPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getGb());
+			output.writeElement(publicKey.getGb2());
+			output.writeElement(publicKey.getHb());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof RELLW16aMasterSecretKeySerParameter) {
+			RELLW16aMasterSecretKeySerParameter masterSecretKey = (RELLW16aMasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getAlpha());
+			output.writeElement(masterSecretKey.getB());
+			output.writeElement(masterSecretKey.getH());
+			return;
+		}
+		if (parameter instanceof RELLW16aSecretKeySerParameter) {
+			RELLW16aSecretKeySerParameter secretKey = (RELLW16aSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD0());
+			output.writeElement(secretKey.getD1());
+			output.writeElement(secretKey.getD2());
+			return;
+		}
+		if (parameter instanceof RELLW16aIntermediateSerParameter) {
+			RELLW16aIntermediateSerParameter intermediate = (RELLW16aIntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getSs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			return;
+		}
+		RELLW16aHeaderSerParameter header = (RELLW16aHeaderSerParameter) parameter;
+		if (header instanceof RELLW16aCiphertextSerParameter) {
+			output.writeElement(((RELLW16aCiphertextSerParameter) header).getC());
+		}
+		String[] revokeIds = header.getC1s().keySet().toArray(new String[0]);
+		output.writeStrings(revokeIds);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), revokeIds);
+		output.writeElements(header.getC2s(), revokeIds);
+		output.writeElements(header.getC3s(), revokeIds);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new RELLW16aPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new RELLW16aMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new RELLW16aSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_INTERMEDIATE:
+			return new RELLW16aIntermediateSerParameter(pairingParameters, input.readVarInt(),
+					input.readElement(pairing.getGT()), input.readElement(pairing.getZr()),
+					input.readElement(pairing.getG1()), input.readElementArray(pairing.getZr()),
+					input.readElementArray(pairing.getZr()), input.readElementArray(pairing.getG1()),
+					input.readElementArray(pairing.getG1()));
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] revokeIds = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), revokeIds);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), revokeIds);
+		Map<String, Element> C3s = input.readElements(pairing.getZr(), revokeIds);
+		if (kind == KIND_CIPHERTEXT) {
+			return new RELLW16aCiphertextSerParameter(pairingParameters, C, C0, C1s, C2s, C3s);
+		}
+		return new RELLW16aHeaderSerParameter(pairingParameters, C0, C1s, C2s, C3s);
+	}
+}
@@ -1,5 +1,7 @@
 package cn.edu.ncepu.crypto.encryption.re.llw16b.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.chameleonhash.ChameleonHasher;
 import cn.edu.ncepu.crypto.encryption.re.genparams.REDecryptionGenerationParameter;
@@ -12,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.InvalidCipherTextException;
@@ -44,7 +45,7 @@ public class RELLW16bDecryptionGenerator extends RELLW16aDecryptionGenerator {
 		this.chameleonHash = this.headerParameter.getChameleonHash();
 		this.r = this.headerParameter.getR();
 
-		Pairing pairing = PairingFactory
+		Pairing pairing = PairingRegistry
 				.getPairing(oriDecryptionGenerationParameter.getPublicKeyParameter().getParameters());
 		String[] ids = oriDecryptionGenerationParameter.getIds();
 		Element[] mappedElementIds = PairingUtils.MapStringArrayToFirstHalfZr(pairing, ids);
@@ -57,10 +58,10 @@ public class RELLW16bDecryptionGenerator extends RELLW16aDecryptionGenerator {
 	}
 
 	private void verifyCiphertext() throws InvalidCipherTextException {
-		Element C0 = headerParameter.getC0().getImmutable();
-		Element C01 = headerParameter.getC01().getImmutable();
-		Element C02 = headerParameter.getC02().getImmutable();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Element C0 = headerParameter.getC0();
+		Element C01 = headerParameter.getC01();
+		Element C02 = headerParameter.getC02();
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		// compute Xch
 		try {
 			chameleonHasher.init(false, chameleonHashPublicKey);
@@ -103,17 +104,16 @@ public class RELLW16bDecryptionGenerator extends RELLW16aDecryptionGenerator {
 				Element taui = pairing.getZr().newRandomElement().getImmutable();
 				temp1 = temp1
 						.mul(headerParameter.getC2sAt(id)
-								.mul(publicKeyParameter.getGb2().powZn(headerParameter.getC3sAt(id))).powZn(taui))
+								.mul(publicKeyParameter.powGb2(headerParameter.getC3sAt(id))).powZn(taui))
 						.getImmutable();
 				temp2 = temp2.mul(headerParameter.getC1sAt(id).powZn(elementId.mulZn(taui))).getImmutable();
 				temp3 = temp3.mul(headerParameter.getC1sAt(id).powZn(taui)).getImmutable();
 				temp4 = temp4.mul(headerParameter.getC1sAt(id)).getImmutable();
 			}
-			Element verifyResult1 = pairing.pairing(temp1, publicKeyParameter.getGb())
-					.div(pairing.pairing(temp2, publicKeyParameter.getGb2()))
-					.div(pairing.pairing(temp3, publicKeyParameter.getHb())).getImmutable();
-			Element verifyResult2 = pairing.pairing(publicKeyParameter.getG(), temp4)
-					.div(pairing.pairing(C0, publicKeyParameter.getGb())).getImmutable();
+			Element verifyResult1 = new MultiPairing(pairing).mul(temp1, publicKeyParameter.getGb())
+					.div(temp2, publicKeyParameter.getGb2()).div(temp3, publicKeyParameter.getHb()).evaluate();
+			Element verifyResult2 = new MultiPairing(pairing).mul(publicKeyParameter.getG(), temp4)
+					.div(C0, publicKeyParameter.getGb()).evaluate();
 			if (!verifyResult1.equals(pairing.getGT().newOneElement())
 					|| !verifyResult2.equals(pairing.getGT().newOneElement())) {
 				throw new InvalidCipherTextException("Illegal ciphertext, reject to decrypt.");
@@ -128,7 +128,7 @@ public class RELLW16bDecryptionGenerator extends RELLW16aDecryptionGenerator {
 	protected void computeDecapsulation() throws InvalidCipherTextException {
 		RELLW16bSecretKeySerParameter secretKeyParameters = (RELLW16bSecretKeySerParameter) this.parameter
 				.getSecretKeyParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		// remove repeated ids
 		String[] ids = PairingUtils.removeDuplicates(this.parameter.getIds());
 
@@ -145,12 +145,12 @@ public class RELLW16bDecryptionGenerator extends RELLW16aDecryptionGenerator {
 			C1 = C1.mul(headerParameter.getC1sAt(revokeId)
 					.powZn(secretKeyParameters.getElementId().sub(elementId).invert())).getImmutable();
 			C2 = C2.mul(headerParameter.getC2sAt(revokeId)
-					.mul(publicKeyParameter.getGb2().powZn(headerParameter.getC3sAt(revokeId)))
+					.mul(publicKeyParameter.powGb2(headerParameter.getC3sAt(revokeId)))
 					.powZn(secretKeyParameters.getElementId().sub(elementId).invert())).getImmutable();
 		}
-		this.sessionKey = pairing.pairing(headerParameter.getC0(), secretKeyParameters.getD0())
-				.div(pairing.pairing(secretKeyParameters.getD1(), C1))
-				.div(pairing.pairing(secretKeyParameters.getD2(), C2)).getImmutable();
+		this.sessionKey = new MultiPairing(pairing, secretKeyParameters)
+				.mulKey(headerParameter.getC0(), secretKeyParameters.getD0())
+				.divKey(C1, secretKeyParameters.getD1()).divKey(C2, secretKeyParameters.getD2()).evaluate();
 	}
 
 	public Element recoverMessage() throws InvalidCipherTextException {
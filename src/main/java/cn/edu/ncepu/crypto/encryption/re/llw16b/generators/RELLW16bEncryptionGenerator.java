@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.re.llw16b.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -17,7 +18,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -59,7 +59,7 @@ public class RELLW16bEncryptionGenerator extends RELLW16aEncryptionGenerator {
 			this.chameleonHashPublicKey = chKeyPair.getPublic();
 			this.chameleonHashSecretKey = chKeyPair.getPrivate();
 		}
-		Pairing pairing = PairingFactory.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriEncryptionParameter.getPublicKeyParameter().getParameters());
 		String[] revokeIds = oriEncryptionParameter.getIds();
 		Element[] mappedElementIds = PairingUtils.MapStringArrayToFirstHalfZr(pairing, revokeIds);
 		String[] mappedStringIds = PairingUtils.MapElementArrayToStringArray(mappedElementIds);
@@ -78,15 +78,15 @@ public class RELLW16bEncryptionGenerator extends RELLW16aEncryptionGenerator {
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(this.publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(this.publicKeyParameter.getParameters());
 			if (this.parameter.isIntermediateGeneration()) {
-				this.C01 = this.intermediate.getC01().getImmutable();
-				this.C02 = this.intermediate.getC02().getImmutable();
+				this.C01 = this.intermediate.getC01();
+				this.C02 = this.intermediate.getC02();
 				this.chameleonHash = this.intermediate.getChameleonHash();
 				this.r = this.intermediate.getR();
 			} else {
 				Element r0 = pairing.getZr().newRandomElement().getImmutable();
-				this.C01 = publicKeyParameter.getGb().powZn(r0).getImmutable();
+				this.C01 = publicKeyParameter.powGb(r0).getImmutable();
 				chameleonHasher.init(false, chameleonHashPublicKey);
 				byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 				chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -96,10 +96,10 @@ public class RELLW16bEncryptionGenerator extends RELLW16aEncryptionGenerator {
 				Element tempV = PairingUtils.MapByteArrayToSecondHalfZr(pairing, chResult[0]);
 				String mappedStringV = tempV.toString();
 				Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
-				this.C02 = publicKeyParameter.getGb2().powZn(V).mul(publicKeyParameter.getHb()).powZn(r0)
+				this.C02 = publicKeyParameter.powGb2(V).mul(publicKeyParameter.getHb()).powZn(r0)
 						.getImmutable();
-				this.C0 = this.C0.mul(publicKeyParameter.getG().powZn(r0));
-				this.sessionKey = this.sessionKey.mul(publicKeyParameter.getEggAlpha().powZn(r0));
+				this.C0 = this.C0.mul(publicKeyParameter.powG(r0));
+				this.sessionKey = this.sessionKey.mul(publicKeyParameter.powEggAlpha(r0));
 			}
 			chameleonHasher.init(true, chameleonHashSecretKey);
 			byte[] byteArrayChPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
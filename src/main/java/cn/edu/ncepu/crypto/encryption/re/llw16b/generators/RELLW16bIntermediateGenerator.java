@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.encryption.re.llw16b.generators;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.KeyGenerationParameters;
@@ -55,7 +55,7 @@ public class RELLW16bIntermediateGenerator extends RELLW16aIntermediateGenerator
 	protected void computeEncapsulation() {
 		super.computeEncapsulation();
 		try {
-			Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 			chameleonHasher.init(false, chameleonHashPublicKey);
 			byte[] byteArrayChameleonHashPublicKey = CommonUtils.SerObject(chameleonHashPublicKey);
 			chameleonHasher.update(byteArrayChameleonHashPublicKey, 0, byteArrayChameleonHashPublicKey.length);
@@ -66,10 +66,10 @@ public class RELLW16bIntermediateGenerator extends RELLW16aIntermediateGenerator
 			String mappedStringV = tempV.toString();
 			Element V = PairingUtils.MapStringToGroup(pairing, mappedStringV, PairingUtils.PairingGroupType.Zr);
 			Element r0 = pairing.getZr().newRandomElement().getImmutable();
-			this.C01 = publicKeyParameter.getGb().powZn(r0).getImmutable();
-			this.C02 = publicKeyParameter.getGb2().powZn(V).mul(publicKeyParameter.getHb()).powZn(r0).getImmutable();
-			this.C0 = this.C0.mul(publicKeyParameter.getG().powZn(r0)).getImmutable();
-			this.sessionKey = this.sessionKey.mul(publicKeyParameter.getEggAlpha().powZn(r0));
+			this.C01 = publicKeyParameter.powGb(r0).getImmutable();
+			this.C02 = publicKeyParameter.powGb2(V).mul(publicKeyParameter.getHb()).powZn(r0).getImmutable();
+			this.C0 = this.C0.mul(publicKeyParameter.powG(r0)).getImmutable();
+			this.sessionKey = this.sessionKey.mul(publicKeyParameter.powEggAlpha(r0));
 		} catch (IOException e) {
 			throw new RuntimeException("Cannot serialize chk.");
 		} catch (CryptoException e) {
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.re.llw16b.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.re.genparams.RESecretKeyGenerationParameter;
 import cn.edu.ncepu.crypto.encryption.re.llw16a.generators.RELLW16aSecretKeyGenerator;
@@ -10,7 +11,6 @@ import cn.edu.ncepu.crypto.encryption.re.llw16b.serparams.RELLW16bSecretKeySerPa
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2017/1/4.
@@ -21,7 +21,7 @@ public class RELLW16bSecretKeyGenerator extends RELLW16aSecretKeyGenerator {
 	public void init(KeyGenerationParameters keyGenerationParameter) {
 		RESecretKeyGenerationParameter oriParameter = (RESecretKeyGenerationParameter) keyGenerationParameter;
 		String id = oriParameter.getId();
-		Pairing pairing = PairingFactory.getPairing(oriParameter.getPublicKeyParameter().getParameters());
+		Pairing pairing = PairingRegistry.getPairing(oriParameter.getPublicKeyParameter().getParameters());
 		Element mappedElementId = PairingUtils.MapByteArrayToFirstHalfZr(pairing, id.getBytes());
 		String mappedId = mappedElementId.toString();
 		RESecretKeyGenerationParameter parameter = new RESecretKeyGenerationParameter(
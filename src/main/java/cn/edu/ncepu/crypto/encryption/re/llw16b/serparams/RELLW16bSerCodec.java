@@ -0,0 +1,172 @@
+package cn.edu.ncepu.crypto.encryption.re.llw16b.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import cn.edu.ncepu.crypto.chameleonhash.kr00b.dlog.serparams.DLogKR00bKeySerCodec;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Liu-Liu-Wu revocation headers, ciphertexts, intermediates and keys.
+ */
+public class RELLW16bSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x83;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+	private static final int KIND_INTERMEDIATE = 5;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					RELLW16bHeaderSerParameter.class, RELLW16bCiphertextSerParameter.class,
+					RELLW16bPublicKeySerParameter.class, RELLW16bMasterSecretKeySerParameter.class,
+					RELLW16bSecretKeySerParameter.class, RELLW16bIntermediateSerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof RELLW16bPublicKeySerParameter) {
+			RELLW16bPublicKeySerParameter publicKey = (RELLW16bPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getGb());
+			output.writeElement(publicKey.getGb2());
+			output.writeElement(publicKey.getHb());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof RELLW16bMasterSecretKeySerParameter) {
+			RELLW16bMasterSecretKeySerParameter masterSecretKey = (RELLW16bMasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getAlpha());
+			output.writeElement(masterSecretKey.getB());
+			output.writeElement(masterSecretKey.getH());
+			return;
+		}
+		if (parameter instanceof RELLW16bSecretKeySerParameter) {
+			RELLW16bSecretKeySerParameter secretKey = (RELLW16bSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD0());
+			output.writeElement(secretKey.getD1());
+			output.writeElement(secretKey.getD2());
+			return;
+		}
+		if (parameter instanceof RELLW16bIntermediateSerParameter) {
+			RELLW16bIntermediateSerParameter intermediate = (RELLW16bIntermediateSerParameter) parameter;
+			output.writeVarInt(intermediate.getN());
+			output.writeBytes(intermediate.getChameleonHash());
+			output.writeBytes(intermediate.getR());
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashPublicKey(), output);
+			DLogKR00bKeySerCodec.Write(intermediate.getChameleonHashSecretKey(), output);
+			output.writeElement(intermediate.getC01());
+			output.writeElement(intermediate.getC02());
+			output.writeElement(intermediate.getSessionKey());
+			output.writeElement(intermediate.getS());
+			output.writeElement(intermediate.getC0());
+			output.writeElementArray(intermediate.getSs());
+			output.writeElementArray(intermediate.getXs());
+			output.writeElementArray(intermediate.getC1s());
+			output.writeElementArray(intermediate.getC2s());
+			return;
+		}
+		RELLW16bHeaderSerParameter header = (RELLW16bHeaderSerParameter) parameter;
+		if (header instanceof RELLW16bCiphertextSerParameter) {
+			output.writeElement(((RELLW16bCiphertextSerParameter) header).getC());
+		}
+		output.writeBytes(header.getChameleonHash());
+		output.writeBytes(header.getR());
+		DLogKR00bKeySerCodec.Write(header.getChameleonHashPublicKey(), output);
+		output.writeElement(header.getC01());
+		output.writeElement(header.getC02());
+		String[] revokeIds = header.getC1s().keySet().toArray(new String[0]);
+		output.writeStrings(revokeIds);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), revokeIds);
+		output.writeElements(header.getC2s(), revokeIds);
+		output.writeElements(header.getC3s(), revokeIds);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new RELLW16bPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new RELLW16bMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new RELLW16bSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		case KIND_INTERMEDIATE:
+			return decodeIntermediate(pairingParameters, pairing, input);
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		String[] revokeIds = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), revokeIds);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), revokeIds);
+		Map<String, Element> C3s = input.readElements(pairing.getZr(), revokeIds);
+		if (kind == KIND_CIPHERTEXT) {
+			return new RELLW16bCiphertextSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey,
+					C01, C02, C, C0, C1s, C2s, C3s);
+		}
+		return new RELLW16bHeaderSerParameter(pairingParameters, chameleonHash, r, chameleonHashPublicKey, C01, C02,
+				C0, C1s, C2s, C3s);
+	}
+
+	private static PairingCipherSerParameter decodeIntermediate(PairingParameters pairingParameters, Pairing pairing,
+			PairingSerInput input) throws IOException {
+		int n = input.readVarInt();
+		byte[] chameleonHash = input.readBytes();
+		byte[] r = input.readBytes();
+		AsymmetricKeySerParameter chameleonHashPublicKey = DLogKR00bKeySerCodec.Read(input);
+		AsymmetricKeySerParameter chameleonHashSecretKey = DLogKR00bKeySerCodec.Read(input);
+		Element C01 = input.readElement(pairing.getG1());
+		Element C02 = input.readElement(pairing.getG1());
+		Element sessionKey = input.readElement(pairing.getGT());
+		Element s = input.readElement(pairing.getZr());
+		Element C0 = input.readElement(pairing.getG1());
+		Element[] ss = input.readElementArray(pairing.getZr());
+		Element[] xs = input.readElementArray(pairing.getZr());
+		Element[] C1s = input.readElementArray(pairing.getG1());
+		Element[] C2s = input.readElementArray(pairing.getG1());
+		return new RELLW16bIntermediateSerParameter(pairingParameters, n, chameleonHash, r, chameleonHashPublicKey,
+				chameleonHashSecretKey, C01, C02, sessionKey, s, C0, ss, xs, C1s, C2s);
+	}
+}
@@ -3,6 +3,8 @@ package cn.edu.ncepu.crypto.encryption.re.lsw10a.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecapsulationGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.encryption.re.genparams.REDecryptionGenerationParameter;
@@ -13,7 +15,6 @@ import cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams.RELSW10aSecretKeySerPa
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/4/4.
@@ -35,7 +36,7 @@ public class RELSW10aDecryptionGenerator implements PairingDecryptionGenerator,
 				.getSecretKeyParameter();
 		RELSW10aHeaderSerParameter ciphertextParameters = (RELSW10aHeaderSerParameter) this.parameter
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		// remove repeated ids
 		String[] ids = PairingUtils.removeDuplicates(this.parameter.getIds());
 
@@ -53,10 +54,9 @@ public class RELSW10aDecryptionGenerator implements PairingDecryptionGenerator,
 			C2 = C2.mul(ciphertextParameters.getC2sAt(revokeId)
 					.powZn(secretKeyParameters.getElementId().sub(elementId).invert())).getImmutable();
 		}
-		this.sessionKey = pairing.pairing(ciphertextParameters.getC0(), secretKeyParameters.getD0())
-				.mul(pairing.pairing(secretKeyParameters.getD1(), C1)
-						.mul(pairing.pairing(secretKeyParameters.getD2(), C2)).invert())
-				.getImmutable();
+		this.sessionKey = new MultiPairing(pairing, secretKeyParameters)
+				.mulKey(ciphertextParameters.getC0(), secretKeyParameters.getD0())
+				.divKey(C1, secretKeyParameters.getD1()).divKey(C2, secretKeyParameters.getD2()).evaluate();
 	}
 
 	public Element recoverMessage() throws InvalidCipherTextException {
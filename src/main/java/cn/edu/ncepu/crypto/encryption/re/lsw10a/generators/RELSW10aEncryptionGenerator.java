@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncapsulationPairGenerator;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
@@ -16,7 +17,6 @@ import cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams.RELSW10aPublicKeySerPa
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/4/4.
@@ -39,7 +39,7 @@ public class RELSW10aEncryptionGenerator implements PairingEncryptionGenerator,
 	}
 
 	protected void computeEncapsulation() {
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameter.getParameters());
 		this.s = pairing.getZr().newZeroElement().getImmutable();
 
 		this.C1s = new HashMap<String, Element>();
@@ -47,14 +47,14 @@ public class RELSW10aEncryptionGenerator implements PairingEncryptionGenerator,
 		for (String revokeId : this.parameter.getIds()) {
 			Element elementId = PairingUtils.MapStringToGroup(pairing, revokeId, PairingUtils.PairingGroupType.Zr);
 			Element ss = pairing.getZr().newRandomElement().getImmutable();
-			C1s.put(revokeId, publicKeyParameter.getGb().powZn(ss).getImmutable());
-			C2s.put(revokeId, publicKeyParameter.getGb2().powZn(elementId).mul(publicKeyParameter.getHb()).powZn(ss)
+			C1s.put(revokeId, publicKeyParameter.powGb(ss).getImmutable());
+			C2s.put(revokeId, publicKeyParameter.powGb2(elementId).mul(publicKeyParameter.getHb()).powZn(ss)
 					.getImmutable());
 			this.s = s.add(ss).getImmutable();
 		}
 
-		this.sessionKey = publicKeyParameter.getEggAlpha().powZn(s).getImmutable();
-		this.C0 = publicKeyParameter.getG().powZn(s).getImmutable();
+		this.sessionKey = publicKeyParameter.powEggAlpha(s).getImmutable();
+		this.C0 = publicKeyParameter.powG(s).getImmutable();
 	}
 
 	public PairingCipherSerParameter generateCiphertext() {
@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.encryption.re.lsw10a.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.re.genparams.RESecretKeyGenerationParameter;
@@ -11,7 +12,6 @@ import cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams.RELSW10aSecretKeySerPa
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/4/4.
@@ -31,16 +31,16 @@ public class RELSW10aSecretKeyGenerator implements PairingKeyParameterGenerator
 		RELSW10aPublicKeySerParameter publicKeyParameters = (RELSW10aPublicKeySerParameter) parameters
 				.getPublicKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(publicKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(publicKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.Zr)
 				.getImmutable();
 		Element t = pairing.getZr().newRandomElement().getImmutable();
 
-		Element d0 = publicKeyParameters.getG().powZn(masterSecretKeyParameters.getAlpha())
-				.mul(publicKeyParameters.getGb2().powZn(t)).getImmutable();
-		Element d1 = publicKeyParameters.getGb().powZn(elementId).mul(masterSecretKeyParameters.getH()).powZn(t)
+		Element d0 = publicKeyParameters.powG(masterSecretKeyParameters.getAlpha())
+				.mul(publicKeyParameters.powGb2(t)).getImmutable();
+		Element d1 = publicKeyParameters.powGb(elementId).mul(masterSecretKeyParameters.getH()).powZn(t)
 				.getImmutable();
-		Element d2 = publicKeyParameters.getG().powZn(t.negate()).getImmutable();
+		Element d2 = publicKeyParameters.powG(t.negate()).getImmutable();
 		return new RELSW10aSecretKeySerParameter(publicKeyParameters.getParameters(), parameters.getId(), elementId, d0,
 				d1, d2);
 	}
@@ -4,12 +4,12 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/4/4.
@@ -42,15 +42,15 @@ public class RELSW10aHeaderSerParameter extends PairingCipherSerParameter {
 		this.C2s = new HashMap<String, Element>();
 		this.byteArraysC2s = new HashMap<String, byte[]>();
 		for (String revokeId : C1s.keySet()) {
-			this.C1s.put(revokeId, C1s.get(revokeId).duplicate().getImmutable());
-			this.byteArraysC1s.put(revokeId, C1s.get(revokeId).duplicate().getImmutable().toBytes());
-			this.C2s.put(revokeId, C2s.get(revokeId).duplicate().getImmutable());
-			this.byteArraysC2s.put(revokeId, C2s.get(revokeId).duplicate().getImmutable().toBytes());
+			this.C1s.put(revokeId, C1s.get(revokeId).getImmutable());
+			this.byteArraysC1s.put(revokeId, C1s.get(revokeId).getImmutable().toBytes());
+			this.C2s.put(revokeId, C2s.get(revokeId).getImmutable());
+			this.byteArraysC2s.put(revokeId, C2s.get(revokeId).getImmutable().toBytes());
 		}
 	}
 
 	public Element getC0() {
-		return this.C0.duplicate();
+		return this.C0;
 	}
 
 	public Map<String, Element> getC1s() {
@@ -58,7 +58,7 @@ public class RELSW10aHeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC1sAt(String revokeId) {
-		return this.C1s.get(revokeId).duplicate();
+		return this.C1s.get(revokeId);
 	}
 
 	public Map<String, Element> getC2s() {
@@ -66,7 +66,7 @@ public class RELSW10aHeaderSerParameter extends PairingCipherSerParameter {
 	}
 
 	public Element getC2sAt(String revokeId) {
-		return this.C2s.get(revokeId).duplicate();
+		return this.C2s.get(revokeId);
 	}
 
 	@Override
@@ -98,7 +98,7 @@ public class RELSW10aHeaderSerParameter extends PairingCipherSerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -106,7 +106,7 @@ public class RELSW10aHeaderSerParameter extends PairingCipherSerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.C0 = pairing.getG1().newElementFromBytes(this.byteArrayC0).getImmutable();
 		this.C1s = new HashMap<String, Element>();
 		this.C2s = new HashMap<String, Element>();
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/4/3.
@@ -42,15 +42,15 @@ public class RELSW10aMasterSecretKeySerParameter extends PairingKeySerParameter
 	}
 
 	public Element getAlpha() {
-		return this.alpha.duplicate();
+		return this.alpha;
 	}
 
 	public Element getB() {
-		return this.b.duplicate();
+		return this.b;
 	}
 
 	public Element getH() {
-		return this.h.duplicate();
+		return this.h;
 	}
 
 	@Override
@@ -79,7 +79,7 @@ public class RELSW10aMasterSecretKeySerParameter extends PairingKeySerParameter
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -87,7 +87,7 @@ public class RELSW10aMasterSecretKeySerParameter extends PairingKeySerParameter
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.alpha = pairing.getZr().newElementFromBytes(this.byteArrayAlpha).getImmutable();
 		this.b = pairing.getZr().newElementFromBytes(this.byteArrayB).getImmutable();
 		this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
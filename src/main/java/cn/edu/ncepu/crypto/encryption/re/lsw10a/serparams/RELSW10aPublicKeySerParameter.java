@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 16/4/3.
@@ -54,23 +54,39 @@ public class RELSW10aPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG() {
-		return this.g.duplicate();
+		return this.g;
+	}
+
+	public Element powG(Element exponent) {
+		return powZn("g", this.g, exponent);
 	}
 
 	public Element getGb() {
-		return this.gb.duplicate();
+		return this.gb;
+	}
+
+	public Element powGb(Element exponent) {
+		return powZn("gb", this.gb, exponent);
 	}
 
 	public Element getGb2() {
-		return this.gb2.duplicate();
+		return this.gb2;
+	}
+
+	public Element powGb2(Element exponent) {
+		return powZn("gb2", this.gb2, exponent);
 	}
 
 	public Element getHb() {
-		return this.hb.duplicate();
+		return this.hb;
 	}
 
 	public Element getEggAlpha() {
-		return this.eggAlpha.duplicate();
+		return this.eggAlpha;
+	}
+
+	public Element powEggAlpha(Element exponent) {
+		return powZn("eggAlpha", this.eggAlpha, exponent);
 	}
 
 	@Override
@@ -116,7 +132,7 @@ public class RELSW10aPublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -124,7 +140,7 @@ public class RELSW10aPublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
 		this.gb = pairing.getG1().newElementFromBytes(this.byteArrayGb).getImmutable();
 		this.gb2 = pairing.getG1().newElementFromBytes(this.byteArrayGb2).getImmutable();
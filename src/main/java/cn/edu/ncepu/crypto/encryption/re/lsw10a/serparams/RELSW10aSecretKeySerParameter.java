@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/4/4.
@@ -54,19 +54,19 @@ public class RELSW10aSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getElementId() {
-		return this.elementId.duplicate();
+		return this.elementId;
 	}
 
 	public Element getD0() {
-		return this.d0.duplicate();
+		return this.d0;
 	}
 
 	public Element getD1() {
-		return this.d1.duplicate();
+		return this.d1;
 	}
 
 	public Element getD2() {
-		return this.d2.duplicate();
+		return this.d2;
 	}
 
 	@Override
@@ -109,7 +109,7 @@ public class RELSW10aSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -117,7 +117,7 @@ public class RELSW10aSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 		this.elementId = pairing.getZr().newElementFromBytes(this.byteArrayElementId).getImmutable();
 		this.d0 = pairing.getG1().newElementFromBytes(this.byteArrayD0).getImmutable();
 		this.d1 = pairing.getG1().newElementFromBytes(this.byteArrayD1).getImmutable();
@@ -0,0 +1,115 @@
+package cn.edu.ncepu.crypto.encryption.re.lsw10a.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Lewko-Sahai-Waters revocation headers, ciphertexts and keys.
+ */
+public class RELSW10aSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0x81;
+	private static final int KIND_CIPHERTEXT = 1;
+	private static final int KIND_PUBLIC_KEY = 2;
+	private static final int KIND_MASTER_SECRET_KEY = 3;
+	private static final int KIND_SECRET_KEY = 4;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					RELSW10aHeaderSerParameter.class, RELSW10aCiphertextSerParameter.class,
+					RELSW10aPublicKeySerParameter.class, RELSW10aMasterSecretKeySerParameter.class,
+					RELSW10aSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof RELSW10aPublicKeySerParameter) {
+			RELSW10aPublicKeySerParameter publicKey = (RELSW10aPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG());
+			output.writeElement(publicKey.getGb());
+			output.writeElement(publicKey.getGb2());
+			output.writeElement(publicKey.getHb());
+			output.writeElement(publicKey.getEggAlpha());
+			return;
+		}
+		if (parameter instanceof RELSW10aMasterSecretKeySerParameter) {
+			RELSW10aMasterSecretKeySerParameter masterSecretKey = (RELSW10aMasterSecretKeySerParameter) parameter;
+			output.writeElement(masterSecretKey.getAlpha());
+			output.writeElement(masterSecretKey.getB());
+			output.writeElement(masterSecretKey.getH());
+			return;
+		}
+		if (parameter instanceof RELSW10aSecretKeySerParameter) {
+			RELSW10aSecretKeySerParameter secretKey = (RELSW10aSecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD0());
+			output.writeElement(secretKey.getD1());
+			output.writeElement(secretKey.getD2());
+			return;
+		}
+		RELSW10aHeaderSerParameter header = (RELSW10aHeaderSerParameter) parameter;
+		if (header instanceof RELSW10aCiphertextSerParameter) {
+			output.writeElement(((RELSW10aCiphertextSerParameter) header).getC());
+		}
+		String[] revokeIds = header.getC1s().keySet().toArray(new String[0]);
+		output.writeStrings(revokeIds);
+		output.writeElement(header.getC0());
+		output.writeElements(header.getC1s(), revokeIds);
+		output.writeElements(header.getC2s(), revokeIds);
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new RELSW10aPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getGT()));
+		case KIND_MASTER_SECRET_KEY:
+			return new RELSW10aMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()));
+		case KIND_SECRET_KEY:
+			return new RELSW10aSecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		default:
+			return decodeHeader(kind, pairingParameters, pairing, input);
+		}
+	}
+
+	private static PairingCipherSerParameter decodeHeader(int kind, PairingParameters pairingParameters,
+			Pairing pairing, PairingSerInput input) throws IOException {
+		Element C = kind == KIND_CIPHERTEXT ? input.readElement(pairing.getGT()) : null;
+		String[] revokeIds = input.readKeys();
+		Element C0 = input.readElement(pairing.getG1());
+		Map<String, Element> C1s = input.readElements(pairing.getG1(), revokeIds);
+		Map<String, Element> C2s = input.readElements(pairing.getG1(), revokeIds);
+		if (kind == KIND_CIPHERTEXT) {
+			return new RELSW10aCiphertextSerParameter(pairingParameters, C, C0, C1s, C2s);
+		}
+		return new RELSW10aHeaderSerParameter(pairingParameters, C0, C1s, C2s);
+	}
+}
@@ -1,13 +1,23 @@
 package cn.edu.ncepu.crypto.encryption.sepe;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.bouncycastle.crypto.BlockCipher;
 import org.bouncycastle.crypto.Digest;
 import org.bouncycastle.crypto.PBEParametersGenerator;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
+import org.bouncycastle.crypto.macs.HMac;
+import org.bouncycastle.crypto.params.HKDFParameters;
 import org.bouncycastle.crypto.params.KeyParameter;
 
 import cn.edu.ncepu.crypto.algebra.Engine;
@@ -20,89 +30,243 @@ import cn.edu.ncepu.crypto.utils.PairingUtils;
  * Created by Weiran Liu on 2016/12/4.
  *
  * Generic self-extractable engine.
+ *
+ * The PBE parameters generator, block cipher and digest are stateful.
+ * Engines built from suppliers give each thread its own instances, so that one engine serves concurrent callers.
+ * Engines built from instances share them among threads, and serialize the derivations using them.
+ *
+ * The session key is derived from ek with the SHA-256 digest of the compact encoding of ct_y as the salt,
+ * see SEPEHeaderParameter.Digest.
+ * PBKDF, the default, runs the PBE parameters generator and suits ek given by passwords.
+ * HKDF suits ek generated by selfKeyGen, which has the full entropy of the block size.
+ * Headers record their key derivation, and are self-decapsulated with it regardless of the engine setting.
+ *
+ * Derived session keys are cached for a time to live, so that hot objects are self-decapsulated
+ * without running the key derivation again. Since ek may be a password, the cache is keyed by
+ * the HMAC of the derivation inputs under a random secret of the engine instead of a plain digest.
  */
 public class SelfExtractableBaseEngine extends Engine {
 	private static final int default_iteration_time = 4096;
+	/**
+	 * Default maximal number of cached derived session keys.
+	 */
+	public static final int DEFAULT_DERIVED_KEY_CACHE_CAPACITY = 1024;
+	/**
+	 * Default time to live of cached derived session keys, 10 minutes.
+	 */
+	public static final long DEFAULT_DERIVED_KEY_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+	private static final int DERIVED_KEY_CACHE_SECRET_LENGTH = 32;
+	private static final byte[] HKDF_INFO = "Self-Extractable Session Key".getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Key derivation function from ek to the session key.
+	 */
+	public enum KeyDerivation {
+		PBKDF, HKDF,
+	}
 
 	private final String engine_name;
-	private final BlockCipher blockCipher;
-	private final PBEParametersGenerator pbeParametersGenerator;
-	private final Digest digest;
+	private final ThreadLocal<Primitives> primitives;
+	private final int blockSize;
 	private final SecureRandom secureRandom;
+	private final DerivedKeyMap derivedKeys;
+	private final byte[] derivedKeyCacheSecret;
+	private volatile KeyDerivation keyDerivation = KeyDerivation.PBKDF;
+	private volatile int iterationCount = default_iteration_time;
+	private volatile int derivedKeyCacheCapacity = DEFAULT_DERIVED_KEY_CACHE_CAPACITY;
+	private volatile long derivedKeyTimeToLiveNanos = TimeUnit.MILLISECONDS
+			.toNanos(DEFAULT_DERIVED_KEY_TIME_TO_LIVE_MILLIS);
+
+	private final LongAdder derivedKeyHitCount = new LongAdder();
+	private final LongAdder derivedKeyMissCount = new LongAdder();
 
 	public SelfExtractableBaseEngine(Engine engine, PBEParametersGenerator pbeParametersGenerator,
 			BlockCipher blockCipher, Digest digest) {
+		this(engine, new Primitives(pbeParametersGenerator, blockCipher, digest), null);
+	}
+
+	/**
+	 * Self-extractable engine creating the stateful primitives per thread.
+	 * @param engine the underlying CPA-secure engine
+	 * @param pbeParametersGenerator supplier of PBE parameters generators
+	 * @param blockCipher supplier of block ciphers
+	 * @param digest supplier of digests
+	 */
+	public SelfExtractableBaseEngine(Engine engine, Supplier<PBEParametersGenerator> pbeParametersGenerator,
+			Supplier<BlockCipher> blockCipher, Supplier<Digest> digest) {
+		this(engine, null, () -> new Primitives(pbeParametersGenerator.get(), blockCipher.get(), digest.get()));
+	}
+
+	private SelfExtractableBaseEngine(Engine engine, Primitives sharedPrimitives, Supplier<Primitives> supplier) {
 		super(engine.getEngineName(), engine.getProveSecModel(), engine.getPayloadSecLevel(),
 				engine.getPredicateSecLevel());
+		Primitives prototype = sharedPrimitives == null ? supplier.get() : sharedPrimitives;
 		if (!engine.getPayloadSecLevel().equals(Engine.PayloadSecLevel.CPA)
-				|| digest.getDigestSize() < blockCipher.getBlockSize()) {
+				|| prototype.digest.getDigestSize() < prototype.blockCipher.getBlockSize()) {
 			throw new IllegalArgumentException("Self-extractable encapsulation requires CPA-secure engine");
 		}
-		this.pbeParametersGenerator = pbeParametersGenerator;
-		this.blockCipher = blockCipher;
-		this.digest = digest;
+		if (sharedPrimitives != null) {
+			this.primitives = ThreadLocal.withInitial(() -> sharedPrimitives);
+		} else {
+			this.primitives = ThreadLocal.withInitial(supplier);
+			this.primitives.set(prototype);
+		}
+		this.blockSize = prototype.blockCipher.getBlockSize();
 		this.secureRandom = new SecureRandom();
+		this.derivedKeys = new DerivedKeyMap(this);
+		this.derivedKeyCacheSecret = new byte[DERIVED_KEY_CACHE_SECRET_LENGTH];
+		this.secureRandom.nextBytes(this.derivedKeyCacheSecret);
 		this.engine_name = "Self-Extractable " + engine.getEngineName() + ", with BlockCipher "
-				+ this.blockCipher.getAlgorithmName() + ", with Digest " + this.digest.getAlgorithmName();
+				+ prototype.blockCipher.getAlgorithmName() + ", with Digest " + prototype.digest.getAlgorithmName();
 	}
 
 	public String getEngineName() {
 		return this.engine_name;
 	}
 
+	/**
+	 * Set the key derivation function of the following encapsulations.
+	 * Headers encapsulated before are still self-decapsulated with the key derivation they record.
+	 * @param keyDerivation the key derivation function
+	 */
+	public void setKeyDerivation(KeyDerivation keyDerivation) {
+		if (keyDerivation == null) {
+			throw new IllegalArgumentException("Key derivation cannot be null.");
+		}
+		this.keyDerivation = keyDerivation;
+	}
+
+	public KeyDerivation getKeyDerivation() {
+		return this.keyDerivation;
+	}
+
+	/**
+	 * Set the iteration count of PBKDF of the following encapsulations.
+	 * Headers encapsulated before are still self-decapsulated with the iteration count they record.
+	 * @param iterationCount the iteration count
+	 */
+	public void setIterationCount(int iterationCount) {
+		if (iterationCount <= 0) {
+			throw new IllegalArgumentException("Iteration count must be positive.");
+		}
+		this.iterationCount = iterationCount;
+	}
+
+	public int getIterationCount() {
+		return this.iterationCount;
+	}
+
+	/**
+	 * Set the maximal number of cached derived session keys. Capacity 0 disables caching.
+	 * @param capacity maximal number of entries
+	 */
+	public void setDerivedKeyCacheCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity of the derived key cache cannot be negative.");
+		}
+		this.derivedKeyCacheCapacity = capacity;
+		synchronized (this.derivedKeys) {
+			this.derivedKeys.trim();
+		}
+	}
+
+	public int getDerivedKeyCacheCapacity() {
+		return this.derivedKeyCacheCapacity;
+	}
+
+	/**
+	 * Set the time to live of the following cached derived session keys.
+	 * @param timeToLiveMillis time to live in milliseconds
+	 */
+	public void setDerivedKeyTimeToLive(long timeToLiveMillis) {
+		if (timeToLiveMillis <= 0) {
+			throw new IllegalArgumentException("Time to live of the derived key cache must be positive.");
+		}
+		this.derivedKeyTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+	}
+
+	public long getDerivedKeyTimeToLiveMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.derivedKeyTimeToLiveNanos);
+	}
+
+	/**
+	 * Remove and zeroize all cached derived session keys.
+	 */
+	public void clearDerivedKeys() {
+		synchronized (this.derivedKeys) {
+			for (DerivedKeyEntry entry : this.derivedKeys.values()) {
+				entry.zeroize();
+			}
+			this.derivedKeys.clear();
+		}
+	}
+
+	/**
+	 * Remove and zeroize the expired derived session keys.
+	 * @return number of removed derived session keys
+	 */
+	public int removeExpiredDerivedKeys() {
+		long now = System.nanoTime();
+		int count = 0;
+		synchronized (this.derivedKeys) {
+			Iterator<DerivedKeyEntry> iterator = this.derivedKeys.values().iterator();
+			while (iterator.hasNext()) {
+				DerivedKeyEntry entry = iterator.next();
+				if (now - entry.expiration >= 0) {
+					iterator.remove();
+					entry.zeroize();
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	public long getDerivedKeyHitCount() {
+		return this.derivedKeyHitCount.sum();
+	}
+
+	public long getDerivedKeyMissCount() {
+		return this.derivedKeyMissCount.sum();
+	}
+
 	public byte[] selfKeyGen() {
-		byte[] ek = new byte[blockCipher.getBlockSize()];
+		byte[] ek = new byte[this.blockSize];
 		secureRandom.nextBytes(ek);
 		return ek;
 	}
 
 	public PairingKeyEncapsulationSerPair encapsulation(PairingKeyEncapsulationSerPair encapsulationPair, byte[] ek) {
 		PairingCipherSerParameter ciphertext = encapsulationPair.getHeader();
-		try {
-			// get the session key
-			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-			ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-			objectOutputStream.writeObject(ciphertext);
-			byte[] byteArrayCiphertext = byteArrayOutputStream.toByteArray();
-			objectOutputStream.close();
-			byteArrayOutputStream.close();
-			this.pbeParametersGenerator.init(ek, byteArrayCiphertext, default_iteration_time);
-			KeyParameter sessionKeyParameter = (KeyParameter) this.pbeParametersGenerator
-					.generateDerivedParameters(this.blockCipher.getBlockSize() * 8);
-			byte[] sessionKey = sessionKeyParameter.getKey();
+		// get the session key
+		KeyDerivation keyDerivation = this.keyDerivation;
+		int iterationCount = keyDerivation == KeyDerivation.PBKDF ? this.iterationCount : 0;
+		byte[] sessionKey = deriveKey(ek, keyDerivation, iterationCount, SEPEHeaderParameter.Digest(ciphertext));
+		Primitives primitives = this.primitives.get();
+		synchronized (primitives) {
 
 			// encrypt sessionKey under k_prime
-			byte[] k_prime_temp = encapsulationPair.getSessionKey();
-			byte[] k_prime_long = new byte[digest.getDigestSize()];
-			digest.reset();
-			digest.update(k_prime_temp, 0, k_prime_temp.length);
-			digest.doFinal(k_prime_long, 0);
-			byte[] k_prime = new byte[blockCipher.getBlockSize()];
-			System.arraycopy(k_prime_long, 0, k_prime, 0, k_prime.length);
-			KeyParameter blockCipherKeyParameter = new KeyParameter(k_prime);
-			blockCipher.init(true, blockCipherKeyParameter);
-			byte[] ct_k = new byte[blockCipher.getBlockSize()];
-			blockCipher.processBlock(sessionKey, 0, ct_k, 0);
+			KeyParameter blockCipherKeyParameter = primitives.hashKey(encapsulationPair.getSessionKey());
+			primitives.blockCipher.init(true, blockCipherKeyParameter);
+			byte[] ct_k = new byte[this.blockSize];
+			primitives.blockCipher.processBlock(sessionKey, 0, ct_k, 0);
 			// return the result
-			return new PairingKeyEncapsulationSerPair(sessionKey, new SEPEHeaderParameter(ciphertext, ct_k));
-		} catch (IOException e) {
-			e.printStackTrace();
-			throw new IllegalArgumentException("cannot serialize IBE ciphertext");
+			return new PairingKeyEncapsulationSerPair(sessionKey, new SEPEHeaderParameter(ciphertext, ct_k,
+					keyDerivation == KeyDerivation.HKDF ? SEPEHeaderParameter.KEY_DERIVATION_HKDF
+							: SEPEHeaderParameter.KEY_DERIVATION_PBKDF,
+					iterationCount));
 		}
 	}
 
 	public byte[] decapsulation(byte[] k_prime_temp, byte[] ct_k) {
-		byte[] k_prime_long = new byte[digest.getDigestSize()];
-		digest.reset();
-		digest.update(k_prime_temp, 0, k_prime_temp.length);
-		digest.doFinal(k_prime_long, 0);
-		byte[] k_prime = new byte[blockCipher.getBlockSize()];
-		System.arraycopy(k_prime_long, 0, k_prime, 0, k_prime.length);
-		KeyParameter blockCipherKeyParameter = new KeyParameter(k_prime);
-		blockCipher.init(false, blockCipherKeyParameter);
-		byte[] sessionKey = new byte[blockCipher.getBlockSize()];
-		blockCipher.processBlock(ct_k, 0, sessionKey, 0);
-		return sessionKey;
+		Primitives primitives = this.primitives.get();
+		synchronized (primitives) {
+			KeyParameter blockCipherKeyParameter = primitives.hashKey(k_prime_temp);
+			primitives.blockCipher.init(false, blockCipherKeyParameter);
+			byte[] sessionKey = new byte[this.blockSize];
+			primitives.blockCipher.processBlock(ct_k, 0, sessionKey, 0);
+			return sessionKey;
+		}
 	}
 
 	public byte[] selfDecapsulation(byte[] ek, PairingCipherSerParameter header) {
@@ -111,22 +275,174 @@ public class SelfExtractableBaseEngine extends Engine {
 					SEPEHeaderParameter.class.getName());
 		}
 		SEPEHeaderParameter seHeaderParameter = (SEPEHeaderParameter) header;
-		PairingCipherSerParameter ct_y = seHeaderParameter.getCtY();
-
-		try {
-			ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-			ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
-			objectOutputStream.writeObject(ct_y);
-			byte[] byteArrayCiphertext = byteArrayOutputStream.toByteArray();
-			objectOutputStream.close();
-			byteArrayOutputStream.close();
-			this.pbeParametersGenerator.init(ek, byteArrayCiphertext, default_iteration_time);
+		switch (seHeaderParameter.getKeyDerivation()) {
+		case SEPEHeaderParameter.KEY_DERIVATION_LEGACY:
+			return deriveKey(ek, KeyDerivation.PBKDF, default_iteration_time,
+					SEPEHeaderParameter.LegacySalt(seHeaderParameter.getCtY()));
+		case SEPEHeaderParameter.KEY_DERIVATION_PBKDF:
+			if (seHeaderParameter.getIterationCount() <= 0) {
+				throw new IllegalArgumentException("Iteration count must be positive.");
+			}
+			return deriveKey(ek, KeyDerivation.PBKDF, seHeaderParameter.getIterationCount(),
+					seHeaderParameter.getCtYDigest());
+		case SEPEHeaderParameter.KEY_DERIVATION_HKDF:
+			return deriveKey(ek, KeyDerivation.HKDF, 0, seHeaderParameter.getCtYDigest());
+		default:
+			throw new IllegalArgumentException("Unknown key derivation " + seHeaderParameter.getKeyDerivation());
+		}
+	}
+
+	/**
+	 * Derive the session key from ek and the salt, looking up the cached derived keys first.
+	 */
+	private byte[] deriveKey(byte[] ek, KeyDerivation keyDerivation, int iterationCount, byte[] salt) {
+		ByteBuffer cacheKey = null;
+		if (this.derivedKeyCacheCapacity > 0) {
+			cacheKey = getCacheKey(ek, keyDerivation, iterationCount, salt);
+			long now = System.nanoTime();
+			synchronized (this.derivedKeys) {
+				DerivedKeyEntry entry = this.derivedKeys.get(cacheKey);
+				if (entry != null) {
+					if (now - entry.expiration < 0) {
+						this.derivedKeyHitCount.increment();
+						return entry.derivedKey.clone();
+					}
+					this.derivedKeys.remove(cacheKey);
+					entry.zeroize();
+				}
+			}
+		}
+		this.derivedKeyMissCount.increment();
+		byte[] sessionKey;
+		Primitives primitives = this.primitives.get();
+		synchronized (primitives) {
+			sessionKey = keyDerivation == KeyDerivation.HKDF ? primitives.deriveKeyByHKDF(ek, salt)
+					: primitives.deriveKeyByPBKDF(ek, salt, iterationCount);
+		}
+		if (cacheKey != null) {
+			DerivedKeyEntry entry = new DerivedKeyEntry(sessionKey.clone(),
+					System.nanoTime() + this.derivedKeyTimeToLiveNanos);
+			synchronized (this.derivedKeys) {
+				DerivedKeyEntry existing = this.derivedKeys.put(cacheKey, entry);
+				if (existing != null) {
+					existing.zeroize();
+				}
+			}
+		}
+		return sessionKey;
+	}
+
+	/**
+	 * HMAC-SHA256 of the derivation inputs under the cache secret, so that the cache keys do not allow
+	 * guessing ek, e.g., a password, without the secret.
+	 */
+	private ByteBuffer getCacheKey(byte[] ek, KeyDerivation keyDerivation, int iterationCount, byte[] salt) {
+		HMac hMac = new HMac(new SHA256Digest());
+		hMac.init(new KeyParameter(this.derivedKeyCacheSecret));
+		hMac.update((byte) keyDerivation.ordinal());
+		UpdateInt(hMac, iterationCount);
+		// the salt is length-prefixed, since legacy salts have variable lengths
+		UpdateInt(hMac, salt.length);
+		hMac.update(salt, 0, salt.length);
+		hMac.update(ek, 0, ek.length);
+		byte[] byteArrayCacheKey = new byte[hMac.getMacSize()];
+		hMac.doFinal(byteArrayCacheKey, 0);
+		return ByteBuffer.wrap(byteArrayCacheKey);
+	}
+
+	private static void UpdateInt(HMac hMac, int value) {
+		hMac.update((byte) (value >>> 24));
+		hMac.update((byte) (value >>> 16));
+		hMac.update((byte) (value >>> 8));
+		hMac.update((byte) value);
+	}
+
+	/**
+	 * Stateful primitives used together, accessed while holding their monitor.
+	 */
+	private static class Primitives {
+		private final PBEParametersGenerator pbeParametersGenerator;
+		private final BlockCipher blockCipher;
+		private final Digest digest;
+
+		Primitives(PBEParametersGenerator pbeParametersGenerator, BlockCipher blockCipher, Digest digest) {
+			this.pbeParametersGenerator = pbeParametersGenerator;
+			this.blockCipher = blockCipher;
+			this.digest = digest;
+		}
+
+		byte[] deriveKeyByPBKDF(byte[] ek, byte[] salt, int iterationCount) {
+			this.pbeParametersGenerator.init(ek, salt, iterationCount);
 			KeyParameter sessionKeyParameter = (KeyParameter) this.pbeParametersGenerator
 					.generateDerivedParameters(this.blockCipher.getBlockSize() * 8);
 			return sessionKeyParameter.getKey();
-		} catch (IOException e) {
-			e.printStackTrace();
-			throw new IllegalArgumentException("cannot de-serialize ciphertext");
+		}
+
+		byte[] deriveKeyByHKDF(byte[] ek, byte[] salt) {
+			HKDFBytesGenerator hkdfBytesGenerator = new HKDFBytesGenerator(this.digest);
+			hkdfBytesGenerator.init(new HKDFParameters(ek, salt, HKDF_INFO));
+			byte[] sessionKey = new byte[this.blockCipher.getBlockSize()];
+			hkdfBytesGenerator.generateBytes(sessionKey, 0, sessionKey.length);
+			return sessionKey;
+		}
+
+		/**
+		 * k' = H(k) truncated to the block size.
+		 */
+		KeyParameter hashKey(byte[] k_prime_temp) {
+			byte[] k_prime_long = new byte[this.digest.getDigestSize()];
+			this.digest.reset();
+			this.digest.update(k_prime_temp, 0, k_prime_temp.length);
+			this.digest.doFinal(k_prime_long, 0);
+			byte[] k_prime = new byte[this.blockCipher.getBlockSize()];
+			System.arraycopy(k_prime_long, 0, k_prime, 0, k_prime.length);
+			return new KeyParameter(k_prime);
+		}
+	}
+
+	/**
+	 * Cached derived session key with its expiration time in System.nanoTime.
+	 */
+	private static class DerivedKeyEntry {
+		private final byte[] derivedKey;
+		private final long expiration;
+
+		DerivedKeyEntry(byte[] derivedKey, long expiration) {
+			this.derivedKey = derivedKey;
+			this.expiration = expiration;
+		}
+
+		void zeroize() {
+			Arrays.fill(this.derivedKey, (byte) 0);
+		}
+	}
+
+	/**
+	 * Access-ordered map evicting and zeroizing the least recently used derived keys beyond the capacity.
+	 * Accesses are guarded by synchronizing on the map.
+	 */
+	private static class DerivedKeyMap extends LinkedHashMap<ByteBuffer, DerivedKeyEntry> {
+		private static final long serialVersionUID = 6318279935441926164L;
+		private final transient SelfExtractableBaseEngine engine;
+
+		DerivedKeyMap(SelfExtractableBaseEngine engine) {
+			super(16, 0.75f, true);
+			this.engine = engine;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteBuffer, DerivedKeyEntry> eldest) {
+			if (size() > this.engine.derivedKeyCacheCapacity) {
+				eldest.getValue().zeroize();
+				return true;
+			}
+			return false;
+		}
+
+		void trim() {
+			while (size() > this.engine.derivedKeyCacheCapacity) {
+				remove(keySet().iterator().next()).zeroize();
+			}
 		}
 	}
 }
@@ -1,26 +1,70 @@
 package cn.edu.ncepu.crypto.encryption.sepe.serparams;
 
+import java.io.IOException;
 import java.util.Arrays;
 
+import org.bouncycastle.crypto.digests.SHA256Digest;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
 
 /**
  * Created by Weiran Liu on 2016/12/4.
  *
  * Self-extractable predicate encryption header parameter.
+ *
+ * The header records the key derivation of its session key from ek, so that headers stay self-decapsulable
+ * when the engine changes its key derivation. Headers serialized before the key derivation was recorded
+ * deserialize to KEY_DERIVATION_LEGACY.
  */
 public class SEPEHeaderParameter extends PairingCipherSerParameter {
 	/**
 	 * 
 	 */
 	private static final long serialVersionUID = 700530996421720423L;
+	/**
+	 * PBKDF with 4096 iterations, salted by the Java serialization of ct_y.
+	 */
+	public static final int KEY_DERIVATION_LEGACY = 0;
+	/**
+	 * PBKDF with the recorded iteration count, salted by the digest of ct_y.
+	 */
+	public static final int KEY_DERIVATION_PBKDF = 1;
+	/**
+	 * HKDF salted by the digest of ct_y.
+	 */
+	public static final int KEY_DERIVATION_HKDF = 2;
+
 	private final PairingCipherSerParameter ct_y;
 	private final byte[] ct_k;
+	private final int keyDerivation;
+	private final int iterationCount;
+	private transient volatile byte[] ct_y_digest;
 
 	public SEPEHeaderParameter(PairingCipherSerParameter ct_y, byte[] ct_k) {
+		this(ct_y, ct_k, KEY_DERIVATION_LEGACY, 0);
+	}
+
+	/**
+	 * @param ct_y the ciphertext of the underlying engine
+	 * @param ct_k the encrypted session key
+	 * @param keyDerivation the key derivation of the session key, one of KEY_DERIVATION_*
+	 * @param iterationCount the iteration count of KEY_DERIVATION_PBKDF, otherwise ignored
+	 */
+	public SEPEHeaderParameter(PairingCipherSerParameter ct_y, byte[] ct_k, int keyDerivation, int iterationCount) {
 		super(ct_y.getParameters());
+		if (keyDerivation < KEY_DERIVATION_LEGACY || keyDerivation > KEY_DERIVATION_HKDF) {
+			throw new IllegalArgumentException("Unknown key derivation " + keyDerivation);
+		}
+		if (keyDerivation == KEY_DERIVATION_PBKDF && iterationCount <= 0) {
+			throw new IllegalArgumentException("Iteration count must be positive.");
+		}
 		this.ct_y = ct_y;
 		this.ct_k = ct_k;
+		this.keyDerivation = keyDerivation;
+		this.iterationCount = keyDerivation == KEY_DERIVATION_PBKDF ? iterationCount : 0;
 	}
 
 	public PairingCipherSerParameter getCtY() {
@@ -31,6 +75,67 @@ public class SEPEHeaderParameter extends PairingCipherSerParameter {
 		return this.ct_k;
 	}
 
+	/**
+	 * @return the key derivation of the session key, one of KEY_DERIVATION_*
+	 */
+	public int getKeyDerivation() {
+		return this.keyDerivation;
+	}
+
+	/**
+	 * @return the iteration count of KEY_DERIVATION_PBKDF, or 0
+	 */
+	public int getIterationCount() {
+		return this.iterationCount;
+	}
+
+	/**
+	 * Digest of ct_y, computed on the first call.
+	 * @return SHA-256 digest of the encoding of ct_y
+	 */
+	public byte[] getCtYDigest() {
+		byte[] digest = this.ct_y_digest;
+		if (digest == null) {
+			digest = Digest(this.ct_y);
+			this.ct_y_digest = digest;
+		}
+		return digest.clone();
+	}
+
+	/**
+	 * SHA-256 digest of the compact encoding of the ciphertext given by PairingSerCodecs,
+	 * or of its Java serialization if PairingSerCodecs does not support the ciphertext.
+	 * @param ct_y the ciphertext
+	 * @return the digest
+	 */
+	public static byte[] Digest(PairingCipherSerParameter ct_y) {
+		byte[] byteArrayCtY;
+		try {
+			byteArrayCtY = PairingSerCodecs.isSupported(ct_y) ? PairingSerCodecs.Encode(ct_y)
+					: CommonUtils.SerObject(ct_y);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("cannot serialize ciphertext", e);
+		}
+		SHA256Digest sha256Digest = new SHA256Digest();
+		sha256Digest.update(byteArrayCtY, 0, byteArrayCtY.length);
+		byte[] digest = new byte[sha256Digest.getDigestSize()];
+		sha256Digest.doFinal(digest, 0);
+		return digest;
+	}
+
+	/**
+	 * Salt of KEY_DERIVATION_LEGACY, i.e., the Java serialization of the ciphertext.
+	 * @param ct_y the ciphertext
+	 * @return the salt
+	 */
+	public static byte[] LegacySalt(PairingCipherSerParameter ct_y) {
+		try {
+			return CommonUtils.SerObject(ct_y);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("cannot serialize ciphertext", e);
+		}
+	}
+
 	@Override
 	public boolean equals(Object anObject) {
 		if (this == anObject) {
@@ -38,8 +143,9 @@ public class SEPEHeaderParameter extends PairingCipherSerParameter {
 		}
 		if (anObject instanceof SEPEHeaderParameter) {
 			SEPEHeaderParameter that = (SEPEHeaderParameter) anObject;
-			return Arrays.equals(this.ct_k, that.ct_k)
-					&& this.getParameters().toString().equals(that.getParameters().toString())
+			return Arrays.equals(this.ct_k, that.ct_k) && this.keyDerivation == that.keyDerivation
+					&& this.iterationCount == that.iterationCount
+					&& PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters())
 					&& this.ct_y.equals(that.ct_y);
 		}
 		return false;
@@ -0,0 +1,53 @@
+package cn.edu.ncepu.crypto.encryption.sepe.serparams;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of self-extractable predicate encryption headers.
+ *
+ * ct_y is embedded by its own compact encoding, hence headers are supported only if ct_y is supported.
+ */
+public class SEPESerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0xA1;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.<Class<? extends PairingCipherSerParameter>> singletonList(SEPEHeaderParameter.class);
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		SEPEHeaderParameter header = (SEPEHeaderParameter) parameter;
+		output.writeBytes(PairingSerCodecs.Encode(header.getCtY(), output.isCompressPoints()));
+		output.writeBytes(header.getCtK());
+		output.writeByte(header.getKeyDerivation());
+		output.writeVarInt(header.getIterationCount());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		PairingCipherSerParameter ct_y = PairingSerCodecs.Decode(input.readBytes(), pairingParameters);
+		byte[] ct_k = input.readBytes();
+		int keyDerivation = input.readByte();
+		int iterationCount = input.readVarInt();
+		return new SEPEHeaderParameter(ct_y, ct_k, keyDerivation, iterationCount);
+	}
+}
@@ -3,6 +3,7 @@
  */
 package cn.edu.ncepu.crypto.homomorphicEncryption.basicIBEHE;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.homomorphicEncryption.CipherText;
 import cn.edu.ncepu.crypto.homomorphicEncryption.HE;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
@@ -56,7 +57,7 @@ public class BasicIBEHEEngine implements HE {
 
 	@SuppressWarnings("unchecked")
 	public BasicIBEHEEngine(PairingParameters typeAParams) {
-		this.pairing = (TypeAPairing) PairingFactory.getPairing(typeAParams);
+		this.pairing = (TypeAPairing) PairingRegistry.getPairing(typeAParams);
 		// For bilinear maps only, to use the PBC wrapper and gain in performance, the
 		// usePBCWhenPossible property of the pairing factory must be set.
 		// Moreover, if PBC and the JPBC wrapper are not installed properly then the
@@ -0,0 +1,145 @@
+package cn.edu.ncepu.crypto.homomorphicEncryption.bgn;
+
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveElement;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * @ClassName BGNDiscreteLogTable
+ * @Description Baby-step giant-step discrete logarithms x of y = base^x for x in [0, maxExponent].
+ * The baby steps base^0, ..., base^(m-1) are kept in an open-addressing table of longs,
+ * keyed by 64-bit hashes of the (compressed, for curve points) encodings,
+ * so a logarithm takes at most ceil((maxExponent + 1) / m) giant-step multiplications and lookups.
+ * Hash matches are confirmed by one exponentiation, so hash collisions cannot give wrong logarithms.
+ * A table is immutable after construction and can be shared by threads.
+ **/
+public class BGNDiscreteLogTable {
+    /**
+     * Largest supported maximal exponent, 2^32.
+     */
+    public static final long MAX_EXPONENT_LIMIT = 1L << 32;
+    /**
+     * Largest supported number of baby steps, 2^22.
+     */
+    public static final int MAX_BABY_STEP_COUNT = 1 << 22;
+    private static final int EMPTY = -1;
+
+    private final Element base;
+    private final long maxExponent;
+    private final int babyStepCount;
+    private final Element giantStep;
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    /**
+     * Table with ceil(sqrt(maxExponent + 1)) baby steps, balancing the table size and the giant steps.
+     * @param base the base, an element of G1 or GT
+     * @param maxExponent the maximal exponent, at most 2^32
+     */
+    public BGNDiscreteLogTable(Element base, long maxExponent) {
+        this(base, maxExponent, DefaultBabyStepCount(maxExponent));
+    }
+
+    /**
+     * @param base the base, an element of G1 or GT
+     * @param maxExponent the maximal exponent, at most 2^32
+     * @param babyStepCount number of baby steps; more baby steps mean fewer giant steps per logarithm
+     */
+    public BGNDiscreteLogTable(Element base, long maxExponent, int babyStepCount) {
+        if (maxExponent < 0 || maxExponent > MAX_EXPONENT_LIMIT) {
+            throw new IllegalArgumentException("Maximal exponent must be in [0, " + MAX_EXPONENT_LIMIT + "], given "
+                    + maxExponent);
+        }
+        if (babyStepCount <= 0 || babyStepCount > MAX_BABY_STEP_COUNT) {
+            throw new IllegalArgumentException("Number of baby steps must be in [1, " + MAX_BABY_STEP_COUNT
+                    + "], given " + babyStepCount);
+        }
+        this.base = base.getImmutable();
+        this.maxExponent = maxExponent;
+        this.babyStepCount = (int) Math.min(babyStepCount, maxExponent + 1);
+        // load factor at most 1/2
+        int capacity = Integer.highestOneBit(2 * this.babyStepCount - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(this.values, EMPTY);
+
+        Element babyStep = this.base.getField().newOneElement();
+        for (int j = 0; j < this.babyStepCount; j++) {
+            put(Hash(babyStep), j);
+            babyStep.mul(this.base);
+        }
+        // babyStep = base^m, the giant step is base^(-m)
+        this.giantStep = babyStep.invert().getImmutable();
+    }
+
+    private static int DefaultBabyStepCount(long maxExponent) {
+        return (int) Math.min(MAX_BABY_STEP_COUNT, (long) Math.ceil(Math.sqrt((double) maxExponent + 1)));
+    }
+
+    public long getMaxExponent() {
+        return this.maxExponent;
+    }
+
+    public int getBabyStepCount() {
+        return this.babyStepCount;
+    }
+
+    /**
+     * @param y the element, in the group of the base
+     * @return x in [0, maxExponent] with y = base^x, or -1 if there is no such x
+     */
+    public long log(Element y) {
+        Element gamma = y.getField().newElement().set(y);
+        long giantStepCount = (this.maxExponent + this.babyStepCount) / this.babyStepCount;
+        for (long i = 0; i < giantStepCount; i++) {
+            // gamma = y * base^(-i * m)
+            long hash = Hash(gamma);
+            for (int slot = Slot(hash) & this.mask; this.values[slot] != EMPTY; slot = (slot + 1) & this.mask) {
+                if (this.keys[slot] != hash) {
+                    continue;
+                }
+                long x = i * this.babyStepCount + this.values[slot];
+                if (x <= this.maxExponent && this.base.pow(BigInteger.valueOf(x)).isEqual(y)) {
+                    return x;
+                }
+            }
+            gamma.mul(this.giantStep);
+        }
+        return -1;
+    }
+
+    private void put(long hash, int value) {
+        int slot = Slot(hash) & this.mask;
+        while (this.values[slot] != EMPTY) {
+            slot = (slot + 1) & this.mask;
+        }
+        this.keys[slot] = hash;
+        this.values[slot] = value;
+    }
+
+    private static int Slot(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the encoding of the element.
+     * The coordinates of the point at infinity are not canonical, so the identity has a fixed hash.
+     */
+    private static long Hash(Element element) {
+        if (element.isOne()) {
+            return 0L;
+        }
+        byte[] encoding = element instanceof CurveElement ? ((CurveElement<?, ?>) element).toBytesCompressed()
+                : element.toBytes();
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : encoding) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -5,12 +5,12 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.bgn;/**
  */
 
 import cn.edu.ncepu.crypto.algebra.Engine;
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
 import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveElement;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import java.io.IOException;
@@ -28,7 +28,10 @@ public class BGNEngine extends Engine {
 
     private static BGNEngine engine;
     private static final String SCHEME_NAME = "BGN 2006";
-    private static final int M = 100; // The max range of message m
+    /**
+     * Default maximal message, the plaintext space is [0,1,2,...,DEFAULT_MAX_MESSAGE].
+     */
+    public static final long DEFAULT_MAX_MESSAGE = 100;
 
     public BGNEngine(String schemeName, ProveSecModel proveSecModel, PayloadSecLevel payloadSecLevel, PredicateSecLevel predicateSecLevel) {
         super(schemeName, proveSecModel, payloadSecLevel, predicateSecLevel);
@@ -59,12 +62,25 @@ public class BGNEngine extends Engine {
      * @throws: If the plaintext is not in [0,1,2,...,n], there is an exception.
      **/
     public byte[] encrypt(int m, BGNPublicKeySerParameter pubkey) throws Exception {
-        if (m > M) {
-            throw new Exception("plaintext m should be in [0,1,2,...," + M + "]");
+        return encrypt(m, pubkey, DEFAULT_MAX_MESSAGE);
+    }
+
+    /*
+     * @Description: This function is to encrypt the message m in the plaintext space [0,1,2,...,maxMessage].
+     * @param m: The message
+     * @param pubkey: The public key of BGN.
+     * @param maxMessage: The maximal message, at most 2^32.
+     * @return: Element: The ciphertext.
+     * @throws: If the plaintext is not in [0,1,2,...,maxMessage], there is an exception.
+     **/
+    public byte[] encrypt(int m, BGNPublicKeySerParameter pubkey, long maxMessage) throws Exception {
+        checkMaxMessage(maxMessage);
+        if (m > maxMessage) {
+            throw new Exception("plaintext m should be in [0,1,2,...," + maxMessage + "]");
         }
         Element g = pubkey.getG();
         Element h = pubkey.getH();
-        Pairing pairing = PairingFactory.getPairing(pubkey.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(pubkey.getParameters());
         Element r = pairing.getZr().newRandomElement().getImmutable();
         Element c = g.pow(BigInteger.valueOf(m)).mul(h.powZn(r)).getImmutable(); // g^m * h^r
         return this.derEncode(c);
@@ -79,32 +95,81 @@ public class BGNEngine extends Engine {
      * @throws: Exception If the plaintext is not in [0,1,2,...,n], there is an exception.
      **/
     public int decrypt(byte[] byteArray, BGNPrivateKeySerParameter prikey) throws Exception {
+        return decrypt(byteArray, prikey, DEFAULT_MAX_MESSAGE);
+    }
+
+    /*
+     * @description: This function is to decrypt the ciphertext in the plaintext space [0,1,2,...,maxMessage].
+     * Decryption looks up discrete logarithm tables of about sqrt(maxMessage) entries built once per private key,
+     * and takes about sqrt(maxMessage) group operations.
+     * @param byteArray: The ciphertext.
+     * @param prikey: The private key of BGN
+     * @param maxMessage: The maximal message, at most 2^32.
+     * @return: int: The plaintext.
+     * @throws: Exception If the plaintext is not in [0,1,2,...,maxMessage], there is an exception.
+     **/
+    public int decrypt(byte[] byteArray, BGNPrivateKeySerParameter prikey, long maxMessage) throws Exception {
+        return toInt(decryptToLong(byteArray, prikey, maxMessage));
+    }
+
+    /*
+     * @description: This function is to decrypt the ciphertext, e.g., of a tallied sum, beyond the int range.
+     * @param byteArray: The ciphertext.
+     * @param prikey: The private key of BGN
+     * @param maxMessage: The maximal message, at most 2^32.
+     * @return: long: The plaintext.
+     * @throws: Exception If the plaintext is not in [0,1,2,...,maxMessage], there is an exception.
+     **/
+    public long decryptToLong(byte[] byteArray, BGNPrivateKeySerParameter prikey, long maxMessage)
+            throws Exception {
+        checkMaxMessage(maxMessage);
         Element c = this.derDecode(byteArray, prikey.getParameters());
-        BigInteger p = prikey.getP();
-        Element g = prikey.getG();
-        Element cp = c.pow(p).getImmutable();
-        Element gp = g.pow(p).getImmutable();
-        Pairing pairing = PairingFactory.getPairing(prikey.getParameters());
-        for (int i = 0; i <= M; i++) {
-            if (gp.powZn(pairing.getZr().newElement(i)).isEqual(cp)) {
-                return i;
-            }
-        }
-        throw new Exception("plaintext m is not in [0,1,2,...," + M + "]");
+        Element cp = c.pow(prikey.getP()).getImmutable();
+        return checkRange(prikey.getG1DiscreteLogTable(maxMessage).log(cp), maxMessage);
     }
 
     public int decrypt_mul2(Element c, BGNPrivateKeySerParameter prikey) throws Exception {
-        BigInteger p = prikey.getP();
-        Element g = prikey.getG();
-        Element cp = c.pow(p).getImmutable();
-        Pairing pairing = PairingFactory.getPairing(prikey.getParameters());
-        Element egg = (pairing.pairing(g, g).pow(p)).getImmutable();
-        for (int i = 0; i <= M; i++) {
-            if (egg.powZn(pairing.getZr().newElement(i)).isEqual(cp)) {
-                return i;
-            }
+        return decrypt_mul2(c, prikey, DEFAULT_MAX_MESSAGE);
+    }
+
+    public int decrypt_mul2(Element c, BGNPrivateKeySerParameter prikey, long maxMessage) throws Exception {
+        return toInt(decrypt_mul2ToLong(c, prikey, maxMessage));
+    }
+
+    /*
+     * @description: This function is to decrypt the product e(c1,c2) of two ciphertexts beyond the int range.
+     * @param c: The ciphertext in GT.
+     * @param prikey: The private key of BGN
+     * @param maxMessage: The maximal message, at most 2^32.
+     * @return: long: The plaintext.
+     * @throws: Exception If the plaintext is not in [0,1,2,...,maxMessage], there is an exception.
+     **/
+    public long decrypt_mul2ToLong(Element c, BGNPrivateKeySerParameter prikey, long maxMessage) throws Exception {
+        checkMaxMessage(maxMessage);
+        Element cp = c.pow(prikey.getP()).getImmutable();
+        return checkRange(prikey.getGTDiscreteLogTable(maxMessage).log(cp), maxMessage);
+    }
+
+    private static void checkMaxMessage(long maxMessage) {
+        if (maxMessage < 0 || maxMessage > BGNDiscreteLogTable.MAX_EXPONENT_LIMIT) {
+            throw new IllegalArgumentException("maximal message should be in [0,1,2,...,"
+                    + BGNDiscreteLogTable.MAX_EXPONENT_LIMIT + "]");
+        }
+    }
+
+    private static long checkRange(long m, long maxMessage) throws Exception {
+        // the table of the private key may cover a larger range
+        if (m < 0 || m > maxMessage) {
+            throw new Exception("plaintext m is not in [0,1,2,...," + maxMessage + "]");
+        }
+        return m;
+    }
+
+    private static int toInt(long m) throws Exception {
+        if (m > Integer.MAX_VALUE) {
+            throw new Exception("plaintext m = " + m + " exceeds the int range, use the decryption to long");
         }
-        throw new Exception("plaintext m is not in [0,1,2,...," + M + "]");
+        return (int) m;
     }
 
     /*
@@ -126,7 +191,7 @@ public class BGNEngine extends Engine {
      * @throws:
      **/
     public Element mul1(Element c1, int m2, BGNPublicKeySerParameter pubkey) {
-        Pairing pairing = PairingFactory.getPairing(pubkey.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(pubkey.getParameters());
         return c1.powZn(pairing.getZr().newElement(m2)).getImmutable();
     }
 
@@ -139,7 +204,7 @@ public class BGNEngine extends Engine {
      * @throws:
      **/
     public Element mul2(Element c1, Element c2, BGNPublicKeySerParameter pubkey) {
-        Pairing pairing = PairingFactory.getPairing(pubkey.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(pubkey.getParameters());
         return pairing.pairing(c1, c2).getImmutable();
     }
 
@@ -151,7 +216,7 @@ public class BGNEngine extends Engine {
      * @return: Element The return value is c1*h^r2.
      **/
     public Element selfBlind(Element c1, BGNPublicKeySerParameter pubkey) {
-        Pairing pairing = PairingFactory.getPairing(pubkey.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(pubkey.getParameters());
         BigInteger r = pairing.getZr().newRandomElement().toBigInteger();
         Element h = pubkey.getH();
         return c1.mul(h.pow(r)).getImmutable();
@@ -174,7 +239,7 @@ public class BGNEngine extends Engine {
      * @throws:
      **/
     public Element derDecode(byte[] encoding, PairingParameters pairingParameters) throws IOException {
-        Pairing pairing = PairingFactory.getPairing(pairingParameters);
+        Pairing pairing = PairingRegistry.getPairing(pairingParameters);
         Element curveElement = pairing.getG1().newZeroElement();
         ((CurveElement<?, ?>) curveElement).setFromBytesCompressed(encoding);
         return curveElement;
@@ -4,12 +4,12 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.bgn;
  * @date 2020/12/21 10:22
  */
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import java.math.BigInteger;
@@ -61,7 +61,7 @@ public class BGNKeyPairGenerator implements PairingKeyPairGenerator {
      **/
     @Override
     public PairingKeySerPair generateKeyPair() {
-        Pairing pairing = PairingFactory.getPairing(typeA1Params);
+        Pairing pairing = PairingRegistry.getPairing(typeA1Params);
         BigInteger n = typeA1Params.getBigInteger("n");
         BigInteger p = typeA1Params.getBigInteger("n0");
         BigInteger q = typeA1Params.getBigInteger("n1");
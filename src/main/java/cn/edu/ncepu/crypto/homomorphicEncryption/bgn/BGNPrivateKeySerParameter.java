@@ -4,12 +4,12 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.bgn;/**
  * @date 2020/12/21 10:06
  */
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -31,6 +31,9 @@ public class BGNPrivateKeySerParameter extends PairingKeySerParameter {
     private transient Element g;
     private final byte[] byteArrayG;
 
+    private transient volatile BGNDiscreteLogTable g1DiscreteLogTable;
+    private transient volatile BGNDiscreteLogTable gtDiscreteLogTable;
+
     public BGNPrivateKeySerParameter(PairingParameters pairingParameters, BigInteger p, Element g) {
         super(true, pairingParameters);
         this.p = p;
@@ -47,6 +50,47 @@ public class BGNPrivateKeySerParameter extends PairingKeySerParameter {
         return g.getImmutable();
     }
 
+    /**
+     * @description: Get the discrete logarithm table of g^p in G1, built on the first call.
+     * The table is rebuilt only if it does not cover the requested range.
+     * @param maxMessage: The maximal message.
+     * @return: BGNDiscreteLogTable The table covering [0, maxMessage].
+     **/
+    public BGNDiscreteLogTable getG1DiscreteLogTable(long maxMessage) {
+        BGNDiscreteLogTable table = this.g1DiscreteLogTable;
+        if (table == null || table.getMaxExponent() < maxMessage) {
+            synchronized (this) {
+                table = this.g1DiscreteLogTable;
+                if (table == null || table.getMaxExponent() < maxMessage) {
+                    table = new BGNDiscreteLogTable(this.g.pow(this.p), maxMessage);
+                    this.g1DiscreteLogTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * @description: Get the discrete logarithm table of e(g,g)^p in GT, built on the first call.
+     * The table is rebuilt only if it does not cover the requested range.
+     * @param maxMessage: The maximal message.
+     * @return: BGNDiscreteLogTable The table covering [0, maxMessage].
+     **/
+    public BGNDiscreteLogTable getGTDiscreteLogTable(long maxMessage) {
+        BGNDiscreteLogTable table = this.gtDiscreteLogTable;
+        if (table == null || table.getMaxExponent() < maxMessage) {
+            synchronized (this) {
+                table = this.gtDiscreteLogTable;
+                if (table == null || table.getMaxExponent() < maxMessage) {
+                    Pairing pairing = PairingRegistry.getPairing(this.getParameters());
+                    table = new BGNDiscreteLogTable(pairing.pairing(this.g, this.g).pow(this.p), maxMessage);
+                    this.gtDiscreteLogTable = table;
+                }
+            }
+        }
+        return table;
+    }
+
     @Override
     public boolean equals(Object anObject) {
         if (this == anObject) {
@@ -69,7 +113,7 @@ public class BGNPrivateKeySerParameter extends PairingKeySerParameter {
                 return false;
             }
             // Compare Pairing Parameters
-            return this.getParameters().toString().equals(that.getParameters().toString());
+            return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
         }
         return false;
     }
@@ -77,7 +121,7 @@ public class BGNPrivateKeySerParameter extends PairingKeySerParameter {
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(this.getParameters());
         this.p = new BigInteger(this.byteArrayP);
         this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
     }
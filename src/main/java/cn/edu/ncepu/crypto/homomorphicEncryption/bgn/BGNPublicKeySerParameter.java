@@ -4,12 +4,12 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.bgn;/**
  * @date 2020/12/21 10:05
  */
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -83,7 +83,7 @@ public class BGNPublicKeySerParameter extends PairingKeySerParameter {
                 return false;
             }
             // Compare Pairing Parameters
-            return this.getParameters().toString().equals(that.getParameters().toString());
+            return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
         }
         return false;
     }
@@ -91,7 +91,7 @@ public class BGNPublicKeySerParameter extends PairingKeySerParameter {
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(this.getParameters());
         this.n = new BigInteger(this.byteArrayN);
         this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
         this.h = pairing.getG1().newElementFromBytes(this.byteArrayH).getImmutable();
@@ -7,6 +7,7 @@ import java.util.Map;
 
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
@@ -27,7 +28,6 @@ import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * @Copyright : Copyright (c) 2020-2021 
@@ -103,7 +103,7 @@ public class BF01aHEEngine extends IBEHEEngine {
 	public PairingCipherSerParameter add(PairingKeySerParameter publicKey,
 			Map<String, PairingCipherSerParameter> ciphertextMap) {
 		PairingParameters parameters = publicKey.getParameters();
-		Pairing pairing = PairingFactory.getPairing(parameters);
+		Pairing pairing = PairingRegistry.getPairing(parameters);
 		Element U = pairing.getG1().newZeroElement();
 		Element V = pairing.getGT().newZeroElement();
 		for (PairingCipherSerParameter cihpertext : ciphertextMap.values()) {
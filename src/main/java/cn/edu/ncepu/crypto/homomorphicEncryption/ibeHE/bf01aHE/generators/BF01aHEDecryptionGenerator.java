@@ -6,6 +6,7 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.generators;
 import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingDecryptionGenerator;
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHECiphertextSerParameter;
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHESecretKeySerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.genparams.IBEHEDecryption
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * @Copyright : Copyright (c) 2020-2021 
@@ -40,7 +40,7 @@ public class BF01aHEDecryptionGenerator implements PairingDecryptionGenerator {
 
 		BF01aHECiphertextSerParameter ciphertextParameter = (BF01aHECiphertextSerParameter) this.params
 				.getCiphertextParameter();
-		Pairing pairing = PairingFactory.getPairing(secretKeyParameter.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(secretKeyParameter.getParameters());
 
 		Element elementIdCT = PairingUtils.hash_G(pairing, this.params.getId());
 		if (!secretKeyParameter.getElementId().equals(elementIdCT)) {
@@ -5,6 +5,7 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.generators;
 
 import org.bouncycastle.crypto.CipherParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingEncryptionGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHECiphertextSerParameter;
@@ -14,7 +15,6 @@ import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * @Copyright : Copyright (c) 2020-2021 
@@ -38,7 +38,7 @@ public class BF01aHEEncryptionGenerator implements PairingEncryptionGenerator {
 	@Override
 	public PairingCipherSerParameter generateCiphertext() {
 		PairingParameters pairingParameters = publicKeyParameter.getParameters();
-		Pairing pairing = PairingFactory.getPairing(pairingParameters);
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
 		Element elementId = PairingUtils.hash_G(pairing, this.params.getId());
 		Element r = pairing.getZr().newRandomElement().getImmutable();
 		Element U = publicKeyParameter.getP().powZn(r).getImmutable();
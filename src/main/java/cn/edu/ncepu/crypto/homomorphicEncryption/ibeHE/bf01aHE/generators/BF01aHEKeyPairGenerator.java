@@ -5,6 +5,7 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHEMasterSecretKeySerParameter;
@@ -12,7 +13,6 @@ import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHE
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.genparams.IBEHEKeyPairGenerationParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * @Copyright : Copyright (c) 2020-2021 
@@ -33,7 +33,7 @@ public class BF01aHEKeyPairGenerator implements PairingKeyPairGenerator {
 
 	@Override
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(this.params.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.params.getPairingParameters());
 		// P which belongs to E/Fq, can also regard as a generator of the E/Fq
 		Element P = pairing.getG1().newRandomElement().getImmutable();
 		// master secret key s
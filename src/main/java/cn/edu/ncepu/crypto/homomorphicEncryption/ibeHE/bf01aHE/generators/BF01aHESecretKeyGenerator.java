@@ -5,6 +5,7 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.generators;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyParameterGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams.BF01aHEMasterSecretKeySerParameter;
@@ -13,7 +14,6 @@ import cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.genparams.IBEHESecretKeyG
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * @Copyright : Copyright (c) 2020-2021 
@@ -37,7 +37,7 @@ public class BF01aHESecretKeyGenerator implements PairingKeyParameterGenerator {
 		BF01aHEMasterSecretKeySerParameter masterSecretKeyParameters = (BF01aHEMasterSecretKeySerParameter) parameters
 				.getMasterSecretKeyParameter();
 
-		Pairing pairing = PairingFactory.getPairing(masterSecretKeyParameters.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(masterSecretKeyParameters.getParameters());
 		Element elementId = PairingUtils.MapStringToGroup(pairing, parameters.getId(), PairingUtils.PairingGroupType.G1)
 				.getImmutable();
 		Element d = elementId.powZn(masterSecretKeyParameters.getS()).getImmutable();
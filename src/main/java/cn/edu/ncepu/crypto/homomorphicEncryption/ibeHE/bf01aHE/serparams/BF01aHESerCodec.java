@@ -0,0 +1,82 @@
+package cn.edu.ncepu.crypto.homomorphicEncryption.ibeHE.bf01aHE.serparams;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Franklin homomorphic IBE ciphertexts and keys.
+ */
+public class BF01aHESerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0xB1;
+	private static final int KIND_PUBLIC_KEY = 1;
+	private static final int KIND_MASTER_SECRET_KEY = 2;
+	private static final int KIND_SECRET_KEY = 3;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					BF01aHECiphertextSerParameter.class, BF01aHEPublicKeySerParameter.class,
+					BF01aHEMasterSecretKeySerParameter.class, BF01aHESecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof BF01aHEPublicKeySerParameter) {
+			BF01aHEPublicKeySerParameter publicKey = (BF01aHEPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getP());
+			output.writeElement(publicKey.getsP());
+			return;
+		}
+		if (parameter instanceof BF01aHEMasterSecretKeySerParameter) {
+			output.writeElement(((BF01aHEMasterSecretKeySerParameter) parameter).getS());
+			return;
+		}
+		if (parameter instanceof BF01aHESecretKeySerParameter) {
+			BF01aHESecretKeySerParameter secretKey = (BF01aHESecretKeySerParameter) parameter;
+			output.writeString(secretKey.getId());
+			output.writeElement(secretKey.getElementId());
+			output.writeElement(secretKey.getD());
+			return;
+		}
+		BF01aHECiphertextSerParameter ciphertext = (BF01aHECiphertextSerParameter) parameter;
+		output.writeElement(ciphertext.getU());
+		output.writeElement(ciphertext.getV());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_PUBLIC_KEY:
+			return new BF01aHEPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG1()));
+		case KIND_MASTER_SECRET_KEY:
+			return new BF01aHEMasterSecretKeySerParameter(pairingParameters, input.readElement(pairing.getZr()));
+		case KIND_SECRET_KEY:
+			return new BF01aHESecretKeySerParameter(pairingParameters, input.readString(),
+					input.readElement(pairing.getG1()), input.readElement(pairing.getG1()));
+		default:
+			return new BF01aHECiphertextSerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getGT()));
+		}
+	}
+}
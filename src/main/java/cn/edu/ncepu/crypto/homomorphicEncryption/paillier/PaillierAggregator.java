@@ -0,0 +1,225 @@
+package cn.edu.ncepu.crypto.homomorphicEncryption.paillier;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * The PaillierAggregator folds Paillier ciphertexts homomorphically, directly
+ * on the ciphertexts modulo n^2 and without the Cipher plumbing:
+ * 
+ * D(c1 * c2 mod n^2) = m1 + m2 mod n, D(c^k mod n^2) = k * m mod n, so
+ * D(prod c_i^{w_i} mod n^2) = sum w_i * m_i mod n.
+ * 
+ * Arrays and buffers are reduced by a parallel tree reduction on a
+ * ForkJoinPool, streams by a parallel stream reduction in the same pool.
+ * Encoded ciphertexts are unsigned big-endian integers of fixed length
+ * {@link #getCiphertextLength()}, the ciphertext block size of
+ * PaillierCipher, laid out back to back in a buffer. The empty sum is 1, the
+ * encryption of 0 with r = 1.
+ */
+public class PaillierAggregator {
+
+	private final BigInteger N;
+	private final BigInteger NSquare;
+	private final int ciphertextLength;
+	private final ForkJoinPool pool;
+
+	/**
+	 * @param key
+	 *            - the public or the private key
+	 */
+	public PaillierAggregator(PaillierKey key) {
+		this(key, null);
+	}
+
+	/**
+	 * @param key
+	 *            - the public or the private key
+	 * @param pool
+	 *            - the pool reducing the ciphertexts, or null for the common
+	 *            pool
+	 */
+	public PaillierAggregator(PaillierKey key, ForkJoinPool pool) {
+		N = key.getN();
+		NSquare = key.getNSquare();
+		ciphertextLength = ((N.bitLength() + 7) / 8) * 2;
+		this.pool = pool;
+	}
+
+	/**
+	 * @return the length of an encoded ciphertext (in bytes)
+	 */
+	public int getCiphertextLength() {
+		return ciphertextLength;
+	}
+
+	/**
+	 * @return c1 * c2 mod n^2, an encryption of m1 + m2
+	 */
+	public BigInteger add(BigInteger c1, BigInteger c2) {
+		return c1.multiply(c2).mod(NSquare);
+	}
+
+	/**
+	 * @return c^k mod n^2, an encryption of k * m; k is taken modulo n
+	 */
+	public BigInteger multiply(BigInteger c, BigInteger k) {
+		return c.modPow(k.mod(N), NSquare);
+	}
+
+	/**
+	 * @return the product of the ciphertexts mod n^2, an encryption of the sum
+	 */
+	public BigInteger sum(BigInteger[] ciphertexts) {
+		return reduce(ciphertexts.length, i -> ciphertexts[i]);
+	}
+
+	/**
+	 * @return the product of the ciphertexts mod n^2, an encryption of the sum
+	 */
+	public BigInteger sum(List<BigInteger> ciphertexts) {
+		return reduce(ciphertexts.size(), ciphertexts::get);
+	}
+
+	/**
+	 * Folds a stream of ciphertexts, e.g. read lazily from a large source,
+	 * in parallel in the pool of the aggregator.
+	 * 
+	 * @return the product of the ciphertexts mod n^2, an encryption of the sum
+	 */
+	public BigInteger sum(Stream<BigInteger> ciphertexts) {
+		return getPool().submit(() -> ciphertexts.parallel().reduce(BigInteger.ONE, this::add)).join();
+	}
+
+	/**
+	 * @return prod c_i^{w_i} mod n^2, an encryption of sum w_i * m_i
+	 */
+	public BigInteger weightedSum(BigInteger[] ciphertexts, BigInteger[] weights) {
+		checkWeights(ciphertexts.length, weights);
+		return reduce(ciphertexts.length, i -> multiply(ciphertexts[i], weights[i]));
+	}
+
+	/**
+	 * @param ciphertexts
+	 *            - encoded ciphertexts from the position to the limit of the
+	 *            buffer, which is not modified
+	 * @return the encoded product of the ciphertexts, an encryption of the sum
+	 */
+	public byte[] sum(ByteBuffer ciphertexts) {
+		ByteBuffer buffer = ciphertexts.duplicate();
+		int position = buffer.position();
+		return encode(reduce(count(buffer), i -> decode(buffer, position + i * ciphertextLength)));
+	}
+
+	/**
+	 * @param ciphertexts
+	 *            - encoded ciphertexts from the position to the limit of the
+	 *            buffer, which is not modified
+	 * @param weights
+	 *            - a weight per ciphertext
+	 * @return the encoded prod c_i^{w_i} mod n^2, an encryption of sum w_i * m_i
+	 */
+	public byte[] weightedSum(ByteBuffer ciphertexts, BigInteger[] weights) {
+		ByteBuffer buffer = ciphertexts.duplicate();
+		int position = buffer.position();
+		int count = count(buffer);
+		checkWeights(count, weights);
+		return encode(reduce(count, i -> multiply(decode(buffer, position + i * ciphertextLength), weights[i])));
+	}
+
+	/**
+	 * @return the ciphertext as an unsigned big-endian integer of
+	 *         {@link #getCiphertextLength()} bytes
+	 */
+	public byte[] encode(BigInteger c) {
+		if (c.signum() < 0 || c.compareTo(NSquare) >= 0) {
+			throw new IllegalArgumentException("Ciphertext c is not in Z_{n^2}");
+		}
+		byte[] bytes = c.toByteArray();
+		byte[] encoding = new byte[ciphertextLength];
+		// toByteArray may prepend a zero sign byte
+		int length = Math.min(bytes.length, ciphertextLength);
+		System.arraycopy(bytes, bytes.length - length, encoding, ciphertextLength - length, length);
+		return encoding;
+	}
+
+	/**
+	 * @return the ciphertext encoded at the absolute index of the buffer
+	 */
+	public BigInteger decode(ByteBuffer buffer, int index) {
+		byte[] bytes = new byte[ciphertextLength];
+		for (int i = 0; i < ciphertextLength; i++) {
+			bytes[i] = buffer.get(index + i);
+		}
+		return new BigInteger(1, bytes);
+	}
+
+	private int count(ByteBuffer buffer) {
+		if (buffer.remaining() % ciphertextLength != 0) {
+			throw new IllegalArgumentException("Buffer of " + buffer.remaining()
+					+ " bytes is not a sequence of ciphertexts of " + ciphertextLength + " bytes");
+		}
+		return buffer.remaining() / ciphertextLength;
+	}
+
+	private static void checkWeights(int count, BigInteger[] weights) {
+		if (weights.length != count) {
+			throw new IllegalArgumentException(
+					"Number of weights " + weights.length + " differs from number of ciphertexts " + count);
+		}
+	}
+
+	private ForkJoinPool getPool() {
+		return pool == null ? ForkJoinPool.commonPool() : pool;
+	}
+
+	/**
+	 * Multiplies the terms 0, ..., count - 1 modulo n^2, splitting the range in
+	 * halves down to leaves of about count / (8 * parallelism) terms.
+	 */
+	private BigInteger reduce(int count, IntFunction<BigInteger> term) {
+		if (count == 0) {
+			return BigInteger.ONE;
+		}
+		ForkJoinPool pool = getPool();
+		int leafSize = Math.max(1, count / (8 * pool.getParallelism()));
+		return pool.invoke(new ReduceTask(term, 0, count, leafSize));
+	}
+
+	private class ReduceTask extends RecursiveTask<BigInteger> {
+		private static final long serialVersionUID = 1L;
+
+		private final IntFunction<BigInteger> term;
+		private final int from;
+		private final int to;
+		private final int leafSize;
+
+		ReduceTask(IntFunction<BigInteger> term, int from, int to, int leafSize) {
+			this.term = term;
+			this.from = from;
+			this.to = to;
+			this.leafSize = leafSize;
+		}
+
+		@Override
+		protected BigInteger compute() {
+			if (to - from <= leafSize) {
+				BigInteger product = term.apply(from);
+				for (int i = from + 1; i < to; i++) {
+					product = add(product, term.apply(i));
+				}
+				return product;
+			}
+			int middle = (from + to) >>> 1;
+			ReduceTask left = new ReduceTask(term, from, middle, leafSize);
+			left.fork();
+			BigInteger right = new ReduceTask(term, middle, to, leafSize).compute();
+			return add(left.join(), right);
+		}
+	}
+}
@@ -90,17 +90,14 @@ public final class PaillierHomomorphicCipher extends CipherSpi {
 
 		// get the public key in order to encrypt
 		PaillierPublicKey key = (PaillierPublicKey) keyPaillier;
-		BigInteger g = key.getG();
 		BigInteger n = key.getN();
-		BigInteger nsquare = key.getNSquare();
-		BigInteger r = key.generateRandomRinZn(n,SECURE_RANDOM);
  
 		if (m.compareTo(BigInteger.ZERO) < 0 || m.compareTo(n) >= 0) {
 			throw new Exception(
 					"PaillierHomomorphicCipher.encryptBlock :Plaintext m is not in Z_n , m should be less then n");
 		}
-		BigInteger c = (g.modPow(m, nsquare).multiply(r.modPow(n, nsquare)))
-				.mod(nsquare);
+		// r^n comes from the randomness pool of the key if there is one
+		BigInteger c = key.encrypt(m, SECURE_RANDOM);
 		byte[] cBytes = c.toByteArray();
 		System.arraycopy(cBytes, 0, output,ciphertextSize
 				- cBytes.length, cBytes.length);
@@ -127,18 +124,13 @@ public final class PaillierHomomorphicCipher extends CipherSpi {
 	protected final int decrypt(byte[] input, int inputOffset, int inputLenth,
 			byte[] output, int outputOffset) {
 		PaillierPrivateKey key = (PaillierPrivateKey) keyPaillier;
-		BigInteger mu = key.getMU();
-		BigInteger lambda = key.getLAMBDA();
-		BigInteger n = key.getN();
-		BigInteger nsquare = key.getNSquare();
 
 		// extract c
 		byte[] cBytes = new byte[input.length];
 		System.arraycopy(input, inputOffset, cBytes, 0, input.length);
 		BigInteger c = new BigInteger(cBytes);
 		// calculate the message
-		BigInteger m = c.modPow(lambda, nsquare).subtract(BigInteger.ONE)
-				.divide(n).multiply(mu).mod(n);
+		BigInteger m = key.decrypt(c);
 		byte[] messageBytes = m.toByteArray();
 		int gatedLength = Math.min(messageBytes.length, plaintextSize);
 		System.arraycopy(messageBytes, 0, output, plaintextSize
@@ -60,7 +60,9 @@ public final class PaillierKeyPairGenerator extends KeyPairGeneratorSpi {
 		BigInteger q;
 		do {
 			q = new BigInteger(STRENGTH / 2, 64, SECURE_RANDOM);
-		} while (q.compareTo(p) == 0);
+			// gcd(pq, (p-1)(q-1)) = 1 makes lambda invertible modulo n
+		} while (q.compareTo(p) == 0 || !p.multiply(q)
+				.gcd(p.subtract(BigInteger.ONE).multiply(q.subtract(BigInteger.ONE))).equals(BigInteger.ONE));
 
 		// lambda = lcm(p-1, q-1) = (p-1)*(q-1)/gcd(p-1, q-1)
 		BigInteger lambda = p.subtract(BigInteger.ONE).multiply(q.subtract(BigInteger.ONE))
@@ -68,23 +70,15 @@ public final class PaillierKeyPairGenerator extends KeyPairGeneratorSpi {
 
 		BigInteger n = p.multiply(q); // n = p*q
 		BigInteger nsquare = n.multiply(n); // nsquare = n*n
-		BigInteger g;
-		do {
-			// generate g, a random integer in Z*_{n^2}
-			do {
-				g = new BigInteger(STRENGTH, 64, SECURE_RANDOM);
-			} while (g.compareTo(nsquare) >= 0 || g.gcd(nsquare).intValue() != 1);
-
-			// verify g, the following must hold: gcd(L(g^lambda mod n^2), n) =
-			// 1,
-			// where L(u) = (u-1)/n
-		} while (g.modPow(lambda, nsquare).subtract(BigInteger.ONE).divide(n).gcd(n).intValue() != 1);
+		// g = n+1 is in Z*_{n^2} and L(g^lambda mod n^2) = lambda mod n, so
+		// encryption computes g^m as 1 + m*n
+		BigInteger g = n.add(BigInteger.ONE);
 
-		// mu = (L(g^lambda mod n^2))^{-1} mod n, where L(u) = (u-1)/n
-		BigInteger mu = g.modPow(lambda, nsquare).subtract(BigInteger.ONE).divide(n).modInverse(n);
+		// mu = (L(g^lambda mod n^2))^{-1} mod n = lambda^{-1} mod n
+		BigInteger mu = lambda.modInverse(n);
 
 		PaillierPublicKey publicKey = new PaillierPublicKey(n, g, nsquare);
-		PaillierPrivateKey privateKey = new PaillierPrivateKey(lambda, mu, nsquare, n);
+		PaillierPrivateKey privateKey = new PaillierPrivateKey(lambda, mu, nsquare, n, p, q, g);
 
 		return new KeyPair(publicKey, privateKey);
 	}
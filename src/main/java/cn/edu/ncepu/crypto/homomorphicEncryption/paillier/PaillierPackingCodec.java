@@ -0,0 +1,232 @@
+package cn.edu.ncepu.crypto.homomorphicEncryption.paillier;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+/**
+ * The PaillierPackingCodec places k small non-negative values in one Paillier
+ * plaintext, value i in bits [i * w, (i + 1) * w) with the slot width w =
+ * slotBits + headroomBits, so one encryption carries k values:
+ * 
+ * m = sum v_i * 2^{i * w} < n, with k = floor((|n| - 1) / w).
+ * 
+ * Multiplying ciphertexts adds the plaintexts slot-wise. A sum of at most
+ * 2^headroomBits values below 2^slotBits stays below 2^w, so the slots do not
+ * carry into each other. A {@link PackedCiphertext} counts the packed
+ * plaintexts added into it, and adding beyond the headroom is rejected.
+ */
+public class PaillierPackingCodec {
+
+	private final BigInteger N;
+	private final int slotBits;
+	private final int headroomBits;
+	private final int slotWidth;
+	private final int slotCount;
+	private final long maxAddends;
+	private final BigInteger slotMask;
+	private final PaillierAggregator aggregator;
+
+	/**
+	 * @param key
+	 *            - the public or the private key
+	 * @param slotBits
+	 *            - the bit length of a value
+	 * @param headroomBits
+	 *            - the carry headroom of a slot, allowing sums of
+	 *            2^headroomBits packed plaintexts
+	 */
+	public PaillierPackingCodec(PaillierKey key, int slotBits, int headroomBits) {
+		if (slotBits <= 0) {
+			throw new IllegalArgumentException("Slot bits must be positive, given " + slotBits);
+		}
+		if (headroomBits < 0 || headroomBits > 62) {
+			throw new IllegalArgumentException("Headroom bits must be in [0, 62], given " + headroomBits);
+		}
+		N = key.getN();
+		this.slotBits = slotBits;
+		this.headroomBits = headroomBits;
+		slotWidth = slotBits + headroomBits;
+		slotCount = (N.bitLength() - 1) / slotWidth;
+		if (slotCount == 0) {
+			throw new IllegalArgumentException(
+					"Slot of " + slotWidth + " bits does not fit a modulus of " + N.bitLength() + " bits");
+		}
+		maxAddends = 1L << headroomBits;
+		slotMask = BigInteger.ONE.shiftLeft(slotWidth).subtract(BigInteger.ONE);
+		aggregator = new PaillierAggregator(key);
+	}
+
+	public int getSlotBits() {
+		return slotBits;
+	}
+
+	public int getHeadroomBits() {
+		return headroomBits;
+	}
+
+	/**
+	 * @return the number k of values per plaintext
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * @return the maximal number of packed plaintexts in a sum
+	 */
+	public long getMaxAddends() {
+		return maxAddends;
+	}
+
+	/**
+	 * @param values
+	 *            - at most k values in [0, 2^slotBits), missing slots are 0
+	 * @return the packed plaintext
+	 */
+	public BigInteger pack(long... values) {
+		BigInteger[] bigValues = new BigInteger[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bigValues[i] = BigInteger.valueOf(values[i]);
+		}
+		return pack(bigValues);
+	}
+
+	/**
+	 * @param values
+	 *            - at most k values in [0, 2^slotBits), missing slots are 0
+	 * @return the packed plaintext
+	 */
+	public BigInteger pack(BigInteger... values) {
+		if (values.length > slotCount) {
+			throw new IllegalArgumentException(
+					values.length + " values exceed the " + slotCount + " slots of a plaintext");
+		}
+		BigInteger m = BigInteger.ZERO;
+		for (int i = values.length - 1; i >= 0; i--) {
+			if (values[i].signum() < 0 || values[i].bitLength() > slotBits) {
+				throw new IllegalArgumentException("Value " + values[i] + " is not in [0, 2^" + slotBits + ")");
+			}
+			m = m.shiftLeft(slotWidth).or(values[i]);
+		}
+		return m;
+	}
+
+	/**
+	 * @param m
+	 *            - a packed plaintext, or a sum of packed plaintexts within the
+	 *            headroom
+	 * @return the k slot values, each below 2^(slotBits + headroomBits)
+	 */
+	public BigInteger[] unpack(BigInteger m) {
+		BigInteger[] values = new BigInteger[slotCount];
+		for (int i = 0; i < slotCount; i++) {
+			values[i] = m.shiftRight(i * slotWidth).and(slotMask);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the k slot values as longs
+	 * @throws ArithmeticException
+	 *             if a slot value does not fit a long
+	 */
+	public long[] unpackLong(BigInteger m) {
+		BigInteger[] values = unpack(m);
+		long[] longValues = new long[slotCount];
+		for (int i = 0; i < slotCount; i++) {
+			if (values[i].bitLength() > 63) {
+				throw new ArithmeticException("Slot value " + values[i] + " does not fit a long");
+			}
+			longValues[i] = values[i].longValue();
+		}
+		return longValues;
+	}
+
+	/**
+	 * Packs and encrypts the values, with the randomness pool of the key if
+	 * there is one.
+	 */
+	public PackedCiphertext encrypt(PaillierPublicKey key, SecureRandom random, long... values) {
+		checkModulus(key);
+		return new PackedCiphertext(key.encrypt(pack(values), random), 1);
+	}
+
+	/**
+	 * @return the k slot sums
+	 */
+	public BigInteger[] decrypt(PaillierPrivateKey key, PackedCiphertext c) {
+		checkModulus(key);
+		return unpack(key.decrypt(c.getCiphertext()));
+	}
+
+	/**
+	 * Wraps a ciphertext of a packed plaintext, e.g. encrypted through
+	 * PaillierHomomorphicCipher.
+	 */
+	public PackedCiphertext wrap(BigInteger ciphertext) {
+		return new PackedCiphertext(ciphertext, 1);
+	}
+
+	/**
+	 * @return an encryption of the slot-wise sums
+	 * @throws IllegalStateException
+	 *             if the sum exceeds the headroom
+	 */
+	public PackedCiphertext add(PackedCiphertext c1, PackedCiphertext c2) {
+		long addends = checkHeadroom(c1.getAddends() + c2.getAddends());
+		return new PackedCiphertext(aggregator.add(c1.getCiphertext(), c2.getCiphertext()), addends);
+	}
+
+	/**
+	 * Adds the ciphertexts slot-wise by a parallel tree reduction.
+	 * 
+	 * @return an encryption of the slot-wise sums
+	 * @throws IllegalStateException
+	 *             if the sum exceeds the headroom
+	 */
+	public PackedCiphertext sum(PackedCiphertext... ciphertexts) {
+		long addends = 0;
+		BigInteger[] cs = new BigInteger[ciphertexts.length];
+		for (int i = 0; i < ciphertexts.length; i++) {
+			addends = checkHeadroom(addends + ciphertexts[i].getAddends());
+			cs[i] = ciphertexts[i].getCiphertext();
+		}
+		return new PackedCiphertext(aggregator.sum(cs), addends);
+	}
+
+	private long checkHeadroom(long addends) {
+		if (addends > maxAddends) {
+			throw new IllegalStateException("Sum of " + addends + " packed plaintexts exceeds the headroom of "
+					+ headroomBits + " bits");
+		}
+		return addends;
+	}
+
+	private void checkModulus(PaillierKey key) {
+		if (!key.getN().equals(N)) {
+			throw new IllegalArgumentException("Key of another modulus");
+		}
+	}
+
+	/**
+	 * A ciphertext of a sum of packed plaintexts, with the number of packed
+	 * plaintexts in the sum.
+	 */
+	public static class PackedCiphertext {
+		private final BigInteger ciphertext;
+		private final long addends;
+
+		PackedCiphertext(BigInteger ciphertext, long addends) {
+			this.ciphertext = ciphertext;
+			this.addends = addends;
+		}
+
+		public BigInteger getCiphertext() {
+			return ciphertext;
+		}
+
+		public long getAddends() {
+			return addends;
+		}
+	}
+}
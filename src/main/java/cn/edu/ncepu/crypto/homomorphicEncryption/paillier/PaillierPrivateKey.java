@@ -4,7 +4,10 @@ import java.math.BigInteger;
 import java.security.PrivateKey;
 
 /**
- * The PaillierPrivateKey holds lambda and mu.
+ * The PaillierPrivateKey holds lambda and mu. Keys generated with the primes p
+ * and q also hold p^2, q^2, h_p = L_p(g^{p-1} mod p^2)^{-1} mod p, h_q and
+ * q^{-1} mod p, so that decryption works modulo p^2 and q^2 with half-length
+ * exponents and recombines the halves by the Chinese remainder theorem.
  * 
  * @version 12-03-13
  * 
@@ -17,12 +20,73 @@ public class PaillierPrivateKey extends PaillierKey implements PrivateKey {
 	private static final long serialVersionUID = 120674253906670457L;
 	private final BigInteger LAMBDA;
 	private final BigInteger MU;
+	// CRT constants, null for keys without the primes
+	private final BigInteger P;
+	private final BigInteger Q;
+	private final BigInteger PSquare;
+	private final BigInteger QSquare;
+	private final BigInteger HP;
+	private final BigInteger HQ;
+	private final BigInteger QInverse;
 
 	protected PaillierPrivateKey(BigInteger lambda, BigInteger mu,
 			BigInteger nsquare, BigInteger n) {
 		super(n, nsquare);
 		LAMBDA = lambda;
 		MU = mu;
+		P = null;
+		Q = null;
+		PSquare = null;
+		QSquare = null;
+		HP = null;
+		HQ = null;
+		QInverse = null;
+	}
+
+	protected PaillierPrivateKey(BigInteger lambda, BigInteger mu,
+			BigInteger nsquare, BigInteger n, BigInteger p, BigInteger q,
+			BigInteger g) {
+		super(n, nsquare);
+		LAMBDA = lambda;
+		MU = mu;
+		P = p;
+		Q = q;
+		PSquare = p.multiply(p);
+		QSquare = q.multiply(q);
+		HP = h(g, p, PSquare);
+		HQ = h(g, q, QSquare);
+		QInverse = q.modInverse(p);
+	}
+
+	/**
+	 * h = L_p(g^{p-1} mod p^2)^{-1} mod p, where L_p(u) = (u-1)/p
+	 */
+	private static BigInteger h(BigInteger g, BigInteger p, BigInteger psquare) {
+		return g.mod(psquare).modPow(p.subtract(BigInteger.ONE), psquare)
+				.subtract(BigInteger.ONE).divide(p).modInverse(p);
+	}
+
+	/**
+	 * Decrypts the ciphertext c in Z_{n^2}. With the primes, m_p = L_p(c^{p-1}
+	 * mod p^2) h_p mod p and m_q = L_q(c^{q-1} mod q^2) h_q mod q are combined
+	 * to m = m_q + q ((m_p - m_q) q^{-1} mod p); otherwise m = L(c^lambda mod
+	 * n^2) mu mod n.
+	 * 
+	 * @param c
+	 *            - the ciphertext
+	 * @return m - the plaintext in Z_n
+	 */
+	public BigInteger decrypt(BigInteger c) {
+		if (P == null) {
+			BigInteger nsquare = getNSquare();
+			return c.modPow(LAMBDA, nsquare).subtract(BigInteger.ONE)
+					.divide(getN()).multiply(MU).mod(getN());
+		}
+		BigInteger mp = c.mod(PSquare).modPow(P.subtract(BigInteger.ONE), PSquare)
+				.subtract(BigInteger.ONE).divide(P).multiply(HP).mod(P);
+		BigInteger mq = c.mod(QSquare).modPow(Q.subtract(BigInteger.ONE), QSquare)
+				.subtract(BigInteger.ONE).divide(Q).multiply(HQ).mod(Q);
+		return mp.subtract(mq).multiply(QInverse).mod(P).multiply(Q).add(mq);
 	}
 
 	public BigInteger getLAMBDA() {
@@ -33,6 +97,20 @@ public class PaillierPrivateKey extends PaillierKey implements PrivateKey {
 		return MU;
 	}
 
+	/**
+	 * @return p, or null if the key does not hold the primes
+	 */
+	public BigInteger getP() {
+		return P;
+	}
+
+	/**
+	 * @return q, or null if the key does not hold the primes
+	 */
+	public BigInteger getQ() {
+		return Q;
+	}
+
 	/**
 	 * Returns the standard algorithm name for this key.
 	 * 
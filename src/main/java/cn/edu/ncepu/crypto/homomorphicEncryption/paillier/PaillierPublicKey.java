@@ -2,6 +2,7 @@ package cn.edu.ncepu.crypto.homomorphicEncryption.paillier;
 
 import java.math.BigInteger;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 
 /**
  * PaillierPublicKey contains n,nsquare,g and r. Because n and nsquare are
@@ -24,6 +25,7 @@ public class PaillierPublicKey extends PaillierKey implements PublicKey {
 	 */
 	private static final long serialVersionUID = -7321682822593305457L;
 	private final BigInteger G;
+	private transient volatile PaillierRandomnessPool randomnessPool;
 
 	protected PaillierPublicKey(BigInteger n, BigInteger g, BigInteger nsquare) {
 		super(n, nsquare);
@@ -34,6 +36,69 @@ public class PaillierPublicKey extends PaillierKey implements PublicKey {
 		return G;
 	}
 
+	/**
+	 * Encrypts m in Z_n with the randomness r in Z_n^*, c = g^m r^n mod n^2.
+	 * For g = n+1, g^m = 1 + m n mod n^2, so the exponentiation by m is
+	 * replaced by a multiplication.
+	 * 
+	 * @param m
+	 *            - the plaintext
+	 * @param r
+	 *            - the randomness
+	 * @return c - the ciphertext
+	 */
+	public BigInteger encrypt(BigInteger m, BigInteger r) {
+		return encryptWithRN(m, r.modPow(getN(), getNSquare()));
+	}
+
+	/**
+	 * Encrypts m in Z_n, taking r^n mod n^2 from the randomness pool if one is
+	 * attached, or generating r with the given source of randomness otherwise.
+	 * 
+	 * @param m
+	 *            - the plaintext
+	 * @param random
+	 *            - the source of r without a pool
+	 * @return c - the ciphertext
+	 */
+	public BigInteger encrypt(BigInteger m, SecureRandom random) {
+		PaillierRandomnessPool pool = randomnessPool;
+		if (pool == null) {
+			return encrypt(m, generateRandomRinZn(getN(), random));
+		}
+		return encryptWithRN(m, pool.next());
+	}
+
+	private BigInteger encryptWithRN(BigInteger m, BigInteger rn) {
+		BigInteger n = getN();
+		BigInteger nsquare = getNSquare();
+		BigInteger gm;
+		if (G.equals(n.add(BigInteger.ONE))) {
+			gm = m.multiply(n).add(BigInteger.ONE);
+		} else {
+			gm = G.modPow(m, nsquare);
+		}
+		return gm.multiply(rn).mod(nsquare);
+	}
+
+	/**
+	 * Attaches a pool of precomputed r^n mod n^2 used by the ciphers for this
+	 * key, or detaches it with null. The pool is not serialized with the key.
+	 * 
+	 * @param pool
+	 *            - the pool, created for this n
+	 */
+	public void setRandomnessPool(PaillierRandomnessPool pool) {
+		if (pool != null && !pool.getN().equals(getN())) {
+			throw new IllegalArgumentException("Randomness pool is created for another modulus");
+		}
+		randomnessPool = pool;
+	}
+
+	public PaillierRandomnessPool getRandomnessPool() {
+		return randomnessPool;
+	}
+
 	/**
 	 * Returns the standard algorithm name for this key.
 	 * 
@@ -0,0 +1,194 @@
+package cn.edu.ncepu.crypto.homomorphicEncryption.paillier;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The PaillierRandomnessPool precomputes the encryption randomness r^n mod n^2
+ * for random r in Z_n^* on low-priority daemon threads, so that the online part
+ * of an encryption is g^m * r^n mod n^2, one modular multiplication for g =
+ * n+1. This is the offline/online split of Paillier encryption.
+ * 
+ * The precomputed values wait in a bounded queue. Workers block while the
+ * queue is full, so an idle pool costs no CPU. When the queue runs empty,
+ * {@link #next()} computes the value inline instead of waiting, and counts a
+ * fallback. Each value is handed out once.
+ * 
+ * The pool is attached to a public key with
+ * {@link PaillierPublicKey#setRandomnessPool(PaillierRandomnessPool)}, and
+ * should be closed when it is no longer used.
+ */
+public class PaillierRandomnessPool implements AutoCloseable {
+
+	private final BigInteger N;
+	private final BigInteger NSquare;
+	private final SecureRandom SECURE_RANDOM;
+	private final BlockingQueue<BigInteger> queue;
+	private final Thread[] workers;
+	private final long startTime;
+	private final LongAdder produced = new LongAdder();
+	private final LongAdder consumed = new LongAdder();
+	private final LongAdder fallbacks = new LongAdder();
+	private volatile boolean closed;
+
+	/**
+	 * @param key
+	 *            - the public key whose n is used
+	 * @param capacity
+	 *            - the maximal number of precomputed values
+	 * @param threads
+	 *            - the number of worker threads
+	 */
+	public PaillierRandomnessPool(PaillierPublicKey key, int capacity, int threads) {
+		this(key, capacity, threads, new SecureRandom());
+	}
+
+	/**
+	 * @param key
+	 *            - the public key whose n is used
+	 * @param capacity
+	 *            - the maximal number of precomputed values
+	 * @param threads
+	 *            - the number of worker threads
+	 * @param random
+	 *            - the source of r, shared by the workers
+	 */
+	public PaillierRandomnessPool(PaillierPublicKey key, int capacity, int threads, SecureRandom random) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("Capacity must be positive, given " + capacity);
+		}
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Number of threads must be positive, given " + threads);
+		}
+		N = key.getN();
+		NSquare = key.getNSquare();
+		SECURE_RANDOM = random;
+		queue = new ArrayBlockingQueue<BigInteger>(capacity);
+		startTime = System.nanoTime();
+		workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			workers[i] = new Thread(this::refill, "paillier-randomness-" + i);
+			workers[i].setDaemon(true);
+			workers[i].setPriority(Thread.MIN_PRIORITY);
+			workers[i].start();
+		}
+	}
+
+	private void refill() {
+		try {
+			while (!closed) {
+				// blocks while the queue is full
+				queue.put(compute());
+				produced.increment();
+			}
+		} catch (InterruptedException e) {
+			// closed
+		}
+	}
+
+	/**
+	 * @return r^n mod n^2 for a fresh random r in Z_n^*
+	 */
+	private BigInteger compute() {
+		BigInteger r;
+		do {
+			r = new BigInteger(N.bitLength(), SECURE_RANDOM);
+		} while (r.signum() == 0 || r.compareTo(N) >= 0 || !r.gcd(N).equals(BigInteger.ONE));
+		return r.modPow(N, NSquare);
+	}
+
+	/**
+	 * Returns a precomputed r^n mod n^2, or computes one inline if the pool is
+	 * empty.
+	 * 
+	 * @return r^n mod n^2
+	 */
+	public BigInteger next() {
+		BigInteger rn = queue.poll();
+		if (rn == null) {
+			fallbacks.increment();
+			rn = compute();
+		}
+		consumed.increment();
+		return rn;
+	}
+
+	/**
+	 * Returns a precomputed r^n mod n^2, waiting for the workers if the pool is
+	 * empty.
+	 * 
+	 * @return r^n mod n^2
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 * @throws IllegalStateException
+	 *             if the pool is closed and empty
+	 */
+	public BigInteger take() throws InterruptedException {
+		BigInteger rn;
+		while ((rn = queue.poll(100, TimeUnit.MILLISECONDS)) == null) {
+			if (closed) {
+				throw new IllegalStateException("Randomness pool is closed");
+			}
+		}
+		consumed.increment();
+		return rn;
+	}
+
+	public BigInteger getN() {
+		return N;
+	}
+
+	public int getCapacity() {
+		return queue.size() + queue.remainingCapacity();
+	}
+
+	/**
+	 * @return the number of precomputed values waiting in the pool
+	 */
+	public int size() {
+		return queue.size();
+	}
+
+	public long getProducedCount() {
+		return produced.sum();
+	}
+
+	public long getConsumedCount() {
+		return consumed.sum();
+	}
+
+	/**
+	 * @return the number of values computed inline because the pool was empty
+	 */
+	public long getFallbackCount() {
+		return fallbacks.sum();
+	}
+
+	/**
+	 * @return the average number of values precomputed per second since the
+	 *         pool was created
+	 */
+	public double getRefillRate() {
+		long elapsed = System.nanoTime() - startTime;
+		return elapsed > 0 ? produced.sum() * 1e9 / elapsed : 0;
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	/**
+	 * Stops the workers and drops the precomputed values.
+	 */
+	public void close() {
+		closed = true;
+		for (Thread worker : workers) {
+			worker.interrupt();
+		}
+		queue.clear();
+	}
+}
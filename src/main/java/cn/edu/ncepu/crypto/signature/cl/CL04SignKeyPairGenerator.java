@@ -1,10 +1,10 @@
 package cn.edu.ncepu.crypto.signature.cl;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import java.util.ArrayList;
@@ -49,7 +49,7 @@ public class CL04SignKeyPairGenerator implements PairingKeyPairGenerator {
      */
     @Override
     public PairingKeySerPair generateKeyPair() {
-        Pairing pairing = PairingFactory.getPairing(this.param.getPairingParameters());
+        Pairing pairing = PairingRegistry.getPairing(this.param.getPairingParameters());
         // createSecretKey
         final Element g = pairing.getG1().newRandomElement().getImmutable();
         byte[] temp = g.toBytes();
@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.cl;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.util.Arrays;
 import java.util.List;
@@ -38,19 +38,19 @@ public class CL04SignPublicPairingKeySerParameter extends PairingKeySerParameter
     private final byte[][] byteArrayW;
 
     public Element getG() {
-        return g.duplicate();
+        return g;
     }
 
     public Element getgT() {
-        return gT.duplicate();
+        return gT;
     }
 
     public Element getX() {
-        return X.duplicate();
+        return X;
     }
 
     public Element getY() {
-        return Y.duplicate();
+        return Y;
     }
 
     public List<Element> getZ() {
@@ -129,7 +129,7 @@ public class CL04SignPublicPairingKeySerParameter extends PairingKeySerParameter
                 }
             }
             // Compare Pairing Parameters
-            return this.getParameters().toString().equals(that.getParameters().toString());
+            return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
         }
         return false;
     }
@@ -137,7 +137,7 @@ public class CL04SignPublicPairingKeySerParameter extends PairingKeySerParameter
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(this.getParameters());
         this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
         this.gT = pairing.getGT().newElementFromBytes(this.byteArrayGT).getImmutable();
         this.X = pairing.getG1().newElementFromBytes(this.byteArrayX).getImmutable();
@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.cl;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.util.Arrays;
 import java.util.List;
@@ -107,7 +107,7 @@ public class CL04SignSecretPairingKeySerParameter extends PairingKeySerParameter
                 }
             }
             // Compare Pairing Parameters
-            return this.getParameters().toString().equals(that.getParameters().toString());
+            return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
         }
         return false;
     }
@@ -115,7 +115,7 @@ public class CL04SignSecretPairingKeySerParameter extends PairingKeySerParameter
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.getParameters());
+        Pairing pairing = PairingRegistry.getPairing(this.getParameters());
         this.g = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
         this.x = pairing.getZr().newElementFromBytes(this.byteArrayX).getImmutable();
         this.y = pairing.getZr().newElementFromBytes(this.byteArrayY).getImmutable();
@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.cl;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -117,7 +117,7 @@ public class CL04Signer implements Signer {
 
     try {
       CL04SignSecretPairingKeySerParameter sk = (CL04SignSecretPairingKeySerParameter) pairingKeySerParameter;
-      Pairing pairing = PairingFactory.getPairing(sk.getParameters());
+      Pairing pairing = PairingRegistry.getPairing(sk.getParameters());
       final Element alpha = pairing.getZr().newRandomElement().getImmutable();
       final Element a = sk.getG().powZn(alpha);
       final List<Element> A = sk.getZ().stream().map(a::powZn).collect(Collectors.toCollection(ArrayList::new));
@@ -152,7 +152,7 @@ public class CL04Signer implements Signer {
     try {
       Element[] sig = derDecode(signature);
       CL04SignPublicPairingKeySerParameter pk = (CL04SignPublicPairingKeySerParameter) pairingKeySerParameter;
-      Pairing pairing = PairingFactory.getPairing(pairingKeySerParameter.getParameters());
+      Pairing pairing = PairingRegistry.getPairing(pairingKeySerParameter.getParameters());
       Element a = sig[0];
       Element b = sig[1];
       Element c = sig[2];
@@ -205,14 +205,14 @@ public class CL04Signer implements Signer {
   private Element[] derDecode(byte[] encoding) throws IOException {
     ASN1Sequence s = (ASN1Sequence) ASN1Primitive.fromByteArray(encoding);
     PairingParameters params = this.pairingKeySerParameter.getParameters();
-    Pairing pairing = PairingFactory.getPairing(params);
+    Pairing pairing = PairingRegistry.getPairing(params);
     Element[] signElements = new Element[3 + 2 * messages.size()];
     for (int i = 0; i < signElements.length; i++) {
       signElements[i] = pairing.getG1().newElementFromBytes(Hex.decode(((ASN1String) s.getObjectAt(i)).getString())).getImmutable();
     }
     return signElements;
     /*PairingParameters params = this.pairingKeySerParameter.getParameters();
-    Pairing pairing = PairingFactory.getPairing(params);
+    Pairing pairing = PairingRegistry.getPairing(params);
     Element[] signatures = new Element[encodingArray.length];
     Element[] signElements = IntStream.range(0, encodingArray.length).mapToObj(i -> ((CurveElement<?, ?>) signatures[i]).setFromBytesCompressed(encodingArray[i])).toArray(Element[]::new);
     return signElements;*/
@@ -259,7 +259,7 @@ public class CL04Signer implements Signer {
   public byte[] generateCommitmentProof() {
     try {
       CL04SignPublicPairingKeySerParameter pk = (CL04SignPublicPairingKeySerParameter) pairingKeySerParameter;
-      Pairing pairing = PairingFactory.getPairing(pk.getParameters());
+      Pairing pairing = PairingRegistry.getPairing(pk.getParameters());
 
       final List<Element> r = new ArrayList<>(); // r contains the list of random numbers
       final Element R = computeR(pk, pairing, r);
@@ -289,7 +289,7 @@ public class CL04Signer implements Signer {
   private Element[] derDecodeProof(byte[] encoding) throws IOException {
     ASN1Sequence s = (ASN1Sequence) ASN1Primitive.fromByteArray(encoding);
     PairingParameters params = this.pairingKeySerParameter.getParameters();
-    Pairing pairing = PairingFactory.getPairing(params);
+    Pairing pairing = PairingRegistry.getPairing(params);
     Element[] proofElements = new Element[1 + messages.size()];
     for (int i = 0; i < proofElements.length; i++) {
       proofElements[i] = pairing.getZr().newElementFromBytes(Hex.decode(((ASN1String) s.getObjectAt(i)).getString())).getImmutable();
@@ -353,7 +353,7 @@ public class CL04Signer implements Signer {
   public boolean verifyCommitmentProof(final byte[] proof) {
     try {
       CL04SignPublicPairingKeySerParameter pk = (CL04SignPublicPairingKeySerParameter) pairingKeySerParameter;
-      Pairing pairing = PairingFactory.getPairing(pk.getParameters());
+      Pairing pairing = PairingRegistry.getPairing(pk.getParameters());
       Element[] proofElements = derDecodeProof(proof);
       Element c = proofElements[0];
       List<Element> s = IntStream.range(1, proofElements.length).mapToObj(i -> proofElements[i]).collect(Collectors.toList());
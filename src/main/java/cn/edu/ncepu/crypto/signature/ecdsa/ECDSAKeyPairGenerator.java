@@ -1,12 +1,12 @@
 package cn.edu.ncepu.crypto.signature.ecdsa;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 import java.math.BigInteger;
@@ -48,7 +48,7 @@ public class ECDSAKeyPairGenerator implements AsymmetricKeySerPairGenerator {
         PairingParameters pairingParameters = this.param.getPairingParameters();
         BigInteger n = pairingParameters.getBigInteger("r");
         BigInteger q = pairingParameters.getBigInteger("q");
-        Pairing pairing = PairingFactory.getPairing(pairingParameters);
+        Pairing pairing = PairingRegistry.getPairing(pairingParameters);
         Element G = pairing.getG1().newRandomElement().getImmutable();
         Element d = pairing.getZr().newRandomElement().getImmutable();
         Element Q = G.powZn(d).getImmutable();
@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.ecdsa;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.util.Arrays;
 
@@ -66,13 +66,13 @@ public class ECDSAPublicKeySerParameter extends AsymmetricKeySerParameter {
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.parameters);
+        Pairing pairing = PairingRegistry.getPairing(this.parameters);
         this.Q = pairing.getG1().newElementFromBytes(this.byteArrayQ).getImmutable();
         this.G = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
     }
 
     public Element getQ() {
-        return this.Q.duplicate();
+        return this.Q;
     }
 
     public Element getG() {
@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.ecdsa;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 import java.util.Arrays;
 
@@ -66,7 +66,7 @@ public class ECDSASecretKeySerParameter extends AsymmetricKeySerParameter {
     private void readObject(java.io.ObjectInputStream objectInputStream)
             throws java.io.IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
-        Pairing pairing = PairingFactory.getPairing(this.parameters);
+        Pairing pairing = PairingRegistry.getPairing(this.parameters);
         this.d = pairing.getG1().newElementFromBytes(this.byteArrayD).getImmutable();
         this.G = pairing.getG1().newElementFromBytes(this.byteArrayG).getImmutable();
     }
@@ -76,7 +76,7 @@ public class ECDSASecretKeySerParameter extends AsymmetricKeySerParameter {
     }
 
     public Element getD() {
-        return this.d.duplicate();
+        return this.d;
     }
 
     public Element getG() {
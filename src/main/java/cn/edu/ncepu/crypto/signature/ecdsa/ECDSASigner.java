@@ -1,11 +1,11 @@
 package cn.edu.ncepu.crypto.signature.ecdsa;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.AsymmetricKeySerParameter;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
 import it.unisa.dia.gas.plaf.jpbc.field.curve.ImmutableCurveElement;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -91,7 +91,7 @@ public class ECDSASigner implements Signer {
 			byte[] hash = new byte[digest.getDigestSize()];
 			digest.doFinal(hash, 0);
 			ECDSASecretKeySerParameter secretKeySerParameter = (ECDSASecretKeySerParameter) asymmetricKeySerParameter;
-			Pairing pairing = PairingFactory.getPairing(secretKeySerParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(secretKeySerParameter.getParameters());
 			Element k = pairing.getZr().newRandomElement().getImmutable();
 			ImmutableCurveElement Gk = (ImmutableCurveElement) (secretKeySerParameter.getG().powZn(k));
 			Element x1 = Gk.getX();
@@ -124,7 +124,7 @@ public class ECDSASigner implements Signer {
 			byte[] hash = new byte[digest.getDigestSize()];
 			digest.doFinal(hash, 0);
 			ECDSAPublicKeySerParameter publicKeySerParameter = (ECDSAPublicKeySerParameter) asymmetricKeySerParameter;
-			Pairing pairing = PairingFactory.getPairing(publicKeySerParameter.getParameters());
+			Pairing pairing = PairingRegistry.getPairing(publicKeySerParameter.getParameters());
 			Element[] signElement = this.derDecode(signed);
 			Element r = signElement[0].getImmutable();
 			Element s = signElement[1].getImmutable();
@@ -152,7 +152,7 @@ public class ECDSASigner implements Signer {
 	public Element[] derDecode(byte[] encoding) throws IOException {
 		ASN1Sequence s = (ASN1Sequence) ASN1Primitive.fromByteArray(encoding);
 		PairingParameters params = ((ECDSAPublicKeySerParameter) this.asymmetricKeySerParameter).getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		return new Element[]{
 				pairing.getZr().newElementFromBytes(Hex.decode(((ASN1String) s.getObjectAt(0)).getString())),
 				pairing.getZr().newElementFromBytes(Hex.decode(((ASN1String) s.getObjectAt(1)).getString())),};
@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.signature.pks.bb04;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/10/17.
@@ -47,19 +47,19 @@ class BB04SignPublicKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getG1() {
-		return this.g1.duplicate();
+		return this.g1;
 	}
 
 	public Element getG2() {
-		return this.g2.duplicate();
+		return this.g2;
 	}
 
 	public Element getU() {
-		return this.u.duplicate();
+		return this.u;
 	}
 
 	public Element getV() {
-		return this.v.duplicate();
+		return this.v;
 	}
 
 	@Override
@@ -98,7 +98,7 @@ class BB04SignPublicKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -106,7 +106,7 @@ class BB04SignPublicKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 
 		this.g1 = pairing.getG1().newElementFromBytes(this.byteArrayG1).getImmutable();
 		this.g2 = pairing.getG2().newElementFromBytes(this.byteArrayG2).getImmutable();
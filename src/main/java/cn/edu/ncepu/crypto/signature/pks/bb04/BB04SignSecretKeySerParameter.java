@@ -2,12 +2,12 @@ package cn.edu.ncepu.crypto.signature.pks.bb04;
 
 import java.util.Arrays;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/10/17.
@@ -39,11 +39,11 @@ class BB04SignSecretKeySerParameter extends PairingKeySerParameter {
 	}
 
 	public Element getX() {
-		return this.x.duplicate();
+		return this.x;
 	}
 
 	public Element getY() {
-		return this.y.duplicate();
+		return this.y;
 	}
 
 	public BB04SignPublicKeySerParameter getPublicKeyParameters() {
@@ -76,7 +76,7 @@ class BB04SignSecretKeySerParameter extends PairingKeySerParameter {
 				return false;
 			}
 			// Compare Pairing Parameters
-			return this.getParameters().toString().equals(that.getParameters().toString());
+			return PairingRegistry.isEqualParameters(this.getParameters(), that.getParameters());
 		}
 		return false;
 	}
@@ -84,7 +84,7 @@ class BB04SignSecretKeySerParameter extends PairingKeySerParameter {
 	private void readObject(java.io.ObjectInputStream objectInputStream)
 			throws java.io.IOException, ClassNotFoundException {
 		objectInputStream.defaultReadObject();
-		Pairing pairing = PairingFactory.getPairing(this.getParameters());
+		Pairing pairing = PairingRegistry.getPairing(this.getParameters());
 
 		this.x = pairing.getZr().newElementFromBytes(this.byteArrayX).getImmutable();
 		this.y = pairing.getZr().newElementFromBytes(this.byteArrayY).getImmutable();
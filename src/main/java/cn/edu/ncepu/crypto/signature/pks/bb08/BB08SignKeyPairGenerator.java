@@ -2,11 +2,11 @@ package cn.edu.ncepu.crypto.signature.pks.bb08;
 
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 
 /**
  * Created by Weiran Liu on 2016/11/10.
@@ -21,7 +21,7 @@ public class BB08SignKeyPairGenerator implements PairingKeyPairGenerator {
 	}
 
 	public PairingKeySerPair generateKeyPair() {
-		Pairing pairing = PairingFactory.getPairing(param.getPairingParameters());
+		Pairing pairing = PairingRegistry.getPairing(param.getPairingParameters());
 
 		Element x = pairing.getZr().newRandomElement().getImmutable();
 		Element y = pairing.getZr().newRandomElement().getImmutable();
@@ -0,0 +1,68 @@
+package cn.edu.ncepu.crypto.signature.pks.bb08;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodec;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerInput;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerOutput;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+
+/**
+ * Compact binary codec of Boneh-Boyen 2008 signature keys.
+ */
+public class BB08SignSerCodec implements PairingSerCodec {
+	public static final int FAMILY_ID = 0xC1;
+	private static final int KIND_SECRET_KEY = 1;
+
+	private static final List<Class<? extends PairingCipherSerParameter>> PARAMETER_CLASSES = Collections
+			.unmodifiableList(Arrays.<Class<? extends PairingCipherSerParameter>> asList(
+					BB08SignPublicKeySerParameter.class, BB08SignSecretKeySerParameter.class));
+
+	@Override
+	public int getFamilyId() {
+		return FAMILY_ID;
+	}
+
+	@Override
+	public List<Class<? extends PairingCipherSerParameter>> getParameterClasses() {
+		return PARAMETER_CLASSES;
+	}
+
+	@Override
+	public void encode(PairingCipherSerParameter parameter, PairingSerOutput output) {
+		if (parameter instanceof BB08SignPublicKeySerParameter) {
+			BB08SignPublicKeySerParameter publicKey = (BB08SignPublicKeySerParameter) parameter;
+			output.writeElement(publicKey.getG1());
+			output.writeElement(publicKey.getG2());
+			output.writeElement(publicKey.getU());
+			output.writeElement(publicKey.getV());
+			output.writeElement(publicKey.getZ());
+			return;
+		}
+		BB08SignSecretKeySerParameter secretKey = (BB08SignSecretKeySerParameter) parameter;
+		output.writeElement(secretKey.getG1());
+		output.writeElement(secretKey.getX());
+		output.writeElement(secretKey.getY());
+	}
+
+	@Override
+	public PairingCipherSerParameter decode(int kind, PairingParameters pairingParameters, PairingSerInput input)
+			throws IOException {
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		switch (kind) {
+		case KIND_SECRET_KEY:
+			return new BB08SignSecretKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getZr()), input.readElement(pairing.getZr()));
+		default:
+			return new BB08SignPublicKeySerParameter(pairingParameters, input.readElement(pairing.getG1()),
+					input.readElement(pairing.getG2()), input.readElement(pairing.getG2()),
+					input.readElement(pairing.getG2()), input.readElement(pairing.getGT()));
+		}
+	}
+}
@@ -1,12 +1,12 @@
 package cn.edu.ncepu.crypto.signature.pks.bb08;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.signature.pks.PairingSigner;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.asn1.ASN1EncodableVector;
 import org.bouncycastle.asn1.ASN1Encoding;
 import org.bouncycastle.asn1.ASN1Primitive;
@@ -51,11 +51,11 @@ public class BB08Signer implements PairingSigner {
 
 	public Element[] generateSignature(byte[] message) {
 		PairingParameters params = this.pairingKeySerParameter.getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		BB08SignSecretKeySerParameter secretKeyParameters = (BB08SignSecretKeySerParameter) this.pairingKeySerParameter;
-		Element x = secretKeyParameters.getX().getImmutable();
-		Element y = secretKeyParameters.getY().getImmutable();
-		Element g1 = secretKeyParameters.getG1().getImmutable();
+		Element x = secretKeyParameters.getX();
+		Element y = secretKeyParameters.getY();
+		Element g1 = secretKeyParameters.getG1();
 
 		Element m = PairingUtils.MapByteArrayToGroup(pairing, message, PairingUtils.PairingGroupType.Zr);
 		Element r;
@@ -75,7 +75,7 @@ public class BB08Signer implements PairingSigner {
 
 	public boolean verifySignature(byte[] message, Element... signature) {
 		PairingParameters params = this.pairingKeySerParameter.getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		BB08SignPublicKeySerParameter publicKeyParameters = (BB08SignPublicKeySerParameter) this.pairingKeySerParameter;
 		Element m = PairingUtils.MapByteArrayToGroup(pairing, message, PairingUtils.PairingGroupType.Zr);
 		Element g2 = publicKeyParameters.getG2();
@@ -110,7 +110,7 @@ public class BB08Signer implements PairingSigner {
 	public Element[] derDecode(byte[] encoding) throws IOException {
 		ASN1Sequence s = (ASN1Sequence) ASN1Primitive.fromByteArray(encoding);
 		PairingParameters params = this.pairingKeySerParameter.getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 
 		return new Element[]{
 				pairing.getG1().newElementFromBytes(Hex.decode(((ASN1String) s.getObjectAt(0)).getString())),
@@ -1,10 +1,10 @@
 package cn.edu.ncepu.crypto.signature.pks.bls01;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.generators.PairingKeyPairGenerator;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.KeyGenerationParameters;
 
 /**
@@ -22,7 +22,7 @@ public class BLS01SignKeyPairGenerator implements PairingKeyPairGenerator {
 
   @Override
   public PairingKeySerPair generateKeyPair() {
-    Pairing pairing = PairingFactory.getPairing(this.param.getPairingParameters());
+    Pairing pairing = PairingRegistry.getPairing(this.param.getPairingParameters());
 
     Element x = pairing.getZr().newRandomElement().getImmutable();
     Element g = pairing.getG2().newRandomElement().getImmutable();
@@ -35,7 +35,7 @@ public class BLS01SignKeyPairGenerator implements PairingKeyPairGenerator {
   }
 
   public PairingKeySerPair[] batchGenerateKeyPair(int Num) {
-    Pairing pairing = PairingFactory.getPairing(this.param.getPairingParameters());
+    Pairing pairing = PairingRegistry.getPairing(this.param.getPairingParameters());
     Element g = pairing.getG2().newRandomElement().getImmutable();
     PairingKeySerPair[] pairingKeySerPairArray = new PairingKeySerPair[Num];
     for (int i = 0; i < Num; i++) {
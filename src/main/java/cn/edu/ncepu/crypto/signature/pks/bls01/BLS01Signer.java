@@ -1,5 +1,6 @@
 package cn.edu.ncepu.crypto.signature.pks.bls01;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.signature.pks.PairingSigner;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
@@ -7,7 +8,6 @@ import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
 import it.unisa.dia.gas.jpbc.PairingParameters;
 import it.unisa.dia.gas.plaf.jpbc.field.curve.CurveElement;
-import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
 import org.bouncycastle.crypto.CipherParameters;
 
 import java.io.IOException;
@@ -52,7 +52,7 @@ public class BLS01Signer implements PairingSigner {
   @Override
   public Element[] generateSignature(byte[] message) {
     PairingParameters params = this.pairingKeySerParameter.getParameters();
-    Pairing pairing = PairingFactory.getPairing(params);
+    Pairing pairing = PairingRegistry.getPairing(params);
     BLS01SignSecretPairingKeySerParameter secretKeyParameters = (BLS01SignSecretPairingKeySerParameter) this.pairingKeySerParameter;
     Element x = secretKeyParameters.getX();
     Element m = PairingUtils.MapByteArrayToGroup(pairing, message, PairingUtils.PairingGroupType.G1);
@@ -63,7 +63,7 @@ public class BLS01Signer implements PairingSigner {
   @Override
 	public Element[] batchGenerateSignature(byte[][] messageArray) {
 		PairingParameters params = this.pairingKeySerParameterArray[0].getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
     Element[] sigmaArray = new Element[messageArray.length];
     for (int i = 0; i < messageArray.length; i++) {
       BLS01SignSecretPairingKeySerParameter secretKeyParameters = (BLS01SignSecretPairingKeySerParameter) this.pairingKeySerParameterArray[i];
@@ -77,7 +77,7 @@ public class BLS01Signer implements PairingSigner {
   @Override
   public boolean verifySignature(byte[] message, Element... signature) {
     PairingParameters params = this.pairingKeySerParameter.getParameters();
-    Pairing pairing = PairingFactory.getPairing(params);
+    Pairing pairing = PairingRegistry.getPairing(params);
     BLS01SignPublicPairingKeySerParameter publicKeyParameters = (BLS01SignPublicPairingKeySerParameter) this.pairingKeySerParameter;
     Element m = PairingUtils.MapByteArrayToGroup(pairing, message, PairingUtils.PairingGroupType.G1);
     Element g = publicKeyParameters.getG();
@@ -91,7 +91,7 @@ public class BLS01Signer implements PairingSigner {
 	@Override
 	public boolean batchVerifySignature(byte[][] messageArray, Element[] signatureArray) {
 		PairingParameters params = this.pairingKeySerParameterArray[0].getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		Element g = ((BLS01SignPublicPairingKeySerParameter) this.pairingKeySerParameterArray[0]).getG();
 		Element sigmaMulProduct = pairing.getG1().newOneElement();
 		Element temp2 = pairing.getGT().newOneElement();
@@ -132,7 +132,7 @@ public class BLS01Signer implements PairingSigner {
 	 **/
 	public Element[] derDecode(byte[] encoding) throws IOException {
 		PairingParameters params = this.pairingKeySerParameter.getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		Element signature = pairing.getG1().newZeroElement();
 		((CurveElement<?, ?>) signature).setFromBytesCompressed(encoding);
 		return new Element[]{signature,};
@@ -141,7 +141,7 @@ public class BLS01Signer implements PairingSigner {
 	@Override
 	public Element[] derBatchDecode(byte[][] encodingArray) throws IOException {
 		PairingParameters params = this.pairingKeySerParameterArray[0].getParameters();
-		Pairing pairing = PairingFactory.getPairing(params);
+		Pairing pairing = PairingRegistry.getPairing(params);
 		Element[] signatures = new Element[encodingArray.length];
 		for (int i = 0; i < encodingArray.length; i++) {
 			signatures[i] = pairing.getG1().newZeroElement();
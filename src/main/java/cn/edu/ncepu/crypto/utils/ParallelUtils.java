@@ -0,0 +1,57 @@
+package cn.edu.ncepu.crypto.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
+/**
+ * Utilities for computing independent group operations, e.g., per-attribute exponentiations, on an executor.
+ */
+public class ParallelUtils {
+	/**
+	 * Compute task(0), ..., task(n - 1), in parallel on the executor if given.
+	 * Results are returned in index order, so that callers can assemble them exactly as in a sequential loop.
+	 * Randomness should be sampled by the caller before, so that the tasks only depend on their index.
+	 * If some tasks fail, the exception of the failing task with the smallest index is thrown,
+	 * no matter in which order the tasks are scheduled.
+	 * @param executor the executor, or null to compute sequentially in the calling thread
+	 * @param n number of tasks
+	 * @param task task computing the result of an index
+	 * @return results in index order
+	 */
+	public static <T> List<T> Compute(Executor executor, int n, IntFunction<T> task) {
+		List<T> results = new ArrayList<T>(n);
+		if (executor == null || n <= 1) {
+			for (int i = 0; i < n; i++) {
+				results.add(task.apply(i));
+			}
+			return results;
+		}
+		List<CompletableFuture<T>> futures = new ArrayList<CompletableFuture<T>>(n);
+		for (int i = 0; i < n; i++) {
+			final int index = i;
+			futures.add(CompletableFuture.supplyAsync(() -> task.apply(index), executor));
+		}
+		for (CompletableFuture<T> future : futures) {
+			try {
+				results.add(future.join());
+			} catch (CompletionException e) {
+				for (CompletableFuture<T> remaining : futures) {
+					remaining.cancel(false);
+				}
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw e;
+			}
+		}
+		return results;
+	}
+}
@@ -264,4 +264,37 @@ public class AccessControlEngineTest extends TestCase {
 		this.accessControlEngine = LSSSLW10Engine.getInstance();
 		runAllTests(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
 	}
+
+	public void testWideThresholdAccessTree() {
+		this.accessControlEngine = AccessTreeEngine.getInstance();
+		Pairing pairing = PairingFactory.getPairing(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		// 3 of 4 gates, each gate is 40 of 64 attributes
+		int[][] accessPolicy = new int[5][];
+		accessPolicy[0] = new int[] { 4, 3, 1, 2, 3, 4 };
+		String[] rhos = new String[4 * 64];
+		for (int i = 0; i < 4; i++) {
+			accessPolicy[i + 1] = new int[2 + 64];
+			accessPolicy[i + 1][0] = 64;
+			accessPolicy[i + 1][1] = 40;
+			for (int j = 0; j < 64; j++) {
+				accessPolicy[i + 1][2 + j] = -(i * 64 + j + 1);
+				rhos[i * 64 + j] = String.valueOf(i * 64 + j);
+			}
+		}
+		try_valid_access_policy(pairing, 53, accessPolicy, rhos, selectAttributes(rhos, 64, 39, 40, 50));
+		try_invalid_access_policy(pairing, 54, accessPolicy, rhos, selectAttributes(rhos, 64, 39, 39, 64));
+	}
+
+	private static String[] selectAttributes(String[] rhos, int... counts) {
+		int length = 0;
+		for (int count : counts) {
+			length += count;
+		}
+		String[] attributes = new String[length];
+		for (int i = 0, k = 0; i < counts.length; i++) {
+			System.arraycopy(rhos, i * 64, attributes, k, counts[i]);
+			k += counts[i];
+		}
+		return attributes;
+	}
 }
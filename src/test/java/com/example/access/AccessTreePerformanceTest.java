@@ -0,0 +1,141 @@
+package com.example.access;
+
+import cn.edu.ncepu.crypto.access.AccessControlEngine;
+import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
+import cn.edu.ncepu.crypto.algebra.algorithms.LagrangePolynomial;
+import cn.edu.ncepu.crypto.utils.PairingUtils;
+import cn.edu.ncepu.crypto.utils.Timer;
+import edu.princeton.cs.algs4.Out;
+import it.unisa.dia.gas.jpbc.Element;
+import it.unisa.dia.gas.jpbc.Pairing;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Performance of the secret reconstruction of access trees with 1, 2, 4 and 8 levels.
+ * Internal levels are 2 of 2 gates, and the bottom level consists of t of n gates over attributes,
+ * in which the first t attributes are given.
+ * The coefficients computed by AccessTreeEngine, i.e., once per gate with a batch inversion,
+ * are compared with the coefficients computed leaf by leaf with LagrangePolynomial.calCoef.
+ */
+public class AccessTreePerformanceTest {
+    private static final Logger logger = LoggerFactory.getLogger(AccessTreePerformanceTest.class);
+
+    private static final String default_path = "benchmarks/access/"; // file path for performance test result
+    private static final int[] levels = {1, 2, 4, 8};
+    private final int test_round = 10;
+
+    private Out out;
+    private Pairing pairing;
+
+    @Test
+    public void testAccessTreeReconstructionPerformance() throws UnsatisfiedAccessControlException {
+        pairing = PairingFactory.getPairing(PairingUtils.PATH_a_160_512);
+        new File(default_path).mkdirs();
+        this.out = new Out(default_path + "access tree reconstruction");
+        this.out.println("All test rounds: " + test_round);
+        logger.info("All test rounds: " + test_round);
+        run_levels(16, 12);
+        run_levels(64, 48);
+    }
+
+    private void run_levels(int n, int t) throws UnsatisfiedAccessControlException {
+        for (int level : levels) {
+            List<int[]> accessPolicyList = new ArrayList<int[]>();
+            List<String> rhoList = new ArrayList<String>();
+            List<String> attributeList = new ArrayList<String>();
+            build_tree(accessPolicyList, rhoList, attributeList, level, n, t);
+            int[][] accessPolicy = accessPolicyList.toArray(new int[accessPolicyList.size()][]);
+            String[] rhos = rhoList.toArray(new String[rhoList.size()]);
+            String[] attributes = attributeList.toArray(new String[attributeList.size()]);
+
+            AccessControlEngine accessControlEngine = AccessTreeEngine.getInstance();
+            AccessControlParameter accessControlParameter = accessControlEngine.generateAccessControl(accessPolicy,
+                    rhos);
+            Timer timer = new Timer();
+            timer.setFormat(0, Timer.FORMAT.MICRO_SECOND);
+            double timeBatch = 0, timeLeafByLeaf = 0;
+            for (int i = 0; i < test_round; i++) {
+                timer.start(0);
+                Map<String, Element> omegaElementsMap = accessControlEngine.reconstructOmegas(pairing, attributes,
+                        accessControlParameter);
+                timeBatch += timer.stop(0);
+
+                timer.start(0);
+                Map<String, Element> leafByLeafOmegaElementsMap = leaf_by_leaf_omegas(attributes, level, n, t);
+                timeLeafByLeaf += timer.stop(0);
+                assertEquals(leafByLeafOmegaElementsMap, omegaElementsMap);
+            }
+            String result = "levels: " + level + ", " + t + " of " + n + " bottom gates, attributes: "
+                    + attributes.length + ", average batch time: " + timeBatch / test_round
+                    + ", average leaf by leaf time: " + timeLeafByLeaf / test_round;
+            logger.info(result);
+            out.println(result);
+        }
+    }
+
+    /**
+     * Append the gate of the given level in the int array representation, returns the row index of the gate.
+     */
+    private int build_tree(List<int[]> accessPolicy, List<String> rhos, List<String> attributes, int level, int n,
+                           int t) {
+        int row = accessPolicy.size();
+        if (level == 1) {
+            int[] gate = new int[2 + n];
+            gate[0] = n;
+            gate[1] = t;
+            for (int i = 0; i < n; i++) {
+                String rho = String.valueOf(rhos.size());
+                rhos.add(rho);
+                if (i < t) {
+                    attributes.add(rho);
+                }
+                gate[2 + i] = -rhos.size();
+            }
+            accessPolicy.add(gate);
+        } else {
+            int[] gate = new int[]{2, 2, 0, 0};
+            accessPolicy.add(gate);
+            gate[2] = build_tree(accessPolicy, rhos, attributes, level - 1, n, t);
+            gate[3] = build_tree(accessPolicy, rhos, attributes, level - 1, n, t);
+        }
+        return row;
+    }
+
+    /**
+     * Coefficients computed as AccessTreeEngine did before, i.e., for each leaf,
+     * one Lagrange coefficient with separate inversions per gate on the path to the root.
+     */
+    private Map<String, Element> leaf_by_leaf_omegas(String[] attributes, int level, int n, int t) {
+        int[] bottomSet = new int[t];
+        for (int i = 0; i < t; i++) {
+            bottomSet[i] = i + 1;
+        }
+        int[] internalSet = new int[]{1, 2};
+        Map<String, Element> omegaElementsMap = new HashMap<String, Element>();
+        for (int i = 0; i < attributes.length; i++) {
+            int leafIndex = Integer.parseInt(attributes[i]);
+            Element coefficient = LagrangePolynomial.calCoef(pairing, bottomSet, leafIndex % n + 1).getImmutable();
+            int gateIndex = leafIndex / n;
+            for (int j = 1; j < level; j++) {
+                coefficient = coefficient.mulZn(LagrangePolynomial.calCoef(pairing, internalSet, gateIndex % 2 + 1))
+                        .getImmutable();
+                gateIndex /= 2;
+            }
+            omegaElementsMap.put(attributes[i], coefficient);
+        }
+        return omegaElementsMap;
+    }
+}
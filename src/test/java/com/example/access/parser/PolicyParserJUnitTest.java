@@ -1,16 +1,22 @@
 package com.example.access.parser;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.ncepu.crypto.access.AccessControlParameter;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache;
+import cn.edu.ncepu.crypto.access.AccessPolicyCache.CompiledAccessPolicy;
+import cn.edu.ncepu.crypto.access.AccessTreeNode;
 import cn.edu.ncepu.crypto.access.UnsatisfiedAccessControlException;
 import cn.edu.ncepu.crypto.access.lsss.LSSSPolicyEngine;
+import cn.edu.ncepu.crypto.access.lsss.LSSSPolicyParameter;
 import cn.edu.ncepu.crypto.access.lsss.lw10.LSSSLW10Engine;
 import cn.edu.ncepu.crypto.access.parser.ParserUtils;
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import it.unisa.dia.gas.jpbc.Element;
 import it.unisa.dia.gas.jpbc.Pairing;
@@ -168,4 +174,108 @@ public class PolicyParserJUnitTest extends TestCase {
 		this.lsssPolicyEngine = LSSSLW10Engine.getInstance();
 		runAllTests(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
 	}
+
+	public void testLargeLSSSPolicy() throws PolicySyntaxException, UnsatisfiedAccessControlException {
+		Pairing pairing = PairingFactory
+				.getPairing(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+		// AND of 64 gates (B_i_0 or B_i_1 or (B_i_2 and B_i_3)), i.e., 256 leaves
+		StringBuilder accessPolicyBuilder = new StringBuilder();
+		String[] attributes = new String[128];
+		for (int i = 0; i < 64; i++) {
+			if (i > 0) {
+				accessPolicyBuilder.append(" and ");
+			}
+			accessPolicyBuilder.append("(B_" + i + "_0 or B_" + i + "_1 or (B_" + i + "_2 and B_" + i + "_3))");
+			attributes[2 * i] = (i % 2 == 0) ? "B_" + i + "_1" : "B_" + i + "_2";
+			attributes[2 * i + 1] = "B_" + i + "_3";
+		}
+		String accessPolicyString = accessPolicyBuilder.toString();
+		LSSSPolicyEngine lsssPolicyEngine = LSSSLW10Engine.getInstance();
+		AccessControlParameter accessControlParameter = lsssPolicyEngine.generateAccessControl(
+				ParserUtils.GenerateAccessPolicy(accessPolicyString), ParserUtils.GenerateRhos(accessPolicyString));
+		assertEquals(256, accessControlParameter.getRhos().length);
+		Element secret = pairing.getZr().newRandomElement().getImmutable();
+		Map<String, Element> lambdaElementsMap = lsssPolicyEngine.secretSharing(pairing, secret,
+				accessControlParameter);
+		Map<String, Element> omegaElementsMap = lsssPolicyEngine.reconstructOmegas(pairing, attributes,
+				accessControlParameter);
+		Element reconstructedSecret = pairing.getZr().newZeroElement();
+		for (String attribute : attributes) {
+			reconstructedSecret.add(lambdaElementsMap.get(attribute).mulZn(omegaElementsMap.get(attribute)));
+		}
+		assertTrue(secret.isEqual(reconstructedSecret));
+
+		// dropping one attribute of an AND gate makes the attributes unsatisfied
+		try {
+			lsssPolicyEngine.reconstructOmegas(pairing, Arrays.copyOf(attributes, 127), accessControlParameter);
+			fail("Attributes not satisfying the access policy are accepted");
+		} catch (UnsatisfiedAccessControlException e) {
+			// expected
+		}
+	}
+
+	public void testLSSSGaussianReconstruction() throws PolicySyntaxException, UnsatisfiedAccessControlException {
+		Pairing pairing = PairingFactory
+				.getPairing(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+		// a scaled matrix of "A and B", whose coefficients are not all 1
+		int[][] accessPolicy = ParserUtils.GenerateAccessPolicy("A and B");
+		String[] rhos = ParserUtils.GenerateRhos("A and B");
+		LSSSPolicyParameter lsssPolicyParameter = new LSSSPolicyParameter(
+				AccessTreeNode.GenerateAccessTree(accessPolicy, rhos), accessPolicy, new int[][] { { 2, 2 }, { 0, -2 } },
+				rhos);
+		LSSSPolicyEngine lsssPolicyEngine = LSSSLW10Engine.getInstance();
+		Element secret = pairing.getZr().newRandomElement().getImmutable();
+		Map<String, Element> lambdaElementsMap = lsssPolicyEngine.secretSharing(pairing, secret, lsssPolicyParameter);
+		Map<String, Element> omegaElementsMap = lsssPolicyEngine.reconstructOmegas(pairing,
+				new String[] { "B", "A", "C" }, lsssPolicyParameter);
+		assertTrue(omegaElementsMap.get("A").isEqual(pairing.getZr().newElement(2).invert()));
+		assertTrue(omegaElementsMap.get("C").isZero());
+		assertTrue(secret.isEqual(lambdaElementsMap.get("A").mulZn(omegaElementsMap.get("A"))
+				.add(lambdaElementsMap.get("B").mulZn(omegaElementsMap.get("B")))));
+	}
+
+	public void testAccessPolicyCache() throws PolicySyntaxException {
+		AccessPolicyCache accessPolicyCache = AccessPolicyCache.getInstance();
+		long policyHitCount = accessPolicyCache.getPolicyHitCount();
+		// policies differing only in white spaces share one compiled policy
+		CompiledAccessPolicy compiledAccessPolicy = accessPolicyCache.compile(access_policy_example_2);
+		assertSame(compiledAccessPolicy,
+				accessPolicyCache.compile(" ( school:pku  and academy:software)or(school:mit and academy:computer ) "));
+		assertEquals(policyHitCount + 1, accessPolicyCache.getPolicyHitCount());
+		assertTrue(Arrays.deepEquals(ParserUtils.GenerateAccessPolicy(access_policy_example_2),
+				compiledAccessPolicy.getAccessPolicy()));
+		assertTrue(Arrays.equals(ParserUtils.GenerateRhos(access_policy_example_2), compiledAccessPolicy.getRhos()));
+		// modifying the returned arrays does not affect the shared compiled policy
+		compiledAccessPolicy.getAccessPolicy()[0][0] = -1;
+		compiledAccessPolicy.getRhos()[0] = "school:mit";
+		assertTrue(Arrays.deepEquals(ParserUtils.GenerateAccessPolicy(access_policy_example_2),
+				compiledAccessPolicy.getAccessPolicy()));
+		assertTrue(Arrays.equals(ParserUtils.GenerateRhos(access_policy_example_2), compiledAccessPolicy.getRhos()));
+
+		// access control parameters are shared per engine, also for int arrays given by the caller
+		int[][] accessPolicy = ParserUtils.GenerateAccessPolicy(access_policy_example_2);
+		String[] rhos = ParserUtils.GenerateRhos(access_policy_example_2);
+		AccessControlParameter accessControlParameter = LSSSLW10Engine.getInstance().generateAccessControl(
+				compiledAccessPolicy.getAccessPolicy(), compiledAccessPolicy.getRhos());
+		assertSame(accessControlParameter, LSSSLW10Engine.getInstance().generateAccessControl(accessPolicy, rhos));
+		AccessControlParameter accessTreeParameter = AccessTreeEngine.getInstance().generateAccessControl(accessPolicy,
+				rhos);
+		assertNotSame(accessControlParameter, accessTreeParameter);
+		assertTrue(accessControlParameter instanceof LSSSPolicyParameter);
+		// modifying the given arrays afterwards does not affect cached parameters
+		rhos[0] = "school:mit";
+		assertSame(accessTreeParameter, AccessTreeEngine.getInstance()
+				.generateAccessControl(compiledAccessPolicy.getAccessPolicy(), compiledAccessPolicy.getRhos()));
+		assertTrue(accessPolicyCache.getHitRate() > 0);
+
+		// capacity 0 disables caching
+		accessPolicyCache.setCapacity(0);
+		try {
+			assertEquals(0, accessPolicyCache.size());
+			assertNotSame(accessPolicyCache.compile(access_policy_example_2),
+					accessPolicyCache.compile(access_policy_example_2));
+		} finally {
+			accessPolicyCache.setCapacity(AccessPolicyCache.DEFAULT_CAPACITY);
+		}
+	}
 }
@@ -4,6 +4,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.application.llw15.RBACLLW15Engine;
 import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
@@ -46,6 +47,21 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 
 	private RBACLLW15Engine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	private void try_patient_valid_decapsulation(PairingKeySerParameter publicKey, PairingKeySerParameter masterKey,
 			String identity, String[] roles, String encIdentity, String encTime) {
 		try {
@@ -103,6 +119,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialP = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialP);
 		Assert.assertEquals(accessCredentialP, anAccessCredentialP);
 		accessCredentialP = (PairingKeySerParameter) anAccessCredentialP;
+		accessCredentialP = try_compact_encoding(accessCredentialP);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, encIdentity, roles, encTime);
@@ -112,6 +129,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecPWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -127,6 +145,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		byte[] byteArrayIntermediateParameter = CommonUtils.SerObject(intermediateParameter);
 		CipherParameters anIntermediateParameter = (CipherParameters) CommonUtils.deserObject(byteArrayIntermediateParameter);
 		intermediateParameter = (PairingCipherSerParameter) anIntermediateParameter;
+		intermediateParameter = try_compact_encoding(intermediateParameter);
 
 		// KeyGen and serialization
 		PairingKeySerParameter accessCredentialP = engine.ACGenP(publicKey, masterKey, intermediateParameter, identity);
@@ -134,6 +153,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialP = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialP);
 		Assert.assertEquals(accessCredentialP, anAccessCredentialP);
 		accessCredentialP = (PairingKeySerParameter) anAccessCredentialP;
+		accessCredentialP = try_compact_encoding(accessCredentialP);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, intermediateParameter,
@@ -144,6 +164,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecPWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -214,6 +235,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialM = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialM);
 		Assert.assertEquals(accessCredentialM, anAccessCredentialM);
 		accessCredentialM = (PairingKeySerParameter) anAccessCredentialM;
+		accessCredentialM = try_compact_encoding(accessCredentialM);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, encIdentity, roles, encTime);
@@ -223,6 +245,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecMWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -238,6 +261,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		byte[] byteArrayIntermediateParameter = CommonUtils.SerObject(intermediateParameter);
 		CipherParameters anIntermediateParameter = (CipherParameters) CommonUtils.deserObject(byteArrayIntermediateParameter);
 		intermediateParameter = (PairingCipherSerParameter) anIntermediateParameter;
+		intermediateParameter = try_compact_encoding(intermediateParameter);
 
 		// KeyGen and serialization
 		PairingKeySerParameter accessCredentialM = engine.ACGenM(publicKey, masterKey, intermediateParameter,
@@ -246,6 +270,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialM = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialM);
 		Assert.assertEquals(accessCredentialM, anAccessCredentialM);
 		accessCredentialM = (PairingKeySerParameter) anAccessCredentialM;
+		accessCredentialM = try_compact_encoding(accessCredentialM);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, intermediateParameter,
@@ -256,6 +281,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecMWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -331,6 +357,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialDeleM = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialDeleM);
 		Assert.assertEquals(accessCredentialDeleM, anAccessCredentialDeleM);
 		accessCredentialDeleM = (PairingKeySerParameter) anAccessCredentialDeleM;
+		accessCredentialDeleM = try_compact_encoding(accessCredentialDeleM);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, encIdentity, roles, encTime);
@@ -340,6 +367,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecMWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -356,6 +384,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		byte[] byteArrayIntermediateParameter = CommonUtils.SerObject(intermediateParameter);
 		CipherParameters anIntermediateParameter = (CipherParameters) CommonUtils.deserObject(byteArrayIntermediateParameter);
 		intermediateParameter = (PairingCipherSerParameter) anIntermediateParameter;
+		intermediateParameter = try_compact_encoding(intermediateParameter);
 
 		// Delegation and serialization
 		PairingKeySerParameter accessCredentialM = engine.ACGenM(publicKey, masterKey, medicalRoles, medicalTime);
@@ -366,6 +395,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anAccessCredentialDeleM = (CipherParameters) CommonUtils.deserObject(byteArrayAccessCredentialDeleM);
 		Assert.assertEquals(accessCredentialDeleM, anAccessCredentialDeleM);
 		accessCredentialDeleM = (PairingKeySerParameter) anAccessCredentialDeleM;
+		accessCredentialDeleM = try_compact_encoding(accessCredentialDeleM);
 
 		// encapsulation and serialization without intermediate ciphertext
 		PairingKeyEncapsulationSerPair encapsulationSerPair = engine.EHREnc(publicKey, intermediateParameter,
@@ -376,6 +406,7 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.EHRDecMWithAudit(publicKey, encIdentity, roles, encTime, ciphertext,
@@ -398,12 +429,14 @@ public class RBACLLW15EngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test valid example
 			logger.info("Test valid examples");
@@ -0,0 +1,149 @@
+package com.example.encryption;
+
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.SessionKeyCache;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.CPABEBSW07Engine;
+import cn.edu.ncepu.crypto.encryption.ibe.IBEEngine;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.IBEBF01aEngine;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
+import cn.edu.ncepu.crypto.utils.PairingUtils;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+import junit.framework.TestCase;
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.junit.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Decapsulated session key cache test.
+ */
+public class SessionKeyCacheJUnitTest extends TestCase {
+	private static final Logger logger = LoggerFactory.getLogger(SessionKeyCacheJUnitTest.class);
+	private static final String ACCESS_POLICY = "(A and B) or C";
+	private static final String[] ATTRIBUTES = new String[] { "A", "B" };
+	private static final String IDENTITY = "ID_1";
+
+	public void testCPABEDecapsulation() throws Exception {
+		CPABEEngine engine = CPABEBSW07Engine.getInstance();
+		engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters, 50);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), ATTRIBUTES);
+		String secretKeyId = SessionKeyCache.getSecretKeyId(secretKey);
+		Assert.assertEquals(secretKeyId, SessionKeyCache.getSecretKeyId(secretKey));
+
+		SessionKeyCache cache = new SessionKeyCache(2, SessionKeyCache.DEFAULT_TIME_TO_LIVE_MILLIS);
+		PairingKeyEncapsulationSerPair[] encapsulationPairs = new PairingKeyEncapsulationSerPair[3];
+		for (int i = 0; i < encapsulationPairs.length; i++) {
+			encapsulationPairs[i] = engine.encapsulation(publicKey, ACCESS_POLICY);
+		}
+		byte[] sessionKey = encapsulationPairs[0].getSessionKey();
+		PairingCipherSerParameter header = encapsulationPairs[0].getHeader();
+		Assert.assertArrayEquals(sessionKey,
+				cache.decapsulation(engine, secretKeyId, publicKey, secretKey, ACCESS_POLICY, header));
+		// a deserialized copy of the header hits the cache
+		PairingCipherSerParameter anHeader = (PairingCipherSerParameter) CommonUtils
+				.deserObject(CommonUtils.SerObject(header));
+		byte[] anSessionKey = cache.decapsulation(engine, secretKeyId, publicKey, secretKey, ACCESS_POLICY, anHeader);
+		Assert.assertArrayEquals(sessionKey, anSessionKey);
+		Assert.assertEquals(1, cache.getHitCount());
+		Assert.assertEquals(1, cache.getMissCount());
+		// zeroizing the returned copy does not affect the cached session key
+		Arrays.fill(anSessionKey, (byte) 0);
+		Assert.assertArrayEquals(sessionKey,
+				cache.decapsulation(engine, secretKeyId, publicKey, secretKey, ACCESS_POLICY, header));
+		Assert.assertEquals(2, cache.getHitCount());
+
+		// least recently used entries are evicted beyond the capacity
+		for (int i = 1; i < encapsulationPairs.length; i++) {
+			Assert.assertArrayEquals(encapsulationPairs[i].getSessionKey(), cache.decapsulation(engine, secretKeyId,
+					publicKey, secretKey, ACCESS_POLICY, encapsulationPairs[i].getHeader()));
+		}
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals(1, cache.getEvictionCount());
+		Assert.assertArrayEquals(sessionKey,
+				cache.decapsulation(engine, secretKeyId, publicKey, secretKey, ACCESS_POLICY, header));
+		Assert.assertEquals(4, cache.getMissCount());
+
+		// failed decapsulations are not cached
+		PairingKeySerParameter unsatisfiedSecretKey = engine.keyGen(publicKey, keyPair.getPrivate(),
+				new String[] { "A", "D" });
+		String unsatisfiedSecretKeyId = SessionKeyCache.getSecretKeyId(unsatisfiedSecretKey);
+		for (int i = 0; i < 2; i++) {
+			try {
+				cache.decapsulation(engine, unsatisfiedSecretKeyId, publicKey, unsatisfiedSecretKey, ACCESS_POLICY,
+						header);
+				fail("Header is decapsulated by an unsatisfied secret key");
+			} catch (InvalidCipherTextException e) {
+				// correct, expected exception, nothing to do.
+			}
+		}
+		Assert.assertEquals(2, cache.size());
+
+		// revocation removes all entries of the secret key
+		Assert.assertEquals(2, cache.invalidate(secretKeyId));
+		Assert.assertEquals(0, cache.size());
+		long missCount = cache.getMissCount();
+		Assert.assertArrayEquals(sessionKey,
+				cache.decapsulation(engine, secretKeyId, publicKey, secretKey, ACCESS_POLICY, header));
+		Assert.assertEquals(missCount + 1, cache.getMissCount());
+
+		// a decapsulation racing with the revocation of its secret key is not cached
+		cache.invalidate(secretKeyId);
+		Assert.assertArrayEquals(sessionKey, cache.decapsulate(secretKeyId, engine.getEngineName(), header, () -> {
+			cache.invalidate(secretKeyId);
+			return sessionKey.clone();
+		}, ACCESS_POLICY));
+		Assert.assertEquals(0, cache.size());
+		// nothing is left of the revocation once no decapsulation of the secret key is in progress
+		Assert.assertArrayEquals(sessionKey, cache.decapsulate(secretKeyId, engine.getEngineName(), header,
+				() -> sessionKey.clone(), ACCESS_POLICY));
+		Assert.assertEquals(1, cache.size());
+		logger.info("Session key cache with " + engine.getEngineName() + " hit rate " + cache.getHitRate());
+	}
+
+	public void testIBEDecapsulation() throws Exception {
+		IBEEngine engine = IBEBF01aEngine.getInstance();
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), IDENTITY);
+		PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, IDENTITY);
+
+		// entries expire after the time to live
+		SessionKeyCache cache = new SessionKeyCache(SessionKeyCache.DEFAULT_CAPACITY, 100);
+		for (int i = 0; i < 3; i++) {
+			Assert.assertArrayEquals(encapsulationPair.getSessionKey(), cache.decapsulation(engine, "user-1",
+					publicKey, secretKey, IDENTITY, encapsulationPair.getHeader()));
+		}
+		Assert.assertEquals(2, cache.getHitCount());
+		Thread.sleep(200);
+		Assert.assertArrayEquals(encapsulationPair.getSessionKey(), cache.decapsulation(engine, "user-1", publicKey,
+				secretKey, IDENTITY, encapsulationPair.getHeader()));
+		Assert.assertEquals(2, cache.getMissCount());
+		Assert.assertEquals(1, cache.getExpirationCount());
+		Thread.sleep(200);
+		Assert.assertEquals(1, cache.removeExpired());
+		Assert.assertEquals(0, cache.size());
+
+		// capacity 0 disables caching
+		cache = new SessionKeyCache(0, SessionKeyCache.DEFAULT_TIME_TO_LIVE_MILLIS);
+		for (int i = 0; i < 2; i++) {
+			Assert.assertArrayEquals(encapsulationPair.getSessionKey(), cache.decapsulation(engine, "user-1",
+					publicKey, secretKey, IDENTITY, encapsulationPair.getHeader()));
+		}
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(0, cache.size());
+	}
+}
@@ -0,0 +1,191 @@
+package com.example.encryption.SymCrypt;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import cn.edu.ncepu.crypto.encryption.SymCrypt.RandomAccessObjectEnc;
+
+/**
+ * Random-access encrypted object test.
+ */
+public class RandomAccessObjectEncTest {
+	private static final int SEGMENT_SIZE = 1024;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		secureRandom.nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Decapsulates by looking up the encapsulation, counting the decapsulations.
+	 */
+	private static class CountingDecapsulator implements RandomAccessObjectEnc.Decapsulator {
+		private final byte[] encapsulation;
+		private final byte[] sessionKey;
+		private final AtomicInteger count = new AtomicInteger();
+
+		CountingDecapsulator(byte[] encapsulation, byte[] sessionKey) {
+			this.encapsulation = encapsulation;
+			this.sessionKey = sessionKey;
+		}
+
+		public byte[] decapsulate(byte[] encapsulation) throws InvalidCipherTextException {
+			count.incrementAndGet();
+			if (!Arrays.equals(encapsulation, this.encapsulation)) {
+				throw new InvalidCipherTextException("Unknown encapsulation.");
+			}
+			return sessionKey.clone();
+		}
+	}
+
+	private void try_invalid_object(Path fileObject, CountingDecapsulator decapsulator, long offset, int length)
+			throws IOException {
+		try (FileChannel in = FileChannel.open(fileObject, StandardOpenOption.READ)) {
+			new RandomAccessObjectEnc.Reader(in, decapsulator).decryptRange(offset, length);
+			Assert.fail("Modified object is decrypted");
+		} catch (InvalidCipherTextException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+
+	private long encrypt(byte[] sessionKey, byte[] encapsulation, Path fileIn, Path fileObject) throws IOException {
+		try (FileChannel in = FileChannel.open(fileIn, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(fileObject, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			// the session key is zeroized by the encryption
+			return RandomAccessObjectEnc.encrypt(sessionKey.clone(), encapsulation, SEGMENT_SIZE, in, out, null);
+		}
+	}
+
+	@Test
+	public void testRandomAccess() throws Exception {
+		byte[] sessionKey = randomBytes(32);
+		byte[] encapsulation = randomBytes(200);
+		byte[] message = randomBytes(300 * SEGMENT_SIZE + 17);
+		Path fileIn = Files.createTempFile("object", ".in");
+		Path fileObject = Files.createTempFile("object", ".enc");
+		Path fileDec = Files.createTempFile("object", ".dec");
+		try {
+			Files.write(fileIn, message);
+			long objectLength = encrypt(sessionKey, encapsulation, fileIn, fileObject);
+			Assert.assertEquals(objectLength, Files.size(fileObject));
+
+			CountingDecapsulator decapsulator = new CountingDecapsulator(encapsulation, sessionKey);
+			try (FileChannel in = FileChannel.open(fileObject, StandardOpenOption.READ)) {
+				RandomAccessObjectEnc.Reader reader = new RandomAccessObjectEnc.Reader(in, decapsulator);
+				Assert.assertEquals(message.length, reader.getPlaintextLength());
+				Assert.assertEquals(SEGMENT_SIZE, reader.getSegmentSize());
+				Assert.assertArrayEquals(encapsulation, reader.getEncapsulation());
+				// reading the header does not decapsulate
+				Assert.assertEquals(0, decapsulator.count.get());
+
+				long[][] ranges = { { 0, 0 }, { 0, 1 }, { 0, SEGMENT_SIZE }, { SEGMENT_SIZE - 1, 2 },
+						{ 5 * SEGMENT_SIZE + 3, 3 * SEGMENT_SIZE + 11 }, { 299 * SEGMENT_SIZE, SEGMENT_SIZE + 17 },
+						{ message.length - 1, 1 }, { message.length, 0 }, { 0, message.length } };
+				for (long[] range : ranges) {
+					int offset = (int) range[0];
+					int length = (int) range[1];
+					Assert.assertArrayEquals(Arrays.copyOfRange(message, offset, offset + length),
+							reader.decryptRange(offset, length));
+				}
+				// the session key is decapsulated once for all ranges
+				Assert.assertEquals(1, decapsulator.count.get());
+				try {
+					reader.decryptRange(message.length - 1, 2);
+					Assert.fail("Range out of the plaintext is decrypted");
+				} catch (IndexOutOfBoundsException e) {
+					// correct, expected exception, nothing to do.
+				}
+
+				try (FileChannel out = FileChannel.open(fileDec, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+					reader.decrypt(out, null);
+				}
+				Assert.assertArrayEquals(message, Files.readAllBytes(fileDec));
+				Assert.assertEquals(1, decapsulator.count.get());
+
+				reader.clearKey();
+				Assert.assertArrayEquals(Arrays.copyOfRange(message, 7, 9), reader.decryptRange(7, 2));
+				Assert.assertEquals(2, decapsulator.count.get());
+
+				// clearing the key does not break running decryptions
+				ExecutorService executor = Executors.newFixedThreadPool(4);
+				try {
+					List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+					for (int i = 0; i < 64; i++) {
+						futures.add(executor.submit(() -> reader.decryptRange(SEGMENT_SIZE - 1, 4 * SEGMENT_SIZE)));
+						if (i % 8 == 0) {
+							reader.clearKey();
+						}
+					}
+					for (Future<byte[]> future : futures) {
+						Assert.assertArrayEquals(
+								Arrays.copyOfRange(message, SEGMENT_SIZE - 1, 5 * SEGMENT_SIZE - 1), future.get());
+					}
+				} finally {
+					executor.shutdown();
+				}
+			}
+
+			// unknown encapsulation
+			try_invalid_object(fileObject, new CountingDecapsulator(randomBytes(200), sessionKey), 0, 1);
+			// modified segment, detected only by the ranges touching it
+			byte[] object = Files.readAllBytes(fileObject);
+			int headerLength = object.length - message.length - 301 * 16;
+			byte[] modified = object.clone();
+			modified[headerLength + 10 * (SEGMENT_SIZE + 16) + 5] ^= 0x01;
+			Files.write(fileObject, modified);
+			decapsulator = new CountingDecapsulator(encapsulation, sessionKey);
+			try (FileChannel in = FileChannel.open(fileObject, StandardOpenOption.READ)) {
+				Assert.assertArrayEquals(Arrays.copyOfRange(message, 0, 10 * SEGMENT_SIZE),
+						new RandomAccessObjectEnc.Reader(in, decapsulator).decryptRange(0, 10 * SEGMENT_SIZE));
+			}
+			try_invalid_object(fileObject, decapsulator, 10 * SEGMENT_SIZE - 1, 2);
+			// modified salt in the header
+			modified = object.clone();
+			modified[headerLength - encapsulation.length - 5] ^= 0x01;
+			Files.write(fileObject, modified);
+			try_invalid_object(fileObject, decapsulator, 0, 1);
+			// modified plaintext length in the header
+			modified = object.clone();
+			modified[16] ^= 0x01;
+			Files.write(fileObject, modified);
+			try (FileChannel in = FileChannel.open(fileObject, StandardOpenOption.READ)) {
+				new RandomAccessObjectEnc.Reader(in, decapsulator);
+				Assert.fail("Object of modified length is opened");
+			} catch (IOException e) {
+				// correct, expected exception, nothing to do.
+			}
+
+			// encapsulation too long to be read
+			try {
+				encrypt(sessionKey, new byte[(1 << 24) + 1], fileIn, fileObject);
+				Assert.fail("Object of too long encapsulation is encrypted");
+			} catch (IllegalArgumentException e) {
+				// correct, expected exception, nothing to do.
+			}
+		} finally {
+			Files.deleteIfExists(fileIn);
+			Files.deleteIfExists(fileObject);
+			Files.deleteIfExists(fileDec);
+		}
+	}
+}
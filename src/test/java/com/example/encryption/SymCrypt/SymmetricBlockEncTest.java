@@ -3,17 +3,26 @@
  */
 package com.example.encryption.SymCrypt;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
 
 import javax.crypto.BadPaddingException;
@@ -23,6 +32,7 @@ import javax.crypto.NoSuchPaddingException;
 import org.bouncycastle.crypto.DataLengthException;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.util.encoders.Hex;
+import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -202,4 +212,62 @@ public class SymmetricBlockEncTest {
 			logger.error(e.getLocalizedMessage());
 		}
 	}
+
+	@Test
+	public void testAESNIO() throws GeneralSecurityException, IOException {
+		byte[] key = Hex.decode("6206c34e2186e752c74e6df32ab8fa5b");
+		byte[] fixedIV = Hex.decode("00e5d201c2c2acbff8154861242ba0c4");
+		SecureRandom secureRandom = new SecureRandom();
+		// cross the 1MB slices of the channel methods
+		byte[] message = new byte[3 * (1 << 20) + 7];
+		secureRandom.nextBytes(message);
+		Path fileIn = Files.createTempFile("aes", ".in");
+		Path fileEnc = Files.createTempFile("aes", ".enc");
+		Path fileDec = Files.createTempFile("aes", ".dec");
+		try {
+			Files.write(fileIn, message);
+			for (Mode mode : Mode.values()) {
+				byte[] iv = mode == Mode.ECB ? null : fixedIV;
+				byte[] ciphertext = SymmetricBlockEnc.enc_dec_AES_BC(true, mode, key, iv, message);
+
+				// heap buffers
+				ByteBuffer output = ByteBuffer.allocate(message.length + 16);
+				int length = SymmetricBlockEnc.enc_AES(mode, key, iv, ByteBuffer.wrap(message), output);
+				Assert.assertArrayEquals(ciphertext, Arrays.copyOf(output.array(), length));
+
+				// direct buffers
+				ByteBuffer directInput = ByteBuffer.allocateDirect(ciphertext.length);
+				directInput.put(ciphertext).flip();
+				ByteBuffer directOutput = ByteBuffer.allocateDirect(ciphertext.length);
+				length = SymmetricBlockEnc.dec_AES(mode, key, iv, directInput, directOutput);
+				Assert.assertEquals(message.length, length);
+				directOutput.flip();
+				byte[] plaintext = new byte[length];
+				directOutput.get(plaintext);
+				Assert.assertArrayEquals(message, plaintext);
+
+				// files
+				long start = System.nanoTime();
+				Assert.assertEquals(ciphertext.length, SymmetricBlockEnc.enc_AES(mode, key, iv, fileIn, fileEnc));
+				Assert.assertEquals(message.length, SymmetricBlockEnc.dec_AES(mode, key, iv, fileEnc, fileDec));
+				long elapsed = System.nanoTime() - start;
+				Assert.assertArrayEquals(ciphertext, Files.readAllBytes(fileEnc));
+				Assert.assertArrayEquals(message, Files.readAllBytes(fileDec));
+
+				// channels other than file channels
+				ByteArrayOutputStream sink = new ByteArrayOutputStream();
+				try (FileChannel in = FileChannel.open(fileIn, StandardOpenOption.READ)) {
+					Assert.assertEquals(ciphertext.length,
+							SymmetricBlockEnc.enc_AES(mode, key, iv, in, Channels.newChannel(sink)));
+				}
+				Assert.assertArrayEquals(ciphertext, sink.toByteArray());
+				logger.info("AES " + mode + " file encryption and decryption of " + message.length + " bytes in "
+						+ elapsed / 1000000 + " ms");
+			}
+		} finally {
+			Files.deleteIfExists(fileIn);
+			Files.deleteIfExists(fileEnc);
+			Files.deleteIfExists(fileDec);
+		}
+	}
 }
@@ -0,0 +1,169 @@
+package com.example.encryption.SymCrypt;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import cn.edu.ncepu.crypto.encryption.SymCrypt.SymmetricSegmentEnc;
+import cn.edu.ncepu.crypto.encryption.SymCrypt.SymmetricSegmentEnc.SegmentMode;
+
+/**
+ * Segmented parallel AES encryption test.
+ */
+public class SymmetricSegmentEncTest {
+	private static final Logger logger = LoggerFactory.getLogger(SymmetricSegmentEncTest.class);
+	private static final int SEGMENT_SIZE = 256;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		secureRandom.nextBytes(bytes);
+		return bytes;
+	}
+
+	private void try_invalid_ciphertext(byte[] key, byte[] noncePrefix, byte[] ciphertext, ForkJoinPool pool) {
+		try {
+			SymmetricSegmentEnc.dec_AES(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE, ciphertext, pool);
+			Assert.fail("Modified ciphertext is decrypted");
+		} catch (InvalidCipherTextException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+
+	@Test
+	public void testByteArrays() throws InvalidCipherTextException {
+		byte[] key = randomBytes(32);
+		byte[] noncePrefix;
+		ForkJoinPool pool = new ForkJoinPool(4);
+		ForkJoinPool sequentialPool = new ForkJoinPool(1);
+		try {
+			int[] lengths = { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 37 * SEGMENT_SIZE + 5 };
+			for (SegmentMode mode : SegmentMode.values()) {
+				for (int length : lengths) {
+					// the pair of a key and a nonce prefix encrypts one payload only
+					noncePrefix = randomBytes(SymmetricSegmentEnc.NONCE_PREFIX_LENGTH);
+					byte[] plaintext = randomBytes(length);
+					byte[] ciphertext = SymmetricSegmentEnc.enc_AES(mode, key, noncePrefix, SEGMENT_SIZE, plaintext,
+							pool);
+					Assert.assertEquals(SymmetricSegmentEnc.getCiphertextLength(mode, length, SEGMENT_SIZE),
+							ciphertext.length);
+					// the ciphertext does not depend on the scheduling
+					Assert.assertArrayEquals(ciphertext, SymmetricSegmentEnc.enc_AES(mode, key, noncePrefix,
+							SEGMENT_SIZE, plaintext, sequentialPool));
+					Assert.assertArrayEquals(plaintext,
+							SymmetricSegmentEnc.dec_AES(mode, key, noncePrefix, SEGMENT_SIZE, ciphertext, pool));
+				}
+			}
+
+			noncePrefix = randomBytes(SymmetricSegmentEnc.NONCE_PREFIX_LENGTH);
+			byte[] plaintext = randomBytes(37 * SEGMENT_SIZE + 5);
+			byte[] ciphertext = SymmetricSegmentEnc.enc_AES(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE,
+					plaintext, pool);
+			int ciphertextSegmentSize = SEGMENT_SIZE + SymmetricSegmentEnc.TAG_LENGTH;
+
+			// random access to a middle and the last segment
+			byte[] segment = Arrays.copyOfRange(ciphertext, 5 * ciphertextSegmentSize, 6 * ciphertextSegmentSize);
+			Assert.assertArrayEquals(Arrays.copyOfRange(plaintext, 5 * SEGMENT_SIZE, 6 * SEGMENT_SIZE),
+					SymmetricSegmentEnc.dec_AES_Segment(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE, segment, 5,
+							false));
+			segment = Arrays.copyOfRange(ciphertext, 37 * ciphertextSegmentSize, ciphertext.length);
+			Assert.assertArrayEquals(Arrays.copyOfRange(plaintext, 37 * SEGMENT_SIZE, plaintext.length),
+					SymmetricSegmentEnc.dec_AES_Segment(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE, segment, 37,
+							true));
+			// a segment does not verify at another index or as the last one
+			try {
+				segment = Arrays.copyOfRange(ciphertext, 5 * ciphertextSegmentSize, 6 * ciphertextSegmentSize);
+				SymmetricSegmentEnc.dec_AES_Segment(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE, segment, 6,
+						false);
+				Assert.fail("Segment is decrypted at another index");
+			} catch (InvalidCipherTextException e) {
+				// correct, expected exception, nothing to do.
+			}
+			try {
+				SymmetricSegmentEnc.dec_AES_Segment(SegmentMode.GCM, key, noncePrefix, SEGMENT_SIZE, segment, 5,
+						true);
+				Assert.fail("Segment is decrypted as the last one");
+			} catch (InvalidCipherTextException e) {
+				// correct, expected exception, nothing to do.
+			}
+
+			// modified segment
+			byte[] modified = ciphertext.clone();
+			modified[20 * ciphertextSegmentSize + 3] ^= 0x01;
+			try_invalid_ciphertext(key, noncePrefix, modified, pool);
+			// truncated on the segment boundary
+			try_invalid_ciphertext(key, noncePrefix, Arrays.copyOf(ciphertext, 37 * ciphertextSegmentSize), pool);
+			// swapped segments
+			modified = ciphertext.clone();
+			System.arraycopy(ciphertext, 0, modified, ciphertextSegmentSize, ciphertextSegmentSize);
+			System.arraycopy(ciphertext, ciphertextSegmentSize, modified, 0, ciphertextSegmentSize);
+			try_invalid_ciphertext(key, noncePrefix, modified, pool);
+			// another nonce prefix
+			try_invalid_ciphertext(key, randomBytes(SymmetricSegmentEnc.NONCE_PREFIX_LENGTH), ciphertext, pool);
+		} finally {
+			pool.shutdown();
+			sequentialPool.shutdown();
+		}
+	}
+
+	@Test
+	public void testFileChannels() throws IOException, InvalidCipherTextException {
+		byte[] key = randomBytes(16);
+		int segmentSize = SymmetricSegmentEnc.DEFAULT_SEGMENT_SIZE;
+		byte[] message = randomBytes(8 * (1 << 20) + 11);
+		Path fileIn = Files.createTempFile("segment", ".in");
+		Path fileEnc = Files.createTempFile("segment", ".enc");
+		Path fileDec = Files.createTempFile("segment", ".dec");
+		try {
+			Files.write(fileIn, message);
+			for (SegmentMode mode : SegmentMode.values()) {
+				byte[] noncePrefix = randomBytes(SymmetricSegmentEnc.NONCE_PREFIX_LENGTH);
+				long start = System.nanoTime();
+				try (FileChannel in = FileChannel.open(fileIn, StandardOpenOption.READ);
+						FileChannel out = FileChannel.open(fileEnc, StandardOpenOption.WRITE,
+								StandardOpenOption.TRUNCATE_EXISTING)) {
+					SymmetricSegmentEnc.enc_AES(mode, key, noncePrefix, segmentSize, in, out, null);
+				}
+				try (FileChannel in = FileChannel.open(fileEnc, StandardOpenOption.READ);
+						FileChannel out = FileChannel.open(fileDec, StandardOpenOption.WRITE,
+								StandardOpenOption.TRUNCATE_EXISTING)) {
+					SymmetricSegmentEnc.dec_AES(mode, key, noncePrefix, segmentSize, in, out, null);
+				}
+				long elapsed = System.nanoTime() - start;
+				byte[] ciphertext = Files.readAllBytes(fileEnc);
+				Assert.assertEquals(SymmetricSegmentEnc.getCiphertextLength(mode, message.length, segmentSize),
+						ciphertext.length);
+				Assert.assertArrayEquals(message,
+						SymmetricSegmentEnc.dec_AES(mode, key, noncePrefix, segmentSize, ciphertext, null));
+				Assert.assertArrayEquals(message, Files.readAllBytes(fileDec));
+				logger.info("Segmented AES " + mode + " encryption and decryption of " + message.length
+						+ " bytes on " + ForkJoinPool.commonPool().getParallelism() + " workers in "
+						+ elapsed / 1000000 + " ms");
+
+				// random access to the last segment
+				try (FileChannel in = FileChannel.open(fileEnc, StandardOpenOption.READ)) {
+					long lastIndex = SymmetricSegmentEnc.getSegmentCount(mode, message.length, segmentSize) - 1;
+					Assert.assertArrayEquals(
+							Arrays.copyOfRange(message, (int) lastIndex * segmentSize, message.length),
+							SymmetricSegmentEnc.dec_AES_Segment(mode, key, noncePrefix, segmentSize, in, lastIndex));
+				}
+			}
+		} finally {
+			Files.deleteIfExists(fileIn);
+			Files.deleteIfExists(fileEnc);
+			Files.deleteIfExists(fileDec);
+		}
+	}
+}
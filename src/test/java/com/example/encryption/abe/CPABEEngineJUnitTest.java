@@ -8,6 +8,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.algebra.serparams.SecurePrimeSerParameter;
 import cn.edu.ncepu.crypto.chameleonhash.ChameleonHasher;
 import cn.edu.ncepu.crypto.chameleonhash.kr00b.KR00bDigestHasher;
@@ -22,6 +23,7 @@ import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.OOCPABEHW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.CPABELLW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.OOCPABELLW16Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.CPABERW13Engine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.rw13.serparams.CPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import com.example.access.AccessPolicyExamples;
@@ -42,6 +44,8 @@ import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Created by Weiran Liu on 2016/11/21.
@@ -110,6 +114,35 @@ public class CPABEEngineJUnitTest extends TestCase {
 		}
 	}
 
+	private PairingCipherSerParameter try_compact_encoding(PairingCipherSerParameter parameter) throws IOException {
+		if (!PairingSerCodecs.isSupported(parameter)) {
+			return parameter;
+		}
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length < uncompressedParameter.length);
+		PairingCipherSerParameter anParameter = PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
+	private PairingKeySerParameter try_compact_key_encoding(PairingKeySerParameter key) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(key));
+		byte[] byteArrayKey = CommonUtils.SerObject(key);
+		byte[] uncompressedKey = PairingSerCodecs.Encode(key, false);
+		Assert.assertEquals(key, PairingSerCodecs.Decode(uncompressedKey));
+		Assert.assertTrue(uncompressedKey.length < byteArrayKey.length);
+		// keys with only Zr and GT elements have nothing to compress
+		byte[] compressedKey = PairingSerCodecs.Encode(key);
+		Assert.assertTrue(compressedKey.length <= uncompressedKey.length);
+		PairingKeySerParameter anKey = (PairingKeySerParameter) PairingSerCodecs.Decode(compressedKey);
+		Assert.assertEquals(key, anKey);
+		return anKey;
+	}
+
 	private void try_access_policy(Pairing pairing, PairingKeySerParameter publicKey, PairingKeySerParameter masterKey,
 			final int[][] accessPolicy, final String[] rhos, final String[] attributes)
 			throws InvalidCipherTextException, IOException, ClassNotFoundException {
@@ -119,6 +152,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_key_encoding(secretKey);
 
 		// Encryption and serialization
 		Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -127,6 +161,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		Element anMessage = engine.decryption(publicKey, secretKey, accessPolicy, rhos, ciphertext);
@@ -140,6 +175,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(header, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decapsulation
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicy, rhos, header);
@@ -154,6 +190,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 			CipherParameters anIntermediate = (CipherParameters) CommonUtils.deserObject(byteArrayIntermediate);
 			Assert.assertEquals(intermediate, anIntermediate);
 			intermediate = (PairingCipherSerParameter) anIntermediate;
+			intermediate = try_compact_encoding(intermediate);
 
 			// Encryption and serialization
 			ciphertext = ooEngine.encryption(publicKey, intermediate, accessPolicy, rhos, message);
@@ -161,6 +198,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 			anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			anMessage = engine.decryption(publicKey, secretKey, accessPolicy, rhos, ciphertext);
@@ -174,6 +212,7 @@ public class CPABEEngineJUnitTest extends TestCase {
 			anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			anSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicy, rhos, header);
@@ -191,12 +230,14 @@ public class CPABEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_key_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_key_encoding(masterKey);
 
 			// test examples
 			logger.info("Test example 1");
@@ -409,4 +450,101 @@ public class CPABEEngineJUnitTest extends TestCase {
 		engine.setAccessControlEngine(LSSSLW10Engine.getInstance());
 		runAllTests(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
 	}
+
+	public void testParallelEncryption() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (CPABEEngine parallelEngine : new CPABEEngine[] { CPABEBSW07Engine.getInstance(),
+					CPABERW13Engine.getInstance() }) {
+				this.engine = parallelEngine;
+				logger.info("Test " + engine.getEngineName() + " with parallel encryption");
+				engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+				engine.setEncryptionExecutor(executor);
+				try {
+					runAllTests(
+							PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+				} finally {
+					engine.setEncryptionExecutor(null);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testParallelDecryption() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			ChameleonHasher chameleonHasher = new KR00bDigestHasher(new DLogKR00bHasher(), new SHA256Digest());
+			KeyGenerationParameters keyGenerationParameters = new DLogKR00bKeyGenerationParameters(
+					new SecureRandom(), SecurePrimeSerParameter.RFC3526_1536BIT_MODP_GROUP);
+			CPABELLW14Engine.getInstance().setChameleonHasher(chameleonHasher, new DLogKR00bKeyPairGenerator(),
+					keyGenerationParameters);
+			for (CPABEEngine parallelEngine : new CPABEEngine[] { CPABEBSW07Engine.getInstance(),
+					CPABERW13Engine.getInstance(), CPABELLW14Engine.getInstance() }) {
+				this.engine = parallelEngine;
+				logger.info("Test " + engine.getEngineName() + " with parallel decryption");
+				engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+				engine.setDecryptionExecutor(executor);
+				try {
+					runAllTests(
+							PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+				} finally {
+					engine.setDecryptionExecutor(null);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testMalformedCompactEncoding() throws Exception {
+		this.engine = CPABERW13Engine.getInstance();
+		engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerParameter publicKey = engine.setup(pairingParameters, 50).getPublic();
+		int[][] accessPolicy = ParserUtils.GenerateAccessPolicy(AccessPolicyExamples.access_policy_example_1);
+		String[] rhos = ParserUtils.GenerateRhos(AccessPolicyExamples.access_policy_example_1);
+		PairingCipherSerParameter header = engine.encapsulation(publicKey, accessPolicy, rhos).getHeader();
+		byte[] encoding = PairingSerCodecs.Encode(header);
+		Assert.assertEquals(header, PairingSerCodecs.Decode(encoding));
+
+		// truncated, trailing bytes, unknown version
+		try_malformed_encoding(Arrays.copyOf(encoding, encoding.length - 1));
+		try_malformed_encoding(Arrays.copyOf(encoding, encoding.length + 1));
+		byte[] malformedEncoding = encoding.clone();
+		malformedEncoding[0] = (byte) (PairingSerCodecs.VERSION + 1);
+		try_malformed_encoding(malformedEncoding);
+		// unknown pairing parameters, the fingerprint starts after version, flags, family and kind
+		malformedEncoding = encoding.clone();
+		malformedEncoding[4] ^= 0x01;
+		try_malformed_encoding(malformedEncoding);
+		// invalid sign of the last compressed point
+		malformedEncoding = encoding.clone();
+		malformedEncoding[malformedEncoding.length - 1] = 3;
+		try_malformed_element(malformedEncoding);
+	}
+
+	private void try_malformed_encoding(byte[] encoding) {
+		try {
+			PairingSerCodecs.Decode(encoding);
+			Assert.fail("Malformed encoding is decoded");
+		} catch (IOException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+
+	private void try_malformed_element(byte[] encoding) throws IOException {
+		// the malformed element of the last row is reported on first access
+		CPABERW13HeaderSerParameter header = (CPABERW13HeaderSerParameter) PairingSerCodecs.Decode(encoding);
+		String[] rhos = header.getRhos();
+		Assert.assertNotNull(header.getC3sAt(rhos[0]));
+		try {
+			header.getC3sAt(rhos[rhos.length - 1]);
+			Assert.fail("Malformed element is decoded");
+		} catch (IllegalArgumentException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
 }
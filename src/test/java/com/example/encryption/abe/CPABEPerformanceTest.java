@@ -1,15 +1,21 @@
 package com.example.encryption.abe;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.OOCPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.CPABEBSW07Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.hw14.OOCPABEHW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw14.CPABELLW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.OOCPABELLW16Engine;
@@ -34,8 +40,12 @@ public class CPABEPerformanceTest extends TestCase {
 	private static final String default_path = "benchmarks/encryption/cpabe/";
 	// test round
 	private int test_round;
+	// numbers of attributes for the parallel decryption test
+	private static final int[] parallel_attributes = { 10, 25, 50, 100 };
 	// the maximal number of role index is chosen
 	private int maximal_attributes;
+	// whether fixed-base exponentiation tables of the public key are enabled
+	private boolean powPreProcessing;
 	// setup time
 	private double timeSetup;
 
@@ -115,8 +125,9 @@ public class CPABEPerformanceTest extends TestCase {
 	}
 
 	private void runPerformanceTest() {
-		out = new Out(default_path + engine.getEngineName());
+		out = new Out(default_path + engine.getEngineName() + (powPreProcessing ? "_PowPreProcessing" : ""));
 		out.println("Test CP-ABE engine: " + engine.getEngineName());
+		out.println("Pow pre-processing: " + powPreProcessing);
 		out.println("All test rounds: " + this.test_round);
 
 		for (int i = 0; i < test_round; i++) {
@@ -205,6 +216,145 @@ public class CPABEPerformanceTest extends TestCase {
 		}
 	}
 
+	/**
+	 * Compare decapsulation with a cold key, i.e., the first decapsulation building pairing pre-processing,
+	 * and with a warm key whose pre-processing is already built.
+	 */
+	private void runPairingPreProcessingTest() {
+		out = new Out(default_path + engine.getEngineName() + "_PairingPreProcessing");
+		out.println("Test CP-ABE engine: " + engine.getEngineName());
+		out.println("All test rounds: " + this.test_round);
+		try {
+			PairingParameters pairingParameters = PairingFactory.getPairingParameters(pairingParameterPath);
+			PairingKeySerPair keyPair = engine.setup(pairingParameters, maximal_attributes);
+			PairingKeySerParameter publicKey = keyPair.getPublic();
+			PairingKeySerParameter masterKey = keyPair.getPrivate();
+
+			Timer timer = new Timer(maximal_attributes);
+			double[] timePlainDecapsulation = new double[maximal_attributes];
+			double[] timeColdDecapsulation = new double[maximal_attributes];
+			double[] timeWarmDecapsulation = new double[maximal_attributes];
+			long[] preProcessingSize = new long[maximal_attributes];
+			for (int i = 0; i < maximal_attributes; i++) {
+				System.out.print("Decapsulation " + i + "; ");
+				PairingKeySerParameter secretKey = engine.keyGen(publicKey, masterKey, attributeSets[i]);
+				PairingCipherSerParameter header = engine.encapsulation(publicKey, accessPolicies[i]).getHeader();
+				for (int j = 0; j < test_round; j++) {
+					timer.start(i);
+					engine.decapsulation(publicKey, secretKey, accessPolicies[i], header);
+					timePlainDecapsulation[i] += timer.stop(i);
+				}
+				secretKey.enablePairingPreProcessing();
+				timer.start(i);
+				engine.decapsulation(publicKey, secretKey, accessPolicies[i], header);
+				timeColdDecapsulation[i] = timer.stop(i);
+				for (int j = 0; j < test_round; j++) {
+					timer.start(i);
+					engine.decapsulation(publicKey, secretKey, accessPolicies[i], header);
+					timeWarmDecapsulation[i] += timer.stop(i);
+				}
+				preProcessingSize[i] = secretKey.getPairingPreProcessingSize();
+			}
+			logger.info("");
+
+			out.print("Plain Decapsulation: ");
+			for (int i = 0; i < maximal_attributes; i++) {
+				out.print("\t" + timePlainDecapsulation[i] / test_round);
+			}
+			out.println();
+			out.print("Cold Decapsulation: ");
+			for (int i = 0; i < maximal_attributes; i++) {
+				out.print("\t" + timeColdDecapsulation[i]);
+			}
+			out.println();
+			out.print("Warm Decapsulation: ");
+			for (int i = 0; i < maximal_attributes; i++) {
+				out.print("\t" + timeWarmDecapsulation[i] / test_round);
+			}
+			out.println();
+			out.print("Pre-processing bytes: ");
+			for (int i = 0; i < maximal_attributes; i++) {
+				out.print("\t" + preProcessingSize[i]);
+			}
+			out.println();
+		} catch (InvalidCipherTextException e) {
+			e.printStackTrace();
+		} catch (PolicySyntaxException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Compare decapsulation evaluated sequentially and on a ForkJoinPool for growing numbers of attributes.
+	 */
+	private void runParallelDecryptionTest() {
+		new File(default_path).mkdirs();
+		out = new Out(default_path + engine.getEngineName() + "_ParallelDecryption");
+		ForkJoinPool executor = new ForkJoinPool();
+		out.println("Test CP-ABE engine: " + engine.getEngineName());
+		out.println("Parallelism: " + executor.getParallelism());
+		out.println("All test rounds: " + this.test_round);
+		try {
+			PairingParameters pairingParameters = PairingFactory.getPairingParameters(pairingParameterPath);
+			PairingKeySerPair keyPair = engine.setup(pairingParameters, maximal_attributes);
+			PairingKeySerParameter publicKey = keyPair.getPublic();
+			PairingKeySerParameter masterKey = keyPair.getPrivate();
+
+			Timer timer = new Timer(parallel_attributes.length);
+			double[] timeSequentialDecapsulation = new double[parallel_attributes.length];
+			double[] timeParallelDecapsulation = new double[parallel_attributes.length];
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				int i = parallel_attributes[k] - 1;
+				System.out.print("Decapsulation " + parallel_attributes[k] + "; ");
+				PairingKeySerParameter secretKey = engine.keyGen(publicKey, masterKey, attributeSets[i]);
+				PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, accessPolicies[i]);
+				PairingCipherSerParameter header = encapsulationPair.getHeader();
+				for (int j = 0; j < test_round; j++) {
+					engine.setDecryptionExecutor(null);
+					timer.start(k);
+					byte[] sequentialSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicies[i], header);
+					timeSequentialDecapsulation[k] += timer.stop(k);
+
+					engine.setDecryptionExecutor(executor);
+					timer.start(k);
+					byte[] parallelSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicies[i], header);
+					timeParallelDecapsulation[k] += timer.stop(k);
+					assertTrue(Arrays.equals(sequentialSessionKey, encapsulationPair.getSessionKey()));
+					assertTrue(Arrays.equals(parallelSessionKey, encapsulationPair.getSessionKey()));
+				}
+			}
+			logger.info("");
+
+			out.print("Attributes: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + parallel_attributes[k]);
+			}
+			out.println();
+			out.print("Sequential Decapsulation: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeSequentialDecapsulation[k] / test_round);
+			}
+			out.println();
+			out.print("Parallel Decapsulation: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeParallelDecapsulation[k] / test_round);
+			}
+			out.println();
+			out.print("Speedup: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeSequentialDecapsulation[k] / timeParallelDecapsulation[k]);
+			}
+			out.println();
+		} catch (InvalidCipherTextException e) {
+			e.printStackTrace();
+		} catch (PolicySyntaxException e) {
+			e.printStackTrace();
+		} finally {
+			engine.setDecryptionExecutor(null);
+			executor.shutdown();
+		}
+	}
+
 	private void run_one_round() {
 		try {
 			PairingParameters pairingParameters = PairingFactory.getPairingParameters(pairingParameterPath);
@@ -225,6 +375,9 @@ public class CPABEPerformanceTest extends TestCase {
 
 			PairingKeySerParameter publicKey = keyPair.getPublic();
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
+			if (powPreProcessing) {
+				publicKey.enablePowPreProcessing();
+			}
 
 			out.print("KeyGen: ");
 			// test secret key generation performance
@@ -254,6 +407,10 @@ public class CPABEPerformanceTest extends TestCase {
 			}
 			out.println();
 			logger.info("");
+			if (powPreProcessing) {
+				out.println("Pow pre-processing tables: " + publicKey.getPowPreProcessingCount() + ", "
+						+ publicKey.getPowPreProcessingSize() + " bytes");
+			}
 
 			out.print("Encapsulation: ");
 			// test encryption performance
@@ -400,6 +557,27 @@ public class CPABEPerformanceTest extends TestCase {
 //        performanceTest.runPerformanceTest();
 //    }
 
+	public void testBSW07PowPreProcessingPerformance() {
+		CPABEPerformanceTest performanceTest = new CPABEPerformanceTest();
+		performanceTest.maximal_attributes = 10;
+		performanceTest.pairingParameterPath = PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256;
+		performanceTest.test_round = PairingUtils.DEFAULT_SIMU_TEST_ROUND;
+		performanceTest.engine = CPABEBSW07Engine.getInstance();
+		performanceTest.powPreProcessing = true;
+		performanceTest.init();
+		performanceTest.runPerformanceTest();
+	}
+
+	public void testBSW07PairingPreProcessingPerformance() {
+		CPABEPerformanceTest performanceTest = new CPABEPerformanceTest();
+		performanceTest.maximal_attributes = 10;
+		performanceTest.pairingParameterPath = PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256;
+		performanceTest.test_round = PairingUtils.DEFAULT_SIMU_TEST_ROUND;
+		performanceTest.engine = CPABEBSW07Engine.getInstance();
+		performanceTest.init();
+		performanceTest.runPairingPreProcessingTest();
+	}
+
 	public void testLLW14Performance() {
 		CPABEPerformanceTest performanceTest = new CPABEPerformanceTest();
 //        performanceTest.maximal_attributes = 10;
@@ -438,4 +616,14 @@ public class CPABEPerformanceTest extends TestCase {
 		performanceTest.init();
 		performanceTest.runPerformanceTest();
 	}
+
+	public void testBSW07ParallelDecryptionPerformance() {
+		CPABEPerformanceTest performanceTest = new CPABEPerformanceTest();
+		performanceTest.maximal_attributes = 100;
+		performanceTest.pairingParameterPath = PairingUtils.PATH_a_160_512;
+		performanceTest.test_round = PairingUtils.DEFAULT_SIMU_TEST_ROUND;
+		performanceTest.engine = CPABEBSW07Engine.getInstance();
+		performanceTest.init();
+		performanceTest.runParallelDecryptionTest();
+	}
 }
@@ -0,0 +1,164 @@
+package com.example.encryption.abe;
+
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.HybridFileEncryptor;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.CPABEBSW07Engine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.llw16.OOCPABELLW16Engine;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
+import cn.edu.ncepu.crypto.utils.PairingUtils;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+import junit.framework.TestCase;
+import org.bouncycastle.crypto.InvalidCipherTextException;
+import org.junit.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Streaming hybrid CP-ABE file encryption test.
+ */
+public class HybridFileEncryptorJUnitTest extends TestCase {
+	private static final Logger logger = LoggerFactory.getLogger(HybridFileEncryptorJUnitTest.class);
+	private static final int CHUNK_SIZE = 64;
+	private static final int TAG_LENGTH = 16;
+	private static final String ACCESS_POLICY = "(A and B) or C";
+	private static final String[] SATISFIED_ATTRIBUTES = new String[] { "A", "B" };
+	private static final String[] UNSATISFIED_ATTRIBUTES = new String[] { "A", "D" };
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	private byte[] encrypt(HybridFileEncryptor encryptor, PairingKeySerParameter publicKey, byte[] plaintext)
+			throws Exception {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		encryptor.encrypt(publicKey, ACCESS_POLICY, new ByteArrayInputStream(plaintext), outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private byte[] decrypt(HybridFileEncryptor encryptor, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, byte[] container) throws IOException, InvalidCipherTextException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		encryptor.decrypt(publicKey, secretKey, new ByteArrayInputStream(container), outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private void try_invalid_container(HybridFileEncryptor encryptor, PairingKeySerParameter publicKey,
+			PairingKeySerParameter secretKey, byte[] container) throws IOException {
+		try {
+			decrypt(encryptor, publicKey, secretKey, container);
+			fail("Modified container is decrypted");
+		} catch (InvalidCipherTextException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+
+	private void runAllTests(CPABEEngine engine) throws Exception {
+		logger.info("Test hybrid file encryption with " + engine.getEngineName());
+		engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters, 50);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), SATISFIED_ATTRIBUTES);
+		HybridFileEncryptor encryptor = new HybridFileEncryptor(engine, CHUNK_SIZE);
+
+		// round trip on chunk boundaries
+		int[] lengths = { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 3 * CHUNK_SIZE + 5 };
+		for (int length : lengths) {
+			byte[] plaintext = new byte[length];
+			secureRandom.nextBytes(plaintext);
+			byte[] container = encrypt(encryptor, publicKey, plaintext);
+			Assert.assertArrayEquals(plaintext, decrypt(encryptor, publicKey, secretKey, container));
+		}
+
+		byte[] plaintext = new byte[3 * CHUNK_SIZE + 5];
+		secureRandom.nextBytes(plaintext);
+		byte[] container = encrypt(encryptor, publicKey, plaintext);
+		// the payload is not encoded, each of the 4 chunks only adds its tag
+		int preambleLength = container.length - plaintext.length - 4 * TAG_LENGTH;
+		byte[] anContainer = encrypt(encryptor, publicKey, new byte[0]);
+		Assert.assertEquals(anContainer.length - TAG_LENGTH, preambleLength, 8);
+
+		// unsatisfied attributes
+		PairingKeySerParameter unsatisfiedSecretKey = engine.keyGen(publicKey, keyPair.getPrivate(),
+				UNSATISFIED_ATTRIBUTES);
+		try_invalid_container(encryptor, publicKey, unsatisfiedSecretKey, container);
+
+		// modified payload
+		byte[] modified = container.clone();
+		modified[preambleLength + CHUNK_SIZE + TAG_LENGTH + 1] ^= 0x01;
+		try_invalid_container(encryptor, publicKey, secretKey, modified);
+		// modified salt in the preamble
+		modified = container.clone();
+		modified[preambleLength - 5] ^= 0x01;
+		try_invalid_container(encryptor, publicKey, secretKey, modified);
+		// truncated on the chunk boundary
+		try_invalid_container(encryptor, publicKey, secretKey,
+				Arrays.copyOf(container, preambleLength + 3 * (CHUNK_SIZE + TAG_LENGTH)));
+		// swapped chunks
+		modified = container.clone();
+		System.arraycopy(container, preambleLength, modified, preambleLength + CHUNK_SIZE + TAG_LENGTH,
+				CHUNK_SIZE + TAG_LENGTH);
+		System.arraycopy(container, preambleLength + CHUNK_SIZE + TAG_LENGTH, modified, preambleLength,
+				CHUNK_SIZE + TAG_LENGTH);
+		try_invalid_container(encryptor, publicKey, secretKey, modified);
+		// not a container
+		try {
+			decrypt(encryptor, publicKey, secretKey, plaintext);
+			fail("Plaintext is decrypted as container");
+		} catch (IOException e) {
+			// correct, expected exception, nothing to do.
+		}
+		logger.info("Hybrid file encryption with " + engine.getEngineName() + " test passed");
+	}
+
+	public void testCompactHeader() throws Exception {
+		runAllTests(CPABEBSW07Engine.getInstance());
+	}
+
+	public void testSerializedHeader() throws Exception {
+		runAllTests(OOCPABELLW16Engine.getInstance());
+	}
+
+	public void testDisallowedHeaderClass() throws Exception {
+		CPABEEngine engine = OOCPABELLW16Engine.getInstance();
+		engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters, 50);
+		PairingKeySerParameter secretKey = engine.keyGen(keyPair.getPublic(), keyPair.getPrivate(),
+				SATISFIED_ATTRIBUTES);
+		// a container whose serialized header is not a SerParameter
+		byte[] byteArrayHeader = CommonUtils.SerObject(new ArrayList<String>());
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		DataOutputStream container = new DataOutputStream(byteArrayOutputStream);
+		container.write(new byte[] { 'A', 'B', 'E', 'F', 1 });
+		container.writeInt(0);
+		container.writeInt(0);
+		container.writeByte(0);
+		container.writeInt(byteArrayHeader.length);
+		container.write(byteArrayHeader);
+		container.write(new byte[16]);
+		container.writeInt(CHUNK_SIZE);
+		container.write(new byte[TAG_LENGTH]);
+		container.flush();
+		try {
+			decrypt(new HybridFileEncryptor(engine, CHUNK_SIZE), keyPair.getPublic(), secretKey,
+					byteArrayOutputStream.toByteArray());
+			fail("Container of disallowed header class is decrypted");
+		} catch (InvalidClassException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+}
@@ -4,10 +4,12 @@ import cn.edu.ncepu.crypto.access.lsss.lw10.LSSSLW10Engine;
 import cn.edu.ncepu.crypto.access.parser.ParserUtils;
 import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
 import cn.edu.ncepu.crypto.algebra.generators.AsymmetricKeySerPairGenerator;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.algebra.serparams.SecurePrimeSerParameter;
 import cn.edu.ncepu.crypto.chameleonhash.ChameleonHasher;
 import cn.edu.ncepu.crypto.chameleonhash.kr00b.KR00bDigestHasher;
@@ -23,6 +25,7 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.OOKPABEHW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.KPABELLW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.OOKPABELLW16Engine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.KPABERW13Engine;
+import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.serparams.KPABERW13HeaderSerParameter;
 import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import com.example.access.AccessPolicyExamples;
@@ -43,6 +46,8 @@ import java.io.IOException;
 import java.security.InvalidParameterException;
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Created by Weiran Liu on 2016/11/18.
@@ -111,6 +116,35 @@ public class KPABEEngineJUnitTest extends TestCase {
 		}
 	}
 
+	private PairingCipherSerParameter try_compact_encoding(PairingCipherSerParameter parameter) throws IOException {
+		if (!PairingSerCodecs.isSupported(parameter)) {
+			return parameter;
+		}
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length < uncompressedParameter.length);
+		PairingCipherSerParameter anParameter = PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
+	private PairingKeySerParameter try_compact_key_encoding(PairingKeySerParameter key) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(key));
+		byte[] byteArrayKey = CommonUtils.SerObject(key);
+		byte[] uncompressedKey = PairingSerCodecs.Encode(key, false);
+		Assert.assertEquals(key, PairingSerCodecs.Decode(uncompressedKey));
+		Assert.assertTrue(uncompressedKey.length < byteArrayKey.length);
+		// keys with only Zr and GT elements have nothing to compress
+		byte[] compressedKey = PairingSerCodecs.Encode(key);
+		Assert.assertTrue(compressedKey.length <= uncompressedKey.length);
+		PairingKeySerParameter anKey = (PairingKeySerParameter) PairingSerCodecs.Decode(compressedKey);
+		Assert.assertEquals(key, anKey);
+		return anKey;
+	}
+
 	private void try_access_policy(Pairing pairing, PairingKeySerParameter publicKey, PairingKeySerParameter masterKey,
 			final int[][] accessPolicy, final String[] rhos, final String[] attributes)
 			throws InvalidCipherTextException, IOException, ClassNotFoundException {
@@ -120,6 +154,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_key_encoding(secretKey);
 
 		// Encryption and serialization
 		Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -128,6 +163,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		Element anMessage = engine.decryption(publicKey, secretKey, attributes, ciphertext);
@@ -141,6 +177,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(header, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decryption
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, attributes, header);
@@ -154,6 +191,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 			CipherParameters anIntermediate = (CipherParameters) CommonUtils.deserObject(byteArrayIntermediate);
 			Assert.assertEquals(intermediate, anIntermediate);
 			intermediate = (PairingCipherSerParameter) anIntermediate;
+			intermediate = try_compact_encoding(intermediate);
 
 			// Encryption and serialization
 			ciphertext = ooEngine.encryption(publicKey, intermediate, attributes, message);
@@ -161,6 +199,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 			anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			anMessage = engine.decryption(publicKey, secretKey, attributes, ciphertext);
@@ -174,6 +213,7 @@ public class KPABEEngineJUnitTest extends TestCase {
 			anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			anSessionKey = engine.decapsulation(publicKey, secretKey, attributes, header);
@@ -191,12 +231,14 @@ public class KPABEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_key_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_key_encoding(masterKey);
 
 			// test examples
 			logger.info("Test example 1");
@@ -420,4 +462,127 @@ public class KPABEEngineJUnitTest extends TestCase {
 		engine.setAccessControlEngine(LSSSLW10Engine.getInstance());
 		runAllTests(PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
 	}
+
+	public void testParallelEncryption() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (KPABEEngine parallelEngine : new KPABEEngine[] { KPABEGPSW06aEngine.getInstance(),
+					KPABEGPSW06bEngine.getInstance(), KPABERW13Engine.getInstance() }) {
+				this.engine = parallelEngine;
+				logger.info("Test " + engine.getEngineName() + " with parallel encryption");
+				engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+				engine.setEncryptionExecutor(executor);
+				try {
+					runAllTests(
+							PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+				} finally {
+					engine.setEncryptionExecutor(null);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testParallelDecryption() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			ChameleonHasher chameleonHasher = new KR00bDigestHasher(new DLogKR00bHasher(), new SHA256Digest());
+			KeyGenerationParameters keyGenerationParameters = new DLogKR00bKeyGenerationParameters(
+					new SecureRandom(), SecurePrimeSerParameter.RFC3526_1536BIT_MODP_GROUP);
+			KPABELLW14Engine.getInstance().setChameleonHasher(chameleonHasher, new DLogKR00bKeyPairGenerator(),
+					keyGenerationParameters);
+			for (KPABEEngine parallelEngine : new KPABEEngine[] { KPABEGPSW06aEngine.getInstance(),
+					KPABEGPSW06bEngine.getInstance(), KPABERW13Engine.getInstance(),
+					KPABELLW14Engine.getInstance() }) {
+				this.engine = parallelEngine;
+				engine.setDecryptionExecutor(executor);
+				try {
+					logger.info("Test " + engine.getEngineName() + " with parallel decryption using "
+							+ AccessTreeEngine.SCHEME_NAME);
+					engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+					runAllTests(
+							PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+
+					logger.info("Test " + engine.getEngineName() + " with parallel decryption using "
+							+ LSSSLW10Engine.SCHEME_NAME);
+					engine.setAccessControlEngine(LSSSLW10Engine.getInstance());
+					runAllTests(
+							PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+				} finally {
+					engine.setDecryptionExecutor(null);
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	public void testMalformedCompactEncoding() throws Exception {
+		this.engine = KPABERW13Engine.getInstance();
+		engine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerParameter publicKey = engine.setup(pairingParameters, 50).getPublic();
+		PairingCipherSerParameter header = engine.encapsulation(publicKey, new String[] { "0", "1", "2" }).getHeader();
+		byte[] encoding = PairingSerCodecs.Encode(header);
+		// per-attribute elements are decoded on first access
+		KPABERW13HeaderSerParameter anHeader = (KPABERW13HeaderSerParameter) PairingSerCodecs.Decode(encoding);
+		Assert.assertEquals(0, ((LazyElementMap) anHeader.getC1s()).getDecodedSize());
+		Assert.assertEquals(((KPABERW13HeaderSerParameter) header).getC1sAt("1"), anHeader.getC1sAt("1"));
+		Assert.assertEquals(1, ((LazyElementMap) anHeader.getC1s()).getDecodedSize());
+		Assert.assertEquals(0, ((LazyElementMap) anHeader.getC2s()).getDecodedSize());
+		Assert.assertEquals(header, anHeader);
+		// explicitly given pairing parameters must be the referenced ones
+		Assert.assertEquals(header, PairingSerCodecs.Decode(encoding, pairingParameters));
+		try {
+			PairingSerCodecs.Decode(encoding,
+					PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a1_2_128));
+			Assert.fail("Encoding is decoded under other pairing parameters");
+		} catch (IOException e) {
+			// correct, expected exception, nothing to do.
+		}
+
+		// truncated, trailing bytes, unknown version
+		try_malformed_encoding(Arrays.copyOf(encoding, encoding.length - 1));
+		try_malformed_encoding(Arrays.copyOf(encoding, encoding.length + 1));
+		byte[] malformedEncoding = encoding.clone();
+		malformedEncoding[0] = (byte) (PairingSerCodecs.VERSION + 1);
+		try_malformed_encoding(malformedEncoding);
+		// unknown pairing parameters, the fingerprint starts after version, flags, family and kind
+		malformedEncoding = encoding.clone();
+		malformedEncoding[4] ^= 0x01;
+		try_malformed_encoding(malformedEncoding);
+		// invalid sign of the last compressed point
+		malformedEncoding = encoding.clone();
+		malformedEncoding[malformedEncoding.length - 1] = 3;
+		try_malformed_element(malformedEncoding);
+		// the last uncompressed point is not on the curve
+		malformedEncoding = PairingSerCodecs.Encode(header, false);
+		Assert.assertEquals(header, PairingSerCodecs.Decode(malformedEncoding));
+		malformedEncoding[malformedEncoding.length - 1] ^= 0x01;
+		try_malformed_element(malformedEncoding);
+	}
+
+	private void try_malformed_encoding(byte[] encoding) {
+		try {
+			PairingSerCodecs.Decode(encoding);
+			Assert.fail("Malformed encoding is decoded");
+		} catch (IOException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+
+	private void try_malformed_element(byte[] encoding) throws IOException {
+		// the malformed element of the last attribute is reported on first access
+		KPABERW13HeaderSerParameter header = (KPABERW13HeaderSerParameter) PairingSerCodecs.Decode(encoding);
+		String[] attributes = header.getAttributes();
+		Assert.assertNotNull(header.getC2sAt(attributes[0]));
+		try {
+			header.getC2sAt(attributes[attributes.length - 1]);
+			Assert.fail("Malformed element is decoded");
+		} catch (IllegalArgumentException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
 }
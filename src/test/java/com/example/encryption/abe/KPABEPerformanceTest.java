@@ -1,11 +1,16 @@
 package com.example.encryption.abe;
 
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import cn.edu.ncepu.crypto.access.parser.PolicySyntaxException;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.KPABEEngine;
@@ -13,6 +18,7 @@ import cn.edu.ncepu.crypto.encryption.abe.kpabe.OOKPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.hw14.OOKPABEHW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.llw14.KPABELLW14Engine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.llw16.OOKPABELLW16Engine;
+import cn.edu.ncepu.crypto.encryption.abe.kpabe.rw13.KPABERW13Engine;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import cn.edu.ncepu.crypto.utils.Timer;
 import edu.princeton.cs.algs4.Out;
@@ -34,6 +40,8 @@ public class KPABEPerformanceTest extends TestCase {
 	private static final String default_path = "benchmarks/encryption/kpabe/";
 	// test round
 	private int test_round;
+	// numbers of attributes for the parallel decryption test
+	private static final int[] parallel_attributes = { 10, 25, 50, 100 };
 	// the maximal number of role index is chosen
 	private int maximal_attributes;
 	// setup time
@@ -204,6 +212,77 @@ public class KPABEPerformanceTest extends TestCase {
 		}
 	}
 
+	/**
+	 * Compare decapsulation evaluated sequentially and on a ForkJoinPool for growing numbers of attributes.
+	 */
+	private void runParallelDecryptionTest() {
+		new File(default_path).mkdirs();
+		out = new Out(default_path + engine.getEngineName() + "_ParallelDecryption");
+		ForkJoinPool executor = new ForkJoinPool();
+		out.println("Test KP-ABE engine: " + engine.getEngineName());
+		out.println("Parallelism: " + executor.getParallelism());
+		out.println("All test rounds: " + this.test_round);
+		try {
+			PairingParameters pairingParameters = PairingFactory.getPairingParameters(pairingParameterPath);
+			PairingKeySerPair keyPair = engine.setup(pairingParameters, maximal_attributes);
+			PairingKeySerParameter publicKey = keyPair.getPublic();
+			PairingKeySerParameter masterKey = keyPair.getPrivate();
+
+			Timer timer = new Timer(parallel_attributes.length);
+			double[] timeSequentialDecapsulation = new double[parallel_attributes.length];
+			double[] timeParallelDecapsulation = new double[parallel_attributes.length];
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				int i = parallel_attributes[k] - 1;
+				System.out.print("Decapsulation " + parallel_attributes[k] + "; ");
+				PairingKeySerParameter secretKey = engine.keyGen(publicKey, masterKey, accessPolicies[i]);
+				PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, attributeSets[i]);
+				PairingCipherSerParameter header = encapsulationPair.getHeader();
+				for (int j = 0; j < test_round; j++) {
+					engine.setDecryptionExecutor(null);
+					timer.start(k);
+					byte[] sequentialSessionKey = engine.decapsulation(publicKey, secretKey, attributeSets[i], header);
+					timeSequentialDecapsulation[k] += timer.stop(k);
+
+					engine.setDecryptionExecutor(executor);
+					timer.start(k);
+					byte[] parallelSessionKey = engine.decapsulation(publicKey, secretKey, attributeSets[i], header);
+					timeParallelDecapsulation[k] += timer.stop(k);
+					assertTrue(Arrays.equals(sequentialSessionKey, encapsulationPair.getSessionKey()));
+					assertTrue(Arrays.equals(parallelSessionKey, encapsulationPair.getSessionKey()));
+				}
+			}
+			logger.info("");
+
+			out.print("Attributes: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + parallel_attributes[k]);
+			}
+			out.println();
+			out.print("Sequential Decapsulation: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeSequentialDecapsulation[k] / test_round);
+			}
+			out.println();
+			out.print("Parallel Decapsulation: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeParallelDecapsulation[k] / test_round);
+			}
+			out.println();
+			out.print("Speedup: ");
+			for (int k = 0; k < parallel_attributes.length; k++) {
+				out.print("\t" + timeSequentialDecapsulation[k] / timeParallelDecapsulation[k]);
+			}
+			out.println();
+		} catch (InvalidCipherTextException e) {
+			e.printStackTrace();
+		} catch (PolicySyntaxException e) {
+			e.printStackTrace();
+		} finally {
+			engine.setDecryptionExecutor(null);
+			executor.shutdown();
+		}
+	}
+
 	private void run_one_round() {
 		try {
 			PairingParameters pairingParameters = PairingFactory.getPairingParameters(pairingParameterPath);
@@ -438,4 +517,14 @@ public class KPABEPerformanceTest extends TestCase {
 		performanceTest.init();
 		performanceTest.runPerformanceTest();
 	}
+
+	public void testRW13ParallelDecryptionPerformance() {
+		KPABEPerformanceTest performanceTest = new KPABEPerformanceTest();
+		performanceTest.maximal_attributes = 100;
+		performanceTest.pairingParameterPath = PairingUtils.PATH_a_160_512;
+		performanceTest.test_round = PairingUtils.DEFAULT_SIMU_TEST_ROUND;
+		performanceTest.engine = KPABERW13Engine.getInstance();
+		performanceTest.init();
+		performanceTest.runParallelDecryptionTest();
+	}
 }
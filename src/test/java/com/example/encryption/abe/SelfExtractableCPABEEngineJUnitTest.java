@@ -5,6 +5,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.SelfExtractableCPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.CPABEBSW07Engine;
@@ -44,6 +45,21 @@ public class SelfExtractableCPABEEngineJUnitTest extends TestCase {
 	private static final Logger logger = LoggerFactory.getLogger(SelfExtractableCPABEEngineJUnitTest.class);
 	private SelfExtractableCPABEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	public void setEngine(SelfExtractableCPABEEngine engine) {
 		this.engine = engine;
 	}
@@ -113,6 +129,7 @@ public class SelfExtractableCPABEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// self KeyGen
 		byte[] ek = engine.selfKeyGen();
@@ -125,6 +142,7 @@ public class SelfExtractableCPABEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(header, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decapsulation
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicy, rhos, header);
@@ -142,6 +160,7 @@ public class SelfExtractableCPABEEngineJUnitTest extends TestCase {
 			anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			anSessionKey = engine.decapsulation(publicKey, secretKey, accessPolicy, rhos, header);
@@ -160,12 +179,14 @@ public class SelfExtractableCPABEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test examples
 			logger.info("Test example 1");
@@ -5,6 +5,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.KPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.SelfExtractableKPABEEngine;
 import cn.edu.ncepu.crypto.encryption.abe.kpabe.gpsw06a.KPABEGPSW06aEngine;
@@ -45,6 +46,21 @@ public class SelfExtractableKPABEEngineJUnitTest extends TestCase {
 	private static final Logger logger = LoggerFactory.getLogger(SelfExtractableCPABEPerformanceTest.class);
 	private SelfExtractableKPABEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	public void setEngine(SelfExtractableKPABEEngine engine) {
 		this.engine = engine;
 	}
@@ -114,6 +130,7 @@ public class SelfExtractableKPABEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// self KeyGen
 		byte[] ek = engine.selfKeyGen();
@@ -126,6 +143,7 @@ public class SelfExtractableKPABEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(header, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decryption
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, attributes, header);
@@ -144,6 +162,7 @@ public class SelfExtractableKPABEEngineJUnitTest extends TestCase {
 			anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			anSessionKey = engine.decapsulation(publicKey, secretKey, attributes, header);
@@ -162,12 +181,14 @@ public class SelfExtractableKPABEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test examples
 			logger.info("Test example 1");
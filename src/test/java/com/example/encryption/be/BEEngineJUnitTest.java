@@ -4,6 +4,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.be.BEEngine;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.BEBGW05Engine;
 import cn.edu.ncepu.crypto.utils.CommonUtils;
@@ -46,6 +47,21 @@ public class BEEngineJUnitTest extends TestCase {
 
 	private BEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	private void try_valid_decapsulation(PairingKeySerParameter publicKey, PairingKeySerParameter masterKey, int index,
 			int[] indexSet) {
 		try {
@@ -82,6 +98,7 @@ public class BEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// Encryption and serialization
 		PairingKeyEncapsulationSerPair keyEncapsulationSerPair = engine.encapsulation(publicKey, indexSet);
@@ -91,6 +108,7 @@ public class BEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, indexSet, ciphertext);
@@ -106,12 +124,14 @@ public class BEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test valid example
 			logger.info("Test valid examples");
@@ -4,6 +4,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.be.BEEngine;
 import cn.edu.ncepu.crypto.encryption.be.SelfExtractableBEEngine;
 import cn.edu.ncepu.crypto.encryption.be.bgw05.BEBGW05Engine;
@@ -56,6 +57,21 @@ public class SelfExtractableBEEngineJUnitTest extends TestCase {
 
 	private SelfExtractableBEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	public void setEngine(SelfExtractableBEEngine engine) {
 		this.engine = engine;
 	}
@@ -96,6 +112,7 @@ public class SelfExtractableBEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// self KeyGen
 		byte[] ek = engine.selfKeyGen();
@@ -108,6 +125,7 @@ public class SelfExtractableBEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, indexSet, ciphertext);
@@ -126,12 +144,14 @@ public class SelfExtractableBEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test valid example
 			logger.info("Test valid examples");
@@ -5,6 +5,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.hibbe.HIBBEEngine;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw14.HIBBELLW14Engine;
 import cn.edu.ncepu.crypto.encryption.hibbe.llw16a.HIBBELLW16aEngine;
@@ -50,6 +51,21 @@ public class HIBBEEngineJUnitTest extends TestCase {
 
 	private HIBBEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	private void try_valid_decryption(Pairing pairing, PairingKeySerParameter publicKey,
 			PairingKeySerParameter masterKey, String[] identityVector, String[] identityVectorSet) {
 		try {
@@ -72,6 +88,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anDelegateKey = (CipherParameters) CommonUtils.deserObject(byteArrayDelegateKey);
 			Assert.assertEquals(delegateKey, anDelegateKey);
 			delegateKey = (PairingKeySerParameter) anDelegateKey;
+			delegateKey = try_compact_encoding(delegateKey);
 
 			// Encryption and serialization
 			Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -80,6 +97,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			Element anMessage = engine.decryption(publicKey, delegateKey, identityVectorSet, ciphertext);
@@ -93,6 +111,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			byte[] anSessionKey = engine.decapsulation(publicKey, delegateKey, identityVectorSet, header);
@@ -129,6 +148,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anDelegateKey = (CipherParameters) CommonUtils.deserObject(byteArrayDelegateKey);
 			Assert.assertEquals(delegateKey, anDelegateKey);
 			delegateKey = (PairingKeySerParameter) anDelegateKey;
+			delegateKey = try_compact_encoding(delegateKey);
 
 			// Encryption and serialization
 			Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -137,6 +157,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			Element anMessage = engine.decryption(publicKey, delegateKey, identityVectorSet, ciphertext);
@@ -150,6 +171,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(header, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			byte[] anSessionKey = engine.decapsulation(publicKey, delegateKey, identityVectorSet, header);
@@ -174,6 +196,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// Encryption and serialization
 		Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -182,6 +205,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		Element anMessage = engine.decryption(publicKey, secretKey, identityVectorSet, ciphertext);
@@ -195,6 +219,7 @@ public class HIBBEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(header, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decapsulation
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, identityVectorSet, header);
@@ -211,12 +236,14 @@ public class HIBBEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test valid example
 			logger.info("Test valid examples");
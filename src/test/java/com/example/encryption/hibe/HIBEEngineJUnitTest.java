@@ -4,6 +4,7 @@ import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
 import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingSerCodecs;
 import cn.edu.ncepu.crypto.encryption.hibe.HIBEEngine;
 import cn.edu.ncepu.crypto.encryption.hibe.bb04.HIBEBB04Engine;
 import cn.edu.ncepu.crypto.encryption.hibe.bbg05.HIBEBBG05Engine;
@@ -40,6 +41,21 @@ public class HIBEEngineJUnitTest extends TestCase {
 
 	private HIBEEngine engine;
 
+	private static <T extends PairingCipherSerParameter> T try_compact_encoding(T parameter) throws IOException {
+		Assert.assertTrue(PairingSerCodecs.isSupported(parameter));
+		byte[] byteArrayParameter = CommonUtils.SerObject(parameter);
+		byte[] uncompressedParameter = PairingSerCodecs.Encode(parameter, false);
+		Assert.assertEquals(parameter, PairingSerCodecs.Decode(uncompressedParameter));
+		Assert.assertTrue(uncompressedParameter.length < byteArrayParameter.length);
+		// parameters with only Zr and GT elements have nothing to compress
+		byte[] compressedParameter = PairingSerCodecs.Encode(parameter);
+		Assert.assertTrue(compressedParameter.length <= uncompressedParameter.length);
+		@SuppressWarnings("unchecked")
+		T anParameter = (T) PairingSerCodecs.Decode(compressedParameter);
+		Assert.assertEquals(parameter, anParameter);
+		return anParameter;
+	}
+
 	private void try_valid_decryption(Pairing pairing, PairingKeySerParameter publicKey,
 			PairingKeySerParameter masterKey, String[] identityVector, String[] identityVectorSet) {
 		try {
@@ -75,6 +91,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 		CipherParameters anSecretKey = (CipherParameters) CommonUtils.deserObject(byteArraySecretKey);
 		Assert.assertEquals(secretKey, anSecretKey);
 		secretKey = (PairingKeySerParameter) anSecretKey;
+		secretKey = try_compact_encoding(secretKey);
 
 		// Encryption and serialization
 		Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -83,6 +100,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 		CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 		Assert.assertEquals(ciphertext, anCiphertext);
 		ciphertext = (PairingCipherSerParameter) anCiphertext;
+		ciphertext = try_compact_encoding(ciphertext);
 
 		// Decryption
 		Element anMessage = engine.decryption(publicKey, secretKey, identityVectorEnc, ciphertext);
@@ -96,6 +114,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 		CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 		Assert.assertEquals(anHeader, anHeader);
 		header = (PairingCipherSerParameter) anHeader;
+		header = try_compact_encoding(header);
 
 		// Decapsulation
 		byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, identityVectorEnc, header);
@@ -111,6 +130,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anDelegateKey = (CipherParameters) CommonUtils.deserObject(byteArrayDelegateKey);
 			Assert.assertEquals(delegateKey, anDelegateKey);
 			delegateKey = (PairingKeySerParameter) anDelegateKey;
+			delegateKey = try_compact_encoding(delegateKey);
 
 			// Encryption and serialization
 			Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -119,6 +139,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			Element anMessage = engine.decryption(publicKey, delegateKey, identityVectorEnc, ciphertext);
@@ -132,6 +153,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(anHeader, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, identityVectorEnc, header);
@@ -154,6 +176,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anDelegateKey = (CipherParameters) CommonUtils.deserObject(byteArrayDelegateKey);
 			Assert.assertEquals(delegateKey, anDelegateKey);
 			delegateKey = (PairingKeySerParameter) anDelegateKey;
+			delegateKey = try_compact_encoding(delegateKey);
 
 			// Encryption and serialization
 			Element message = pairing.getGT().newRandomElement().getImmutable();
@@ -162,6 +185,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anCiphertext = (CipherParameters) CommonUtils.deserObject(byteArrayCiphertext);
 			Assert.assertEquals(ciphertext, anCiphertext);
 			ciphertext = (PairingCipherSerParameter) anCiphertext;
+			ciphertext = try_compact_encoding(ciphertext);
 
 			// Decryption
 			Element anMessage = engine.decryption(publicKey, delegateKey, identityVectorEnc, ciphertext);
@@ -175,6 +199,7 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anHeader = (CipherParameters) CommonUtils.deserObject(byteArrayHeader);
 			Assert.assertEquals(anHeader, anHeader);
 			header = (PairingCipherSerParameter) anHeader;
+			header = try_compact_encoding(header);
 
 			// Decapsulation
 			byte[] anSessionKey = engine.decapsulation(publicKey, secretKey, identityVectorEnc, header);
@@ -200,12 +225,14 @@ public class HIBEEngineJUnitTest extends TestCase {
 			CipherParameters anPublicKey = (CipherParameters) CommonUtils.deserObject(byteArrayPublicKey);
 			Assert.assertEquals(publicKey, anPublicKey);
 			publicKey = (PairingKeySerParameter) anPublicKey;
+			publicKey = try_compact_encoding(publicKey);
 
 			PairingKeySerParameter masterKey = keyPair.getPrivate();
 			byte[] byteArrayMasterKey = CommonUtils.SerObject(masterKey);
 			CipherParameters anMasterKey = (CipherParameters) CommonUtils.deserObject(byteArrayMasterKey);
 			Assert.assertEquals(masterKey, anMasterKey);
 			masterKey = (PairingKeySerParameter) anMasterKey;
+			masterKey = try_compact_encoding(masterKey);
 
 			// test valid example
 			logger.info("Test valid examples");
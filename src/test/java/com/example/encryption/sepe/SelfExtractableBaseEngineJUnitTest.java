@@ -0,0 +1,219 @@
+package com.example.encryption.sepe;
+
+import cn.edu.ncepu.crypto.access.tree.AccessTreeEngine;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.CPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.SelfExtractableCPABEEngine;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.CPABEBSW07Engine;
+import cn.edu.ncepu.crypto.encryption.ibe.SelfExtractableIBEEngine;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.IBEBF01aEngine;
+import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine;
+import cn.edu.ncepu.crypto.encryption.sepe.SelfExtractableBaseEngine.KeyDerivation;
+import cn.edu.ncepu.crypto.encryption.sepe.serparams.SEPEHeaderParameter;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
+import cn.edu.ncepu.crypto.utils.PairingUtils;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+import junit.framework.TestCase;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.generators.PKCS5S1ParametersGenerator;
+import org.bouncycastle.crypto.generators.PKCS5S2ParametersGenerator;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.junit.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Concurrency stress test and key derivation test of self-extractable engines.
+ */
+public class SelfExtractableBaseEngineJUnitTest extends TestCase {
+	private static final Logger logger = LoggerFactory.getLogger(SelfExtractableBaseEngineJUnitTest.class);
+	private static final int THREAD_NUM = 8;
+	private static final int ROUND = 4;
+	private static final String ACCESS_POLICY = "(A and B) or C";
+	private static final String[] ATTRIBUTES = new String[] { "A", "B" };
+
+	/**
+	 * Run the task on all threads at once, and rethrow the first failure.
+	 */
+	private static void runConcurrently(Callable<Void> task) throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_NUM);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		try {
+			List<Future<Void>> futures = new ArrayList<Future<Void>>();
+			for (int i = 0; i < THREAD_NUM; i++) {
+				futures.add(executorService.submit(() -> {
+					startLatch.await();
+					return task.call();
+				}));
+			}
+			startLatch.countDown();
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	private void runCPABETest(SelfExtractableCPABEEngine engine) throws Exception {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters, 50);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), ATTRIBUTES);
+		runConcurrently(() -> {
+			for (int i = 0; i < ROUND; i++) {
+				byte[] ek = engine.selfKeyGen();
+				PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, ACCESS_POLICY, ek);
+				byte[] sessionKey = encapsulationPair.getSessionKey();
+				PairingCipherSerParameter header = encapsulationPair.getHeader();
+				Assert.assertArrayEquals(sessionKey,
+						engine.decapsulation(publicKey, secretKey, ACCESS_POLICY, header));
+				Assert.assertArrayEquals(sessionKey, engine.selfDecapsulation(ek, header));
+			}
+			return null;
+		});
+		logger.info(engine.getEngineName() + " concurrency test passed");
+	}
+
+	private void runIBETest(SelfExtractableIBEEngine engine) throws Exception {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		runConcurrently(() -> {
+			String id = Thread.currentThread().getName();
+			PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), id);
+			for (int i = 0; i < ROUND; i++) {
+				byte[] ek = engine.selfKeyGen();
+				PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, id, ek);
+				byte[] sessionKey = encapsulationPair.getSessionKey();
+				PairingCipherSerParameter header = encapsulationPair.getHeader();
+				Assert.assertArrayEquals(sessionKey, engine.decapsulation(publicKey, secretKey, id, header));
+				Assert.assertArrayEquals(sessionKey, engine.selfDecapsulation(ek, header));
+			}
+			return null;
+		});
+		logger.info(engine.getEngineName() + " concurrency test passed");
+	}
+
+	public void testCPABEPerThreadPrimitives() throws Exception {
+		CPABEEngine cpabeEngine = CPABEBSW07Engine.getInstance();
+		cpabeEngine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		runCPABETest(new SelfExtractableCPABEEngine(cpabeEngine,
+				() -> new PKCS5S2ParametersGenerator(new SHA256Digest()), AESEngine::new, SHA256Digest::new));
+	}
+
+	public void testCPABESharedPrimitives() throws Exception {
+		CPABEEngine cpabeEngine = CPABEBSW07Engine.getInstance();
+		cpabeEngine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		// the generator and the engine share the digest, as in the single-threaded tests
+		Digest digest = new SHA256Digest();
+		runCPABETest(new SelfExtractableCPABEEngine(cpabeEngine, new PKCS5S1ParametersGenerator(digest),
+				new AESEngine(), digest));
+	}
+
+	public void testIBEPerThreadPrimitives() throws Exception {
+		runIBETest(new SelfExtractableIBEEngine(IBEBF01aEngine.getInstance(),
+				() -> new PKCS5S1ParametersGenerator(new SHA256Digest()), AESEngine::new, SHA256Digest::new));
+	}
+
+	public void testKeyDerivation() throws Exception {
+		CPABEEngine cpabeEngine = CPABEBSW07Engine.getInstance();
+		cpabeEngine.setAccessControlEngine(AccessTreeEngine.getInstance());
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = cpabeEngine.setup(pairingParameters, 50);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = cpabeEngine.keyGen(publicKey, keyPair.getPrivate(), ATTRIBUTES);
+		SelfExtractableBaseEngine engine = new SelfExtractableBaseEngine(cpabeEngine,
+				() -> new PKCS5S2ParametersGenerator(new SHA256Digest()), AESEngine::new, SHA256Digest::new);
+		Assert.assertEquals(KeyDerivation.PBKDF, engine.getKeyDerivation());
+
+		for (KeyDerivation keyDerivation : KeyDerivation.values()) {
+			engine.setKeyDerivation(keyDerivation);
+			byte[] ek = engine.selfKeyGen();
+			PairingKeyEncapsulationSerPair encapsulationPair = engine
+					.encapsulation(cpabeEngine.encapsulation(publicKey, ACCESS_POLICY), ek);
+			byte[] sessionKey = encapsulationPair.getSessionKey();
+			SEPEHeaderParameter header = (SEPEHeaderParameter) CommonUtils
+					.deserObject(CommonUtils.SerObject(encapsulationPair.getHeader()));
+			// the digest of the deserialized header equals the digest computed in the encapsulation
+			Assert.assertArrayEquals(SEPEHeaderParameter.Digest(header.getCtY()), header.getCtYDigest());
+			byte[] k_prime_temp = cpabeEngine.decapsulation(publicKey, secretKey, ACCESS_POLICY, header.getCtY());
+			Assert.assertArrayEquals(sessionKey, engine.decapsulation(k_prime_temp, header.getCtK()));
+
+			// the key derived in the encapsulation is cached
+			long hitCount = engine.getDerivedKeyHitCount();
+			long start = System.nanoTime();
+			byte[] anSessionKey = engine.selfDecapsulation(ek, header);
+			long elapsed = System.nanoTime() - start;
+			Assert.assertArrayEquals(sessionKey, anSessionKey);
+			Assert.assertEquals(hitCount + 1, engine.getDerivedKeyHitCount());
+			// zeroizing the returned key does not affect the cached key
+			Arrays.fill(anSessionKey, (byte) 0);
+			Assert.assertArrayEquals(sessionKey, engine.selfDecapsulation(ek, header));
+			logger.info(keyDerivation + " cached self decapsulation in " + elapsed / 1000 + " us");
+
+			// the derivation without the cache gives the same key
+			long missCount = engine.getDerivedKeyMissCount();
+			engine.setDerivedKeyCacheCapacity(0);
+			Assert.assertArrayEquals(sessionKey, engine.selfDecapsulation(ek, header));
+			Assert.assertEquals(missCount + 1, engine.getDerivedKeyMissCount());
+			engine.setDerivedKeyCacheCapacity(SelfExtractableBaseEngine.DEFAULT_DERIVED_KEY_CACHE_CAPACITY);
+
+			// another ek gives another key
+			Assert.assertFalse(
+					Arrays.equals(sessionKey, engine.selfDecapsulation(engine.selfKeyGen(), header)));
+			// the header is self-decapsulated with its recorded key derivation after the engine changes it
+			engine.setKeyDerivation(keyDerivation == KeyDerivation.HKDF ? KeyDerivation.PBKDF : KeyDerivation.HKDF);
+			engine.setIterationCount(1000);
+			engine.clearDerivedKeys();
+			Assert.assertArrayEquals(sessionKey, engine.selfDecapsulation(ek, header));
+			engine.setIterationCount(4096);
+			// the same ct_y with the other key derivation gives another key
+			SEPEHeaderParameter anHeader = new SEPEHeaderParameter(header.getCtY(), header.getCtK(),
+					keyDerivation == KeyDerivation.HKDF ? SEPEHeaderParameter.KEY_DERIVATION_PBKDF
+							: SEPEHeaderParameter.KEY_DERIVATION_HKDF,
+					4096);
+			Assert.assertFalse(Arrays.equals(sessionKey, engine.selfDecapsulation(ek, anHeader)));
+		}
+
+		// headers without recorded key derivation are salted by the Java serialization of ct_y
+		byte[] ek = engine.selfKeyGen();
+		PairingCipherSerParameter ct_y = cpabeEngine.encapsulation(publicKey, ACCESS_POLICY).getHeader();
+		PKCS5S2ParametersGenerator pbeParametersGenerator = new PKCS5S2ParametersGenerator(new SHA256Digest());
+		pbeParametersGenerator.init(ek, CommonUtils.SerObject(ct_y), 4096);
+		byte[] legacySessionKey = ((KeyParameter) pbeParametersGenerator.generateDerivedParameters(128)).getKey();
+		SEPEHeaderParameter legacyHeader = new SEPEHeaderParameter(ct_y, new byte[16]);
+		Assert.assertEquals(SEPEHeaderParameter.KEY_DERIVATION_LEGACY, legacyHeader.getKeyDerivation());
+		Assert.assertArrayEquals(legacySessionKey, engine.selfDecapsulation(ek, legacyHeader));
+
+		// cached derived keys expire after the time to live
+		engine.setDerivedKeyTimeToLive(100);
+		long missCount = engine.getDerivedKeyMissCount();
+		Assert.assertArrayEquals(legacySessionKey, engine.selfDecapsulation(ek, legacyHeader));
+		Assert.assertEquals(missCount, engine.getDerivedKeyMissCount());
+		engine.clearDerivedKeys();
+		Assert.assertArrayEquals(legacySessionKey, engine.selfDecapsulation(ek, legacyHeader));
+		Thread.sleep(200);
+		Assert.assertEquals(1, engine.removeExpiredDerivedKeys());
+		Assert.assertArrayEquals(legacySessionKey, engine.selfDecapsulation(ek, legacyHeader));
+		Assert.assertEquals(missCount + 2, engine.getDerivedKeyMissCount());
+	}
+}
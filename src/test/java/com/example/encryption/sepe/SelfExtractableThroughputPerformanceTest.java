@@ -0,0 +1,82 @@
+package com.example.encryption.sepe;
+
+import cn.edu.ncepu.crypto.algebra.serparams.PairingCipherSerParameter;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeyEncapsulationSerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerPair;
+import cn.edu.ncepu.crypto.algebra.serparams.PairingKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.ibe.SelfExtractableIBEEngine;
+import cn.edu.ncepu.crypto.encryption.ibe.bf01a.IBEBF01aEngine;
+import cn.edu.ncepu.crypto.utils.PairingUtils;
+import it.unisa.dia.gas.jpbc.PairingParameters;
+import it.unisa.dia.gas.plaf.jpbc.pairing.PairingFactory;
+import junit.framework.TestCase;
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.engines.AESEngine;
+import org.bouncycastle.crypto.generators.PKCS5S1ParametersGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Throughput of a self-extractable IBE engine shared by 1 to N threads,
+ * with per-thread primitives and with primitives shared by all threads.
+ */
+public class SelfExtractableThroughputPerformanceTest extends TestCase {
+	private static final Logger logger = LoggerFactory.getLogger(SelfExtractableThroughputPerformanceTest.class);
+	private static final String IDENTITY = "ID_1";
+	// decapsulations of each thread
+	private static final int ROUND = 50;
+
+	private double runThroughputTest(SelfExtractableIBEEngine engine, int threadNum) throws Exception {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingKeySerPair keyPair = engine.setup(pairingParameters);
+		PairingKeySerParameter publicKey = keyPair.getPublic();
+		PairingKeySerParameter secretKey = engine.keyGen(publicKey, keyPair.getPrivate(), IDENTITY);
+		byte[] ek = engine.selfKeyGen();
+		PairingKeyEncapsulationSerPair encapsulationPair = engine.encapsulation(publicKey, IDENTITY, ek);
+		PairingCipherSerParameter header = encapsulationPair.getHeader();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadNum);
+		try {
+			long start = System.nanoTime();
+			List<Future<?>> futures = new ArrayList<Future<?>>();
+			for (int i = 0; i < threadNum; i++) {
+				futures.add(executorService.submit(() -> {
+					for (int j = 0; j < ROUND; j++) {
+						engine.decapsulation(publicKey, secretKey, IDENTITY, header);
+						engine.selfDecapsulation(ek, header);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			double seconds = (System.nanoTime() - start) / 1e9;
+			return threadNum * ROUND / seconds;
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	public void testThroughput() throws Exception {
+		int maxThreadNum = Math.max(4, Runtime.getRuntime().availableProcessors());
+		SelfExtractableIBEEngine perThreadEngine = new SelfExtractableIBEEngine(IBEBF01aEngine.getInstance(),
+				() -> new PKCS5S1ParametersGenerator(new SHA256Digest()), AESEngine::new, SHA256Digest::new);
+		Digest digest = new SHA256Digest();
+		SelfExtractableIBEEngine sharedEngine = new SelfExtractableIBEEngine(IBEBF01aEngine.getInstance(),
+				new PKCS5S1ParametersGenerator(digest), new AESEngine(), digest);
+		for (int threadNum = 1; threadNum <= maxThreadNum; threadNum *= 2) {
+			logger.info(threadNum + " threads, decapsulation + self decapsulation per second: per-thread primitives "
+					+ String.format("%.1f", runThroughputTest(perThreadEngine, threadNum)) + ", shared primitives "
+					+ String.format("%.1f", runThroughputTest(sharedEngine, threadNum)));
+		}
+	}
+}
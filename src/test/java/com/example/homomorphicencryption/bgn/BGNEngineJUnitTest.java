@@ -186,4 +186,59 @@ public class BGNEngineJUnitTest {
         }
     }
 
+    /*
+     * @description: test the baby-step giant-step decryption over a larger plaintext space
+     * @return: void
+     **/
+    @Test
+    public void testDiscreteLogTable() throws Exception {
+        PairingParameters typeA1Parameters = PairingFactory.getPairingParameters(PairingUtils.PATH_a1_2_256);
+        BGNEngine bgnEngine = BGNEngine.getInstance();
+        PairingKeySerPair keyPair = bgnEngine.keyGen(typeA1Parameters);
+        BGNPublicKeySerParameter publicKey = (BGNPublicKeySerParameter) keyPair.getPublic();
+        BGNPrivateKeySerParameter privateKey = (BGNPrivateKeySerParameter) keyPair.getPrivate();
+        long maxMessage = 1L << 20;
+        int[] messages = {0, 1, 1023, 1024, 654321, (int) maxMessage};
+        for (int m : messages) {
+            Assert.assertEquals(m, bgnEngine.decrypt(bgnEngine.encrypt(m, publicKey, maxMessage), privateKey,
+                    maxMessage));
+        }
+        // the table is built once per private key
+        Assert.assertSame(privateKey.getG1DiscreteLogTable(maxMessage),
+                privateKey.getG1DiscreteLogTable(maxMessage));
+
+        // a sum at the limit of the plaintext space, and one beyond it
+        Element c1 = bgnEngine.derDecode(bgnEngine.encrypt(1000000, publicKey, maxMessage), publicKey.getParameters());
+        Element c2 = bgnEngine.derDecode(bgnEngine.encrypt(48576, publicKey, maxMessage), publicKey.getParameters());
+        Assert.assertEquals(maxMessage, bgnEngine.decryptToLong(bgnEngine.derEncode(bgnEngine.add(c1, c2)),
+                privateKey, maxMessage));
+        Element c3 = bgnEngine.derDecode(bgnEngine.encrypt(1, publicKey, maxMessage), publicKey.getParameters());
+        try {
+            bgnEngine.decrypt(bgnEngine.derEncode(bgnEngine.add(bgnEngine.add(c1, c2), c3)), privateKey,
+                    maxMessage);
+            Assert.fail("plaintext beyond the maximal message is decrypted");
+        } catch (Exception e) {
+            // correct, expected exception, nothing to do.
+        }
+
+        // products in GT
+        Element c4 = bgnEngine.derDecode(bgnEngine.encrypt(1000, publicKey, maxMessage), publicKey.getParameters());
+        Element c5 = bgnEngine.derDecode(bgnEngine.encrypt(1048, publicKey, maxMessage), publicKey.getParameters());
+        Assert.assertEquals(1048000, bgnEngine.decrypt_mul2(bgnEngine.mul2(c4, c5, publicKey), privateKey,
+                maxMessage));
+        Element c0 = bgnEngine.derDecode(bgnEngine.encrypt(0, publicKey, maxMessage), publicKey.getParameters());
+        Assert.assertEquals(0, bgnEngine.decrypt_mul2(bgnEngine.mul2(c0, c5, publicKey), privateKey,
+                maxMessage));
+
+        // the default plaintext space of the same engine and private key is not affected
+        try {
+            bgnEngine.decrypt(bgnEngine.derEncode(c4), privateKey);
+            Assert.fail("plaintext beyond the default maximal message is decrypted");
+        } catch (Exception e) {
+            // correct, expected exception, nothing to do.
+        }
+        Assert.assertEquals(100, bgnEngine.decrypt(bgnEngine.encrypt(100, publicKey), privateKey));
+        logger.info("Baby-step giant-step decryption tests successfully.");
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.example.homomorphicencryption.paillier;
+
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierAggregator;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPrivateKey;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierProvider;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPublicKey;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Homomorphic aggregation of Paillier ciphertexts test.
+ */
+public class PaillierAggregatorTest {
+	private static final Logger logger = LoggerFactory.getLogger(PaillierAggregatorTest.class);
+
+	@Test
+	public void testAggregation() throws Exception {
+		Security.addProvider(new PaillierProvider());
+		KeyPairGenerator kpg = KeyPairGenerator.getInstance("Paillier");
+		kpg.initialize(512);
+		KeyPair keyPair = kpg.generateKeyPair();
+		PaillierPublicKey pubKey = (PaillierPublicKey) keyPair.getPublic();
+		PaillierPrivateKey privKey = (PaillierPrivateKey) keyPair.getPrivate();
+		BigInteger n = pubKey.getN();
+		SecureRandom random = new SecureRandom();
+
+		int count = 2000;
+		BigInteger[] messages = new BigInteger[count];
+		BigInteger[] weights = new BigInteger[count];
+		BigInteger[] ciphertexts = new BigInteger[count];
+		BigInteger sum = BigInteger.ZERO;
+		BigInteger weightedSum = BigInteger.ZERO;
+		for (int i = 0; i < count; i++) {
+			messages[i] = BigInteger.valueOf(random.nextInt(1 << 20));
+			weights[i] = BigInteger.valueOf(random.nextInt(1000) - 10);
+			ciphertexts[i] = pubKey.encrypt(messages[i], random);
+			sum = sum.add(messages[i]);
+			weightedSum = weightedSum.add(weights[i].multiply(messages[i]));
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		ForkJoinPool sequentialPool = new ForkJoinPool(1);
+		try {
+			PaillierAggregator aggregator = new PaillierAggregator(pubKey, pool);
+			long start = System.nanoTime();
+			assertEquals(sum, privKey.decrypt(aggregator.sum(ciphertexts)));
+			logger.info("Aggregation of " + count + " ciphertexts in " + (System.nanoTime() - start) / 1000000
+					+ " ms");
+			assertEquals(sum, privKey.decrypt(aggregator.sum(Arrays.asList(ciphertexts))));
+			assertEquals(sum, privKey.decrypt(aggregator.sum(Arrays.stream(ciphertexts))));
+			assertEquals(weightedSum.mod(n), privKey.decrypt(aggregator.weightedSum(ciphertexts, weights)));
+			assertEquals(messages[7].multiply(BigInteger.valueOf(-3)).mod(n),
+					privKey.decrypt(aggregator.multiply(ciphertexts[7], BigInteger.valueOf(-3))));
+			assertEquals(BigInteger.ZERO, privKey.decrypt(aggregator.sum(new BigInteger[0])));
+			// the result does not depend on the scheduling
+			assertEquals(aggregator.sum(ciphertexts), new PaillierAggregator(pubKey, sequentialPool).sum(ciphertexts));
+
+			// encoded ciphertexts after a header
+			int length = aggregator.getCiphertextLength();
+			ByteBuffer buffer = ByteBuffer.allocate(3 + count * length);
+			buffer.put(new byte[] { 1, 2, 3 });
+			for (BigInteger c : ciphertexts) {
+				buffer.put(aggregator.encode(c));
+			}
+			buffer.flip();
+			buffer.position(3);
+			assertEquals(ciphertexts[5], aggregator.decode(buffer, 3 + 5 * length));
+			assertEquals(sum, privKey.decrypt(new BigInteger(1, aggregator.sum(buffer))));
+			assertEquals(weightedSum.mod(n),
+					privKey.decrypt(new BigInteger(1, aggregator.weightedSum(buffer, weights))));
+			assertEquals(3, buffer.position());
+			try {
+				buffer.position(4);
+				aggregator.sum(buffer);
+				fail("Truncated buffer is aggregated");
+			} catch (IllegalArgumentException e) {
+				// correct, expected exception, nothing to do.
+			}
+		} finally {
+			pool.shutdown();
+			sequentialPool.shutdown();
+		}
+	}
+}
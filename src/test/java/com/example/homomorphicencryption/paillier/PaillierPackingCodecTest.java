@@ -0,0 +1,96 @@
+package com.example.homomorphicencryption.paillier;
+
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPackingCodec;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPackingCodec.PackedCiphertext;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPrivateKey;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierProvider;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPublicKey;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Security;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Paillier plaintext packing test.
+ */
+public class PaillierPackingCodecTest {
+	private static final Logger logger = LoggerFactory.getLogger(PaillierPackingCodecTest.class);
+
+	@Test
+	public void testPacking() throws Exception {
+		Security.addProvider(new PaillierProvider());
+		KeyPairGenerator kpg = KeyPairGenerator.getInstance("Paillier");
+		kpg.initialize(1024);
+		KeyPair keyPair = kpg.generateKeyPair();
+		PaillierPublicKey pubKey = (PaillierPublicKey) keyPair.getPublic();
+		PaillierPrivateKey privKey = (PaillierPrivateKey) keyPair.getPrivate();
+		SecureRandom random = new SecureRandom();
+
+		// 32-bit readings, sums of up to 2^4 readings per slot
+		PaillierPackingCodec codec = new PaillierPackingCodec(pubKey, 32, 4);
+		int k = codec.getSlotCount();
+		assertEquals((pubKey.getN().bitLength() - 1) / 36, k);
+		logger.info(k + " slots of 32-bit values per " + pubKey.getN().bitLength() + "-bit modulus");
+
+		// the largest values in every slot
+		long[] max = new long[k];
+		for (int j = 0; j < k; j++) {
+			max[j] = 0xFFFFFFFFL;
+		}
+		assertArrayEquals(max, codec.unpackLong(codec.pack(max)));
+
+		int count = (int) codec.getMaxAddends();
+		PackedCiphertext[] ciphertexts = new PackedCiphertext[count];
+		long[] sums = new long[k];
+		for (int i = 0; i < count; i++) {
+			long[] values = new long[k];
+			for (int j = 0; j < k; j++) {
+				// the last reading is the largest value in every slot
+				values[j] = i == count - 1 ? max[j] : random.nextInt() & 0xFFFFFFFFL;
+				sums[j] += values[j];
+			}
+			ciphertexts[i] = codec.encrypt(pubKey, random, values);
+		}
+		PackedCiphertext sum = codec.sum(ciphertexts);
+		assertEquals(count, sum.getAddends());
+		assertArrayEquals(sums, codec.unpackLong(privKey.decrypt(sum.getCiphertext())));
+
+		// slot-wise add, missing slots are 0
+		PackedCiphertext c1 = codec.encrypt(pubKey, random, 1, 2, 3);
+		PackedCiphertext c2 = codec.wrap(pubKey.encrypt(codec.pack(10, 20), random));
+		BigInteger[] slots = codec.decrypt(privKey, codec.add(c1, c2));
+		assertEquals(BigInteger.valueOf(11), slots[0]);
+		assertEquals(BigInteger.valueOf(22), slots[1]);
+		assertEquals(BigInteger.valueOf(3), slots[2]);
+		assertEquals(BigInteger.ZERO, slots[k - 1]);
+
+		// the headroom is exhausted
+		try {
+			codec.add(sum, c1);
+			fail("Sum beyond the headroom is computed");
+		} catch (IllegalStateException e) {
+			// correct, expected exception, nothing to do.
+		}
+		try {
+			codec.pack(1L << 32);
+			fail("Value beyond the slot is packed");
+		} catch (IllegalArgumentException e) {
+			// correct, expected exception, nothing to do.
+		}
+		try {
+			codec.pack(new long[k + 1]);
+			fail("Values beyond the slots are packed");
+		} catch (IllegalArgumentException e) {
+			// correct, expected exception, nothing to do.
+		}
+	}
+}
@@ -7,6 +7,7 @@ import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierEngine;
 import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPrivateKey;
 import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierProvider;
 import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierPublicKey;
+import cn.edu.ncepu.crypto.homomorphicEncryption.paillier.PaillierRandomnessPool;
 import cn.edu.ncepu.crypto.utils.CommonUtils;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -20,8 +21,10 @@ import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 import java.security.Security;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -176,6 +179,97 @@ public class PaillierProviderTest {
 		assertTrue(resultPlain.equals(m1.multiply(m2).mod(n)));
 	}
 
+	/**
+	 * Verify the CRT decryption against D(c) = L(c^lambda mod n^2) mu mod n, for
+	 * the g = n+1 keys and through both ciphers
+	 * @throws Exception 参数描述
+	 */
+	@Test
+	public void testCRTDecryption() throws Exception {
+		Security.addProvider(new PaillierProvider());
+		KeyPairGenerator kpg = KeyPairGenerator.getInstance("Paillier");
+		kpg.initialize(1024);
+		KeyPair keyPair = kpg.generateKeyPair();
+		PaillierPublicKey pubKey = (PaillierPublicKey) keyPair.getPublic();
+		PaillierPrivateKey privKey = (PaillierPrivateKey) keyPair.getPrivate();
+		BigInteger n = pubKey.getN();
+		BigInteger nSquare = pubKey.getNSquare();
+		assertEquals(n.add(BigInteger.ONE), pubKey.getG());
+		assertEquals(n, privKey.getP().multiply(privKey.getQ()));
+
+		SecureRandom random = new SecureRandom();
+		BigInteger[] messages = { BigInteger.ZERO, BigInteger.ONE, new BigInteger(1000, random),
+				n.subtract(BigInteger.ONE) };
+		for (BigInteger m : messages) {
+			BigInteger r = pubKey.generateRandomRinZn(n, random);
+			BigInteger c = pubKey.encrypt(m, r);
+			// textbook encryption and decryption
+			assertEquals(c, pubKey.getG().modPow(m, nSquare).multiply(r.modPow(n, nSquare)).mod(nSquare));
+			assertEquals(m, c.modPow(privKey.getLAMBDA(), nSquare).subtract(BigInteger.ONE).divide(n)
+					.multiply(privKey.getMU()).mod(n));
+			assertEquals(m, privKey.decrypt(c));
+		}
+
+		BigInteger m = new BigInteger("1234567890123456789");
+		final Cipher cipherHP = Cipher.getInstance("PaillierHP");
+		BigInteger c = engine.encrypt(m.toByteArray(), pubKey, cipherHP);
+		assertEquals(m, engine.decrypt(c.toByteArray(), privKey, cipherHP));
+		assertEquals(m, privKey.decrypt(c));
+
+		final Cipher cipher = Cipher.getInstance("Paillier");
+		String plainTextBlock = "Paillier block encryption with CRT decryption";
+		byte[] codedBytesBlock = engine.encryptBlock(plainTextBlock.getBytes(StandardCharsets.UTF_8), pubKey,
+				cipher);
+		byte[] decodedBytesBlock = engine.decryptBlock(new String(codedBytesBlock, StandardCharsets.UTF_8), privKey,
+				cipher);
+		assertEquals(plainTextBlock, new String(decodedBytesBlock, StandardCharsets.UTF_8).trim());
+	}
+
+	/**
+	 * Verify the encryption with precomputed r^n mod n^2, the backpressure of the
+	 * bounded pool and the fallback on an empty pool
+	 * @throws Exception 参数描述
+	 */
+	@Test
+	public void testRandomnessPool() throws Exception {
+		Security.addProvider(new PaillierProvider());
+		KeyPairGenerator kpg = KeyPairGenerator.getInstance("Paillier");
+		kpg.initialize(512);
+		KeyPair keyPair = kpg.generateKeyPair();
+		PaillierPublicKey pubKey = (PaillierPublicKey) keyPair.getPublic();
+		PaillierPrivateKey privKey = (PaillierPrivateKey) keyPair.getPrivate();
+		final Cipher cipherHP = Cipher.getInstance("PaillierHP");
+
+		int capacity = 16;
+		try (PaillierRandomnessPool pool = new PaillierRandomnessPool(pubKey, capacity, 2)) {
+			pubKey.setRandomnessPool(pool);
+			long deadline = System.currentTimeMillis() + 30000;
+			while (pool.size() < capacity && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(capacity, pool.size());
+			// the workers block on the full queue
+			Thread.sleep(200);
+			assertTrue(pool.getProducedCount() <= capacity);
+			assertTrue(pool.getRefillRate() > 0);
+			logger.info("Randomness pool refill rate: " + pool.getRefillRate() + " values/s");
+
+			for (int i = 0; i < 3 * capacity; i++) {
+				BigInteger m = BigInteger.valueOf(1000 + i);
+				BigInteger c = engine.encrypt(m.toByteArray(), pubKey, cipherHP);
+				assertEquals(m, engine.decrypt(c.toByteArray(), privKey, cipherHP));
+			}
+			assertEquals(3 * capacity, pool.getConsumedCount());
+			// each worker may have put one value that is not counted yet
+			assertTrue(pool.getConsumedCount() - pool.getFallbackCount() <= pool.getProducedCount() + 2);
+		}
+		// a closed pool still serves the encryptions inline
+		assertTrue(pubKey.getRandomnessPool().isClosed());
+		BigInteger m = BigInteger.valueOf(42);
+		assertEquals(m, privKey.decrypt(pubKey.encrypt(m, new SecureRandom())));
+		pubKey.setRandomnessPool(null);
+	}
+
 	@Ignore
 	@Test
 	public void testBlockEncryption() throws Exception {
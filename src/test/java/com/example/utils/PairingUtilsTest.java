@@ -3,6 +3,14 @@
  */
 package com.example.utils;
 
+import cn.edu.ncepu.crypto.algebra.PairingRegistry;
+import cn.edu.ncepu.crypto.algebra.algorithms.LagrangePolynomial;
+import cn.edu.ncepu.crypto.algebra.algorithms.MultiPairing;
+import cn.edu.ncepu.crypto.algebra.serparams.LazyElementMap;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07HeaderSerParameter;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07PublicKeySerParameter;
+import cn.edu.ncepu.crypto.encryption.abe.cpabe.bsw07.serparams.CPABEBSW07SecretKeySerParameter;
+import cn.edu.ncepu.crypto.utils.CommonUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils;
 import cn.edu.ncepu.crypto.utils.PairingUtils.PairingGroupType;
 import cn.edu.ncepu.crypto.utils.SysProperty;
@@ -22,10 +30,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -327,4 +344,306 @@ public class PairingUtilsTest {
 		logger.info("V1_2 :" + V1_2);
 		assertTrue(V12.isEqual(V1_2));
 	}
+
+	/**
+	 * test that PairingParameters loaded twice share one Pairing instance in PairingRegistry
+	 */
+	@Test
+	public void testPairingRegistry() {
+		PairingParameters thisParams = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingParameters thatParams = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		PairingParameters otherParams = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a1_2_128);
+		assertEquals(PairingRegistry.getFingerprint(thisParams), PairingRegistry.getFingerprint(thatParams));
+		assertTrue(PairingRegistry.isEqualParameters(thisParams, thatParams));
+		assertFalse(PairingRegistry.isEqualParameters(thisParams, otherParams));
+
+		Pairing pairing = PairingRegistry.getPairing(thisParams);
+		long hitCount = PairingRegistry.getHitCount();
+		assertSame(pairing, PairingRegistry.getPairing(thatParams));
+		assertEquals(hitCount + 1, PairingRegistry.getHitCount());
+
+		// parameters fingerprinted before a clear are looked up by their fingerprint again
+		String fingerprint = PairingRegistry.getFingerprint(thisParams);
+		assertEquals(fingerprint, PairingRegistry.getFingerprint(PairingRegistry.getParameters(fingerprint)));
+		PairingRegistry.clear();
+		assertEquals(fingerprint, PairingRegistry.getFingerprint(thisParams));
+		assertSame(thisParams, PairingRegistry.getParameters(fingerprint));
+	}
+
+	/**
+	 * test that fixed-base exponentiation tables give the same results and respect the memory bound
+	 */
+	@Test
+	public void testPowPreProcessing() {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		Element g = pairing.getG1().newRandomElement().getImmutable();
+		Element h = pairing.getG1().newRandomElement().getImmutable();
+		Element eggAlpha = pairing.getGT().newRandomElement().getImmutable();
+		CPABEBSW07PublicKeySerParameter publicKey = new CPABEBSW07PublicKeySerParameter(pairingParameters, g, h,
+				eggAlpha, eggAlpha);
+		Element s = pairing.getZr().newRandomElement().getImmutable();
+		assertFalse(publicKey.isPowPreProcessingEnabled());
+		assertTrue(g.powZn(s).isEqual(publicKey.powG(s)));
+		assertEquals(0, publicKey.getPowPreProcessingCount());
+
+		publicKey.enablePowPreProcessing();
+		for (int i = 0; i < 3; i++) {
+			Element r = pairing.getZr().newRandomElement().getImmutable();
+			assertTrue(g.powZn(r).isEqual(publicKey.powG(r)));
+			assertTrue(eggAlpha.powZn(r).isEqual(publicKey.powEggAlpha(r)));
+		}
+		assertEquals(2, publicKey.getPowPreProcessingCount());
+		long size = publicKey.getPowPreProcessingSize();
+		logger.info("Pow pre-processing tables: " + size + " bytes");
+		assertTrue(size > 0);
+
+		// a bound fitting only one table leaves the remaining bases without tables
+		publicKey.disablePowPreProcessing();
+		publicKey.enablePowPreProcessing(size - 1);
+		assertTrue(h.powZn(s).isEqual(publicKey.powH(s)));
+		assertTrue(eggAlpha.powZn(s).isEqual(publicKey.powEggAlpha(s)));
+		assertEquals(1, publicKey.getPowPreProcessingCount());
+		assertTrue(publicKey.getPowPreProcessingSize() < size);
+	}
+
+	/**
+	 * test that fixed-argument pairing pre-processing of secret keys gives the same pairings
+	 */
+	@Test
+	public void testPairingPreProcessing() {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		Element D = pairing.getG1().newRandomElement().getImmutable();
+		Map<String, Element> D1s = new HashMap<String, Element>();
+		Map<String, Element> D2s = new HashMap<String, Element>();
+		D1s.put("A", pairing.getG1().newRandomElement().getImmutable());
+		D2s.put("A", pairing.getG1().newRandomElement().getImmutable());
+		CPABEBSW07SecretKeySerParameter secretKey = new CPABEBSW07SecretKeySerParameter(pairingParameters, D, D1s,
+				D2s);
+		assertNull(secretKey.getPairingPreProcessing(D));
+		assertEquals(0, secretKey.getPairingPreProcessingCount());
+
+		secretKey.enablePairingPreProcessing();
+		for (int i = 0; i < 3; i++) {
+			Element C1 = pairing.getG1().newRandomElement().getImmutable();
+			assertTrue(pairing.pairing(D, C1).isEqual(secretKey.getPairingPreProcessing(secretKey.getD()).pairing(C1)));
+			assertTrue(pairing.pairing(C1, D1s.get("A"))
+					.isEqual(new MultiPairing(pairing, secretKey).mulKey(C1, secretKey.getD1sAt("A")).evaluate()));
+		}
+		assertEquals(2, secretKey.getPairingPreProcessingCount());
+		assertEquals(2L * pairing.getPairingPreProcessingLengthInBytes(), secretKey.getPairingPreProcessingSize());
+
+		secretKey.disablePairingPreProcessing();
+		assertEquals(0, secretKey.getPairingPreProcessingSize());
+		assertNull(secretKey.getPairingPreProcessing(D));
+	}
+
+	/**
+	 * test that multi-pairings equal the products of separate pairings
+	 */
+	@Test
+	public void testMultiPairing() {
+		Pairing pairing = PairingRegistry.getPairing(
+				PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+		for (int n : new int[] { 1, 2, 4, 8 }) {
+			Element[] as = new Element[n];
+			Element[] bs = new Element[n];
+			Element expected = pairing.getGT().newOneElement();
+			MultiPairing multiPairing = new MultiPairing(pairing);
+			for (int i = 0; i < n; i++) {
+				as[i] = pairing.getG1().newRandomElement().getImmutable();
+				bs[i] = pairing.getG1().newRandomElement().getImmutable();
+				Element c = pairing.getZr().newRandomElement().getImmutable();
+				if (i % 2 == 0) {
+					expected.mul(pairing.pairing(as[i], bs[i]).powZn(c));
+					multiPairing.mul(as[i], bs[i], c);
+				} else {
+					expected.div(pairing.pairing(as[i], bs[i]).powZn(c));
+					multiPairing.div(as[i], bs[i], c);
+				}
+			}
+			assertTrue(expected.isEqual(multiPairing.evaluate()));
+			assertTrue(pairing.pairing(as, bs).isEqual(MultiPairing.pairing(pairing, as, bs)));
+		}
+
+		// terms sharing the second argument are merged, and cancelling terms vanish
+		Element a = pairing.getG1().newRandomElement().getImmutable();
+		Element b = pairing.getG1().newRandomElement().getImmutable();
+		Element c = pairing.getZr().newRandomElement().getImmutable();
+		Element expected = pairing.pairing(a, b).powZn(c.add(pairing.getZr().newOneElement()));
+		assertTrue(expected.isEqual(new MultiPairing(pairing).mul(a, b, c).mul(a, b).evaluate()));
+		assertTrue(new MultiPairing(pairing).mul(a, b, c).div(a, b, c).evaluate().isOne());
+	}
+
+	/**
+	 * test that multi-pairings evaluated on an executor equal the ones evaluated sequentially,
+	 * including pre-processed key terms and merged terms
+	 */
+	@Test
+	public void testParallelMultiPairing() {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		Element D = pairing.getG1().newRandomElement().getImmutable();
+		Map<String, Element> D1s = new HashMap<String, Element>();
+		Map<String, Element> D2s = new HashMap<String, Element>();
+		D1s.put("A", pairing.getG1().newRandomElement().getImmutable());
+		D2s.put("A", pairing.getG1().newRandomElement().getImmutable());
+		CPABEBSW07SecretKeySerParameter secretKey = new CPABEBSW07SecretKeySerParameter(pairingParameters, D, D1s,
+				D2s);
+		secretKey.enablePairingPreProcessing();
+		ForkJoinPool executor = new ForkJoinPool(3);
+		try {
+			for (int n : new int[] { 1, 2, 5, 16 }) {
+				MultiPairing sequential = new MultiPairing(pairing, secretKey);
+				MultiPairing parallel = new MultiPairing(pairing, secretKey, executor);
+				for (int i = 0; i < n; i++) {
+					Element a = pairing.getG1().newRandomElement().getImmutable();
+					Element b = i % 3 == 0 ? D : pairing.getG1().newRandomElement().getImmutable();
+					Element c = pairing.getZr().newRandomElement().getImmutable();
+					if (i % 2 == 0) {
+						sequential.mulKey(a, D1s.get("A"), c).mul(a, b, c);
+						parallel.mulKey(a, D1s.get("A"), c).mul(a, b, c);
+					} else {
+						sequential.divKey(a, D2s.get("A")).div(a, b, c);
+						parallel.divKey(a, D2s.get("A")).div(a, b, c);
+					}
+				}
+				assertTrue(sequential.evaluate().isEqual(parallel.evaluate()));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * test that shares evaluated by Horner's rule match the polynomial,
+	 * and that t shares reconstruct poly(0) with the batched Lagrange coefficients
+	 */
+	@Test
+	public void testLagrangePolynomial() {
+		Pairing pairing = PairingRegistry.getPairing(
+				PairingFactory.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256));
+		int t = 40, n = 100;
+		Element secret = pairing.getZr().newRandomElement().getImmutable();
+		LagrangePolynomial lagrangePolynomial = new LagrangePolynomial(pairing, t - 1, secret);
+		Element[] shares = lagrangePolynomial.evaluateShares(n);
+		assertEquals(n, shares.length);
+		for (int i = 0; i < n; i++) {
+			assertEquals(lagrangePolynomial.evaluate(pairing.getZr().newElement(i + 1)), shares[i]);
+		}
+		assertEquals(secret, lagrangePolynomial.evaluate(pairing.getZr().newZeroElement()));
+
+		int[] set = new int[t];
+		for (int i = 0; i < t; i++) {
+			set[i] = 2 * i + 3;
+		}
+		Element[] coefs = LagrangePolynomial.calCoefs(pairing, set);
+		Element reconstructedSecret = pairing.getZr().newZeroElement();
+		for (int i = 0; i < t; i++) {
+			assertEquals(LagrangePolynomial.calCoef(pairing, set, set[i]), coefs[i]);
+			reconstructedSecret.add(shares[set[i] - 1].mulZn(coefs[i]));
+		}
+		assertEquals(secret, reconstructedSecret);
+	}
+
+	/**
+	 * test that lazily decoded element maps decode each accessed element once and equal eagerly decoded maps
+	 */
+	@Test
+	public void testLazyElementMap() throws Exception {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		final Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		int n = 100;
+		String[] rhos = new String[n];
+		byte[][] byteArraysElements = new byte[n][];
+		Map<String, Element> elements = new HashMap<String, Element>();
+		for (int i = 0; i < n; i++) {
+			rhos[i] = "rho" + i;
+			Element element = pairing.getG1().newRandomElement().getImmutable();
+			elements.put(rhos[i], element);
+			byteArraysElements[i] = element.toBytes();
+		}
+
+		final LazyElementMap lazyElements = new LazyElementMap(pairing.getG1(), rhos, byteArraysElements);
+		assertEquals(n, lazyElements.size());
+		assertEquals(0, lazyElements.getDecodedSize());
+		for (int i = 0; i < 3; i++) {
+			assertTrue(elements.get(rhos[i]).isEqual(lazyElements.get(rhos[i])));
+			assertSame(lazyElements.get(rhos[i]), lazyElements.get(rhos[i]));
+		}
+		assertTrue(lazyElements.containsKey(rhos[n - 1]));
+		assertNull(lazyElements.get("unknown"));
+		assertEquals(3, lazyElements.getDecodedSize());
+		assertEquals(elements, lazyElements);
+		assertEquals(lazyElements, elements);
+		assertEquals(n, lazyElements.getDecodedSize());
+
+		// concurrent first accesses observe the same instance
+		final LazyElementMap concurrentElements = new LazyElementMap(pairing.getG1(), rhos, byteArraysElements);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<Future<Element>> futures = new ArrayList<Future<Element>>();
+			for (int i = 0; i < 4 * n; i++) {
+				final String rho = rhos[i % n];
+				futures.add(pool.submit(new Callable<Element>() {
+					@Override
+					public Element call() {
+						return concurrentElements.get(rho);
+					}
+				}));
+			}
+			for (int i = 0; i < 4 * n; i++) {
+				assertSame(concurrentElements.get(rhos[i % n]), futures.get(i).get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		// deserialized headers decode elements on demand and equal the original ones
+		Map<String, Element> C2s = new HashMap<String, Element>();
+		for (String rho : rhos) {
+			C2s.put(rho, pairing.getG1().newRandomElement().getImmutable());
+		}
+		CPABEBSW07HeaderSerParameter header = new CPABEBSW07HeaderSerParameter(pairingParameters,
+				pairing.getG1().newRandomElement(), elements, C2s);
+		CPABEBSW07HeaderSerParameter anHeader = (CPABEBSW07HeaderSerParameter) CommonUtils
+				.deserObject(CommonUtils.SerObject(header));
+		assertTrue(header.getC1sAt(rhos[0]).isEqual(anHeader.getC1sAt(rhos[0])));
+		assertEquals(header, anHeader);
+	}
+
+	/**
+	 * test that accessors of SerParameters share their immutable elements instead of copying them
+	 */
+	@Test
+	public void testImmutableAccessors() {
+		PairingParameters pairingParameters = PairingFactory
+				.getPairingParameters(PairingUtils.TEST_PAIRING_PARAMETERS_PATH_a_80_256);
+		Pairing pairing = PairingRegistry.getPairing(pairingParameters);
+		Map<String, Element> C1s = new HashMap<String, Element>();
+		Map<String, Element> C2s = new HashMap<String, Element>();
+		C1s.put("A", pairing.getG1().newRandomElement());
+		C2s.put("A", pairing.getG1().newRandomElement());
+		Element C = pairing.getG1().newRandomElement();
+		CPABEBSW07HeaderSerParameter header = new CPABEBSW07HeaderSerParameter(pairingParameters, C, C1s, C2s);
+		assertSame(header.getC(), header.getC());
+		assertSame(header.getC1sAt("A"), header.getC1sAt("A"));
+
+		// neither the inputs nor operations on the returned elements alter the parameter
+		Element C1 = header.getC1sAt("A");
+		Element expected = C1s.get("A").duplicate();
+		C1s.get("A").twice();
+		assertTrue(expected.isEqual(header.getC1sAt("A")));
+		C1.twice();
+		assertTrue(expected.isEqual(header.getC1sAt("A")));
+		assertFalse(C1.twice().isEqual(header.getC1sAt("A")));
+	}
 }